@@ -0,0 +1,78 @@
+package com.kayky.benchmark;
+
+import com.kayky.core.exception.ApiError;
+import com.kayky.core.exception.GlobalExceptionHandler;
+import com.kayky.core.exception.ResourceNotFoundException;
+import com.kayky.core.exception.ValidationError;
+import com.kayky.core.pagination.CountMode;
+import com.kayky.domain.payment.PaymentController;
+import com.kayky.domain.payment.request.PaymentBaseRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExceptionHandlerBenchmark {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+    private MockHttpServletRequest request;
+    private ResourceNotFoundException notFound;
+    private MethodArgumentNotValidException notValid;
+    private MethodArgumentTypeMismatchException typeMismatch;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        request = new MockHttpServletRequest("POST", "/v1/payment");
+        notFound = new ResourceNotFoundException("Payment not found");
+
+        var parameter = new MethodParameter(
+                PaymentController.class.getMethod("save", PaymentBaseRequest.class), 0);
+
+        var bindingResult = new BeanPropertyBindingResult(
+                PaymentBaseRequest.builder().build(), "paymentBaseRequest");
+        bindingResult.rejectValue("patientId", "NotNull", "Patient ID is required");
+        bindingResult.rejectValue("cashierId", "NotNull", "Cashier ID is required");
+        bindingResult.rejectValue("amount", "NotNull", "Amount is required");
+        bindingResult.rejectValue("paymentMethod", "NotNull", "Payment method is required");
+        notValid = new MethodArgumentNotValidException(parameter, bindingResult);
+
+        typeMismatch = new MethodArgumentTypeMismatchException(
+                "approximate", CountMode.class, "count", parameter, null);
+    }
+
+    @Benchmark
+    public ResponseEntity<ApiError> resourceNotFound() {
+        return handler.handleResourceNotFound(notFound, request);
+    }
+
+    @Benchmark
+    public ResponseEntity<ValidationError> methodArgumentNotValid() {
+        return handler.handleMethodArgumentNotValid(notValid, request);
+    }
+
+    @Benchmark
+    public ResponseEntity<ApiError> methodArgumentTypeMismatch() {
+        return handler.handleMethodArgumentTypeMismatch(typeMismatch, request);
+    }
+}
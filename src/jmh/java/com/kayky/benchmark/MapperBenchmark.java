@@ -0,0 +1,96 @@
+package com.kayky.benchmark;
+
+import com.kayky.commons.OperationUtils;
+import com.kayky.commons.PaymentUtils;
+import com.kayky.commons.ReportUtils;
+import com.kayky.domain.doctor.DoctorMapperImpl;
+import com.kayky.domain.operation.Operation;
+import com.kayky.domain.operation.OperationMapper;
+import com.kayky.domain.operation.OperationMapperImpl;
+import com.kayky.domain.operation.OperationProjection;
+import com.kayky.domain.operation.response.OperationBaseResponse;
+import com.kayky.domain.operation.response.OperationDetailsResponse;
+import com.kayky.domain.patient.PatientMapperImpl;
+import com.kayky.domain.payment.Payment;
+import com.kayky.domain.payment.PaymentMapper;
+import com.kayky.domain.payment.PaymentMapperImpl;
+import com.kayky.domain.payment.response.PaymentBaseResponse;
+import com.kayky.domain.report.Report;
+import com.kayky.domain.report.ReportMapper;
+import com.kayky.domain.report.ReportMapperImpl;
+import com.kayky.domain.report.response.ReportBaseResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    private AnnotationConfigApplicationContext context;
+
+    private OperationMapper operationMapper;
+    private PaymentMapper paymentMapper;
+    private ReportMapper reportMapper;
+
+    private Operation operation;
+    private OperationProjection operationProjection;
+    private Payment payment;
+    private Report report;
+
+    @Setup
+    public void setUp() {
+        context = new AnnotationConfigApplicationContext(
+                PatientMapperImpl.class, DoctorMapperImpl.class, OperationMapperImpl.class,
+                PaymentMapperImpl.class, ReportMapperImpl.class);
+
+        operationMapper = context.getBean(OperationMapper.class);
+        paymentMapper = context.getBean(PaymentMapper.class);
+        reportMapper = context.getBean(ReportMapper.class);
+
+        operation = OperationUtils.savedOperation();
+        operationProjection = OperationUtils.operationProjectionList().getFirst();
+        payment = PaymentUtils.savedPayment(1L);
+        report = ReportUtils.savedReport();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public OperationBaseResponse operationToBaseResponse() {
+        return operationMapper.toOperationBaseResponse(operation);
+    }
+
+    @Benchmark
+    public OperationDetailsResponse operationProjectionToDetailsResponse() {
+        return operationMapper.toOperationDetailsResponse(operationProjection);
+    }
+
+    @Benchmark
+    public PaymentBaseResponse paymentToBaseResponse() {
+        return paymentMapper.toPaymentBaseResponse(payment);
+    }
+
+    @Benchmark
+    public ReportBaseResponse reportToBaseResponse() {
+        return reportMapper.toReportBaseResponse(report);
+    }
+}
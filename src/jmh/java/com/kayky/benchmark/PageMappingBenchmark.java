@@ -0,0 +1,57 @@
+package com.kayky.benchmark;
+
+import com.kayky.commons.PaymentUtils;
+import com.kayky.core.pagination.PageResponse;
+import com.kayky.core.pagination.PageUtils;
+import com.kayky.domain.payment.Payment;
+import com.kayky.domain.payment.PaymentMapper;
+import com.kayky.domain.payment.PaymentMapperImpl;
+import com.kayky.domain.payment.response.PaymentBaseResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PageMappingBenchmark {
+
+    @Param({"10", "100"})
+    private int size;
+
+    private final PaymentMapper paymentMapper = new PaymentMapperImpl();
+
+    private Page<Payment> page;
+
+    @Setup
+    public void setUp() {
+        List<Payment> payments = LongStream.rangeClosed(1, size)
+                .mapToObj(PaymentUtils::savedPayment)
+                .toList();
+
+        page = new PageImpl<>(payments, PageRequest.of(0, size), size * 10L);
+    }
+
+    @Benchmark
+    public PageResponse<PaymentBaseResponse> mapPage() {
+        return PageUtils.mapPage(page, paymentMapper::toPaymentBaseResponse);
+    }
+}
@@ -0,0 +1,130 @@
+package com.kayky.loadtest;
+
+import com.kayky.domain.cashier.CashierRepository;
+import com.kayky.domain.doctor.DoctorRepository;
+import com.kayky.domain.operation.OperationRepository;
+import com.kayky.domain.patient.PatientRepository;
+import com.kayky.domain.payment.PaymentRepository;
+import com.kayky.domain.report.ReportRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+@DisplayName("API Load Test")
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                "spring.jpa.show-sql=false",
+                "spring.jpa.properties.hibernate.format_sql=false",
+                "spring.security.user.name=" + ApiLoadTest.USERNAME,
+                "spring.security.user.password=" + ApiLoadTest.PASSWORD,
+                "logging.level.root=WARN",
+                "logging.level.com.kayky=WARN",
+                "logging.level.org.hibernate.SQL=WARN",
+                "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+        })
+class ApiLoadTest {
+
+    static final String USERNAME = "loadtest";
+    static final String PASSWORD = "loadtest";
+
+    private static final int PAGE_SIZE = 20;
+    private static final Path REPORT_DIRECTORY = Path.of("target", "load-test");
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private PatientRepository patientRepository;
+    @Autowired
+    private DoctorRepository doctorRepository;
+    @Autowired
+    private CashierRepository cashierRepository;
+    @Autowired
+    private OperationRepository operationRepository;
+    @Autowired
+    private PaymentRepository paymentRepository;
+    @Autowired
+    private ReportRepository reportRepository;
+
+    @Test
+    @DisplayName("sustains the configured arrival rate across the endpoint mix")
+    void endpointMix_ShouldSustainTargetRate() throws Exception {
+        var settings = LoadTestSettings.fromSystemProperties();
+
+        var ids = new DataSeeder(patientRepository, doctorRepository, cashierRepository,
+                operationRepository, paymentRepository, reportRepository).seed(settings.seedSize());
+
+        var targets = new ArrayList<OpenModelLoadGenerator.Target>();
+        var weights = new ArrayList<Integer>();
+
+        settings.mix().forEach((resource, weight) -> {
+            List<Long> resourceIds = ids.get(resource);
+            assertThat(resourceIds).as("seeded ids for '%s'", resource).isNotNull();
+
+            int pages = Math.max(1, resourceIds.size() / PAGE_SIZE);
+            int detailWeight = (int) Math.round(weight * 100 * settings.detailRatio());
+
+            targets.add(new OpenModelLoadGenerator.Target("GET /v1/" + resource,
+                    () -> get("/v1/" + resource + "?page=" + ThreadLocalRandom.current().nextInt(pages) + "&size=" + PAGE_SIZE)));
+            weights.add(weight * 100 - detailWeight);
+
+            targets.add(new OpenModelLoadGenerator.Target("GET /v1/" + resource + "/{id}",
+                    () -> get("/v1/" + resource + "/" + resourceIds.get(ThreadLocalRandom.current().nextInt(resourceIds.size())))));
+            weights.add(detailWeight);
+        });
+
+        var client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        var report = new OpenModelLoadGenerator(client, settings)
+                .run(targets, weights.stream().mapToInt(Integer::intValue).toArray());
+
+        report.print(System.out, settings.duration());
+        report.write(REPORT_DIRECTORY, settings.duration());
+        log.warn("Load test report written to {}", REPORT_DIRECTORY.toAbsolutePath());
+
+        assertThat(report.histograms()).isNotEmpty();
+        assertThat(report.totalErrors()).as("failed requests").isZero();
+
+        if (settings.p99BudgetMillis() != null) {
+            report.histograms().keySet().forEach(endpoint -> assertThat(report.p99Millis(endpoint))
+                    .as("p99 of %s", endpoint)
+                    .isLessThanOrEqualTo(settings.p99BudgetMillis().doubleValue()));
+        }
+    }
+
+    private HttpRequest get(String path) {
+        String credentials = Base64.getEncoder()
+                .encodeToString((USERNAME + ":" + PASSWORD).getBytes(StandardCharsets.UTF_8));
+
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Authorization", "Basic " + credentials)
+                .header("Accept", "application/json")
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+    }
+}
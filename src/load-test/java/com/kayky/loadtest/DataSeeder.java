@@ -0,0 +1,138 @@
+package com.kayky.loadtest;
+
+import com.kayky.domain.cashier.Cashier;
+import com.kayky.domain.cashier.CashierRepository;
+import com.kayky.domain.doctor.Doctor;
+import com.kayky.domain.doctor.DoctorRepository;
+import com.kayky.domain.operation.Operation;
+import com.kayky.domain.operation.OperationRepository;
+import com.kayky.domain.operation.OperationStatus;
+import com.kayky.domain.patient.Patient;
+import com.kayky.domain.patient.PatientRepository;
+import com.kayky.domain.payment.Payment;
+import com.kayky.domain.payment.PaymentRepository;
+import com.kayky.domain.payment.enums.PaymentMethod;
+import com.kayky.domain.payment.enums.PaymentStatus;
+import com.kayky.domain.report.Report;
+import com.kayky.domain.report.ReportRepository;
+import com.kayky.domain.report.ReportStatus;
+import com.kayky.domain.user.User;
+import com.kayky.domain.user.enums.Gender;
+import com.kayky.domain.user.enums.Role;
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+@RequiredArgsConstructor
+public class DataSeeder {
+
+    private static final LocalDateTime BASE_DATE = LocalDateTime.of(2025, 1, 1, 8, 0);
+
+    private final PatientRepository patientRepository;
+    private final DoctorRepository doctorRepository;
+    private final CashierRepository cashierRepository;
+    private final OperationRepository operationRepository;
+    private final PaymentRepository paymentRepository;
+    private final ReportRepository reportRepository;
+
+    public Map<String, List<Long>> seed(int size) {
+        var patients = patientRepository.saveAll(generate(size, this::patient));
+        var doctors = doctorRepository.saveAll(generate(Math.max(1, size / 10), this::doctor));
+        var cashiers = cashierRepository.saveAll(generate(Math.max(1, size / 50), this::cashier));
+
+        var operations = operationRepository.saveAll(generate(size * 2, i -> Operation.builder()
+                .description("Scheduled procedure " + i)
+                .scheduledAt(BASE_DATE.plusHours(i))
+                .doctor(doctors.get(i % doctors.size()))
+                .patient(patients.get(i % patients.size()))
+                .status(OperationStatus.values()[i % OperationStatus.values().length])
+                .build()));
+
+        var payments = paymentRepository.saveAll(generate(size * 2, i -> Payment.builder()
+                .patient(patients.get(i % patients.size()))
+                .cashier(cashiers.get(i % cashiers.size()))
+                .amount(BigDecimal.valueOf(50 + i % 500, 0))
+                .paymentMethod(PaymentMethod.values()[i % PaymentMethod.values().length])
+                .status(PaymentStatus.PAID)
+                .paymentDate(BASE_DATE.plusMinutes(i * 30L))
+                .build()));
+
+        var reports = reportRepository.saveAll(generate(size, i -> Report.builder()
+                .title("Clinical report " + i)
+                .description("Patient evaluated during follow-up visit " + i)
+                .diagnosis("Stable")
+                .treatmentPlan("Continue current treatment")
+                .reportDate(LocalDate.of(2025, 1, 1).plusDays(i % 365))
+                .status(ReportStatus.FINALIZED)
+                .patient(patients.get(i % patients.size()))
+                .doctor(doctors.get(i % doctors.size()))
+                .operation(operations.get(i))
+                .build()));
+
+        return Map.of(
+                "patient", ids(patients, User::getId),
+                "operation", ids(operations, Operation::getId),
+                "payment", ids(payments, Payment::getId),
+                "report", ids(reports, Report::getId)
+        );
+    }
+
+    private Patient patient(int i) {
+        return Patient.builder()
+                .firstName("Patient")
+                .lastName(String.valueOf(i))
+                .email("patient" + i + "@loadtest.local")
+                .password("loadtest")
+                .gender(i % 2 == 0 ? Gender.FEMALE : Gender.MALE)
+                .role(Role.PATIENT)
+                .address("Street " + i)
+                .bloodType("O+")
+                .build();
+    }
+
+    private Doctor doctor(int i) {
+        return Doctor.builder()
+                .firstName("Doctor")
+                .lastName(String.valueOf(i))
+                .email("doctor" + i + "@loadtest.local")
+                .password("loadtest")
+                .gender(Gender.MALE)
+                .role(Role.DOCTOR)
+                .registrationNumber("REG-D" + i)
+                .department("Surgery")
+                .salary(new BigDecimal("15000.00"))
+                .specialty("General Surgery")
+                .crm("CRM-LT-" + i)
+                .availability(true)
+                .build();
+    }
+
+    private Cashier cashier(int i) {
+        return Cashier.builder()
+                .firstName("Cashier")
+                .lastName(String.valueOf(i))
+                .email("cashier" + i + "@loadtest.local")
+                .password("loadtest")
+                .gender(Gender.FEMALE)
+                .role(Role.CASHIER)
+                .registrationNumber("REG-C" + i)
+                .department("Billing")
+                .salary(new BigDecimal("3500.00"))
+                .build();
+    }
+
+    private static <T> List<T> generate(int count, IntFunction<T> factory) {
+        return IntStream.range(0, count).mapToObj(factory).toList();
+    }
+
+    private static <T> List<Long> ids(List<T> entities, Function<T, Long> id) {
+        return entities.stream().map(id).toList();
+    }
+}
@@ -0,0 +1,109 @@
+package com.kayky.loadtest;
+
+import com.kayky.domain.cashier.Cashier;
+import com.kayky.domain.cashier.CashierRepository;
+import com.kayky.domain.patient.Patient;
+import com.kayky.domain.patient.PatientRepository;
+import com.kayky.domain.payment.Payment;
+import com.kayky.domain.payment.PaymentRepository;
+import com.kayky.domain.payment.enums.PaymentMethod;
+import com.kayky.domain.payment.enums.PaymentStatus;
+import com.kayky.domain.user.enums.Gender;
+import com.kayky.domain.user.enums.Role;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+@DisplayName("Insert Throughput Load Test")
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = {
+                "spring.datasource.url=jdbc:h2:mem:insertload;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                "spring.jpa.show-sql=false",
+                "spring.jpa.properties.hibernate.format_sql=false",
+                "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+                "spring.jpa.properties.hibernate.order_inserts=true",
+                "logging.level.root=WARN",
+                "logging.level.com.kayky=WARN",
+                "logging.level.org.hibernate.SQL=WARN",
+                "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+        })
+class InsertThroughputLoadTest {
+
+    private static final Path REPORT_FILE = Path.of("target", "load-test", "insert-throughput.txt");
+    private static final LocalDateTime BASE_DATE = LocalDateTime.of(2025, 1, 1, 8, 0);
+
+    @Autowired
+    private PatientRepository patientRepository;
+    @Autowired
+    private CashierRepository cashierRepository;
+    @Autowired
+    private PaymentRepository paymentRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("measures payment inserts per second through saveAll")
+    void saveAll_ShouldReportInsertThroughput() throws IOException {
+        int count = Integer.getInteger("loadtest.insert-count", 20_000);
+        int chunk = Integer.getInteger("loadtest.insert-chunk", 500);
+
+        var patient = patientRepository.save(Patient.builder()
+                .firstName("Insert").lastName("Patient").email("insert.patient@loadtest.local").password("loadtest")
+                .gender(Gender.FEMALE).role(Role.PATIENT).address("Street 1").bloodType("O+")
+                .build());
+        var cashier = cashierRepository.save(Cashier.builder()
+                .firstName("Insert").lastName("Cashier").email("insert.cashier@loadtest.local").password("loadtest")
+                .gender(Gender.MALE).role(Role.CASHIER).registrationNumber("REG-INS").department("Billing")
+                .salary(new BigDecimal("3500.00"))
+                .build());
+
+        insert(patient, cashier, chunk, chunk);
+
+        long start = System.nanoTime();
+        insert(patient, cashier, count, chunk);
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        var summary = String.format("inserts=%d chunk=%d seconds=%.3f inserts/s=%.0f%n", count, chunk, seconds, count / seconds);
+        Files.createDirectories(REPORT_FILE.getParent());
+        Files.writeString(REPORT_FILE, summary);
+        log.warn("Insert throughput: {}", summary.strip());
+
+        assertThat(paymentRepository.count()).isEqualTo(count + chunk);
+    }
+
+    private void insert(Patient patient, Cashier cashier, int count, int chunk) {
+        for (int offset = 0; offset < count; offset += chunk) {
+            int from = offset;
+            int to = Math.min(count, offset + chunk);
+            transactionTemplate.executeWithoutResult(status -> {
+                paymentRepository.saveAll(IntStream.range(from, to).mapToObj(i -> Payment.builder()
+                        .patient(patient)
+                        .cashier(cashier)
+                        .amount(BigDecimal.valueOf(50 + i % 500, 0))
+                        .paymentMethod(PaymentMethod.values()[i % PaymentMethod.values().length])
+                        .status(PaymentStatus.PAID)
+                        .paymentDate(BASE_DATE.plusMinutes(i))
+                        .build()).toList());
+                entityManager.flush();
+                entityManager.clear();
+            });
+        }
+    }
+}
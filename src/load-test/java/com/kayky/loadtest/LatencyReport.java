@@ -0,0 +1,83 @@
+package com.kayky.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+public class LatencyReport {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    private final Map<String, Histogram> histograms = new ConcurrentSkipListMap<>();
+    private final Map<String, LongAdder> errors = new ConcurrentSkipListMap<>();
+
+    public void record(String endpoint, long latencyNanos, boolean success) {
+        long micros = Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_TRACKABLE_MICROS);
+
+        histograms.computeIfAbsent(endpoint, key -> new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3))
+                .recordValue(micros);
+
+        if (!success) {
+            errors.computeIfAbsent(endpoint, key -> new LongAdder()).increment();
+        }
+    }
+
+    public Map<String, Histogram> histograms() {
+        return histograms;
+    }
+
+    public long errors(String endpoint) {
+        LongAdder count = errors.get(endpoint);
+        return count == null ? 0 : count.sum();
+    }
+
+    public long totalErrors() {
+        return errors.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    public double p99Millis(String endpoint) {
+        return histograms.get(endpoint).getValueAtPercentile(99.0) / MICROS_PER_MILLI;
+    }
+
+    public void print(PrintStream out, Duration measured) {
+        double seconds = measured.toNanos() / 1e9;
+
+        out.printf("%-26s %9s %9s %9s %9s %9s %10s %7s%n",
+                "endpoint", "count", "p50 ms", "p99 ms", "p99.9 ms", "max ms", "req/s", "errors");
+
+        histograms.forEach((endpoint, histogram) -> out.printf("%-26s %9d %9.2f %9.2f %9.2f %9.2f %10.1f %7d%n",
+                endpoint,
+                histogram.getTotalCount(),
+                histogram.getValueAtPercentile(50.0) / MICROS_PER_MILLI,
+                histogram.getValueAtPercentile(99.0) / MICROS_PER_MILLI,
+                histogram.getValueAtPercentile(99.9) / MICROS_PER_MILLI,
+                histogram.getMaxValue() / MICROS_PER_MILLI,
+                histogram.getTotalCount() / seconds,
+                errors(endpoint)));
+    }
+
+    public void write(Path directory, Duration measured) throws IOException {
+        Files.createDirectories(directory);
+
+        try (var out = new PrintStream(Files.newOutputStream(directory.resolve("summary.txt")))) {
+            print(out, measured);
+        }
+
+        for (var entry : histograms.entrySet()) {
+            String fileName = entry.getKey().replaceAll("[^A-Za-z0-9]+", "_") + ".hgrm";
+            try (var out = new PrintStream(Files.newOutputStream(directory.resolve(fileName)))) {
+                entry.getValue().outputPercentileDistribution(out, MICROS_PER_MILLI);
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.kayky.loadtest;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public record LoadTestSettings(
+        double rate,
+        Duration warmup,
+        Duration duration,
+        Arrivals arrivals,
+        Map<String, Integer> mix,
+        double detailRatio,
+        int seedSize,
+        Long p99BudgetMillis
+) {
+
+    public enum Arrivals {
+        CONSTANT,
+        POISSON
+    }
+
+    public static LoadTestSettings fromSystemProperties() {
+        String budget = System.getProperty("loadtest.p99-budget-ms");
+
+        return new LoadTestSettings(
+                Double.parseDouble(System.getProperty("loadtest.rate", "50")),
+                Duration.parse(System.getProperty("loadtest.warmup", "PT10S")),
+                Duration.parse(System.getProperty("loadtest.duration", "PT30S")),
+                Arrivals.valueOf(System.getProperty("loadtest.arrivals", "poisson").toUpperCase()),
+                parseMix(System.getProperty("loadtest.mix", "operation=3,payment=3,report=2,patient=2")),
+                Double.parseDouble(System.getProperty("loadtest.detail-ratio", "0.5")),
+                Integer.parseInt(System.getProperty("loadtest.seed-size", "500")),
+                budget == null ? null : Long.parseLong(budget)
+        );
+    }
+
+    private static Map<String, Integer> parseMix(String mix) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid loadtest.mix entry: " + entry);
+            }
+            weights.put(parts[0].trim(), Integer.parseInt(parts[1].trim()));
+        }
+        return weights;
+    }
+}
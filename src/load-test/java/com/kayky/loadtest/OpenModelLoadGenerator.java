@@ -0,0 +1,98 @@
+package com.kayky.loadtest;
+
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+@RequiredArgsConstructor
+public class OpenModelLoadGenerator {
+
+    private final HttpClient client;
+    private final LoadTestSettings settings;
+
+    public record Target(String endpoint, Supplier<HttpRequest> request) {
+    }
+
+    public LatencyReport run(List<Target> targets, int[] weights) throws InterruptedException {
+        var report = new LatencyReport();
+        int totalWeight = 0;
+        for (int weight : weights) {
+            totalWeight += weight;
+        }
+
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / settings.rate());
+        long start = System.nanoTime();
+        long measureFrom = start + settings.warmup().toNanos();
+        long end = measureFrom + settings.duration().toNanos();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            long intended = start;
+
+            while (intended < end) {
+                long wait = intended - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+
+                var target = pick(targets, weights, totalWeight);
+                long scheduledAt = intended;
+                boolean measured = scheduledAt >= measureFrom;
+
+                executor.execute(() -> send(target, scheduledAt, measured, report));
+
+                intended += nextGap(intervalNanos);
+            }
+
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        }
+
+        return report;
+    }
+
+    private void send(Target target, long scheduledAt, boolean measured, LatencyReport report) {
+        boolean success;
+        try {
+            var response = client.send(target.request().get(), HttpResponse.BodyHandlers.discarding());
+            success = response.statusCode() / 100 == 2;
+        } catch (IOException | RuntimeException e) {
+            success = false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        if (measured) {
+            report.record(target.endpoint(), System.nanoTime() - scheduledAt, success);
+        }
+    }
+
+    private long nextGap(long intervalNanos) {
+        if (settings.arrivals() == LoadTestSettings.Arrivals.CONSTANT) {
+            return intervalNanos;
+        }
+        double uniform = 1.0 - ThreadLocalRandom.current().nextDouble();
+        return (long) (-Math.log(uniform) * intervalNanos);
+    }
+
+    private static Target pick(List<Target> targets, int[] weights, int totalWeight) {
+        int roll = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (int i = 0; i < weights.length; i++) {
+            roll -= weights[i];
+            if (roll < 0) {
+                return targets.get(i);
+            }
+        }
+        return targets.getLast();
+    }
+}
@@ -0,0 +1,100 @@
+package com.kayky.core.bitmap;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public class SlotBitmap {
+
+    private final AtomicLongArray words;
+    private final int size;
+
+    public SlotBitmap(int size) {
+        this.size = size;
+        this.words = new AtomicLongArray(wordCount(size));
+    }
+
+    public void set(int from, int to) {
+        forEachWord(from, to, (index, mask) -> words.getAndUpdate(index, word -> word | mask));
+    }
+
+    public void clear(int from, int to) {
+        forEachWord(from, to, (index, mask) -> words.getAndUpdate(index, word -> word & ~mask));
+    }
+
+    public boolean get(int slot) {
+        return (words.get(slot >>> 6) & (1L << slot)) != 0;
+    }
+
+    public long[] toLongArray() {
+        var copy = new long[words.length()];
+        for (int i = 0; i < copy.length; i++) {
+            copy[i] = words.get(i);
+        }
+        return copy;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public static long[] range(int size, int from, int to) {
+        var bits = new long[wordCount(size)];
+        forEachWord(Math.max(0, from), Math.min(size, to), (index, mask) -> bits[index] |= mask);
+        return bits;
+    }
+
+    public static int firstRun(long[] bits, int length) {
+        var runs = bits.clone();
+        int covered = 1;
+        while (covered < length) {
+            int shift = Math.min(covered, length - covered);
+            andShifted(runs, shift);
+            covered += shift;
+        }
+        return firstSetBit(runs);
+    }
+
+    private static void andShifted(long[] bits, int shift) {
+        int wordShift = shift >>> 6;
+        int bitShift = shift & 63;
+        for (int i = 0; i < bits.length; i++) {
+            long low = word(bits, i + wordShift);
+            long shifted = bitShift == 0
+                    ? low
+                    : (low >>> bitShift) | (word(bits, i + wordShift + 1) << (64 - bitShift));
+            bits[i] &= shifted;
+        }
+    }
+
+    private static int firstSetBit(long[] bits) {
+        for (int i = 0; i < bits.length; i++) {
+            if (bits[i] != 0) {
+                return (i << 6) + Long.numberOfTrailingZeros(bits[i]);
+            }
+        }
+        return -1;
+    }
+
+    private static long word(long[] bits, int index) {
+        return index < bits.length ? bits[index] : 0L;
+    }
+
+    private static int wordCount(int size) {
+        return (size + 63) >>> 6;
+    }
+
+    private static void forEachWord(int from, int to, WordMask action) {
+        for (int slot = from; slot < to; ) {
+            int index = slot >>> 6;
+            int end = Math.min(to, (index + 1) << 6);
+            int width = end - slot;
+            long mask = width == 64 ? -1L : ((1L << width) - 1) << (slot & 63);
+            action.apply(index, mask);
+            slot = end;
+        }
+    }
+
+    @FunctionalInterface
+    private interface WordMask {
+        void apply(int index, long mask);
+    }
+}
@@ -0,0 +1,28 @@
+package com.kayky.core.caching;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.function.Supplier;
+
+public class ConditionalResponses {
+
+    private ConditionalResponses() {
+    }
+
+    public static <T> ResponseEntity<T> okIfModified(WebRequest request, ResourceVersion version, Supplier<T> body) {
+        if (request.checkNotModified(version.etag(), version.lastModifiedMillis())) {
+            return null;
+        }
+
+        var response = ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .eTag(version.etag());
+
+        if (version.lastModified() != null) {
+            response.lastModified(version.lastModifiedMillis());
+        }
+        return response.body(body.get());
+    }
+}
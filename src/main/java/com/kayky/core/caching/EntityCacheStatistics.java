@@ -0,0 +1,56 @@
+package com.kayky.core.caching;
+
+import com.kayky.domain.user.User;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Optional;
+
+@Component
+@Slf4j
+public class EntityCacheStatistics {
+
+    private final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+
+    public Optional<Snapshot> snapshot(String region) {
+        try {
+            var names = mBeanServer.queryNames(
+                    new ObjectName("javax.cache:type=CacheStatistics,CacheManager=*,Cache=" + region), null);
+
+            long hits = 0;
+            long misses = 0;
+            long evictions = 0;
+            for (var name : names) {
+                hits += (Long) mBeanServer.getAttribute(name, "CacheHits");
+                misses += (Long) mBeanServer.getAttribute(name, "CacheMisses");
+                evictions += (Long) mBeanServer.getAttribute(name, "CacheEvictions");
+            }
+            return names.isEmpty() ? Optional.empty() : Optional.of(new Snapshot(region, hits, misses, evictions));
+        } catch (JMException e) {
+            log.warn("Failed to read cache statistics for region {}", region, e);
+            return Optional.empty();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.cache.statistics-interval:PT5M}",
+            initialDelayString = "${app.cache.statistics-interval:PT5M}")
+    public void report() {
+        snapshot(User.CACHE_REGION).ifPresent(snapshot ->
+                log.info("Second-level cache '{}': hits={} misses={} hitRatio={} evictions={}",
+                        snapshot.region(), snapshot.hits(), snapshot.misses(),
+                        "%.2f".formatted(snapshot.hitRatio()), snapshot.evictions()));
+    }
+
+    public record Snapshot(String region, long hits, long misses, long evictions) {
+
+        public double hitRatio() {
+            long total = hits + misses;
+            return total == 0 ? 0 : (double) hits / total;
+        }
+    }
+}
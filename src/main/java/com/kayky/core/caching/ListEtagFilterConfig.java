@@ -0,0 +1,25 @@
+package com.kayky.core.caching;
+
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+
+@Configuration
+public class ListEtagFilterConfig {
+
+    @Bean
+    public FilterRegistrationBean<ShallowEtagHeaderFilter> listEtagFilter() {
+        var registration = new FilterRegistrationBean<>(new ShallowEtagHeaderFilter());
+        registration.addUrlPatterns(
+                "/v1/patient",
+                "/v1/doctor",
+                "/v1/cashier",
+                "/v1/operation",
+                "/v1/payment",
+                "/v1/report"
+        );
+        registration.setName("listEtagFilter");
+        return registration;
+    }
+}
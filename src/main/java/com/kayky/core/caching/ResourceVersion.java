@@ -0,0 +1,15 @@
+package com.kayky.core.caching;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+public record ResourceVersion(String etag, LocalDateTime lastModified) {
+
+    public ResourceVersion(String etag) {
+        this(etag, null);
+    }
+
+    public long lastModifiedMillis() {
+        return lastModified == null ? -1 : lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
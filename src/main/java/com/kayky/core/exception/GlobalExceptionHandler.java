@@ -1,19 +1,25 @@
 package com.kayky.core.exception;
 
 import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.kayky.domain.user.User;
 import jakarta.servlet.http.HttpServletRequest;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Locale;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
@@ -32,6 +38,15 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(status).body(buildError(status, e.getMessage(), request));
     }
 
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ApiError> handleDataIntegrityViolation(DataIntegrityViolationException e, HttpServletRequest request) {
+        if (!violates(e, User.EMAIL_CONSTRAINT)) {
+            throw e;
+        }
+
+        return handleEmailAlreadyExists(new EmailAlreadyExistsException("Email already in use"), request);
+    }
+
     @ExceptionHandler(OperationMismatchException.class)
     public ResponseEntity<ApiError> handleOperationMismatch(OperationMismatchException e, HttpServletRequest request) {
         var status = HttpStatus.BAD_REQUEST;
@@ -46,6 +61,31 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(status).body(buildError(status, e.getMessage(), request));
     }
 
+    @ExceptionHandler(ScheduleConflictException.class)
+    public ResponseEntity<ApiError> handleScheduleConflict(ScheduleConflictException e, HttpServletRequest request) {
+        var status = HttpStatus.CONFLICT;
+
+        return ResponseEntity.status(status).body(buildError(status, e.getMessage(), request));
+    }
+
+    @ExceptionHandler(StatusTransitionException.class)
+    public ResponseEntity<ApiError> handleStatusTransition(StatusTransitionException e, HttpServletRequest request) {
+        var status = HttpStatus.UNPROCESSABLE_ENTITY;
+
+        return ResponseEntity.status(status).body(buildError(status, e.getMessage(), request));
+    }
+
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<ApiError> handleOptimisticLockingFailure(ObjectOptimisticLockingFailureException e, HttpServletRequest request) {
+        var status = HttpStatus.CONFLICT;
+
+        String entityName = e.getPersistentClassName();
+        String resource = entityName == null ? "Resource" : entityName.substring(entityName.lastIndexOf('.') + 1);
+        String errorMessage = String.format("%s was modified concurrently, reload it and try again", resource);
+
+        return ResponseEntity.status(status).body(buildError(status, errorMessage, request));
+    }
+
     @ExceptionHandler(ReceiptAlreadyExistsException.class)
     public ResponseEntity<ApiError> handleReceiptAlreadyExists(ReceiptAlreadyExistsException e, HttpServletRequest request) {
         var status = HttpStatus.CONFLICT;
@@ -53,6 +93,73 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(status).body(buildError(status, e.getMessage(), request));
     }
 
+    @ExceptionHandler(IdempotencyKeyInUseException.class)
+    public ResponseEntity<ApiError> handleIdempotencyKeyInUse(IdempotencyKeyInUseException e, HttpServletRequest request) {
+        var status = HttpStatus.CONFLICT;
+
+        return ResponseEntity.status(status).body(buildError(status, e.getMessage(), request));
+    }
+
+    @ExceptionHandler(IdempotencyKeyMismatchException.class)
+    public ResponseEntity<ApiError> handleIdempotencyKeyMismatch(IdempotencyKeyMismatchException e, HttpServletRequest request) {
+        var status = HttpStatus.UNPROCESSABLE_ENTITY;
+
+        return ResponseEntity.status(status).body(buildError(status, e.getMessage(), request));
+    }
+
+    @ExceptionHandler(InvalidIdempotencyKeyException.class)
+    public ResponseEntity<ApiError> handleInvalidIdempotencyKey(InvalidIdempotencyKeyException e, HttpServletRequest request) {
+        var status = HttpStatus.BAD_REQUEST;
+
+        return ResponseEntity.status(status).body(buildError(status, e.getMessage(), request));
+    }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ApiError> handleInvalidCursor(InvalidCursorException e, HttpServletRequest request) {
+        var status = HttpStatus.BAD_REQUEST;
+
+        return ResponseEntity.status(status).body(buildError(status, e.getMessage(), request));
+    }
+
+    @ExceptionHandler(InvalidAvailabilityQueryException.class)
+    public ResponseEntity<ApiError> handleInvalidAvailabilityQuery(InvalidAvailabilityQueryException e, HttpServletRequest request) {
+        var status = HttpStatus.BAD_REQUEST;
+
+        return ResponseEntity.status(status).body(buildError(status, e.getMessage(), request));
+    }
+
+    @ExceptionHandler(InvalidDateRangeException.class)
+    public ResponseEntity<ApiError> handleInvalidDateRange(InvalidDateRangeException e, HttpServletRequest request) {
+        var status = HttpStatus.BAD_REQUEST;
+
+        return ResponseEntity.status(status).body(buildError(status, e.getMessage(), request));
+    }
+
+    @ExceptionHandler(InvalidFieldSelectionException.class)
+    public ResponseEntity<ApiError> handleInvalidFieldSelection(InvalidFieldSelectionException e, HttpServletRequest request) {
+        var status = HttpStatus.BAD_REQUEST;
+
+        return ResponseEntity.status(status).body(buildError(status, e.getMessage(), request));
+    }
+
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<ApiError> handleMethodArgumentTypeMismatch(MethodArgumentTypeMismatchException e, HttpServletRequest request) {
+        var status = HttpStatus.BAD_REQUEST;
+
+        String errorMessage = String.format("Invalid value '%s' for parameter %s", e.getValue(), e.getName());
+
+        Class<?> requiredType = e.getRequiredType();
+        if (requiredType != null && requiredType.isEnum()) {
+            String acceptedValues = String.join(", ",
+                    Arrays.stream(requiredType.getEnumConstants())
+                            .map(Object::toString)
+                            .toList());
+            errorMessage = String.format("%s. Accepted values are: [%s]", errorMessage, acceptedValues);
+        }
+
+        return ResponseEntity.status(status).body(buildError(status, errorMessage, request));
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ValidationError> handleMethodArgumentNotValid(MethodArgumentNotValidException e, HttpServletRequest request){
         var status = HttpStatus.UNPROCESSABLE_ENTITY;
@@ -98,6 +205,16 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(status).body(buildError(status, errorMessage, request));
     }
 
+    private static boolean violates(Throwable e, String constraint) {
+        for (var cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null
+                    && violation.getConstraintName().toLowerCase(Locale.ROOT).contains(constraint)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private ApiError buildError(HttpStatus status, String message, HttpServletRequest request) {
         return new ApiError(Instant.now(), status.value(), message, request.getRequestURI());
     }
@@ -0,0 +1,8 @@
+package com.kayky.core.exception;
+
+public class IdempotencyKeyInUseException extends RuntimeException {
+
+    public IdempotencyKeyInUseException(String key) {
+        super("A request with Idempotency-Key " + key + " is still being processed");
+    }
+}
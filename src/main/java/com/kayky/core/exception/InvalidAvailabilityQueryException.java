@@ -0,0 +1,8 @@
+package com.kayky.core.exception;
+
+public class InvalidAvailabilityQueryException extends RuntimeException {
+
+    public InvalidAvailabilityQueryException(String message) {
+        super(message);
+    }
+}
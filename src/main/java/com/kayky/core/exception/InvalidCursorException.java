@@ -0,0 +1,8 @@
+package com.kayky.core.exception;
+
+public class InvalidCursorException extends RuntimeException {
+
+    public InvalidCursorException() {
+        super("Invalid pagination cursor");
+    }
+}
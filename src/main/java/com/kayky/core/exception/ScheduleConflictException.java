@@ -0,0 +1,8 @@
+package com.kayky.core.exception;
+
+public class ScheduleConflictException extends RuntimeException {
+
+    public ScheduleConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.kayky.core.exception;
+
+public class StatusTransitionException extends RuntimeException {
+
+    public StatusTransitionException(String message) {
+        super(message);
+    }
+}
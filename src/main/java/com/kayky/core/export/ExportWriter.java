@@ -0,0 +1,115 @@
+package com.kayky.core.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Stream;
+
+public class ExportWriter {
+
+    public static final String FETCH_SIZE = "500";
+
+    private static final int FLUSH_INTERVAL = 500;
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    private static final ObjectMapper JSON = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET, JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM)
+            .build();
+
+    private ExportWriter() {
+    }
+
+    public static <T> long write(Stream<T> rows, List<ExportColumn<T>> columns, ExportFormat format,
+                                 OutputStream out) throws IOException {
+        var writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+
+        if (format == ExportFormat.CSV) {
+            writeCsvHeader(columns, writer);
+        }
+
+        long written = 0;
+        var iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            T row = iterator.next();
+
+            if (format == ExportFormat.CSV) {
+                writeCsvRow(row, columns, writer);
+            } else {
+                writeJsonRow(row, columns, writer);
+            }
+
+            if (++written % FLUSH_INTERVAL == 0) {
+                writer.flush();
+            }
+        }
+
+        writer.flush();
+        return written;
+    }
+
+    private static <T> void writeJsonRow(T row, List<ExportColumn<T>> columns, Writer writer) throws IOException {
+        try (JsonGenerator generator = JSON.getFactory().createGenerator(writer)) {
+            generator.setCodec(JSON);
+            generator.writeStartObject();
+            for (var column : columns) {
+                generator.writeFieldName(column.name());
+                generator.writeObject(column.value().apply(row));
+            }
+            generator.writeEndObject();
+        }
+        writer.write('\n');
+    }
+
+    private static <T> void writeCsvHeader(List<ExportColumn<T>> columns, Writer writer) throws IOException {
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escapeCsv(columns.get(i).name()));
+        }
+        writer.write("\r\n");
+    }
+
+    private static <T> void writeCsvRow(T row, List<ExportColumn<T>> columns, Writer writer) throws IOException {
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escapeCsv(toCsvValue(columns.get(i).value().apply(row))));
+        }
+        writer.write("\r\n");
+    }
+
+    private static String toCsvValue(Object value) {
+        if (value == null) {
+            return "";
+        }
+        if (value instanceof BigDecimal decimal) {
+            return decimal.toPlainString();
+        }
+        return value.toString();
+    }
+
+    private static String escapeCsv(String value) {
+        boolean needsQuotes = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+
+        if (!needsQuotes) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,41 @@
+package com.kayky.core.fieldset;
+
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class FieldPaths {
+
+    private final Root<?> root;
+    private final Map<String, From<?, ?>> joins = new HashMap<>();
+
+    FieldPaths(Root<?> root) {
+        this.root = root;
+    }
+
+    public <Y> Path<Y> get(String path) {
+        int lastDot = path.lastIndexOf('.');
+        if (lastDot < 0) {
+            return root.get(path);
+        }
+        return join(path.substring(0, lastDot)).get(path.substring(lastDot + 1));
+    }
+
+    private From<?, ?> join(String association) {
+        var existing = joins.get(association);
+        if (existing != null) {
+            return existing;
+        }
+
+        int lastDot = association.lastIndexOf('.');
+        From<?, ?> parent = lastDot < 0 ? root : join(association.substring(0, lastDot));
+        From<?, ?> joined = parent.join(association.substring(lastDot + 1), JoinType.LEFT);
+
+        joins.put(association, joined);
+        return joined;
+    }
+}
@@ -0,0 +1,23 @@
+package com.kayky.core.fieldset;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+
+import java.util.function.BiFunction;
+
+public record SparseField(String name, BiFunction<FieldPaths, CriteriaBuilder, Expression<?>> expression) {
+
+    public static SparseField attribute(String name) {
+        return attribute(name, name);
+    }
+
+    public static SparseField attribute(String name, String path) {
+        return new SparseField(name, (paths, cb) -> paths.get(path));
+    }
+
+    public static SparseField fullName(String name, String association) {
+        return new SparseField(name, (paths, cb) -> cb.concat(
+                cb.concat(paths.<String>get(association + ".firstName"), " "),
+                paths.<String>get(association + ".lastName")));
+    }
+}
@@ -0,0 +1,105 @@
+package com.kayky.core.fieldset;
+
+import com.kayky.core.exception.InvalidFieldSelectionException;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public final class SparseFieldset<T> {
+
+    @Getter
+    private final Class<T> type;
+    private final Map<String, SparseField> fields;
+    private final Map<String, List<String>> groups;
+
+    private SparseFieldset(Class<T> type, Map<String, SparseField> fields, Map<String, List<String>> groups) {
+        this.type = type;
+        this.fields = Map.copyOf(fields);
+        this.groups = Map.copyOf(groups);
+    }
+
+    public static <T> Builder<T> builder(Class<T> type) {
+        return new Builder<>(type);
+    }
+
+    public List<SparseField> select(String requested) {
+        Set<String> names = new LinkedHashSet<>();
+
+        Arrays.stream(requested.split(","))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .forEach(name -> names.addAll(groups.getOrDefault(name, List.of(name))));
+
+        if (names.isEmpty()) {
+            throw new InvalidFieldSelectionException("At least one field must be selected");
+        }
+
+        List<SparseField> selection = new ArrayList<>(names.size());
+        for (String name : names) {
+            selection.add(field(name));
+        }
+        return selection;
+    }
+
+    public SparseField field(String name) {
+        var field = fields.get(name);
+        if (field == null) {
+            throw new InvalidFieldSelectionException(String.format("Unknown field '%s'. Accepted fields are: %s",
+                    name, acceptedNames()));
+        }
+        return field;
+    }
+
+    private List<String> acceptedNames() {
+        var accepted = new ArrayList<String>();
+        accepted.addAll(groups.keySet());
+        accepted.addAll(fields.keySet());
+        return accepted.stream().sorted().toList();
+    }
+
+    public static final class Builder<T> {
+
+        private final Class<T> type;
+        private final Map<String, SparseField> fields = new LinkedHashMap<>();
+        private final Map<String, List<String>> groups = new LinkedHashMap<>();
+
+        private Builder(Class<T> type) {
+            this.type = type;
+        }
+
+        public Builder<T> field(SparseField field) {
+            fields.put(field.name(), field);
+            return this;
+        }
+
+        public Builder<T> attributes(String... names) {
+            for (String name : names) {
+                field(SparseField.attribute(name));
+            }
+            return this;
+        }
+
+        public Builder<T> group(String name, String... members) {
+            groups.put(name, List.of(members));
+            return this;
+        }
+
+        public SparseFieldset<T> build() {
+            groups.values().stream()
+                    .flatMap(List::stream)
+                    .filter(member -> !fields.containsKey(member))
+                    .findFirst()
+                    .ifPresent(member -> {
+                        throw new IllegalStateException("Group member '" + member + "' is not a declared field");
+                    });
+
+            return new SparseFieldset<>(type, fields, groups);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.kayky.core.fieldset;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Repository
+public class SparseFieldsetRepository {
+
+    private static final String ID = "id";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public <T> Slice<Map<String, Object>> findAll(SparseFieldset<T> fieldset, List<SparseField> selection,
+                                                 Pageable pageable) {
+        var cb = entityManager.getCriteriaBuilder();
+        var query = cb.createTupleQuery();
+        Root<T> root = query.from(fieldset.getType());
+        var paths = new FieldPaths(root);
+
+        select(query, selection, paths, cb);
+        query.orderBy(orders(fieldset, pageable.getSort(), root, paths, cb));
+
+        var typedQuery = entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_READ_ONLY, true);
+
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize() + 1);
+        }
+
+        var rows = typedQuery.getResultList();
+
+        boolean hasNext = pageable.isPaged() && rows.size() > pageable.getPageSize();
+        var window = hasNext ? rows.subList(0, pageable.getPageSize()) : rows;
+
+        var content = window.stream().map(tuple -> toMap(tuple, selection)).toList();
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    public <T> Optional<Map<String, Object>> findById(SparseFieldset<T> fieldset, List<SparseField> selection, Long id) {
+        var cb = entityManager.getCriteriaBuilder();
+        var query = cb.createTupleQuery();
+        Root<T> root = query.from(fieldset.getType());
+        var paths = new FieldPaths(root);
+
+        select(query, selection, paths, cb);
+        query.where(cb.equal(root.get(ID), id));
+
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()
+                .findFirst()
+                .map(tuple -> toMap(tuple, selection));
+    }
+
+    private void select(CriteriaQuery<Tuple> query, List<SparseField> selection, FieldPaths paths, CriteriaBuilder cb) {
+        List<Selection<?>> selections = new ArrayList<>(selection.size());
+        for (var field : selection) {
+            selections.add(field.expression().apply(paths, cb));
+        }
+        query.multiselect(selections);
+    }
+
+    private <T> List<Order> orders(SparseFieldset<T> fieldset, Sort sort, Root<T> root, FieldPaths paths,
+                                   CriteriaBuilder cb) {
+        List<Order> orders = new ArrayList<>();
+        boolean sortedById = false;
+
+        for (var order : sort) {
+            var expression = fieldset.field(order.getProperty()).expression().apply(paths, cb);
+            orders.add(order.isAscending() ? cb.asc(expression) : cb.desc(expression));
+            sortedById |= ID.equals(order.getProperty());
+        }
+
+        if (!sortedById) {
+            orders.add(cb.asc(root.get(ID)));
+        }
+        return orders;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> toMap(Tuple tuple, List<SparseField> selection) {
+        Map<String, Object> row = new LinkedHashMap<>();
+
+        for (int i = 0; i < selection.size(); i++) {
+            String[] segments = selection.get(i).name().split("\\.");
+
+            Map<String, Object> target = row;
+            for (int s = 0; s < segments.length - 1; s++) {
+                target = (Map<String, Object>) target.computeIfAbsent(segments[s], key -> new LinkedHashMap<>());
+            }
+            target.put(segments[segments.length - 1], tuple.get(i));
+        }
+
+        row.replaceAll((key, value) -> value instanceof Map<?, ?> nested && isEmpty(nested) ? null : value);
+        return row;
+    }
+
+    private boolean isEmpty(Map<?, ?> nested) {
+        return nested.values().stream().allMatch(value -> value == null);
+    }
+}
@@ -0,0 +1,52 @@
+package com.kayky.core.id;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class IdGeneratorSeeder {
+
+    static final Map<String, String> SEGMENTS = Map.of(
+            "user", "tb_user",
+            "operation", "tb_operation",
+            "payment", "tb_payment",
+            "receipt", "tb_receipt",
+            "report", "tb_report"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void seed() {
+        SEGMENTS.forEach(this::seed);
+    }
+
+    private void seed(String segment, String table) {
+        long next = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) + 1 FROM " + table, Long.class);
+
+        var current = jdbcTemplate.queryForList(
+                "SELECT " + PooledIdGenerator.VALUE_COLUMN + " FROM " + PooledIdGenerator.TABLE
+                        + " WHERE " + PooledIdGenerator.SEGMENT_COLUMN + " = ?", Long.class, segment);
+
+        if (current.isEmpty()) {
+            jdbcTemplate.update("INSERT INTO " + PooledIdGenerator.TABLE
+                    + " (" + PooledIdGenerator.SEGMENT_COLUMN + ", " + PooledIdGenerator.VALUE_COLUMN + ") VALUES (?, ?)", segment, next);
+        } else if (current.getFirst() < next) {
+            jdbcTemplate.update("UPDATE " + PooledIdGenerator.TABLE + " SET " + PooledIdGenerator.VALUE_COLUMN + " = ?"
+                    + " WHERE " + PooledIdGenerator.SEGMENT_COLUMN + " = ?", next, segment);
+        } else {
+            return;
+        }
+
+        log.info("Id generator segment '{}' starts at {}", segment, next);
+    }
+}
@@ -0,0 +1,20 @@
+package com.kayky.core.idempotency;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public class IdempotencyClaims {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void claim(IdempotencyRecord record) {
+        entityManager.persist(record);
+        entityManager.flush();
+    }
+}
@@ -0,0 +1,52 @@
+package com.kayky.core.idempotency;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(
+        name = "tb_idempotency_key",
+        indexes = @Index(name = "idx_idempotency_key_expires_at", columnList = "expires_at")
+)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdempotencyRecord {
+
+    @Id
+    @Column(length = 100)
+    private String id;
+
+    @Column(nullable = false, length = 64)
+    private String requestHash;
+
+    private Integer status;
+
+    private String location;
+
+    @Column(length = 4000)
+    private String body;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    public static IdempotencyRecord pending(String id, String requestHash, LocalDateTime expiresAt) {
+        return new IdempotencyRecord(id, requestHash, null, null, null, expiresAt);
+    }
+
+    public boolean isCompleted() {
+        return status != null;
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return !expiresAt.isAfter(now);
+    }
+}
@@ -0,0 +1,49 @@
+package com.kayky.core.idempotency;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+
+    @Modifying
+    @Query("""
+            UPDATE IdempotencyRecord r
+            SET r.status = :status, r.location = :location, r.body = :body, r.expiresAt = :expiresAt
+            WHERE r.id = :id AND r.status IS NULL AND r.expiresAt = :lease
+            """)
+    int complete(@Param("id") String id,
+                 @Param("lease") LocalDateTime lease,
+                 @Param("status") int status,
+                 @Param("location") String location,
+                 @Param("body") String body,
+                 @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.id = :id AND r.status IS NULL AND r.expiresAt = :lease")
+    int release(@Param("id") String id, @Param("lease") LocalDateTime lease);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE IdempotencyRecord r
+            SET r.requestHash = :requestHash, r.status = NULL, r.location = NULL, r.body = NULL, r.expiresAt = :lease
+            WHERE r.id = :id AND r.expiresAt <= :now
+            """)
+    int takeOver(@Param("id") String id,
+                 @Param("requestHash") String requestHash,
+                 @Param("lease") LocalDateTime lease,
+                 @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
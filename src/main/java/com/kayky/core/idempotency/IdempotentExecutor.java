@@ -0,0 +1,231 @@
+package com.kayky.core.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kayky.core.exception.IdempotencyKeyInUseException;
+import com.kayky.core.exception.IdempotencyKeyMismatchException;
+import com.kayky.core.exception.InvalidIdempotencyKeyException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+@Component
+@Slf4j
+public class IdempotentExecutor {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 64;
+
+    private record Execution<T>(ResponseEntity<T> response, StoredResponse stored) {
+    }
+
+    private final Map<String, CompletableFuture<StoredResponse>> inFlight = new ConcurrentHashMap<>();
+    private final Cache<String, StoredResponse> completed;
+
+    private final IdempotencyRecordRepository repository;
+    private final IdempotencyClaims claims;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+    private final Duration ttl;
+    private final Duration pendingLease;
+
+    public IdempotentExecutor(IdempotencyRecordRepository repository,
+                              IdempotencyClaims claims,
+                              PlatformTransactionManager transactionManager,
+                              ObjectMapper objectMapper,
+                              Clock clock,
+                              @Value("${app.idempotency.ttl:PT24H}") Duration ttl,
+                              @Value("${app.idempotency.pending-lease:PT30S}") Duration pendingLease,
+                              @Value("${app.idempotency.cache-ttl:PT10M}") Duration cacheTtl,
+                              @Value("${app.idempotency.cache-size:10000}") long cacheSize) {
+        this.repository = repository;
+        this.claims = claims;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+        this.ttl = ttl;
+        this.pendingLease = pendingLease;
+        this.completed = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(cacheTtl)
+                .build();
+    }
+
+    public <T> ResponseEntity<T> execute(String scope, String key, Object request, Class<T> type,
+                                         Supplier<ResponseEntity<T>> action) {
+        if (key == null) {
+            return action.get();
+        }
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new InvalidIdempotencyKeyException(
+                    HEADER + " must have between 1 and " + MAX_KEY_LENGTH + " characters");
+        }
+
+        var id = scope + ":" + key;
+        var requestHash = hash(request);
+
+        var cached = completed.getIfPresent(id);
+        if (cached != null) {
+            return replay(key, requestHash, cached, type);
+        }
+
+        var pending = new CompletableFuture<StoredResponse>();
+        var running = inFlight.putIfAbsent(id, pending);
+        if (running != null) {
+            log.debug("Coalescing duplicate request {} onto the execution in flight", id);
+            return replay(key, requestHash, await(running), type);
+        }
+
+        try {
+            var lease = now().plus(pendingLease).truncatedTo(ChronoUnit.MILLIS);
+            var claimed = claim(id, key, requestHash, lease);
+            if (claimed != null) {
+                completed.put(id, claimed);
+                pending.complete(claimed);
+                return replay(key, requestHash, claimed, type);
+            }
+
+            var execution = run(id, key, requestHash, lease, action);
+            completed.put(id, execution.stored());
+            pending.complete(execution.stored());
+            return execution.response();
+        } catch (RuntimeException e) {
+            pending.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(id, pending);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.idempotency.purge-interval:PT10M}",
+            initialDelayString = "${app.idempotency.purge-interval:PT10M}")
+    public void purge() {
+        int deleted = repository.deleteExpired(now());
+        log.debug("Purged {} expired idempotency keys", deleted);
+    }
+
+    private StoredResponse claim(String id, String key, String requestHash, LocalDateTime lease) {
+        try {
+            claims.claim(IdempotencyRecord.pending(id, requestHash, lease));
+            return null;
+        } catch (DataIntegrityViolationException e) {
+            var now = now();
+            var existing = repository.findById(id).orElseThrow(() -> new IdempotencyKeyInUseException(key));
+
+            if (existing.isExpired(now)) {
+                if (repository.takeOver(id, requestHash, lease, now) == 0) {
+                    throw new IdempotencyKeyInUseException(key);
+                }
+                log.debug("Took over idempotency key {} whose previous claim expired", id);
+                return null;
+            }
+            if (!existing.getRequestHash().equals(requestHash)) {
+                throw new IdempotencyKeyMismatchException(key);
+            }
+            if (!existing.isCompleted()) {
+                throw new IdempotencyKeyInUseException(key);
+            }
+
+            return new StoredResponse(existing.getRequestHash(), existing.getStatus(), existing.getLocation(),
+                    existing.getBody());
+        }
+    }
+
+    private <T> Execution<T> run(String id, String key, String requestHash, LocalDateTime lease,
+                                 Supplier<ResponseEntity<T>> action) {
+        try {
+            return transactionTemplate.execute(status -> {
+                var response = action.get();
+                var location = response.getHeaders().getLocation();
+                var stored = new StoredResponse(requestHash, response.getStatusCode().value(),
+                        location == null ? null : location.toString(), write(response.getBody()));
+
+                if (repository.complete(id, lease, stored.status(), stored.location(), stored.body(),
+                        now().plus(ttl)) == 0) {
+                    throw new IdempotencyKeyInUseException(key);
+                }
+                return new Execution<>(response, stored);
+            });
+        } catch (RuntimeException e) {
+            repository.release(id, lease);
+            throw e;
+        }
+    }
+
+    private <T> ResponseEntity<T> replay(String key, String requestHash, StoredResponse stored, Class<T> type) {
+        if (!stored.requestHash().equals(requestHash)) {
+            throw new IdempotencyKeyMismatchException(key);
+        }
+
+        var builder = ResponseEntity.status(stored.status()).header(REPLAYED_HEADER, "true");
+        if (stored.location() != null) {
+            builder.header(HttpHeaders.LOCATION, stored.location());
+        }
+
+        return builder.body(read(stored.body(), type));
+    }
+
+    private static StoredResponse await(CompletableFuture<StoredResponse> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private String hash(Object request) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(request));
+            return HexFormat.of().formatHex(digest);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Could not fingerprint idempotent request", e);
+        }
+    }
+
+    private String write(Object body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not store idempotent response", e);
+        }
+    }
+
+    private <T> T read(String body, Class<T> type) {
+        try {
+            return objectMapper.readValue(body, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not read stored idempotent response", e);
+        }
+    }
+
+    private LocalDateTime now() {
+        return LocalDateTime.now(clock);
+    }
+}
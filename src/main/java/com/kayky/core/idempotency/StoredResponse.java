@@ -0,0 +1,4 @@
+package com.kayky.core.idempotency;
+
+record StoredResponse(String requestHash, int status, String location, String body) {
+}
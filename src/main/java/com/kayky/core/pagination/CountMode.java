@@ -0,0 +1,7 @@
+package com.kayky.core.pagination;
+
+public enum CountMode {
+    NONE,
+    EXACT,
+    ESTIMATE
+}
@@ -0,0 +1,62 @@
+package com.kayky.core.pagination;
+
+import com.kayky.core.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+public record Cursor(Direction direction, String key, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    public enum Direction {
+        NEXT,
+        PREV
+    }
+
+    public static Cursor next(String key, Long id) {
+        return new Cursor(Direction.NEXT, key, id);
+    }
+
+    public static Cursor prev(String key, Long id) {
+        return new Cursor(Direction.PREV, key, id);
+    }
+
+    public boolean isPrevious() {
+        return direction == Direction.PREV;
+    }
+
+    public LocalDateTime keyAsDateTime() {
+        if (key == null) {
+            throw new InvalidCursorException();
+        }
+        try {
+            return LocalDateTime.parse(key);
+        } catch (DateTimeParseException e) {
+            throw new InvalidCursorException();
+        }
+    }
+
+    public String encode() {
+        var raw = direction.name() + SEPARATOR + (key == null ? "" : key) + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Cursor decode(String token) {
+        try {
+            var raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            var parts = raw.split("\\" + SEPARATOR, -1);
+
+            if (parts.length != 3) {
+                throw new InvalidCursorException();
+            }
+
+            var key = parts[1].isEmpty() ? null : parts[1];
+            return new Cursor(Direction.valueOf(parts[0]), key, Long.valueOf(parts[2]));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException();
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.kayky.core.pagination;
+
+import org.springframework.data.domain.Limit;
+
+public record CursorRequest(Cursor cursor, int size) {
+
+    public static CursorRequest of(String token, int size) {
+        var cursor = token == null || token.isBlank() ? null : Cursor.decode(token);
+        return new CursorRequest(cursor, size);
+    }
+
+    public boolean isFirstPage() {
+        return cursor == null;
+    }
+
+    public boolean isBackward() {
+        return cursor != null && cursor.isPrevious();
+    }
+
+    public Limit limit() {
+        return Limit.of(size + 1);
+    }
+}
@@ -0,0 +1,28 @@
+package com.kayky.core.pagination;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.Repository;
+
+import java.util.List;
+
+@NoRepositoryBean
+public interface KeysetRepository<T> extends Repository<T, Long> {
+
+    List<T> findAllByOrderByIdAsc(Limit limit);
+
+    List<T> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    List<T> findByIdLessThanOrderByIdDesc(Long id, Limit limit);
+
+    default List<T> findWindow(CursorRequest request) {
+        if (request.isFirstPage()) {
+            return findAllByOrderByIdAsc(request.limit());
+        }
+
+        var cursor = request.cursor();
+        return cursor.isPrevious()
+                ? findByIdLessThanOrderByIdDesc(cursor.id(), request.limit())
+                : findByIdGreaterThanOrderByIdAsc(cursor.id(), request.limit());
+    }
+}
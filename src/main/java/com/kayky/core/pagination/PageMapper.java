@@ -1,6 +1,9 @@
 package com.kayky.core.pagination;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
 
 public class PageMapper {
 
@@ -15,4 +18,33 @@ public class PageMapper {
                 .totalPages(page.getTotalPages())
                 .build();
     }
+
+    public static <T> PageResponse<T> toSliceResponse(Slice<T> slice){
+        return PageResponse.<T>builder()
+                .content(slice.getContent())
+                .currentPage(slice.getNumber())
+                .hasNext(slice.hasNext())
+                .build();
+    }
+
+    public static <T> PageResponse<T> toEstimatedPageResponse(Slice<T> slice, long totalElements){
+        int size = slice.getSize();
+        int totalPages = size == 0 ? 1 : (int) Math.ceil((double) totalElements / size);
+
+        return PageResponse.<T>builder()
+                .content(slice.getContent())
+                .currentPage(slice.getNumber())
+                .totalElements(totalElements)
+                .totalPages(totalPages)
+                .hasNext(slice.hasNext())
+                .build();
+    }
+
+    public static <T> PageResponse<T> toCursorPageResponse(List<T> content, String next, String prev){
+        return PageResponse.<T>builder()
+                .content(content)
+                .next(next)
+                .prev(prev)
+                .build();
+    }
 }
@@ -1,5 +1,6 @@
 package com.kayky.core.pagination;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.*;
 
 import java.util.List;
@@ -9,9 +10,13 @@ import java.util.List;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class PageResponse<T> {
     private List<T> content;
-    private int currentPage;
-    private long totalElements;
-    private int totalPages;
+    private Integer currentPage;
+    private Long totalElements;
+    private Integer totalPages;
+    private Boolean hasNext;
+    private String next;
+    private String prev;
 }
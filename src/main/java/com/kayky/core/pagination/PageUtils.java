@@ -1,7 +1,11 @@
 package com.kayky.core.pagination;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.function.Function;
 
 public class PageUtils {
@@ -14,4 +18,53 @@ public class PageUtils {
         return PageMapper.toPageResponse(mappedPage);
     }
 
+    public static <T, R> PageResponse<R> mapSlice(Slice<T> slice, Function<T, R> mapper){
+        return PageMapper.toSliceResponse(slice.map(mapper));
+    }
+
+    public static <T, R> PageResponse<R> mapSlice(Slice<T> slice, long estimatedTotal, Function<T, R> mapper){
+        long seen = slice.getPageable().isPaged()
+                ? slice.getPageable().getOffset() + slice.getNumberOfElements()
+                : slice.getNumberOfElements();
+
+        long total = slice.hasNext() ? Math.max(estimatedTotal, seen + 1) : seen;
+        return PageMapper.toEstimatedPageResponse(slice.map(mapper), total);
+    }
+
+    public static <T, R> PageResponse<R> mapWindow(List<T> rows, CursorRequest request,
+                                                   Function<T, Long> id, Function<T, R> mapper) {
+        return mapWindow(rows, request, row -> null, id, mapper);
+    }
+
+    public static <T, R> PageResponse<R> mapWindow(List<T> rows, CursorRequest request, Function<T, String> sortKey,
+                                                   Function<T, Long> id, Function<T, R> mapper) {
+        boolean hasMore = rows.size() > request.size();
+
+        List<T> window = new ArrayList<>(hasMore ? rows.subList(0, request.size()) : rows);
+        if (request.isBackward()) {
+            Collections.reverse(window);
+        }
+
+        String next = null;
+        String prev = null;
+
+        if (!window.isEmpty()) {
+            T first = window.getFirst();
+            T last = window.getLast();
+
+            boolean hasNext = request.isBackward() || hasMore;
+            boolean hasPrev = request.isBackward() ? hasMore : !request.isFirstPage();
+
+            if (hasNext) {
+                next = Cursor.next(sortKey.apply(last), id.apply(last)).encode();
+            }
+            if (hasPrev) {
+                prev = Cursor.prev(sortKey.apply(first), id.apply(first)).encode();
+            }
+        }
+
+        var content = window.stream().map(mapper).toList();
+        return PageMapper.toCursorPageResponse(content, next, prev);
+    }
+
 }
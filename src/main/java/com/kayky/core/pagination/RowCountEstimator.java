@@ -0,0 +1,59 @@
+package com.kayky.core.pagination;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+@Component
+@Slf4j
+public class RowCountEstimator {
+
+    private final Map<Class<?>, Counter> counters = new ConcurrentHashMap<>();
+
+    public long estimate(Class<?> type, LongSupplier exactCount) {
+        var counter = counters.get(type);
+        if (counter == null) {
+            counter = counters.computeIfAbsent(type,
+                    key -> new Counter(new AtomicLong(exactCount.getAsLong()), exactCount));
+        }
+        return counter.value().get();
+    }
+
+    public void increment(Class<?> type) {
+        var counter = counters.get(type);
+        if (counter != null) {
+            counter.value().incrementAndGet();
+        }
+    }
+
+    public void decrement(Class<?> type) {
+        var counter = counters.get(type);
+        if (counter != null) {
+            counter.value().updateAndGet(value -> Math.max(0, value - 1));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.pagination.count-reconcile-interval:PT5M}",
+            initialDelayString = "${app.pagination.count-reconcile-interval:PT5M}")
+    public void reconcile() {
+        counters.forEach((type, counter) -> {
+            try {
+                long exact = counter.exactCount().getAsLong();
+                long drift = counter.value().getAndSet(exact) - exact;
+                if (drift != 0) {
+                    log.debug("Reconciled row count for {} (drift {})", type.getSimpleName(), drift);
+                }
+            } catch (RuntimeException e) {
+                log.warn("Failed to reconcile row count for {}", type.getSimpleName(), e);
+            }
+        });
+    }
+
+    private record Counter(AtomicLong value, LongSupplier exactCount) {
+    }
+}
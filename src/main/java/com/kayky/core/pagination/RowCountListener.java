@@ -0,0 +1,43 @@
+package com.kayky.core.pagination;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class RowCountListener {
+
+    private final ObjectProvider<RowCountEstimator> estimator;
+
+    public RowCountListener(ObjectProvider<RowCountEstimator> estimator) {
+        this.estimator = estimator;
+    }
+
+    @PostPersist
+    public void onPersist(Object entity) {
+        var type = Hibernate.getClass(entity);
+        afterCommit(() -> estimator.ifAvailable(e -> e.increment(type)));
+    }
+
+    @PostRemove
+    public void onRemove(Object entity) {
+        var type = Hibernate.getClass(entity);
+        afterCommit(() -> estimator.ifAvailable(e -> e.decrement(type)));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,12 @@
+package com.kayky.core.pagination;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.Repository;
+
+@NoRepositoryBean
+public interface SliceRepository<T> extends Repository<T, Long> {
+
+    Slice<T> findAllBy(Pageable pageable);
+}
@@ -0,0 +1,55 @@
+package com.kayky.core.query;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+@Component
+@Slf4j
+public class QueryBudgetFilter extends OncePerRequestFilter {
+
+    private final int maxStatements;
+    private final int repeatThreshold;
+
+    public QueryBudgetFilter(@Value("${app.query-budget.max-statements:10}") int maxStatements,
+                             @Value("${app.query-budget.repeat-threshold:3}") int repeatThreshold) {
+        this.maxStatements = maxStatements;
+        this.repeatThreshold = repeatThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        QueryCounter.begin();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            report(request, QueryCounter.end());
+        }
+    }
+
+    private void report(HttpServletRequest request, StatementLog statements) {
+        if (statements == null || statements.total() == 0) {
+            return;
+        }
+
+        var repeated = statements.repeated(repeatThreshold);
+
+        if (statements.total() > maxStatements) {
+            log.warn("{} {} issued {} SQL statements (budget {}):{}{}", request.getMethod(), request.getRequestURI(),
+                    statements.total(), maxStatements, System.lineSeparator(), statements.describe());
+        } else if (!repeated.isEmpty()) {
+            repeated.forEach(statement -> log.warn("{} {} repeated a statement {} times at {} (possible N+1): {}",
+                    request.getMethod(), request.getRequestURI(), statement.count(), statement.callSite(), statement.sql()));
+        } else {
+            log.debug("{} {} issued {} SQL statements", request.getMethod(), request.getRequestURI(), statements.total());
+        }
+    }
+}
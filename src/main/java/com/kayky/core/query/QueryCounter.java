@@ -0,0 +1,47 @@
+package com.kayky.core.query;
+
+public final class QueryCounter {
+
+    private static final ThreadLocal<StatementLog> CURRENT = new ThreadLocal<>();
+    private static final ThreadLocal<StatementLog> CAPTURE = new ThreadLocal<>();
+
+    private QueryCounter() {
+    }
+
+    public static StatementLog begin() {
+        var log = new StatementLog();
+        CURRENT.set(log);
+        return log;
+    }
+
+    public static StatementLog end() {
+        var log = CURRENT.get();
+        CURRENT.remove();
+        return log;
+    }
+
+    public static StatementLog capture() {
+        var log = new StatementLog();
+        CAPTURE.set(log);
+        return log;
+    }
+
+    public static void join(StatementLog log) {
+        CAPTURE.set(log);
+    }
+
+    public static void release() {
+        CAPTURE.remove();
+    }
+
+    static void record(String sql) {
+        var current = CURRENT.get();
+        if (current != null) {
+            current.record(sql);
+        }
+        var capture = CAPTURE.get();
+        if (capture != null) {
+            capture.record(sql);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.kayky.core.query;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+public class StatementLog {
+
+    private static final String OWN_PACKAGE = StatementLog.class.getPackageName();
+
+    private static final StackWalker WALKER = StackWalker.getInstance();
+
+    private final Map<String, Statement> statements = new ConcurrentHashMap<>();
+    private final LongAdder total = new LongAdder();
+
+    public record Statement(String sql, String callSite, LongAdder executions) {
+
+        public long count() {
+            return executions.sum();
+        }
+    }
+
+    void record(String sql) {
+        total.increment();
+        statements.computeIfAbsent(sql, key -> new Statement(key, callSite(), new LongAdder()))
+                .executions()
+                .increment();
+    }
+
+    public long total() {
+        return total.sum();
+    }
+
+    public List<Statement> statements() {
+        return statements.values().stream()
+                .sorted(Comparator.comparingLong(Statement::count).reversed())
+                .toList();
+    }
+
+    public List<Statement> repeated(int threshold) {
+        return statements().stream()
+                .filter(statement -> statement.count() >= threshold)
+                .toList();
+    }
+
+    public String describe() {
+        return statements().stream()
+                .map(statement -> String.format("  %dx at %s: %s", statement.count(), statement.callSite(), statement.sql()))
+                .collect(Collectors.joining(System.lineSeparator()));
+    }
+
+    private static String callSite() {
+        return WALKER.walk(frames -> frames
+                .filter(frame -> frame.getClassName().startsWith("com.kayky.")
+                        && !frame.getClassName().startsWith(OWN_PACKAGE)
+                        && !frame.getClassName().contains("$$")
+                        && !frame.getClassName().contains("$HibernateProxy"))
+                .findFirst()
+                .map(frame -> frame.getClassName().substring(frame.getClassName().lastIndexOf('.') + 1)
+                        + "." + frame.getMethodName() + ":" + frame.getLineNumber())
+                .orElse("unknown"));
+    }
+}
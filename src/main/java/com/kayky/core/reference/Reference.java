@@ -0,0 +1,8 @@
+package com.kayky.core.reference;
+
+public record Reference<T>(Class<T> type, Long id, String notFoundMessage) {
+
+    public static <T> Reference<T> of(Class<T> type, Long id, String notFoundMessage) {
+        return new Reference<>(type, id, notFoundMessage);
+    }
+}
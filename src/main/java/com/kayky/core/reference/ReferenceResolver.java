@@ -0,0 +1,73 @@
+package com.kayky.core.reference;
+
+import com.kayky.core.exception.ResourceNotFoundException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+@Component
+@Slf4j
+public class ReferenceResolver {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public void assertExist(Reference<?>... references) {
+        var cache = entityManager.getEntityManagerFactory().getCache();
+        var pending = new LinkedHashMap<Class<?>, Set<Long>>();
+        var missing = new HashSet<Reference<?>>();
+
+        for (var reference : references) {
+            if (reference.id() == null) {
+                missing.add(reference);
+            } else if (cache.contains(reference.type(), reference.id())) {
+                if (entityManager.find(reference.type(), reference.id()) == null) {
+                    missing.add(reference);
+                }
+            } else {
+                pending.computeIfAbsent(reference.type(), type -> new LinkedHashSet<>()).add(reference.id());
+            }
+        }
+
+        var existing = new HashMap<Class<?>, Set<Long>>();
+        pending.forEach((type, ids) -> existing.put(type, findExistingIds(type, ids)));
+
+        for (var reference : references) {
+            if (missing.contains(reference) || isPendingAndAbsent(reference, pending, existing)) {
+                log.warn("{} with id {} not found", reference.type().getSimpleName(), reference.id());
+                throw new ResourceNotFoundException(reference.notFoundMessage());
+            }
+        }
+    }
+
+    public <T> T reference(Class<T> type, Long id) {
+        return entityManager.getReference(type, id);
+    }
+
+    private static boolean isPendingAndAbsent(Reference<?> reference,
+                                              Map<Class<?>, Set<Long>> pending,
+                                              Map<Class<?>, Set<Long>> existing) {
+        return pending.getOrDefault(reference.type(), Set.of()).contains(reference.id())
+                && !existing.get(reference.type()).contains(reference.id());
+    }
+
+    private Set<Long> findExistingIds(Class<?> type, Set<Long> ids) {
+        var entityName = entityManager.getMetamodel().entity(type).getName();
+        var persistenceUnitUtil = entityManager.getEntityManagerFactory().getPersistenceUnitUtil();
+
+        var existing = new HashSet<Long>();
+        entityManager.createQuery("select e from " + entityName + " e where e.id in :ids", type)
+                .setParameter("ids", ids)
+                .getResultList()
+                .forEach(entity -> existing.add((Long) persistenceUnitUtil.getIdentifier(entity)));
+        return existing;
+    }
+}
@@ -0,0 +1,250 @@
+package com.kayky.core.search;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+public class InvertedIndex {
+
+    public static final int MAX_PREFIX_EXPANSIONS = 64;
+
+    private static final int SNAPSHOT_MAGIC = 0x49445831;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final Comparator<SearchHit> RANKING = Comparator.comparingDouble(SearchHit::score).reversed()
+            .thenComparingLong(SearchHit::id);
+
+    private final Map<String, Float> fieldWeights;
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final NavigableMap<String, Map<Long, Float>> postings = new TreeMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private double totalLength;
+
+    public InvertedIndex(Map<String, Float> fieldWeights) {
+        this.fieldWeights = Map.copyOf(fieldWeights);
+    }
+
+    public void put(long id, Map<String, String> fields) {
+        Map<String, Float> terms = new HashMap<>();
+        float length = 0;
+
+        for (var field : fields.entrySet()) {
+            var weight = fieldWeights.get(field.getKey());
+            if (weight == null) {
+                throw new IllegalArgumentException("Unknown field: " + field.getKey());
+            }
+            for (var token : TextAnalyzer.tokenize(field.getValue())) {
+                terms.merge(token, weight, Float::sum);
+                length += weight;
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            unlink(id);
+            link(id, new Document(length, terms));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            unlink(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void retainAll(Set<Long> ids) {
+        lock.writeLock().lock();
+        try {
+            List.copyOf(documents.keySet()).stream()
+                    .filter(id -> !ids.contains(id))
+                    .forEach(this::unlink);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<SearchHit> search(String query, int limit) {
+        var terms = TextAnalyzer.parseQuery(query);
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            if (documents.isEmpty()) {
+                return List.of();
+            }
+
+            double averageLength = Math.max(totalLength / documents.size(), 1);
+            Map<Long, Double> scores = new HashMap<>();
+
+            for (var term : terms) {
+                Map<Long, Double> best = new HashMap<>();
+                for (var posting : matching(term)) {
+                    double idf = idf(posting.size());
+                    posting.forEach((id, frequency) -> best.merge(id,
+                            idf * bm25(frequency, documents.get(id).length(), averageLength), Math::max));
+                }
+                best.forEach((id, score) -> scores.merge(id, score, Double::sum));
+            }
+
+            return top(scores, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int terms() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void writeTo(DataOutputStream out) throws IOException {
+        lock.readLock().lock();
+        try {
+            out.writeInt(SNAPSHOT_MAGIC);
+            writeWeights(out, fieldWeights);
+            out.writeInt(documents.size());
+            for (var document : documents.entrySet()) {
+                out.writeLong(document.getKey());
+                out.writeFloat(document.getValue().length());
+                out.writeInt(document.getValue().terms().size());
+                for (var term : document.getValue().terms().entrySet()) {
+                    out.writeUTF(term.getKey());
+                    out.writeFloat(term.getValue());
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public static InvertedIndex readFrom(DataInputStream in, Map<String, Float> fieldWeights) throws IOException {
+        if (in.readInt() != SNAPSHOT_MAGIC) {
+            throw new IOException("Not an inverted index snapshot");
+        }
+        if (!readWeights(in).equals(fieldWeights)) {
+            throw new IOException("Snapshot was written with different field weights");
+        }
+
+        var index = new InvertedIndex(fieldWeights);
+        int documentCount = in.readInt();
+        for (int d = 0; d < documentCount; d++) {
+            long id = in.readLong();
+            float length = in.readFloat();
+            int termCount = in.readInt();
+
+            Map<String, Float> terms = HashMap.newHashMap(termCount);
+            for (int t = 0; t < termCount; t++) {
+                terms.put(in.readUTF(), in.readFloat());
+            }
+            index.link(id, new Document(length, terms));
+        }
+        return index;
+    }
+
+    private Collection<Map<Long, Float>> matching(TextAnalyzer.QueryTerm term) {
+        if (!term.prefix()) {
+            var posting = postings.get(term.text());
+            return posting == null ? List.of() : List.of(posting);
+        }
+        return postings.subMap(term.text(), true, term.text() + Character.MAX_VALUE, false).values().stream()
+                .limit(MAX_PREFIX_EXPANSIONS)
+                .toList();
+    }
+
+    private double idf(int documentFrequency) {
+        int n = documents.size();
+        return Math.log(1 + (n - documentFrequency + 0.5) / (documentFrequency + 0.5));
+    }
+
+    private static double bm25(float frequency, float length, double averageLength) {
+        return frequency * (K1 + 1) / (frequency + K1 * (1 - B + B * length / averageLength));
+    }
+
+    private static List<SearchHit> top(Map<Long, Double> scores, int limit) {
+        var heap = new PriorityQueue<>(limit + 1, RANKING.reversed());
+        scores.forEach((id, score) -> {
+            heap.add(new SearchHit(id, score));
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        });
+
+        var hits = new ArrayList<>(heap);
+        hits.sort(RANKING);
+        return hits;
+    }
+
+    private void link(long id, Document document) {
+        documents.put(id, document);
+        totalLength += document.length();
+        document.terms().forEach((term, frequency) ->
+                postings.computeIfAbsent(term, key -> new HashMap<>()).put(id, frequency));
+    }
+
+    private void unlink(long id) {
+        var previous = documents.remove(id);
+        if (previous == null) {
+            return;
+        }
+
+        totalLength -= previous.length();
+        previous.terms().keySet().forEach(term -> {
+            var posting = postings.get(term);
+            posting.remove(id);
+            if (posting.isEmpty()) {
+                postings.remove(term);
+            }
+        });
+    }
+
+    private static void writeWeights(DataOutputStream out, Map<String, Float> weights) throws IOException {
+        out.writeInt(weights.size());
+        for (var weight : new TreeMap<>(weights).entrySet()) {
+            out.writeUTF(weight.getKey());
+            out.writeFloat(weight.getValue());
+        }
+    }
+
+    private static Map<String, Float> readWeights(DataInputStream in) throws IOException {
+        int count = in.readInt();
+        Map<String, Float> weights = HashMap.newHashMap(count);
+        for (int i = 0; i < count; i++) {
+            weights.put(in.readUTF(), in.readFloat());
+        }
+        return weights;
+    }
+
+    private record Document(float length, Map<String, Float> terms) {
+    }
+}
@@ -0,0 +1,4 @@
+package com.kayky.core.search;
+
+public record SearchHit(long id, double score) {
+}
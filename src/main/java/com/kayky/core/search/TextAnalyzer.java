@@ -0,0 +1,55 @@
+package com.kayky.core.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+public final class TextAnalyzer {
+
+    public static final int MIN_TOKEN_LENGTH = 2;
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private TextAnalyzer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+
+        var folded = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("")
+                .toLowerCase(Locale.ROOT);
+
+        List<String> tokens = new ArrayList<>();
+        for (var token : SEPARATORS.split(folded)) {
+            if (token.length() >= MIN_TOKEN_LENGTH) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    public static List<QueryTerm> parseQuery(String query) {
+        if (query == null || query.isBlank()) {
+            return List.of();
+        }
+
+        List<QueryTerm> terms = new ArrayList<>();
+        for (var word : WHITESPACE.split(query.strip())) {
+            var tokens = tokenize(word);
+            for (int i = 0; i < tokens.size(); i++) {
+                boolean prefix = i == tokens.size() - 1 && word.endsWith("*");
+                terms.add(new QueryTerm(tokens.get(i), prefix));
+            }
+        }
+        return terms;
+    }
+
+    public record QueryTerm(String text, boolean prefix) {
+    }
+}
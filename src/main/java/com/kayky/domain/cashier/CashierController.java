@@ -1,11 +1,15 @@
 package com.kayky.domain.cashier;
 
+import com.kayky.core.caching.ConditionalResponses;
 import com.kayky.core.exception.ApiError;
 import com.kayky.core.exception.ValidationError;
+import com.kayky.core.pagination.CountMode;
+import com.kayky.core.pagination.CursorRequest;
 import com.kayky.core.pagination.PageResponse;
 import com.kayky.domain.cashier.request.CashierBaseRequest;
 import com.kayky.domain.cashier.response.CashierBaseResponse;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -18,6 +22,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
@@ -47,14 +52,17 @@ public class CashierController {
                     description = "Cashier not found",
                     content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                             schema = @Schema(implementation = ApiError.class))
-            )
+            ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Not modified since the ETag or date sent in If-None-Match/If-Modified-Since")
     })
     @GetMapping(value = "/{id}")
-    public ResponseEntity<CashierBaseResponse> findById(@PathVariable Long id) {
+    public ResponseEntity<CashierBaseResponse> findById(@PathVariable Long id, WebRequest request) {
         log.debug("Request to find cashier by id {}", id);
 
-        var response = service.findById(id);
-        return ResponseEntity.ok(response);
+        var version = service.findVersion(id);
+        return ConditionalResponses.okIfModified(request, version, () -> service.findById(id));
     }
 
     @Operation(
@@ -68,9 +76,36 @@ public class CashierController {
                     schema = @Schema(implementation = PageResponse.class))
     )
     @GetMapping
-    public PageResponse<CashierBaseResponse> findAllPaged(Pageable pageable) {
+    public PageResponse<CashierBaseResponse> findAllPaged(Pageable pageable,
+            @Parameter(description = "Total count strategy: exact, estimate or none")
+            @RequestParam(defaultValue = "exact") CountMode count) {
         log.debug("Request received to list all cashiers");
-        return service.findAll(pageable);
+        return service.findAll(pageable, count);
+    }
+
+    @Operation(
+            summary = "List cashiers by cursor",
+            description = "Returns a keyset-paginated list of cashiers ordered by ID. " +
+                    "Send an empty cursor for the first page and the returned next/prev tokens afterwards"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Page of cashiers returned successfully",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = PageResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid pagination cursor",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ApiError.class))
+            )
+    })
+    @GetMapping(params = "cursor")
+    public PageResponse<CashierBaseResponse> findAllByCursor(@RequestParam String cursor, Pageable pageable) {
+        log.debug("Request received to list cashiers by cursor");
+        return service.findAllByCursor(CursorRequest.of(cursor, pageable.getPageSize()));
     }
 
     @Operation(
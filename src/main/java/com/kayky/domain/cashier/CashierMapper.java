@@ -9,11 +9,13 @@ import org.mapstruct.MappingTarget;
 @Mapper(componentModel = "spring")
 public interface CashierMapper {
 
+    @Mapping(target = "version", ignore = true)
     Cashier toEntity(CashierBaseRequest postRequest);
 
     @Mapping(target = "id", source = "id")
     @Mapping(target = "active", source = "active")
     CashierBaseResponse toCashierBaseResponse(Cashier cashier);
 
+    @Mapping(target = "version", ignore = true)
     void updateCashierFromRequest(CashierBaseRequest putRequest, @MappingTarget Cashier cashier);
 }
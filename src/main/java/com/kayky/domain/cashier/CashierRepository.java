@@ -1,8 +1,22 @@
 package com.kayky.domain.cashier;
 
+import com.kayky.core.caching.ResourceVersion;
+import com.kayky.core.pagination.KeysetRepository;
+import com.kayky.core.pagination.SliceRepository;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
+
 @Repository
-public interface CashierRepository extends JpaRepository<Cashier, Long> {
-}
\ No newline at end of file
+public interface CashierRepository extends JpaRepository<Cashier, Long>, KeysetRepository<Cashier>, SliceRepository<Cashier> {
+
+    @Query("""
+            SELECT new com.kayky.core.caching.ResourceVersion(CAST(c.version AS String))
+            FROM Cashier c
+            WHERE c.id = :id
+            """)
+    Optional<ResourceVersion> findVersionById(@Param("id") Long id);
+}
@@ -1,8 +1,12 @@
 package com.kayky.domain.cashier;
 
+import com.kayky.core.caching.ResourceVersion;
 import com.kayky.core.exception.ResourceNotFoundException;
+import com.kayky.core.pagination.CountMode;
+import com.kayky.core.pagination.CursorRequest;
 import com.kayky.core.pagination.PageResponse;
 import com.kayky.core.pagination.PageUtils;
+import com.kayky.core.pagination.RowCountEstimator;
 import com.kayky.domain.cashier.request.CashierBaseRequest;
 import com.kayky.domain.cashier.response.CashierBaseResponse;
 import com.kayky.domain.user.UserValidator;
@@ -20,6 +24,7 @@ public class CashierService {
     private final CashierRepository cashierRepository;
     private final CashierMapper cashierMapper;
     private final UserValidator userValidator;
+    private final RowCountEstimator rowCountEstimator;
 
    @Transactional(readOnly = true)
    public CashierBaseResponse findById(Long id){
@@ -32,12 +37,38 @@ public class CashierService {
                });
    }
 
+    @Transactional(readOnly = true)
+    public ResourceVersion findVersion(Long id) {
+        return cashierRepository.findVersionById(id)
+                .orElseThrow(() -> {
+                    log.warn("Cashier not found with ID {}", id);
+
+                    return new ResourceNotFoundException("Cashier not found");
+                });
+    }
+
     @Transactional(readOnly = true)
     public PageResponse<CashierBaseResponse> findAll(Pageable pageable) {
         var paginatedCashiers = cashierRepository.findAll(pageable);
         return PageUtils.mapPage(paginatedCashiers, cashierMapper::toCashierBaseResponse);
     }
 
+    @Transactional(readOnly = true)
+    public PageResponse<CashierBaseResponse> findAll(Pageable pageable, CountMode countMode) {
+        return switch (countMode) {
+            case EXACT -> findAll(pageable);
+            case NONE -> PageUtils.mapSlice(cashierRepository.findAllBy(pageable), cashierMapper::toCashierBaseResponse);
+            case ESTIMATE -> PageUtils.mapSlice(cashierRepository.findAllBy(pageable),
+                    rowCountEstimator.estimate(Cashier.class, cashierRepository::count), cashierMapper::toCashierBaseResponse);
+        };
+    }
+
+    @Transactional(readOnly = true)
+    public PageResponse<CashierBaseResponse> findAllByCursor(CursorRequest request) {
+        var cashiers = cashierRepository.findWindow(request);
+        return PageUtils.mapWindow(cashiers, request, Cashier::getId, cashierMapper::toCashierBaseResponse);
+    }
+
     @Transactional
     public CashierBaseResponse save(CashierBaseRequest request){
        userValidator.assertEmailDoesNotExist(request.email());
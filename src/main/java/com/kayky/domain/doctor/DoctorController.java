@@ -1,11 +1,16 @@
 package com.kayky.domain.doctor;
 
+import com.kayky.core.caching.ConditionalResponses;
+import com.kayky.core.pagination.CountMode;
+import com.kayky.core.pagination.CursorRequest;
 import com.kayky.core.pagination.PageResponse;
 import com.kayky.domain.doctor.request.DoctorBaseRequest;
+import com.kayky.domain.doctor.response.DoctorAvailabilityResponse;
 import com.kayky.domain.doctor.response.DoctorBaseResponse;
 import com.kayky.core.exception.ApiError;
 import com.kayky.core.exception.ValidationError;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -15,12 +20,16 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
+import java.time.LocalDateTime;
+import java.util.List;
 
 @RestController
 @RequestMapping(value = "v1/doctor")
@@ -46,12 +55,17 @@ public class DoctorController {
                     description = "Doctor not found",
                     content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                             schema = @Schema(implementation = ApiError.class))
-            )
+            ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Not modified since the ETag or date sent in If-None-Match/If-Modified-Since")
     })
-    @GetMapping("/{id}")
-    public DoctorBaseResponse findById(@PathVariable Long id) {
+    @GetMapping(value = "/{id}")
+    public ResponseEntity<DoctorBaseResponse> findById(@PathVariable Long id, WebRequest request) {
         log.debug("Request to find a doctor by id {}", id);
-        return service.findById(id);
+
+        var version = service.findVersion(id);
+        return ConditionalResponses.okIfModified(request, version, () -> service.findById(id));
     }
 
 
@@ -66,11 +80,72 @@ public class DoctorController {
                     schema = @Schema(implementation = PageResponse.class))
     )
     @GetMapping
-    public PageResponse<DoctorBaseResponse> findAll(Pageable pageable) {
+    public PageResponse<DoctorBaseResponse> findAll(Pageable pageable,
+            @Parameter(description = "Total count strategy: exact, estimate or none")
+            @RequestParam(defaultValue = "exact") CountMode count) {
         log.debug("Request received to list all doctors");
-        return service.findAll(pageable);
+        return service.findAll(pageable, count);
     }
 
+    @Operation(
+            summary = "List doctors by cursor",
+            description = "Returns a keyset-paginated list of doctors ordered by ID. " +
+                    "Send an empty cursor for the first page and the returned next/prev tokens afterwards"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Page of doctors returned successfully",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = PageResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid pagination cursor",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ApiError.class))
+            )
+    })
+    @GetMapping(params = "cursor")
+    public PageResponse<DoctorBaseResponse> findAllByCursor(@RequestParam String cursor, Pageable pageable) {
+        log.debug("Request received to list doctors by cursor");
+        return service.findAllByCursor(CursorRequest.of(cursor, pageable.getPageSize()));
+    }
+
+    @Operation(
+            summary = "Find free doctor slots",
+            description = "Returns the earliest free slot of the requested duration for each available doctor, " +
+                    "optionally filtered by specialty, ordered by start time"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Free slots returned successfully",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = DoctorAvailabilityResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid duration, limit or time window",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ApiError.class))
+            )
+    })
+    @GetMapping("/availability")
+    public List<DoctorAvailabilityResponse> findAvailability(
+            @Parameter(description = "Doctor specialty", example = "Orthopedics")
+            @RequestParam(required = false) String specialty,
+            @Parameter(description = "Start of the search window (defaults to now)", example = "2025-10-13T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "End of the search window (defaults to seven days after from)", example = "2025-10-20T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @Parameter(description = "Required slot length in minutes", example = "90")
+            @RequestParam int durationMinutes,
+            @Parameter(description = "Maximum number of doctors returned")
+            @RequestParam(defaultValue = "10") int limit) {
+        log.debug("Request received to find free slots for specialty {}", specialty);
+        return service.findAvailability(specialty, from, to, durationMinutes, limit);
+    }
 
     @Operation(
             summary = "Register a new doctor",
@@ -1,9 +1,12 @@
 package com.kayky.domain.doctor;
 
+import com.kayky.domain.doctor.availability.AvailableSlot;
 import com.kayky.domain.doctor.request.DoctorBaseRequest;
+import com.kayky.domain.doctor.response.DoctorAvailabilityResponse;
 import com.kayky.domain.doctor.response.DoctorBaseResponse;
 import com.kayky.domain.report.response.ReportBaseResponse;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
 import org.mapstruct.Named;
 
@@ -12,10 +15,17 @@ public interface DoctorMapper {
 
     DoctorBaseResponse toDoctorBaseResponse(Doctor doctor);
 
+    @Mapping(target = "version", ignore = true)
     Doctor toEntity(DoctorBaseRequest postRequest);
 
+    @Mapping(target = "version", ignore = true)
     void updateDoctorFromRequest(DoctorBaseRequest putRequest, @MappingTarget Doctor doctor);
 
+    @Mapping(target = "doctorId", source = "doctor.id")
+    @Mapping(target = "doctorName", expression = "java(slot.doctor().firstName() + \" \" + slot.doctor().lastName())")
+    @Mapping(target = "specialty", source = "doctor.specialty")
+    DoctorAvailabilityResponse toDoctorAvailabilityResponse(AvailableSlot slot);
+
     @Named("toDoctorInfo")
     default ReportBaseResponse.DoctorInfo toDoctorInfo(Doctor doctor){
         if(doctor == null) return null;
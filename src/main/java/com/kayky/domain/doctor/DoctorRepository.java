@@ -1,8 +1,31 @@
 package com.kayky.domain.doctor;
 
+import com.kayky.core.caching.ResourceVersion;
+import com.kayky.core.pagination.KeysetRepository;
+import com.kayky.core.pagination.SliceRepository;
+import com.kayky.domain.doctor.availability.AvailabilityDoctor;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
+
 @Repository
-public interface DoctorRepository extends JpaRepository<Doctor, Long> {
+public interface DoctorRepository extends JpaRepository<Doctor, Long>, KeysetRepository<Doctor>, SliceRepository<Doctor> {
+
+    @Query("""
+            SELECT new com.kayky.core.caching.ResourceVersion(CAST(d.version AS String))
+            FROM Doctor d
+            WHERE d.id = :id
+            """)
+    Optional<ResourceVersion> findVersionById(@Param("id") Long id);
+
+    @Query("""
+            SELECT new com.kayky.domain.doctor.availability.AvailabilityDoctor(d.id, d.firstName, d.lastName, d.specialty)
+            FROM Doctor d
+            WHERE d.availability = true AND d.active = true
+            """)
+    List<AvailabilityDoctor> findAvailabilityDoctors();
 }
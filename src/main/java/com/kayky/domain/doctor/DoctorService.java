@@ -1,10 +1,18 @@
 package com.kayky.domain.doctor;
 
+import com.kayky.core.caching.ResourceVersion;
+import com.kayky.core.pagination.CountMode;
+import com.kayky.core.pagination.CursorRequest;
 import com.kayky.core.pagination.PageResponse;
 import com.kayky.core.pagination.PageUtils;
+import com.kayky.core.pagination.RowCountEstimator;
+import com.kayky.domain.doctor.availability.DoctorAvailabilityIndex;
 import com.kayky.domain.doctor.request.DoctorBaseRequest;
+import com.kayky.domain.doctor.response.DoctorAvailabilityResponse;
 import com.kayky.domain.doctor.response.DoctorBaseResponse;
+import com.kayky.domain.operation.Operation;
 import com.kayky.domain.user.UserValidator;
+import com.kayky.core.exception.InvalidAvailabilityQueryException;
 import com.kayky.core.exception.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -12,14 +20,24 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class DoctorService {
 
+    private static final int DEFAULT_AVAILABILITY_WINDOW_DAYS = 7;
+    private static final int MAX_AVAILABILITY_RESULTS = 100;
+
     private final DoctorRepository repository;
     private final DoctorMapper mapper;
     private final UserValidator userValidator;
+    private final RowCountEstimator rowCountEstimator;
+    private final DoctorAvailabilityIndex availabilityIndex;
+    private final Clock clock;
 
     @Transactional(readOnly = true)
     public DoctorBaseResponse findById(Long id) {
@@ -32,12 +50,59 @@ public class DoctorService {
                 });
     }
 
+    @Transactional(readOnly = true)
+    public ResourceVersion findVersion(Long id) {
+        return repository.findVersionById(id)
+                .orElseThrow(() -> {
+                    log.warn("Doctor not found with id {}", id);
+
+                    return new ResourceNotFoundException("Doctor not found");
+                });
+    }
+
     @Transactional(readOnly = true)
     public PageResponse<DoctorBaseResponse> findAll(Pageable pageable) {
         var paginatedDoctors = repository.findAll(pageable);
         return PageUtils.mapPage(paginatedDoctors, mapper::toDoctorBaseResponse);
     }
 
+    @Transactional(readOnly = true)
+    public PageResponse<DoctorBaseResponse> findAll(Pageable pageable, CountMode countMode) {
+        return switch (countMode) {
+            case EXACT -> findAll(pageable);
+            case NONE -> PageUtils.mapSlice(repository.findAllBy(pageable), mapper::toDoctorBaseResponse);
+            case ESTIMATE -> PageUtils.mapSlice(repository.findAllBy(pageable),
+                    rowCountEstimator.estimate(Doctor.class, repository::count), mapper::toDoctorBaseResponse);
+        };
+    }
+
+    @Transactional(readOnly = true)
+    public PageResponse<DoctorBaseResponse> findAllByCursor(CursorRequest request) {
+        var doctors = repository.findWindow(request);
+        return PageUtils.mapWindow(doctors, request, Doctor::getId, mapper::toDoctorBaseResponse);
+    }
+
+    public List<DoctorAvailabilityResponse> findAvailability(String specialty, LocalDateTime from, LocalDateTime to,
+                                                             int durationMinutes, int limit) {
+        if (durationMinutes < 1 || durationMinutes > Operation.MAX_DURATION_MINUTES) {
+            throw new InvalidAvailabilityQueryException(
+                    "durationMinutes must be between 1 and " + Operation.MAX_DURATION_MINUTES);
+        }
+        if (limit < 1 || limit > MAX_AVAILABILITY_RESULTS) {
+            throw new InvalidAvailabilityQueryException("limit must be between 1 and " + MAX_AVAILABILITY_RESULTS);
+        }
+
+        var start = from != null ? from : LocalDateTime.now(clock);
+        var end = to != null ? to : start.plusDays(DEFAULT_AVAILABILITY_WINDOW_DAYS);
+        if (!end.isAfter(start)) {
+            throw new InvalidAvailabilityQueryException("to must be after from");
+        }
+
+        return availabilityIndex.findAvailable(specialty, start, end, durationMinutes, limit).stream()
+                .map(mapper::toDoctorAvailabilityResponse)
+                .toList();
+    }
+
     @Transactional
     public DoctorBaseResponse save(DoctorBaseRequest request) {
         userValidator.assertEmailDoesNotExist(request.getEmail());
@@ -0,0 +1,4 @@
+package com.kayky.domain.doctor.availability;
+
+public record AvailabilityDoctor(Long id, String firstName, String lastName, String specialty) {
+}
@@ -0,0 +1,6 @@
+package com.kayky.domain.doctor.availability;
+
+import java.time.LocalDateTime;
+
+public record AvailableSlot(AvailabilityDoctor doctor, LocalDateTime startsAt, LocalDateTime endsAt) {
+}
@@ -0,0 +1,201 @@
+package com.kayky.domain.doctor.availability;
+
+import com.kayky.core.bitmap.SlotBitmap;
+import com.kayky.domain.doctor.DoctorRepository;
+import com.kayky.domain.operation.Operation;
+import com.kayky.domain.operation.OperationRepository;
+import com.kayky.domain.operation.OperationStatus;
+import com.kayky.domain.operation.schedule.ScheduleSlot;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DoctorAvailabilityIndex {
+
+    public static final int SLOT_MINUTES = 15;
+    private static final int SLOTS_PER_DAY = 24 * 60 / SLOT_MINUTES;
+    private static final int SLOTS_PER_HOUR = 60 / SLOT_MINUTES;
+
+    private final DoctorRepository doctorRepository;
+    private final OperationRepository operationRepository;
+    private final Clock clock;
+
+    @Value("${app.availability.horizon-days:14}")
+    private int horizonDays;
+
+    @Value("${app.availability.day-start-hour:8}")
+    private int dayStartHour;
+
+    @Value("${app.availability.day-end-hour:18}")
+    private int dayEndHour;
+
+    private volatile Horizon horizon;
+
+    public List<AvailableSlot> findAvailable(String specialty, LocalDateTime from, LocalDateTime to,
+                                             int durationMinutes, int limit) {
+        var current = horizon;
+        if (current == null) {
+            return List.of();
+        }
+
+        int length = Math.ceilDiv(durationMinutes, SLOT_MINUTES);
+        int fromSlot = Math.max(current.ceilSlot(from), current.ceilSlot(LocalDateTime.now(clock)));
+        int toSlot = current.floorSlot(to);
+        if (toSlot - fromSlot < length) {
+            return List.of();
+        }
+
+        var window = SlotBitmap.range(current.slots(), fromSlot, toSlot);
+        for (int i = 0; i < window.length; i++) {
+            window[i] &= current.workingHours()[i];
+        }
+
+        return current.calendars().values().stream()
+                .filter(calendar -> specialty == null || specialty.isBlank()
+                        || specialty.equalsIgnoreCase(calendar.doctor().specialty()))
+                .map(calendar -> firstAvailable(current, calendar, window, length, durationMinutes))
+                .filter(Objects::nonNull)
+                .sorted(Comparator.comparing(AvailableSlot::startsAt).thenComparing(slot -> slot.doctor().id()))
+                .limit(limit)
+                .toList();
+    }
+
+    public synchronized void move(ScheduleSlot previous, ScheduleSlot current) {
+        var snapshot = horizon;
+        if (snapshot == null) {
+            return;
+        }
+        if (previous != null) {
+            snapshot.mark(previous, false);
+        }
+        if (current != null) {
+            snapshot.mark(current, true);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.availability.rebuild-interval:PT1H}",
+            initialDelayString = "${app.availability.rebuild-interval:PT1H}")
+    @Transactional(readOnly = true)
+    public synchronized void rebuild() {
+        var origin = LocalDate.now(clock).atStartOfDay();
+        int slots = horizonDays * SLOTS_PER_DAY;
+
+        var calendars = new HashMap<Long, Calendar>();
+        doctorRepository.findAvailabilityDoctors()
+                .forEach(doctor -> calendars.put(doctor.id(), new Calendar(doctor, new SlotBitmap(slots), new int[slots])));
+
+        var next = new Horizon(origin, slots, workingHours(slots), calendars);
+        try (var bookings = operationRepository.streamScheduleSlotsBetween(OperationStatus.occupyingSchedule(),
+                origin.minusMinutes(Operation.MAX_DURATION_MINUTES), origin.plusDays(horizonDays))) {
+            bookings.forEach(booking -> next.mark(booking, true));
+        }
+
+        horizon = next;
+        log.info("Doctor availability rebuilt for {} doctors over {} days", calendars.size(), horizonDays);
+    }
+
+    private long[] workingHours(int slots) {
+        var bits = SlotBitmap.range(slots, 0, 0);
+        for (int day = 0; day < horizonDays; day++) {
+            int dayOffset = day * SLOTS_PER_DAY;
+            var hours = SlotBitmap.range(slots, dayOffset + dayStartHour * SLOTS_PER_HOUR,
+                    dayOffset + dayEndHour * SLOTS_PER_HOUR);
+            for (int i = 0; i < bits.length; i++) {
+                bits[i] |= hours[i];
+            }
+        }
+        return bits;
+    }
+
+    private static AvailableSlot firstAvailable(Horizon horizon, Calendar calendar, long[] window,
+                                                int length, int durationMinutes) {
+        var free = calendar.busy().toLongArray();
+        for (int i = 0; i < free.length; i++) {
+            free[i] = window[i] & ~free[i];
+        }
+
+        int start = SlotBitmap.firstRun(free, length);
+        if (start < 0) {
+            return null;
+        }
+
+        var startsAt = horizon.origin().plusMinutes((long) start * SLOT_MINUTES);
+        return new AvailableSlot(calendar.doctor(), startsAt, startsAt.plusMinutes(durationMinutes));
+    }
+
+    private record Calendar(AvailabilityDoctor doctor, SlotBitmap busy, int[] occupancy) {
+
+        void occupy(int from, int to) {
+            for (int slot = from; slot < to; slot++) {
+                if (occupancy[slot]++ == 0) {
+                    busy.set(slot, slot + 1);
+                }
+            }
+        }
+
+        void release(int from, int to) {
+            for (int slot = from; slot < to; slot++) {
+                if (occupancy[slot] > 0 && --occupancy[slot] == 0) {
+                    busy.clear(slot, slot + 1);
+                }
+            }
+        }
+    }
+
+    private record Horizon(LocalDateTime origin, int slots, long[] workingHours, Map<Long, Calendar> calendars) {
+
+        void mark(ScheduleSlot booking, boolean busy) {
+            var calendar = calendars.get(booking.doctorId());
+            if (calendar == null) {
+                return;
+            }
+
+            int from = floorSlot(booking.startsAt());
+            int to = ceilSlot(booking.endsAt());
+            if (from >= to) {
+                return;
+            }
+
+            if (busy) {
+                calendar.occupy(from, to);
+            } else {
+                calendar.release(from, to);
+            }
+        }
+
+        int floorSlot(LocalDateTime dateTime) {
+            return clamp(Math.floorDiv(minutesFromOrigin(dateTime), SLOT_MINUTES));
+        }
+
+        int ceilSlot(LocalDateTime dateTime) {
+            return clamp(Math.ceilDiv(minutesFromOrigin(dateTime), SLOT_MINUTES));
+        }
+
+        private long minutesFromOrigin(LocalDateTime dateTime) {
+            return Duration.between(origin, dateTime).toMinutes();
+        }
+
+        private int clamp(long slot) {
+            return (int) Math.max(0, Math.min(slots, slot));
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.kayky.domain.doctor.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Earliest free slot found for a doctor")
+public class DoctorAvailabilityResponse {
+
+    @Schema(description = "Doctor ID", example = "5")
+    private Long doctorId;
+
+    @Schema(description = "Doctor full name", example = "Michael Brown")
+    private String doctorName;
+
+    @Schema(description = "Doctor specialty", example = "Orthopedics")
+    private String specialty;
+
+    @Schema(description = "Start of the free slot", example = "2025-10-15T08:00:00")
+    private LocalDateTime startsAt;
+
+    @Schema(description = "End of the free slot", example = "2025-10-15T09:30:00")
+    private LocalDateTime endsAt;
+}
@@ -1,5 +1,7 @@
 package com.kayky.domain.operation;
 
+import com.kayky.core.id.PooledId;
+import com.kayky.core.pagination.RowCountListener;
 import com.kayky.domain.doctor.Doctor;
 import com.kayky.domain.patient.Patient;
 import jakarta.persistence.*;
@@ -9,7 +11,16 @@ import lombok.experimental.SuperBuilder;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "tb_operation")
+@Table(
+        name = "tb_operation",
+        indexes = {
+            @Index(name = "idx_operation_scheduled_at", columnList = "scheduled_at"),
+            @Index(name = "idx_operation_scheduled_at_status", columnList = "scheduled_at, status"),
+            @Index(name = "idx_operation_doctor_scheduled_at", columnList = "doctor_id, scheduled_at"),
+            @Index(name = "idx_operation_patient_scheduled_at", columnList = "patient_id, scheduled_at")
+        }
+)
+@EntityListeners(RowCountListener.class)
 @AllArgsConstructor
 @NoArgsConstructor
 @Getter
@@ -17,16 +28,28 @@ import java.time.LocalDateTime;
 @SuperBuilder(toBuilder = true)
 @EqualsAndHashCode(of = "id")
 public class Operation {
+
+    public static final int DEFAULT_DURATION_MINUTES = 60;
+    public static final int MAX_DURATION_MINUTES = 24 * 60;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledId("operation")
     private Long id;
 
+    @Version
+    @Column(columnDefinition = "BIGINT DEFAULT 0")
+    private Long version;
+
     @Column(nullable = false)
     private String description;
 
     @Column(nullable = false)
     private LocalDateTime scheduledAt;
 
+    @Builder.Default
+    @Column(nullable = false, columnDefinition = "INT DEFAULT " + DEFAULT_DURATION_MINUTES)
+    private Integer durationMinutes = DEFAULT_DURATION_MINUTES;
+
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "doctor_id", nullable = false)
     private Doctor doctor;
@@ -38,4 +61,11 @@ public class Operation {
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private OperationStatus status;
+
+    public LocalDateTime getEndsAt() {
+        if (scheduledAt == null || durationMinutes == null) {
+            return null;
+        }
+        return scheduledAt.plusMinutes(durationMinutes);
+    }
 }
@@ -1,13 +1,21 @@
 package com.kayky.domain.operation;
 
 
+import com.kayky.core.caching.ConditionalResponses;
+import com.kayky.core.export.ExportFormat;
+import com.kayky.core.pagination.CountMode;
+import com.kayky.core.pagination.CursorRequest;
 import com.kayky.core.pagination.PageResponse;
+import com.kayky.domain.operation.calendar.CalendarFilter;
 import com.kayky.domain.operation.request.OperationBaseRequest;
+import com.kayky.domain.operation.request.OperationStatusRequest;
 import com.kayky.domain.operation.response.OperationBaseResponse;
+import com.kayky.domain.operation.response.OperationCalendarResponse;
 import com.kayky.domain.operation.response.OperationDetailsResponse;
 import com.kayky.core.exception.ApiError;
 import com.kayky.core.exception.ValidationError;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -17,12 +25,21 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @RestController
 @RequestMapping(value = "v1/operation")
@@ -48,13 +65,43 @@ public class OperationController {
                     description = "Operation not found",
                     content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                             schema = @Schema(implementation = ApiError.class))
-            )
+            ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Not modified since the ETag or date sent in If-None-Match/If-Modified-Since")
     })
-    @GetMapping("/{id}")
-    public OperationBaseResponse findById(@PathVariable Long id) {
+    @GetMapping(value = "/{id}")
+    public ResponseEntity<OperationBaseResponse> findById(@PathVariable Long id, WebRequest request) {
         log.debug("Request to find a operation by id {}", id);
 
-        return service.findById(id);
+        var version = service.findVersion(id);
+        return ConditionalResponses.okIfModified(request, version, () -> service.findById(id));
+    }
+
+    @Operation(
+            summary = "Find operation fields by ID",
+            description = "Retrieves only the requested comma-separated fields of the operation"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Selected fields returned successfully"),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Unknown field requested",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ApiError.class))),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Operation not found",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ApiError.class)))
+    })
+    @GetMapping(value = "/{id}", params = "fields")
+    public Map<String, Object> findByIdSparse(@PathVariable Long id, @RequestParam String fields) {
+        log.debug("Request to find operation {} with fields {}", id, fields);
+
+        return service.findByIdSparse(id, fields);
     }
 
 
@@ -69,10 +116,133 @@ public class OperationController {
                     schema = @Schema(implementation = PageResponse.class))
     )
     @GetMapping
-    public PageResponse<OperationDetailsResponse> findAll(Pageable pageable) {
+    public PageResponse<OperationDetailsResponse> findAll(Pageable pageable,
+            @Parameter(description = "Total count strategy: exact, estimate or none")
+            @RequestParam(defaultValue = "exact") CountMode count) {
         log.debug("Request received to list all operations details");
 
-        return service.findAll(pageable);
+        return service.findAll(pageable, count);
+    }
+
+    @Operation(
+            summary = "List operations by cursor",
+            description = "Returns a keyset-paginated list of operations ordered by scheduled date. " +
+                    "Send an empty cursor for the first page and the returned next/prev tokens afterwards"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Page of operations returned successfully",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = PageResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid pagination cursor",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ApiError.class))
+            )
+    })
+    @GetMapping(params = "cursor")
+    public PageResponse<OperationDetailsResponse> findAllByCursor(@RequestParam String cursor, Pageable pageable) {
+        log.debug("Request received to list operations by cursor");
+        return service.findAllByCursor(CursorRequest.of(cursor, pageable.getPageSize()));
+    }
+
+    @Operation(
+            summary = "List operations with selected fields",
+            description = "Returns only the requested comma-separated fields (e.g. id,status,patient.lastName), " +
+                    "selecting just those columns and joins. Totals are not counted; use hasNext to continue"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Selected fields returned successfully",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = PageResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Unknown field requested",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ApiError.class))
+            )
+    })
+    @GetMapping(params = {"fields", "!cursor"})
+    public PageResponse<Map<String, Object>> findAllSparse(@RequestParam String fields, Pageable pageable) {
+        log.debug("Request received to list operations with fields {}", fields);
+        return service.findAllSparse(fields, pageable);
+    }
+
+    @Operation(
+            summary = "List operations for a calendar window",
+            description = "Returns the operations scheduled in [from, to), ordered by start time, " +
+                    "optionally filtered by doctor, patient and status. The window may span at most 31 days"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Calendar returned successfully",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = OperationCalendarResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid or too wide date range",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ApiError.class))
+            )
+    })
+    @GetMapping("/calendar")
+    public List<OperationCalendarResponse> findCalendar(
+            @Parameter(description = "Start of the window (inclusive)", example = "2025-10-13T00:00:00")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "End of the window (exclusive)", example = "2025-10-20T00:00:00")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @Parameter(description = "Only operations of this doctor")
+            @RequestParam(required = false) Long doctorId,
+            @Parameter(description = "Only operations of this patient")
+            @RequestParam(required = false) Long patientId,
+            @Parameter(description = "Only operations with these statuses")
+            @RequestParam(required = false) Set<OperationStatus> status) {
+        log.debug("Request received to list operation calendar from {} to {}", from, to);
+        return service.findCalendar(new CalendarFilter(from, to, doctorId, patientId, status));
+    }
+
+    @Operation(
+            summary = "Export all operations",
+            description = "Streams every operation as NDJSON (default) or CSV without loading the dataset into memory"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Export streamed successfully",
+                    content = {
+                            @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE),
+                            @Content(mediaType = "text/csv")
+                    }
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Unsupported export format",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ApiError.class))
+            )
+    })
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(defaultValue = "ndjson") ExportFormat format) {
+        log.debug("Request received to export operations as {}", format);
+
+        StreamingResponseBody body = out -> service.export(format, out);
+
+        var disposition = ContentDisposition.attachment()
+                .filename("operations." + format.getExtension())
+                .build();
+
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                .body(body);
     }
 
 
@@ -118,7 +288,8 @@ public class OperationController {
 
     @Operation(
             summary = "Update operation information",
-            description = "Updates operation data based on its ID"
+            description = "Updates operation data based on its ID. The status is not changed here, " +
+                    "use PATCH /v1/operation/{id}/status"
     )
     @ApiResponses(value = {
             @ApiResponse(
@@ -151,6 +322,39 @@ public class OperationController {
     }
 
 
+    @Operation(
+            summary = "Change operation status",
+            description = "Moves an operation along SCHEDULED -> IN_PROGRESS -> COMPLETED, or to CANCELED " +
+                    "from any non-final status, with a single conditional update"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "204",
+                    description = "Status changed successfully"),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Operation not found",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ApiError.class))),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "Operation modified concurrently since its status was read",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ApiError.class))),
+            @ApiResponse(
+                    responseCode = "422",
+                    description = "Validation error, or transition not allowed from the current status",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(oneOf = {ValidationError.class, ApiError.class})))
+    })
+    @PatchMapping("/{id}/status")
+    public ResponseEntity<Void> updateStatus(@Valid @RequestBody OperationStatusRequest request, @PathVariable Long id) {
+        log.debug("Request to change status of operation with id {} to {}", id, request.getStatus());
+
+        service.updateStatus(request, id);
+        return ResponseEntity.noContent().build();
+    }
+
     @Operation(
             summary = "Delete operation by ID",
             description = "Delete operation by its unique identifier"
@@ -1,7 +1,9 @@
 package com.kayky.domain.operation;
 
+import com.kayky.domain.operation.calendar.OperationCalendarEntry;
 import com.kayky.domain.operation.request.OperationBaseRequest;
 import com.kayky.domain.operation.response.OperationBaseResponse;
+import com.kayky.domain.operation.response.OperationCalendarResponse;
 import com.kayky.domain.operation.response.OperationDetailsResponse;
 import com.kayky.domain.report.response.ReportBaseResponse;
 import org.mapstruct.Mapper;
@@ -18,12 +20,23 @@ public interface OperationMapper {
     @Mapping(target = "patientName", source = "patientFirstName")
     OperationDetailsResponse toOperationDetailsResponse(OperationProjection operation);
 
+    @Mapping(target = "endsAt", expression = "java(entry.endsAt())")
+    @Mapping(target = "doctorName", expression = "java(entry.doctorFirstName() + \" \" + entry.doctorLastName())")
+    @Mapping(target = "patientName", expression = "java(entry.patientFirstName() + \" \" + entry.patientLastName())")
+    OperationCalendarResponse toOperationCalendarResponse(OperationCalendarEntry entry);
+
+    @Mapping(target = "version", ignore = true)
     @Mapping(target = "doctor", ignore = true)
     @Mapping(target = "patient", ignore = true)
+    @Mapping(target = "durationMinutes", defaultExpression = "java(Operation.DEFAULT_DURATION_MINUTES)")
+    @Mapping(target = "status", defaultValue = "SCHEDULED")
     Operation toEntity(OperationBaseRequest request);
 
+    @Mapping(target = "version", ignore = true)
     @Mapping(target = "doctor", ignore = true)
     @Mapping(target = "patient", ignore = true)
+    @Mapping(target = "durationMinutes", defaultExpression = "java(Operation.DEFAULT_DURATION_MINUTES)")
+    @Mapping(target = "status", ignore = true)
     void updateOperationFromRequest(OperationBaseRequest request, @MappingTarget Operation operation);
 
     @Named("toOperationInfo")
@@ -1,19 +1,32 @@
 package com.kayky.domain.operation;
 
+import com.kayky.core.caching.ResourceVersion;
+import com.kayky.core.export.ExportWriter;
+import com.kayky.domain.operation.schedule.ScheduleSlot;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @Repository
 public interface OperationRepository extends JpaRepository<Operation, Long> {
 
-    @Query("""
+    String PROJECTION_QUERY = """
             SELECT
                 o.id as id,
                 o.description as description,
@@ -24,9 +37,119 @@ public interface OperationRepository extends JpaRepository<Operation, Long> {
             FROM Operation o
             JOIN o.doctor as d
             JOIN o.patient as p
-            """)
+            """;
+
+    @Query(PROJECTION_QUERY)
     Page<OperationProjection> findAllProjected(Pageable pageable);
 
+    @Query(PROJECTION_QUERY)
+    Slice<OperationProjection> findSliceProjected(Pageable pageable);
+
+    @Query(PROJECTION_QUERY + """
+            ORDER BY o.scheduledAt ASC, o.id ASC
+            """)
+    List<OperationProjection> findFirstPageProjected(Limit limit);
+
+    @Query(PROJECTION_QUERY + """
+            WHERE o.scheduledAt > :scheduledAt
+               OR (o.scheduledAt = :scheduledAt AND o.id > :id)
+            ORDER BY o.scheduledAt ASC, o.id ASC
+            """)
+    List<OperationProjection> findPageAfterProjected(@Param("scheduledAt") LocalDateTime scheduledAt,
+                                                     @Param("id") Long id, Limit limit);
+
+    @Query(PROJECTION_QUERY + """
+            WHERE o.scheduledAt < :scheduledAt
+               OR (o.scheduledAt = :scheduledAt AND o.id < :id)
+            ORDER BY o.scheduledAt DESC, o.id DESC
+            """)
+    List<OperationProjection> findPageBeforeProjected(@Param("scheduledAt") LocalDateTime scheduledAt,
+                                                      @Param("id") Long id, Limit limit);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = ExportWriter.FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(PROJECTION_QUERY + """
+            ORDER BY o.id ASC
+            """)
+    Stream<OperationProjection> streamAllProjected();
+
     @EntityGraph(attributePaths = {"doctor", "patient"})
     Optional<Operation> findById(Long id);
-}
\ No newline at end of file
+
+    @Query("""
+            SELECT new com.kayky.core.caching.ResourceVersion(
+                CONCAT(CAST(o.version AS String), '-', CAST(d.version AS String), '-', CAST(p.version AS String)))
+            FROM Operation o
+            JOIN o.doctor as d
+            JOIN o.patient as p
+            WHERE o.id = :id
+            """)
+    Optional<ResourceVersion> findVersionById(@Param("id") Long id);
+
+    @Query("""
+            SELECT new com.kayky.domain.operation.OperationStatusSnapshot(o.id, o.status, o.version)
+            FROM Operation o
+            WHERE o.id = :id
+            """)
+    Optional<OperationStatusSnapshot> findStatusById(@Param("id") Long id);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            UPDATE Operation o
+            SET o.status = :target, o.version = o.version + 1
+            WHERE o.id = :id
+                AND o.status = :expected
+                AND o.version = :version
+            """)
+    int updateStatus(@Param("id") Long id,
+                     @Param("expected") OperationStatus expected,
+                     @Param("version") Long version,
+                     @Param("target") OperationStatus target);
+
+    @Query("""
+            SELECT new com.kayky.domain.operation.schedule.ScheduleSlot(
+                o.id, o.doctor.id, o.patient.id, o.scheduledAt, o.durationMinutes)
+            FROM Operation o
+            WHERE (o.doctor.id = :doctorId OR o.patient.id = :patientId)
+                AND o.id <> :operationId
+                AND o.status IN :statuses
+                AND o.scheduledAt > :earliestStart
+                AND o.scheduledAt < :endsAt
+            """)
+    List<ScheduleSlot> findScheduleCandidates(@Param("doctorId") Long doctorId,
+                                              @Param("patientId") Long patientId,
+                                              @Param("operationId") Long operationId,
+                                              @Param("statuses") Set<OperationStatus> statuses,
+                                              @Param("earliestStart") LocalDateTime earliestStart,
+                                              @Param("endsAt") LocalDateTime endsAt);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = ExportWriter.FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            SELECT new com.kayky.domain.operation.schedule.ScheduleSlot(
+                o.id, o.doctor.id, o.patient.id, o.scheduledAt, o.durationMinutes)
+            FROM Operation o
+            WHERE o.status IN :statuses
+            """)
+    Stream<ScheduleSlot> streamScheduleSlots(@Param("statuses") Set<OperationStatus> statuses);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = ExportWriter.FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            SELECT new com.kayky.domain.operation.schedule.ScheduleSlot(
+                o.id, o.doctor.id, o.patient.id, o.scheduledAt, o.durationMinutes)
+            FROM Operation o
+            WHERE o.status IN :statuses
+                AND o.scheduledAt > :earliestStart
+                AND o.scheduledAt < :endsAt
+            """)
+    Stream<ScheduleSlot> streamScheduleSlotsBetween(@Param("statuses") Set<OperationStatus> statuses,
+                                                    @Param("earliestStart") LocalDateTime earliestStart,
+                                                    @Param("endsAt") LocalDateTime endsAt);
+}
@@ -1,27 +1,80 @@
 package com.kayky.domain.operation;
 
+import com.kayky.core.caching.ResourceVersion;
+import com.kayky.core.exception.InvalidDateRangeException;
 import com.kayky.core.exception.ResourceNotFoundException;
+import com.kayky.core.exception.StatusTransitionException;
+import com.kayky.core.export.ExportColumn;
+import com.kayky.core.export.ExportFormat;
+import com.kayky.core.export.ExportWriter;
+import com.kayky.core.fieldset.SparseFieldset;
+import com.kayky.core.fieldset.SparseFieldsetRepository;
+import com.kayky.core.pagination.CountMode;
+import com.kayky.core.pagination.CursorRequest;
 import com.kayky.core.pagination.PageResponse;
 import com.kayky.core.pagination.PageUtils;
+import com.kayky.core.pagination.RowCountEstimator;
+import com.kayky.core.reference.Reference;
+import com.kayky.core.reference.ReferenceResolver;
+import com.kayky.domain.doctor.Doctor;
+import com.kayky.domain.operation.calendar.CalendarFilter;
+import com.kayky.domain.operation.calendar.OperationCalendarCache;
+import com.kayky.domain.operation.calendar.OperationCalendarRepository;
 import com.kayky.domain.operation.request.OperationBaseRequest;
+import com.kayky.domain.operation.request.OperationStatusRequest;
 import com.kayky.domain.operation.response.OperationBaseResponse;
+import com.kayky.domain.operation.response.OperationCalendarResponse;
 import com.kayky.domain.operation.response.OperationDetailsResponse;
-import com.kayky.domain.user.UserValidator;
+import com.kayky.domain.operation.schedule.OperationScheduler;
+import com.kayky.domain.operation.schedule.ScheduleSlot;
+import com.kayky.domain.patient.Patient;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Pageable;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class OperationService {
 
+    private static final List<ExportColumn<OperationProjection>> EXPORT_COLUMNS = List.of(
+            ExportColumn.of("id", OperationProjection::getId),
+            ExportColumn.of("description", OperationProjection::getDescription),
+            ExportColumn.of("scheduledAt", OperationProjection::getScheduledAt),
+            ExportColumn.of("doctorName", OperationProjection::getDoctorFirstName),
+            ExportColumn.of("patientName", OperationProjection::getPatientFirstName),
+            ExportColumn.of("status", OperationProjection::getStatus)
+    );
+
+    private static final SparseFieldset<Operation> FIELDSET = SparseFieldset.builder(Operation.class)
+            .attributes("id", "description", "scheduledAt", "status",
+                    "doctor.id", "doctor.firstName", "doctor.lastName", "doctor.email", "doctor.specialty", "doctor.crm",
+                    "patient.id", "patient.firstName", "patient.lastName", "patient.email", "patient.bloodType")
+            .group("doctor", "doctor.id", "doctor.firstName", "doctor.lastName", "doctor.specialty")
+            .group("patient", "patient.id", "patient.firstName", "patient.lastName")
+            .build();
+
+    private static final Duration MAX_CALENDAR_RANGE = Duration.ofDays(31);
+
     private final OperationRepository repository;
-    private final UserValidator userValidator;
+    private final ReferenceResolver referenceResolver;
+    private final OperationScheduler scheduler;
+    private final OperationCalendarRepository calendarRepository;
+    private final OperationCalendarCache calendarCache;
 
     private final OperationMapper mapper;
+    private final RowCountEstimator rowCountEstimator;
+    private final SparseFieldsetRepository sparseFieldsetRepository;
 
     @Transactional(readOnly = true)
     public OperationBaseResponse findById(Long id) {
@@ -34,27 +87,102 @@ public class OperationService {
                 });
     }
 
+    @Transactional(readOnly = true)
+    public ResourceVersion findVersion(Long id) {
+        return repository.findVersionById(id)
+                .orElseThrow(() -> {
+                    log.warn("Operation not found with id {}", id);
+
+                    return new ResourceNotFoundException("Operation not found");
+                });
+    }
+
     @Transactional(readOnly = true)
     public PageResponse<OperationDetailsResponse> findAll(Pageable pageable) {
         var page = repository.findAllProjected(pageable);
         return PageUtils.mapPage(page, mapper::toOperationDetailsResponse);
     }
 
+    @Transactional(readOnly = true)
+    public PageResponse<OperationDetailsResponse> findAll(Pageable pageable, CountMode countMode) {
+        return switch (countMode) {
+            case EXACT -> findAll(pageable);
+            case NONE -> PageUtils.mapSlice(repository.findSliceProjected(pageable), mapper::toOperationDetailsResponse);
+            case ESTIMATE -> PageUtils.mapSlice(repository.findSliceProjected(pageable),
+                    rowCountEstimator.estimate(Operation.class, repository::count), mapper::toOperationDetailsResponse);
+        };
+    }
+
+    @Transactional(readOnly = true)
+    public PageResponse<OperationDetailsResponse> findAllByCursor(CursorRequest request) {
+        var cursor = request.cursor();
+
+        List<OperationProjection> operations;
+        if (request.isFirstPage()) {
+            operations = repository.findFirstPageProjected(request.limit());
+        } else if (cursor.isPrevious()) {
+            operations = repository.findPageBeforeProjected(cursor.keyAsDateTime(), cursor.id(), request.limit());
+        } else {
+            operations = repository.findPageAfterProjected(cursor.keyAsDateTime(), cursor.id(), request.limit());
+        }
+
+        return PageUtils.mapWindow(operations, request,
+                operation -> operation.getScheduledAt().toString(),
+                OperationProjection::getId,
+                mapper::toOperationDetailsResponse);
+    }
+
+    @Transactional(readOnly = true)
+    public List<OperationCalendarResponse> findCalendar(CalendarFilter filter) {
+        if (!filter.to().isAfter(filter.from())) {
+            throw new InvalidDateRangeException("to must be after from");
+        }
+        if (Duration.between(filter.from(), filter.to()).compareTo(MAX_CALENDAR_RANGE) > 0) {
+            throw new InvalidDateRangeException("Calendar range must not exceed " + MAX_CALENDAR_RANGE.toDays() + " days");
+        }
+
+        var entries = calendarCache.find(filter).orElseGet(() -> calendarRepository.findCalendar(filter));
+        return entries.stream().map(mapper::toOperationCalendarResponse).toList();
+    }
+
+    @Transactional(readOnly = true)
+    public PageResponse<Map<String, Object>> findAllSparse(String fields, Pageable pageable) {
+        var selection = FIELDSET.select(fields);
+        return PageUtils.mapSlice(sparseFieldsetRepository.findAll(FIELDSET, selection, pageable), Function.identity());
+    }
+
+    @Transactional(readOnly = true)
+    public Map<String, Object> findByIdSparse(Long id, String fields) {
+        var selection = FIELDSET.select(fields);
+        return sparseFieldsetRepository.findById(FIELDSET, selection, id)
+                .orElseThrow(() -> {
+                    log.warn("Operation not found with id {}", id);
+
+                    return new ResourceNotFoundException("Operation not found");
+                });
+    }
+
+    @Transactional(readOnly = true)
+    public void export(ExportFormat format, OutputStream out) throws IOException {
+        try (var rows = repository.streamAllProjected()) {
+            long exported = ExportWriter.write(rows, EXPORT_COLUMNS, format, out);
+            log.debug("Exported {} operations as {}", exported, format);
+        }
+    }
+
     @Transactional
     public OperationBaseResponse save(OperationBaseRequest request) {
-        userValidator.assertIfUserExist(request.getPatientId(), "Patient");
-        userValidator.assertIfUserExist(request.getDoctorId(), "Doctor");
-
-        var patient = userValidator.getPatientIfExists(request.getPatientId());
-        var doctor = userValidator.getDoctorIfExists(request.getDoctorId());
+        assertParticipantsExist(request);
 
         var operationToSave = mapper.toEntity(request);
 
-        operationToSave.setDoctor(doctor);
-        operationToSave.setPatient(patient);
+        assignParticipants(request, operationToSave);
 
         var savedOperation = repository.save(operationToSave);
 
+        scheduler.book(savedOperation, null);
+        calendarCache.invalidateAfterCommit();
+
         log.info("New operation saved with ID {}", savedOperation.getId());
 
         return mapper.toOperationBaseResponse(savedOperation);
@@ -69,24 +197,71 @@ public class OperationService {
                     return new ResourceNotFoundException("Operation not found");
                 });
 
-        var patient = userValidator.getPatientIfExists(request.getPatientId());
-        var doctor = userValidator.getDoctorIfExists(request.getDoctorId());
+        assertParticipantsExist(request);
+
+        var previousSlot = ScheduleSlot.occupiedBy(operationToUpdate);
 
         mapper.updateOperationFromRequest(request, operationToUpdate);
 
-        operationToUpdate.setPatient(patient);
-        operationToUpdate.setDoctor(doctor);
+        assignParticipants(request, operationToUpdate);
 
         var updatedOperation = repository.save(operationToUpdate);
 
+        scheduler.book(updatedOperation, previousSlot);
+        calendarCache.invalidateAfterCommit();
+
         log.info("Operation updated with ID {}", updatedOperation.getId());
         return mapper.toOperationBaseResponse(updatedOperation);
     }
 
+    @Transactional
+    public void updateStatus(OperationStatusRequest request, Long id) {
+        var current = repository.findStatusById(id)
+                .orElseThrow(() -> {
+                    log.warn("Cannot change status: Operation not found with ID {}", id);
+
+                    return new ResourceNotFoundException("Operation not found");
+                });
+
+        var target = request.getStatus();
+        if (!current.status().canTransitionTo(target)) {
+            throw new StatusTransitionException(
+                    "Cannot change operation status from %s to %s".formatted(current.status(), target));
+        }
+
+        int updated = repository.updateStatus(id, current.status(), current.version(), target);
+        if (updated == 0) {
+            log.warn("Lost status update race on operation {} ({} -> {})", id, current.status(), target);
+            throw new ObjectOptimisticLockingFailureException(Operation.class, id);
+        }
+
+        if (!target.occupiesSchedule()) {
+            scheduler.release(id);
+        }
+        calendarCache.invalidateAfterCommit();
+
+        log.info("Operation {} status changed from {} to {}", id, current.status(), target);
+    }
+
     @Transactional
     public void delete(Long id) {
         assertIfOperationExist(id);
         repository.deleteById(id);
+        scheduler.release(id);
+        calendarCache.invalidateAfterCommit();
+    }
+
+    private void assertParticipantsExist(OperationBaseRequest request) {
+        referenceResolver.assertExist(
+                Reference.of(Patient.class, request.getPatientId(),
+                        "Patient with id %d not found".formatted(request.getPatientId())),
+                Reference.of(Doctor.class, request.getDoctorId(),
+                        "Doctor with id %d not found".formatted(request.getDoctorId())));
+    }
+
+    private void assignParticipants(OperationBaseRequest request, Operation operation) {
+        operation.setPatient(referenceResolver.reference(Patient.class, request.getPatientId()));
+        operation.setDoctor(referenceResolver.reference(Doctor.class, request.getDoctorId()));
     }
 
     private void assertIfOperationExist(Long id) {
@@ -1,8 +1,32 @@
 package com.kayky.domain.operation;
 
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
 public enum OperationStatus {
     SCHEDULED,
     IN_PROGRESS,
     COMPLETED,
-    CANCELED
+    CANCELED;
+
+    private static final Set<OperationStatus> OCCUPYING_SCHEDULE = EnumSet.of(SCHEDULED, IN_PROGRESS);
+    private static final Map<OperationStatus, Set<OperationStatus>> TRANSITIONS = new EnumMap<>(Map.of(
+            SCHEDULED, EnumSet.of(IN_PROGRESS, CANCELED),
+            IN_PROGRESS, EnumSet.of(COMPLETED, CANCELED),
+            COMPLETED, EnumSet.noneOf(OperationStatus.class),
+            CANCELED, EnumSet.noneOf(OperationStatus.class)));
+
+    public boolean canTransitionTo(OperationStatus target) {
+        return TRANSITIONS.get(this).contains(target);
+    }
+
+    public boolean occupiesSchedule() {
+        return OCCUPYING_SCHEDULE.contains(this);
+    }
+
+    public static Set<OperationStatus> occupyingSchedule() {
+        return OCCUPYING_SCHEDULE;
+    }
 }
@@ -0,0 +1,4 @@
+package com.kayky.domain.operation;
+
+public record OperationStatusSnapshot(Long id, OperationStatus status, Long version) {
+}
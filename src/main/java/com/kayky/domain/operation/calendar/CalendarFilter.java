@@ -0,0 +1,26 @@
+package com.kayky.domain.operation.calendar;
+
+import com.kayky.domain.operation.OperationStatus;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+public record CalendarFilter(LocalDateTime from, LocalDateTime to, Long doctorId, Long patientId,
+                             Set<OperationStatus> statuses) {
+
+    public CalendarFilter {
+        statuses = statuses == null ? Set.of() : Set.copyOf(statuses);
+    }
+
+    public static CalendarFilter between(LocalDateTime from, LocalDateTime to) {
+        return new CalendarFilter(from, to, null, null, Set.of());
+    }
+
+    public boolean matches(OperationCalendarEntry entry) {
+        return !entry.scheduledAt().isBefore(from)
+                && entry.scheduledAt().isBefore(to)
+                && (doctorId == null || doctorId.equals(entry.doctorId()))
+                && (patientId == null || patientId.equals(entry.patientId()))
+                && (statuses.isEmpty() || statuses.contains(entry.status()));
+    }
+}
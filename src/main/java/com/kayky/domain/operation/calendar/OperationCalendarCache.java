@@ -0,0 +1,92 @@
+package com.kayky.domain.operation.calendar;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+public class OperationCalendarCache {
+
+    private final OperationCalendarRepository repository;
+    private final Clock clock;
+
+    @Value("${app.operation.calendar-cache-ttl:PT5M}")
+    private Duration ttl;
+
+    private long generation;
+    private volatile Week week;
+
+    public Optional<List<OperationCalendarEntry>> find(CalendarFilter filter) {
+        var weekStart = LocalDate.now(clock).with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).atStartOfDay();
+        var weekEnd = weekStart.plusWeeks(1);
+        if (filter.from().isBefore(weekStart) || filter.to().isAfter(weekEnd)) {
+            return Optional.empty();
+        }
+
+        var current = currentWeek(weekStart, weekEnd);
+        var lastDay = filter.to().minusNanos(1).toLocalDate();
+        return Optional.of(filter.from().toLocalDate().datesUntil(lastDay.plusDays(1))
+                .flatMap(day -> current.days().getOrDefault(day, List.of()).stream())
+                .filter(filter::matches)
+                .toList());
+    }
+
+    public synchronized void invalidate() {
+        generation++;
+        week = null;
+    }
+
+    public void invalidateAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidate();
+            }
+        });
+    }
+
+    private Week currentWeek(LocalDateTime weekStart, LocalDateTime weekEnd) {
+        var now = LocalDateTime.now(clock);
+        var cached = week;
+        if (cached != null && cached.start().equals(weekStart) && now.isBefore(cached.expiresAt())) {
+            return cached;
+        }
+
+        long loadedGeneration;
+        synchronized (this) {
+            loadedGeneration = generation;
+        }
+
+        var days = repository.findCalendar(CalendarFilter.between(weekStart, weekEnd)).stream()
+                .collect(Collectors.groupingBy(entry -> entry.scheduledAt().toLocalDate()));
+        var loaded = new Week(weekStart, now.plus(ttl), Map.copyOf(days));
+
+        synchronized (this) {
+            if (generation == loadedGeneration) {
+                week = loaded;
+            }
+        }
+        return loaded;
+    }
+
+    private record Week(LocalDateTime start, LocalDateTime expiresAt, Map<LocalDate, List<OperationCalendarEntry>> days) {
+    }
+}
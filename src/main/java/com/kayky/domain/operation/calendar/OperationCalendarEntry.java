@@ -0,0 +1,15 @@
+package com.kayky.domain.operation.calendar;
+
+import com.kayky.domain.operation.OperationStatus;
+
+import java.time.LocalDateTime;
+
+public record OperationCalendarEntry(Long id, String description, LocalDateTime scheduledAt, Integer durationMinutes,
+                                     OperationStatus status, Long doctorId, String doctorFirstName,
+                                     String doctorLastName, Long patientId, String patientFirstName,
+                                     String patientLastName) {
+
+    public LocalDateTime endsAt() {
+        return scheduledAt.plusMinutes(durationMinutes);
+    }
+}
@@ -0,0 +1,59 @@
+package com.kayky.domain.operation.calendar;
+
+import com.kayky.domain.operation.Operation;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.Predicate;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Repository
+public class OperationCalendarRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public List<OperationCalendarEntry> findCalendar(CalendarFilter filter) {
+        var cb = entityManager.getCriteriaBuilder();
+        var query = cb.createQuery(OperationCalendarEntry.class);
+        var operation = query.from(Operation.class);
+        var doctor = operation.join("doctor");
+        var patient = operation.join("patient");
+
+        query.select(cb.construct(OperationCalendarEntry.class,
+                operation.get("id"),
+                operation.get("description"),
+                operation.get("scheduledAt"),
+                operation.get("durationMinutes"),
+                operation.get("status"),
+                doctor.get("id"),
+                doctor.get("firstName"),
+                doctor.get("lastName"),
+                patient.get("id"),
+                patient.get("firstName"),
+                patient.get("lastName")));
+
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.greaterThanOrEqualTo(operation.get("scheduledAt"), filter.from()));
+        predicates.add(cb.lessThan(operation.get("scheduledAt"), filter.to()));
+        if (filter.doctorId() != null) {
+            predicates.add(cb.equal(operation.get("doctor").get("id"), filter.doctorId()));
+        }
+        if (filter.patientId() != null) {
+            predicates.add(cb.equal(operation.get("patient").get("id"), filter.patientId()));
+        }
+        if (!filter.statuses().isEmpty()) {
+            predicates.add(operation.get("status").in(filter.statuses()));
+        }
+
+        query.where(predicates.toArray(Predicate[]::new));
+        query.orderBy(cb.asc(operation.get("scheduledAt")), cb.asc(operation.get("id")));
+
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultList();
+    }
+}
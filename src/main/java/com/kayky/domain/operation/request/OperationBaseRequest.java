@@ -1,13 +1,16 @@
 package com.kayky.domain.operation.request;
 
 import com.kayky.domain.doctor.response.DoctorBaseResponse;
+import com.kayky.domain.operation.Operation;
 import com.kayky.domain.operation.OperationStatus;
 import com.kayky.domain.patient.request.PatientBaseRequest;
 import com.kayky.domain.patient.response.PatientBaseResponse;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -37,6 +40,14 @@ public class OperationBaseRequest {
     @Future(message = "Scheduled date/time must be in the future")
     private LocalDateTime scheduledAt;
 
+    @Schema(
+            description = "Expected duration of the operation in minutes (defaults to 60)",
+            example = "90"
+    )
+    @Positive(message = "Duration must be positive")
+    @Max(value = Operation.MAX_DURATION_MINUTES, message = "Duration must not exceed 24 hours")
+    private Integer durationMinutes;
+
     @Schema(
             description = "ID of the doctor assigned to perform the operation",
             example = "1"
@@ -52,9 +63,9 @@ public class OperationBaseRequest {
     private Long patientId;
 
     @Schema(
-            description = "Current status of the operation",
+            description = "Initial status of the operation (defaults to SCHEDULED). Ignored on update, " +
+                    "status only changes through PATCH /v1/operation/{id}/status",
             example = "SCHEDULED"
     )
-    @NotNull(message = "Status is required")
     private OperationStatus status;
 }
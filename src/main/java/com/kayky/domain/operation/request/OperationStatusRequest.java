@@ -0,0 +1,26 @@
+package com.kayky.domain.operation.request;
+
+import com.kayky.domain.operation.OperationStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Request body for moving an operation to its next status")
+public class OperationStatusRequest {
+
+    @Schema(
+            description = "Target status of the operation",
+            example = "IN_PROGRESS"
+    )
+    @NotNull(message = "Status is required")
+    private OperationStatus status;
+}
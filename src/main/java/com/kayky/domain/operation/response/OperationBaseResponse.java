@@ -36,6 +36,18 @@ public class OperationBaseResponse {
     )
     private LocalDateTime scheduledAt;
 
+    @Schema(
+            description = "Expected duration of the operation in minutes",
+            example = "90"
+    )
+    private Integer durationMinutes;
+
+    @Schema(
+            description = "Date and time the operation is expected to end",
+            example = "2025-10-15T16:00:00"
+    )
+    private LocalDateTime endsAt;
+
     @Schema(
             description = "Doctor assigned to the operation",
             implementation = DoctorBaseResponse.class
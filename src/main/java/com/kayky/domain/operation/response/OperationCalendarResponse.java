@@ -0,0 +1,43 @@
+package com.kayky.domain.operation.response;
+
+import com.kayky.domain.operation.OperationStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Calendar entry of an operation with its time slot and participants")
+public class OperationCalendarResponse {
+
+    @Schema(description = "Unique identifier of the operation", example = "42")
+    private Long id;
+
+    @Schema(description = "Description of the operation", example = "Knee surgery for ligament reconstruction")
+    private String description;
+
+    @Schema(description = "Scheduled start of the operation", example = "2025-10-15T14:30:00")
+    private LocalDateTime scheduledAt;
+
+    @Schema(description = "Expected end of the operation", example = "2025-10-15T16:00:00")
+    private LocalDateTime endsAt;
+
+    @Schema(description = "Current status of the operation", example = "SCHEDULED")
+    private OperationStatus status;
+
+    @Schema(description = "ID of the doctor performing the operation", example = "1")
+    private Long doctorId;
+
+    @Schema(description = "Full name of the doctor performing the operation", example = "Emily Johnson")
+    private String doctorName;
+
+    @Schema(description = "ID of the patient undergoing the operation", example = "2")
+    private Long patientId;
+
+    @Schema(description = "Full name of the patient undergoing the operation", example = "Michael Carter")
+    private String patientName;
+}
@@ -0,0 +1,82 @@
+package com.kayky.domain.operation.schedule;
+
+import com.kayky.core.interval.IntervalTree;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class OperationScheduleIndex {
+
+    private final Map<Long, ScheduleSlot> slots = new ConcurrentHashMap<>();
+    private final Map<Long, IntervalTree> doctors = new ConcurrentHashMap<>();
+    private final Map<Long, IntervalTree> patients = new ConcurrentHashMap<>();
+
+    public Optional<ScheduleConflict> findConflict(ScheduleSlot slot) {
+        return findOverlap(doctors, slot.doctorId(), slot)
+                .map(operationId -> new ScheduleConflict("Doctor", slot.doctorId(), operationId))
+                .or(() -> findOverlap(patients, slot.patientId(), slot)
+                        .map(operationId -> new ScheduleConflict("Patient", slot.patientId(), operationId)));
+    }
+
+    public ScheduleSlot put(ScheduleSlot slot) {
+        var replaced = new ScheduleSlot[1];
+        slots.compute(slot.operationId(), (id, previous) -> {
+            if (previous != null) {
+                detach(previous);
+            }
+            tree(doctors, slot.doctorId()).put(id, epochMinute(slot.startsAt()), epochMinute(slot.endsAt()));
+            tree(patients, slot.patientId()).put(id, epochMinute(slot.startsAt()), epochMinute(slot.endsAt()));
+            replaced[0] = previous;
+            return slot;
+        });
+        return replaced[0];
+    }
+
+    public ScheduleSlot remove(Long operationId) {
+        var removed = new ScheduleSlot[1];
+        slots.computeIfPresent(operationId, (id, previous) -> {
+            detach(previous);
+            removed[0] = previous;
+            return null;
+        });
+        return removed[0];
+    }
+
+    public void clear() {
+        slots.clear();
+        doctors.clear();
+        patients.clear();
+    }
+
+    public int size() {
+        return slots.size();
+    }
+
+    private void detach(ScheduleSlot slot) {
+        tree(doctors, slot.doctorId()).remove(slot.operationId(), epochMinute(slot.startsAt()));
+        tree(patients, slot.patientId()).remove(slot.operationId(), epochMinute(slot.startsAt()));
+    }
+
+    private static Optional<Long> findOverlap(Map<Long, IntervalTree> trees, Long participantId, ScheduleSlot slot) {
+        var tree = trees.get(participantId);
+        if (tree == null) {
+            return Optional.empty();
+        }
+        long excludedId = slot.operationId() == null ? Long.MIN_VALUE : slot.operationId();
+        var overlap = tree.findOverlap(epochMinute(slot.startsAt()), epochMinute(slot.endsAt()), excludedId);
+        return overlap.isPresent() ? Optional.of(overlap.getAsLong()) : Optional.empty();
+    }
+
+    private static IntervalTree tree(Map<Long, IntervalTree> trees, Long participantId) {
+        return trees.computeIfAbsent(participantId, id -> new IntervalTree());
+    }
+
+    private static long epochMinute(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) / 60;
+    }
+}
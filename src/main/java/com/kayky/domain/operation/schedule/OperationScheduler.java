@@ -0,0 +1,134 @@
+package com.kayky.domain.operation.schedule;
+
+import com.kayky.core.exception.ScheduleConflictException;
+import com.kayky.domain.doctor.availability.DoctorAvailabilityIndex;
+import com.kayky.domain.operation.Operation;
+import com.kayky.domain.operation.OperationRepository;
+import com.kayky.domain.operation.OperationStatus;
+import com.kayky.domain.user.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OperationScheduler {
+
+    private static final int LOCK_STRIPES = 64;
+
+    private final OperationRepository repository;
+    private final UserRepository userRepository;
+    private final OperationScheduleIndex index;
+    private final DoctorAvailabilityIndex availabilityIndex;
+
+    private final ReentrantLock[] locks = IntStream.range(0, LOCK_STRIPES)
+            .mapToObj(i -> new ReentrantLock())
+            .toArray(ReentrantLock[]::new);
+
+    public void book(Operation operation, ScheduleSlot previous) {
+        if (!operation.getStatus().occupiesSchedule()) {
+            release(operation.getId());
+            return;
+        }
+
+        var slot = ScheduleSlot.of(operation);
+        if (slot.equals(previous)) {
+            return;
+        }
+
+        lockUntilCompletion(slot.doctorId(), slot.patientId());
+
+        var conflict = index.findConflict(slot).or(() -> {
+            userRepository.lockAllById(List.of(Math.min(slot.doctorId(), slot.patientId()),
+                    Math.max(slot.doctorId(), slot.patientId())));
+            return findPersistedConflict(slot);
+        });
+        if (conflict.isPresent()) {
+            log.warn("Rejected booking for operation {}: {}", slot.operationId(), conflict.get().message());
+            throw new ScheduleConflictException(conflict.get().message());
+        }
+
+        afterCommit(() -> availabilityIndex.move(index.put(slot), slot));
+    }
+
+    public void release(Long operationId) {
+        afterCommit(() -> availabilityIndex.move(index.remove(operationId), null));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        for (var lock : locks) {
+            lock.lock();
+        }
+        try (var slots = repository.streamScheduleSlots(OperationStatus.occupyingSchedule())) {
+            index.clear();
+            slots.forEach(index::put);
+        } finally {
+            for (var lock : locks) {
+                lock.unlock();
+            }
+        }
+        log.info("Operation schedule index rebuilt with {} bookings", index.size());
+    }
+
+    private Optional<ScheduleConflict> findPersistedConflict(ScheduleSlot slot) {
+        return repository.findScheduleCandidates(slot.doctorId(), slot.patientId(), slot.operationId(),
+                        OperationStatus.occupyingSchedule(),
+                        slot.startsAt().minusMinutes(Operation.MAX_DURATION_MINUTES), slot.endsAt())
+                .stream()
+                .filter(slot::overlaps)
+                .findFirst()
+                .map(other -> ScheduleConflict.between(slot, other));
+    }
+
+    private void lockUntilCompletion(long doctorId, long patientId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Booking an operation requires an active transaction");
+        }
+
+        var stripes = LongStream.of(doctorId, patientId)
+                .mapToInt(OperationScheduler::stripe)
+                .distinct()
+                .sorted()
+                .mapToObj(i -> locks[i])
+                .toList();
+
+        stripes.forEach(ReentrantLock::lock);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                stripes.reversed().forEach(ReentrantLock::unlock);
+            }
+        });
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static int stripe(long participantId) {
+        return Math.floorMod(Long.hashCode(participantId * 0x9E3779B97F4A7C15L), LOCK_STRIPES);
+    }
+}
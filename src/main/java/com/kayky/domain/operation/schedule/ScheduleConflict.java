@@ -0,0 +1,15 @@
+package com.kayky.domain.operation.schedule;
+
+public record ScheduleConflict(String participant, Long participantId, Long operationId) {
+
+    public static ScheduleConflict between(ScheduleSlot slot, ScheduleSlot other) {
+        return slot.doctorId().equals(other.doctorId())
+                ? new ScheduleConflict("Doctor", slot.doctorId(), other.operationId())
+                : new ScheduleConflict("Patient", slot.patientId(), other.operationId());
+    }
+
+    public String message() {
+        return "%s with id %d is already booked for operation %d in the requested interval"
+                .formatted(participant, participantId, operationId);
+    }
+}
@@ -0,0 +1,25 @@
+package com.kayky.domain.operation.schedule;
+
+import com.kayky.domain.operation.Operation;
+
+import java.time.LocalDateTime;
+
+public record ScheduleSlot(Long operationId, Long doctorId, Long patientId, LocalDateTime startsAt, Integer durationMinutes) {
+
+    public static ScheduleSlot of(Operation operation) {
+        return new ScheduleSlot(operation.getId(), operation.getDoctor().getId(), operation.getPatient().getId(),
+                operation.getScheduledAt(), operation.getDurationMinutes());
+    }
+
+    public static ScheduleSlot occupiedBy(Operation operation) {
+        return operation.getStatus().occupiesSchedule() ? of(operation) : null;
+    }
+
+    public LocalDateTime endsAt() {
+        return startsAt.plusMinutes(durationMinutes);
+    }
+
+    public boolean overlaps(ScheduleSlot other) {
+        return startsAt.isBefore(other.endsAt()) && other.startsAt.isBefore(endsAt());
+    }
+}
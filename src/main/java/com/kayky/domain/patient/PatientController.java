@@ -1,11 +1,15 @@
 package com.kayky.domain.patient;
 
+import com.kayky.core.caching.ConditionalResponses;
+import com.kayky.core.pagination.CountMode;
+import com.kayky.core.pagination.CursorRequest;
 import com.kayky.core.pagination.PageResponse;
 import com.kayky.domain.patient.request.PatientBaseRequest;
 import com.kayky.domain.patient.response.PatientBaseResponse;
 import com.kayky.core.exception.ApiError;
 import com.kayky.core.exception.ValidationError;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -19,6 +23,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
@@ -46,14 +51,17 @@ public class PatientController {
                     responseCode = "404",
                     description = "Patient not found",
                     content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
-                            schema = @Schema(implementation = ApiError.class)))
+                            schema = @Schema(implementation = ApiError.class))),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Not modified since the ETag or date sent in If-None-Match/If-Modified-Since")
     })
     @GetMapping(value = "/{id}")
-    public ResponseEntity<PatientBaseResponse> findById(@PathVariable Long id) {
+    public ResponseEntity<PatientBaseResponse> findById(@PathVariable Long id, WebRequest request) {
         log.debug("Request to find patient by id {}", id);
 
-        var response = service.findById(id);
-        return ResponseEntity.ok(response);
+        var version = service.findVersion(id);
+        return ConditionalResponses.okIfModified(request, version, () -> service.findById(id));
     }
 
 
@@ -67,9 +75,36 @@ public class PatientController {
                     array = @ArraySchema(schema = @Schema(implementation = PageResponse.class)))
     )
     @GetMapping
-    public PageResponse<PatientBaseResponse> findAllPaged(Pageable pageable) {
+    public PageResponse<PatientBaseResponse> findAllPaged(Pageable pageable,
+            @Parameter(description = "Total count strategy: exact, estimate or none")
+            @RequestParam(defaultValue = "exact") CountMode count) {
         log.debug("Request received to list all patients");
-        return service.findAll(pageable);
+        return service.findAll(pageable, count);
+    }
+
+    @Operation(
+            summary = "List patients by cursor",
+            description = "Returns a keyset-paginated list of patients ordered by ID. " +
+                    "Send an empty cursor for the first page and the returned next/prev tokens afterwards"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Page of patients returned successfully",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = PageResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid pagination cursor",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ApiError.class))
+            )
+    })
+    @GetMapping(params = "cursor")
+    public PageResponse<PatientBaseResponse> findAllByCursor(@RequestParam String cursor, Pageable pageable) {
+        log.debug("Request received to list patients by cursor");
+        return service.findAllByCursor(CursorRequest.of(cursor, pageable.getPageSize()));
     }
 
 
@@ -4,6 +4,7 @@ import com.kayky.domain.patient.request.PatientBaseRequest;
 import com.kayky.domain.patient.response.PatientBaseResponse;
 import com.kayky.domain.report.response.ReportBaseResponse;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
 import org.mapstruct.Named;
 import org.mapstruct.NullValuePropertyMappingStrategy;
@@ -13,8 +14,10 @@ public interface PatientMapper {
 
     PatientBaseResponse toPatientBaseResponse(Patient patient);
 
+    @Mapping(target = "version", ignore = true)
     Patient toEntity(PatientBaseRequest postRequest);
 
+    @Mapping(target = "version", ignore = true)
     void updatePatientFromRequest(PatientBaseRequest putRequest, @MappingTarget Patient patient);
 
     @Named("toPatientInfo")
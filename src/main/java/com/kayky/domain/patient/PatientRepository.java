@@ -1,11 +1,22 @@
 package com.kayky.domain.patient;
 
+import com.kayky.core.caching.ResourceVersion;
+import com.kayky.core.pagination.KeysetRepository;
+import com.kayky.core.pagination.SliceRepository;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 
 @Repository
-public interface PatientRepository extends JpaRepository<Patient, Long> {
+public interface PatientRepository extends JpaRepository<Patient, Long>, KeysetRepository<Patient>, SliceRepository<Patient> {
 
+    @Query("""
+            SELECT new com.kayky.core.caching.ResourceVersion(CAST(p.version AS String))
+            FROM Patient p
+            WHERE p.id = :id
+            """)
+    Optional<ResourceVersion> findVersionById(@Param("id") Long id);
 }
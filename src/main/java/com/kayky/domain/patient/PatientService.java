@@ -1,7 +1,11 @@
 package com.kayky.domain.patient;
 
+import com.kayky.core.caching.ResourceVersion;
+import com.kayky.core.pagination.CountMode;
+import com.kayky.core.pagination.CursorRequest;
 import com.kayky.core.pagination.PageResponse;
 import com.kayky.core.pagination.PageUtils;
+import com.kayky.core.pagination.RowCountEstimator;
 import com.kayky.domain.patient.request.PatientBaseRequest;
 import com.kayky.domain.patient.response.PatientBaseResponse;
 import com.kayky.domain.user.UserValidator;
@@ -20,6 +24,7 @@ public class PatientService {
     private final PatientRepository patientRepository;
     private final PatientMapper patientMapper;
     private final UserValidator userValidator;
+    private final RowCountEstimator rowCountEstimator;
 
     @Transactional(readOnly = true)
     public PatientBaseResponse findById(Long id) {
@@ -32,12 +37,38 @@ public class PatientService {
                 });
     }
 
+    @Transactional(readOnly = true)
+    public ResourceVersion findVersion(Long id) {
+        return patientRepository.findVersionById(id)
+                .orElseThrow(() -> {
+                    log.warn("Patient not found with ID {}", id);
+
+                    return new ResourceNotFoundException("Patient not found");
+                });
+    }
+
     @Transactional(readOnly = true)
     public PageResponse<PatientBaseResponse> findAll(Pageable pageable) {
         var paginatedPatients = patientRepository.findAll(pageable);
         return PageUtils.mapPage(paginatedPatients, patientMapper::toPatientBaseResponse);
     }
 
+    @Transactional(readOnly = true)
+    public PageResponse<PatientBaseResponse> findAll(Pageable pageable, CountMode countMode) {
+        return switch (countMode) {
+            case EXACT -> findAll(pageable);
+            case NONE -> PageUtils.mapSlice(patientRepository.findAllBy(pageable), patientMapper::toPatientBaseResponse);
+            case ESTIMATE -> PageUtils.mapSlice(patientRepository.findAllBy(pageable),
+                    rowCountEstimator.estimate(Patient.class, patientRepository::count), patientMapper::toPatientBaseResponse);
+        };
+    }
+
+    @Transactional(readOnly = true)
+    public PageResponse<PatientBaseResponse> findAllByCursor(CursorRequest request) {
+        var patients = patientRepository.findWindow(request);
+        return PageUtils.mapWindow(patients, request, Patient::getId, patientMapper::toPatientBaseResponse);
+    }
+
     @Transactional
     public PatientBaseResponse save(PatientBaseRequest postRequest) {
         userValidator.assertEmailDoesNotExist(postRequest.getEmail());
@@ -1,5 +1,7 @@
 package com.kayky.domain.payment;
 
+import com.kayky.core.id.PooledId;
+import com.kayky.core.pagination.RowCountListener;
 import com.kayky.domain.cashier.Cashier;
 import com.kayky.domain.patient.Patient;
 import com.kayky.domain.payment.enums.PaymentMethod;
@@ -19,6 +21,7 @@ import java.time.LocalDateTime;
             @Index(name = "idx_payment_date", columnList = "payment_date")
         }
 )
+@EntityListeners(RowCountListener.class)
 @Getter
 @Setter
 @AllArgsConstructor
@@ -28,14 +31,18 @@ import java.time.LocalDateTime;
 public class Payment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledId("payment")
     private Long id;
 
-    @ManyToOne
+    @Version
+    @Column(columnDefinition = "BIGINT DEFAULT 0")
+    private Long version;
+
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "patient_id")
     private Patient patient;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "cashier_id")
     private Cashier cashier;
 
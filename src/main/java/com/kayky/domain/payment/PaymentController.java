@@ -1,11 +1,19 @@
 package com.kayky.domain.payment;
 
+import com.kayky.core.caching.ConditionalResponses;
 import com.kayky.core.exception.ApiError;
 import com.kayky.core.exception.ValidationError;
+import com.kayky.core.export.ExportFormat;
+import com.kayky.core.idempotency.IdempotentExecutor;
+import com.kayky.core.pagination.CountMode;
+import com.kayky.core.pagination.CursorRequest;
 import com.kayky.core.pagination.PageResponse;
 import com.kayky.domain.payment.request.PaymentBaseRequest;
 import com.kayky.domain.payment.response.PaymentBaseResponse;
+import com.kayky.domain.payment.response.PaymentSummaryResponse;
+import com.kayky.domain.payment.summary.SummaryDimension;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -15,13 +23,20 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Set;
 
 @RestController
 @RequestMapping(value = "v1/payment")
@@ -31,6 +46,7 @@ import java.util.List;
 public class PaymentController {
 
     private final PaymentService service;
+    private final IdempotentExecutor idempotency;
 
     @Operation(
             summary = "Find payment by ID",
@@ -48,14 +64,17 @@ public class PaymentController {
                     description = "Payment not found",
                     content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                             schema = @Schema(implementation = ApiError.class))
-            )
+            ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Not modified since the ETag or date sent in If-None-Match/If-Modified-Since")
     })
     @GetMapping(value = "/{id}")
-    public ResponseEntity<PaymentBaseResponse> findById(@PathVariable Long id) {
+    public ResponseEntity<PaymentBaseResponse> findById(@PathVariable Long id, WebRequest request) {
         log.debug("Request to find payments by id {}", id);
 
-        var response = service.findById(id);
-        return ResponseEntity.ok(response);
+        var version = service.findVersion(id);
+        return ConditionalResponses.okIfModified(request, version, () -> service.findById(id));
     }
 
     @Operation(
@@ -69,9 +88,104 @@ public class PaymentController {
                     schema = @Schema(implementation = PageResponse.class))
     )
     @GetMapping
-    public PageResponse<PaymentBaseResponse> findAllPaged(Pageable pageable) {
+    public PageResponse<PaymentBaseResponse> findAllPaged(Pageable pageable,
+            @Parameter(description = "Total count strategy: exact, estimate or none")
+            @RequestParam(defaultValue = "exact") CountMode count) {
         log.debug("Request received to list all payment");
-        return service.findAll(pageable);
+        return service.findAll(pageable, count);
+    }
+
+    @Operation(
+            summary = "List payments by cursor",
+            description = "Returns a keyset-paginated list of payments ordered by payment date. " +
+                    "Send an empty cursor for the first page and the returned next/prev tokens afterwards"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Page of payments returned successfully",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = PageResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid pagination cursor",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ApiError.class))
+            )
+    })
+    @GetMapping(params = "cursor")
+    public PageResponse<PaymentBaseResponse> findAllByCursor(@RequestParam String cursor, Pageable pageable) {
+        log.debug("Request received to list payments by cursor");
+        return service.findAllByCursor(CursorRequest.of(cursor, pageable.getPageSize()));
+    }
+
+    @Operation(
+            summary = "Export all payments",
+            description = "Streams every payment as NDJSON (default) or CSV without loading the dataset into memory"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Export streamed successfully",
+                    content = {
+                            @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE),
+                            @Content(mediaType = "text/csv")
+                    }
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Unsupported export format",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ApiError.class))
+            )
+    })
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(defaultValue = "ndjson") ExportFormat format) {
+        log.debug("Request received to export payments as {}", format);
+
+        StreamingResponseBody body = out -> service.export(format, out);
+
+        var disposition = ContentDisposition.attachment()
+                .filename("payments." + format.getExtension())
+                .build();
+
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                .body(body);
+    }
+
+    @Operation(
+            summary = "Summarize payment revenue",
+            description = "Returns amount totals and payment counts for the days in [from, to], grouped by any " +
+                    "comma-separated combination of day, cashier, method and status. Reads a daily rollup, so the " +
+                    "cost grows with the number of days rather than payments. The range may span at most 366 days"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Summary returned successfully",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = PaymentSummaryResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid or too wide date range, or unknown grouping dimension",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ApiError.class))
+            )
+    })
+    @GetMapping("/summary")
+    public List<PaymentSummaryResponse> findSummary(
+            @Parameter(description = "First day of the range (inclusive)", example = "2025-10-01")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last day of the range (inclusive)", example = "2025-10-31")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "Dimensions to group by: day, cashier, method, status", example = "day,method")
+            @RequestParam(defaultValue = "day") Set<SummaryDimension> groupBy) {
+        log.debug("Request received to summarize payments from {} to {} by {}", from, to, groupBy);
+        return service.findSummary(from, to, groupBy);
     }
 
     @Operation(
@@ -118,24 +232,35 @@ public class PaymentController {
                     content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                             schema = @Schema(implementation = ApiError.class))
             ),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "A request with the same Idempotency-Key is still being processed",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ApiError.class))
+            ),
             @ApiResponse(
                     responseCode = "422",
-                    description = "Validation error - invalid or missing fields in request body",
+                    description = "Validation error - invalid or missing fields in request body, " +
+                            "or Idempotency-Key reused with a different body",
                     content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                             schema = @Schema(implementation = ValidationError.class))
             )
     })
     @PostMapping
-    public ResponseEntity<PaymentBaseResponse> save(@Valid @RequestBody PaymentBaseRequest request) {
+    public ResponseEntity<PaymentBaseResponse> save(@Valid @RequestBody PaymentBaseRequest request,
+            @Parameter(description = "Client-generated key; retries with the same key and body replay the first response")
+            @RequestHeader(value = IdempotentExecutor.HEADER, required = false) String idempotencyKey) {
         log.debug("Request to create new payment");
 
-        var response = service.save(request);
+        return idempotency.execute("payment", idempotencyKey, request, PaymentBaseResponse.class, () -> {
+            var response = service.save(request);
 
-        URI uri = ServletUriComponentsBuilder
-                .fromCurrentRequest()
-                .path("/{id}")
-                .buildAndExpand(response.id()).toUri();
+            URI uri = ServletUriComponentsBuilder
+                    .fromCurrentRequest()
+                    .path("/{id}")
+                    .buildAndExpand(response.id()).toUri();
 
-        return ResponseEntity.created(uri).body(response);
+            return ResponseEntity.created(uri).body(response);
+        });
     }
 }
@@ -2,12 +2,15 @@ package com.kayky.domain.payment;
 
 import com.kayky.domain.payment.request.PaymentBaseRequest;
 import com.kayky.domain.payment.response.PaymentBaseResponse;
+import com.kayky.domain.payment.response.PaymentSummaryResponse;
+import com.kayky.domain.payment.summary.PaymentSummaryRow;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
 @Mapper(componentModel = "spring")
 public interface PaymentMapper {
 
+    @Mapping(target = "version", ignore = true)
     @Mapping(target = "patient", ignore = true)
     @Mapping(target = "cashier", ignore = true)
     @Mapping(target = "status", constant = "PENDING")
@@ -21,4 +24,12 @@ public interface PaymentMapper {
     @Mapping(target = "cashierName", expression = "java(payment.getCashier().getFirstName() + \" \" + payment.getCashier().getLastName())")
     PaymentBaseResponse toPaymentBaseResponse(Payment payment);
 
+    PaymentBaseResponse toPaymentBaseResponse(PaymentProjection payment);
+
+    @Mapping(target = "date", source = "key.summaryDate")
+    @Mapping(target = "cashierId", source = "key.cashierId")
+    @Mapping(target = "paymentMethod", source = "key.paymentMethod")
+    @Mapping(target = "status", source = "key.status")
+    PaymentSummaryResponse toPaymentSummaryResponse(PaymentSummaryRow row);
+
 }
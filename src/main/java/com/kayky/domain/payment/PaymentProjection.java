@@ -0,0 +1,19 @@
+package com.kayky.domain.payment;
+
+import com.kayky.domain.payment.enums.PaymentMethod;
+import com.kayky.domain.payment.enums.PaymentStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public interface PaymentProjection {
+    Long getId();
+    Long getPatientId();
+    String getPatientName();
+    Long getCashierId();
+    String getCashierName();
+    BigDecimal getAmount();
+    PaymentMethod getPaymentMethod();
+    PaymentStatus getStatus();
+    LocalDateTime getPaymentDate();
+}
@@ -1,11 +1,122 @@
 package com.kayky.domain.payment;
 
+import com.kayky.core.caching.ResourceVersion;
+import com.kayky.core.export.ExportWriter;
+import com.kayky.domain.payment.summary.PaymentSummaryRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface PaymentRepository extends JpaRepository<Payment, Long> {
-    List<Payment> findByPatientId(Long patientId);
+
+    String PROJECTION_QUERY = """
+            SELECT
+                p.id as id,
+                pa.id as patientId,
+                CONCAT(pa.firstName, ' ', pa.lastName) as patientName,
+                c.id as cashierId,
+                CONCAT(c.firstName, ' ', c.lastName) as cashierName,
+                p.amount as amount,
+                p.paymentMethod as paymentMethod,
+                p.status as status,
+                p.paymentDate as paymentDate
+            FROM Payment p
+            JOIN p.patient as pa
+            JOIN p.cashier as c
+            """;
+
+    @EntityGraph(attributePaths = {"patient", "cashier"})
+    Optional<Payment> findById(Long id);
+
+    @Query("""
+            SELECT p FROM Payment p
+            JOIN FETCH p.patient
+            JOIN FETCH p.cashier
+            WHERE p.id IN :ids
+            """)
+    List<Payment> findAllWithPartiesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(value = PROJECTION_QUERY,
+            countQuery = "SELECT COUNT(p) FROM Payment p")
+    Page<PaymentProjection> findAllProjected(Pageable pageable);
+
+    @Query(PROJECTION_QUERY)
+    Slice<PaymentProjection> findSliceProjected(Pageable pageable);
+
+    @Query(PROJECTION_QUERY + """
+            WHERE pa.id = :patientId
+            ORDER BY p.id ASC
+            """)
+    List<PaymentProjection> findByPatientIdProjected(@Param("patientId") Long patientId);
+
+    @Query(PROJECTION_QUERY + """
+            ORDER BY p.paymentDate ASC, p.id ASC
+            """)
+    List<PaymentProjection> findFirstPageProjected(Limit limit);
+
+    @Query(PROJECTION_QUERY + """
+            WHERE p.paymentDate > :paymentDate
+               OR (p.paymentDate = :paymentDate AND p.id > :id)
+            ORDER BY p.paymentDate ASC, p.id ASC
+            """)
+    List<PaymentProjection> findPageAfterProjected(@Param("paymentDate") LocalDateTime paymentDate,
+                                                   @Param("id") Long id, Limit limit);
+
+    @Query(PROJECTION_QUERY + """
+            WHERE p.paymentDate < :paymentDate
+               OR (p.paymentDate = :paymentDate AND p.id < :id)
+            ORDER BY p.paymentDate DESC, p.id DESC
+            """)
+    List<PaymentProjection> findPageBeforeProjected(@Param("paymentDate") LocalDateTime paymentDate,
+                                                    @Param("id") Long id, Limit limit);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = ExportWriter.FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(PROJECTION_QUERY + """
+            ORDER BY p.id ASC
+            """)
+    Stream<PaymentProjection> streamAllProjected();
+
+    @Query("""
+            SELECT new com.kayky.domain.payment.summary.PaymentSummaryRow(
+                CAST(p.paymentDate AS LocalDate), p.cashier.id, p.paymentMethod, p.status, SUM(p.amount), COUNT(p))
+            FROM Payment p
+            WHERE p.paymentDate >= :from AND p.paymentDate < :to
+            GROUP BY CAST(p.paymentDate AS LocalDate), p.cashier.id, p.paymentMethod, p.status
+            """)
+    List<PaymentSummaryRow> aggregateDaily(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query("SELECT MIN(p.paymentDate) FROM Payment p")
+    LocalDateTime findEarliestPaymentDate();
+
+    @Query("SELECT MAX(p.paymentDate) FROM Payment p")
+    LocalDateTime findLatestPaymentDate();
+
+    @Query("""
+            SELECT new com.kayky.core.caching.ResourceVersion(
+                CONCAT(CAST(p.version AS String), '-', CAST(pa.version AS String), '-', CAST(c.version AS String)))
+            FROM Payment p
+            JOIN p.patient as pa
+            JOIN p.cashier as c
+            WHERE p.id = :id
+            """)
+    Optional<ResourceVersion> findVersionById(@Param("id") Long id);
 }
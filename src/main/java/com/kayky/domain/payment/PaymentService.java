@@ -1,29 +1,64 @@
 package com.kayky.domain.payment;
 
+import com.kayky.core.caching.ResourceVersion;
+import com.kayky.core.exception.InvalidDateRangeException;
 import com.kayky.core.exception.ResourceNotFoundException;
+import com.kayky.core.export.ExportColumn;
+import com.kayky.core.export.ExportFormat;
+import com.kayky.core.export.ExportWriter;
+import com.kayky.core.pagination.CountMode;
+import com.kayky.core.pagination.CursorRequest;
 import com.kayky.core.pagination.PageResponse;
 import com.kayky.core.pagination.PageUtils;
-import com.kayky.domain.cashier.CashierRepository;
+import com.kayky.core.pagination.RowCountEstimator;
+import com.kayky.core.reference.Reference;
+import com.kayky.core.reference.ReferenceResolver;
+import com.kayky.domain.cashier.Cashier;
+import com.kayky.domain.patient.Patient;
 import com.kayky.domain.patient.PatientRepository;
 import com.kayky.domain.payment.request.PaymentBaseRequest;
 import com.kayky.domain.payment.response.PaymentBaseResponse;
+import com.kayky.domain.payment.response.PaymentSummaryResponse;
+import com.kayky.domain.payment.summary.PaymentDailyRollup;
+import com.kayky.domain.payment.summary.SummaryDimension;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Set;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class PaymentService {
 
+    private static final int MAX_SUMMARY_DAYS = 366;
+
+    private static final List<ExportColumn<PaymentProjection>> EXPORT_COLUMNS = List.of(
+            ExportColumn.of("id", PaymentProjection::getId),
+            ExportColumn.of("patientId", PaymentProjection::getPatientId),
+            ExportColumn.of("patientName", PaymentProjection::getPatientName),
+            ExportColumn.of("cashierId", PaymentProjection::getCashierId),
+            ExportColumn.of("cashierName", PaymentProjection::getCashierName),
+            ExportColumn.of("amount", PaymentProjection::getAmount),
+            ExportColumn.of("paymentMethod", PaymentProjection::getPaymentMethod),
+            ExportColumn.of("status", PaymentProjection::getStatus),
+            ExportColumn.of("paymentDate", PaymentProjection::getPaymentDate)
+    );
+
     private final PaymentRepository paymentRepository;
     private final PatientRepository patientRepository;
-    private final CashierRepository cashierRepository;
+    private final PaymentDailyRollup dailyRollup;
     private final PaymentMapper mapper;
+    private final RowCountEstimator rowCountEstimator;
+    private final ReferenceResolver referenceResolver;
 
     @Transactional(readOnly = true)
     public PaymentBaseResponse findById(Long id) {
@@ -36,36 +71,98 @@ public class PaymentService {
                 });
     }
 
+    @Transactional(readOnly = true)
+    public ResourceVersion findVersion(Long id) {
+        return paymentRepository.findVersionById(id)
+                .orElseThrow(() -> {
+                    log.warn("Payment not found with ID {}", id);
+
+                    return new ResourceNotFoundException("Payment not found");
+                });
+    }
+
     @Transactional(readOnly = true)
     public PageResponse<PaymentBaseResponse> findAll(Pageable pageable) {
-        var paginatedPayments = paymentRepository.findAll(pageable);
+        var paginatedPayments = paymentRepository.findAllProjected(pageable);
         return PageUtils.mapPage(paginatedPayments, mapper::toPaymentBaseResponse);
     }
 
+    @Transactional(readOnly = true)
+    public PageResponse<PaymentBaseResponse> findAll(Pageable pageable, CountMode countMode) {
+        return switch (countMode) {
+            case EXACT -> findAll(pageable);
+            case NONE -> PageUtils.mapSlice(paymentRepository.findSliceProjected(pageable), mapper::toPaymentBaseResponse);
+            case ESTIMATE -> PageUtils.mapSlice(paymentRepository.findSliceProjected(pageable),
+                    rowCountEstimator.estimate(Payment.class, paymentRepository::count), mapper::toPaymentBaseResponse);
+        };
+    }
+
+    @Transactional(readOnly = true)
+    public PageResponse<PaymentBaseResponse> findAllByCursor(CursorRequest request) {
+        var cursor = request.cursor();
+
+        List<PaymentProjection> payments;
+        if (request.isFirstPage()) {
+            payments = paymentRepository.findFirstPageProjected(request.limit());
+        } else if (cursor.isPrevious()) {
+            payments = paymentRepository.findPageBeforeProjected(cursor.keyAsDateTime(), cursor.id(), request.limit());
+        } else {
+            payments = paymentRepository.findPageAfterProjected(cursor.keyAsDateTime(), cursor.id(), request.limit());
+        }
+
+        return PageUtils.mapWindow(payments, request,
+                payment -> payment.getPaymentDate().toString(),
+                PaymentProjection::getId,
+                mapper::toPaymentBaseResponse);
+    }
+
+    @Transactional(readOnly = true)
+    public void export(ExportFormat format, OutputStream out) throws IOException {
+        try (var rows = paymentRepository.streamAllProjected()) {
+            long exported = ExportWriter.write(rows, EXPORT_COLUMNS, format, out);
+            log.debug("Exported {} payments as {}", exported, format);
+        }
+    }
+
     @Transactional(readOnly = true)
     public List<PaymentBaseResponse> findByPatient(Long patientId) {
-        patientRepository.findById(patientId)
-                .orElseThrow(() -> new ResourceNotFoundException("Patient not found"));
+        if (!patientRepository.existsById(patientId)) {
+            throw new ResourceNotFoundException("Patient not found");
+        }
 
-        return paymentRepository.findByPatientId(patientId).stream()
+        return paymentRepository.findByPatientIdProjected(patientId).stream()
                 .map(mapper::toPaymentBaseResponse)
                 .toList();
     }
 
+    @Transactional(readOnly = true)
+    public List<PaymentSummaryResponse> findSummary(LocalDate from, LocalDate to, Set<SummaryDimension> groupBy) {
+        if (to.isBefore(from)) {
+            throw new InvalidDateRangeException("to must not be before from");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_SUMMARY_DAYS) {
+            throw new InvalidDateRangeException("Summary range must not exceed " + MAX_SUMMARY_DAYS + " days");
+        }
+
+        var dimensions = groupBy == null || groupBy.isEmpty() ? Set.of(SummaryDimension.DAY) : groupBy;
+        return dailyRollup.summarize(from, to, dimensions).stream()
+                .map(mapper::toPaymentSummaryResponse)
+                .toList();
+    }
+
     @Transactional
     public PaymentBaseResponse save(PaymentBaseRequest request) {
-       var patient = patientRepository.findById(request.patientId())
-                .orElseThrow(() -> new ResourceNotFoundException("Patient not found"));
-
-       var cashier = cashierRepository.findById(request.cashierId())
-                .orElseThrow(() -> new ResourceNotFoundException("Cashier not found"));
+        referenceResolver.assertExist(
+                Reference.of(Patient.class, request.patientId(), "Patient not found"),
+                Reference.of(Cashier.class, request.cashierId(), "Cashier not found"));
 
         var paymentToSave = mapper.toEntity(request);
 
-        paymentToSave.setPatient(patient);
-        paymentToSave.setCashier(cashier);
+        paymentToSave.setPatient(referenceResolver.reference(Patient.class, request.patientId()));
+        paymentToSave.setCashier(referenceResolver.reference(Cashier.class, request.cashierId()));
 
         var savedPayment = paymentRepository.save(paymentToSave);
+        dailyRollup.record(savedPayment);
 
         return mapper.toPaymentBaseResponse(savedPayment);
     }
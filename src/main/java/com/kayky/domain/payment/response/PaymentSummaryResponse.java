@@ -0,0 +1,24 @@
+package com.kayky.domain.payment.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.kayky.domain.payment.enums.PaymentMethod;
+import com.kayky.domain.payment.enums.PaymentStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(
+        description = "Payment totals for one group; dimensions that were not grouped by are omitted"
+)
+public record PaymentSummaryResponse(
+        LocalDate date,
+        Long cashierId,
+        PaymentMethod paymentMethod,
+        PaymentStatus status,
+        BigDecimal totalAmount,
+        long paymentCount
+) {}
@@ -0,0 +1,101 @@
+package com.kayky.domain.payment.summary;
+
+import com.kayky.domain.payment.Payment;
+import com.kayky.domain.payment.PaymentRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+@Slf4j
+public class PaymentDailyRollup {
+
+    private final PaymentSummaryRepository summaryRepository;
+    private final PaymentSummaryBuckets buckets;
+    private final PaymentRepository paymentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+
+    @Value("${app.payment-summary.reconcile-days:7}")
+    private int reconcileDays;
+
+    public PaymentDailyRollup(PaymentSummaryRepository summaryRepository,
+                              PaymentSummaryBuckets buckets,
+                              PaymentRepository paymentRepository,
+                              PlatformTransactionManager transactionManager,
+                              Clock clock) {
+        this.summaryRepository = summaryRepository;
+        this.buckets = buckets;
+        this.paymentRepository = paymentRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.clock = clock;
+    }
+
+    @Transactional
+    public void record(Payment payment) {
+        var key = PaymentSummaryKey.of(payment);
+
+        int updated = summaryRepository.increment(key.getSummaryDate(), key.getCashierId(), key.getPaymentMethod(),
+                key.getStatus(), payment.getAmount(), 1);
+        if (updated == 0) {
+            throw new IllegalStateException("Payment %d was not recorded in summary bucket %s"
+                    .formatted(payment.getId(), key));
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public List<PaymentSummaryRow> summarize(LocalDate from, LocalDate to, Set<SummaryDimension> groupBy) {
+        return summaryRepository.findRowsBetween(from, to).stream()
+                .map(row -> row.retain(groupBy))
+                .collect(Collectors.toMap(PaymentSummaryRow::key, Function.identity(), PaymentSummaryRow::plus))
+                .values().stream()
+                .sorted((left, right) -> PaymentSummaryKey.ORDER.compare(left.key(), right.key()))
+                .toList();
+    }
+
+    @Transactional
+    public int rebuild(LocalDate from, LocalDate to) {
+        summaryRepository.lockBetween(from, to);
+        summaryRepository.deleteBetween(from, to);
+
+        var rows = paymentRepository.aggregateDaily(from.atStartOfDay(), to.plusDays(1).atStartOfDay());
+        buckets.insertAll(rows);
+
+        log.info("Payment summary rebuilt from {} to {} with {} buckets", from, to, rows.size());
+        return rows.size();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfEmpty() {
+        if (summaryRepository.count() > 0) {
+            return;
+        }
+
+        var earliest = paymentRepository.findEarliestPaymentDate();
+        var latest = paymentRepository.findLatestPaymentDate();
+        if (earliest != null && latest != null) {
+            transactionTemplate.executeWithoutResult(status -> rebuild(earliest.toLocalDate(), latest.toLocalDate()));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.payment-summary.reconcile-interval:PT1H}",
+            initialDelayString = "${app.payment-summary.reconcile-interval:PT1H}")
+    @Transactional
+    public void reconcile() {
+        var today = LocalDate.now(clock);
+        rebuild(today.minusDays(reconcileDays - 1L), today);
+    }
+}
@@ -0,0 +1,35 @@
+package com.kayky.domain.payment.summary;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Entity
+@Table(name = "tb_payment_daily_summary")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class PaymentDailySummary {
+
+    @EmbeddedId
+    @EqualsAndHashCode.Include
+    private PaymentSummaryKey key;
+
+    @Column(nullable = false, precision = 14, scale = 2)
+    private BigDecimal totalAmount;
+
+    @Column(nullable = false)
+    private long paymentCount;
+
+    public static PaymentDailySummary of(PaymentSummaryRow row) {
+        return new PaymentDailySummary(row.key(), row.totalAmount(), row.paymentCount());
+    }
+}
@@ -0,0 +1,21 @@
+package com.kayky.domain.payment.summary;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+
+@Repository
+public class PaymentSummaryBuckets {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Transactional
+    public void insertAll(Collection<PaymentSummaryRow> rows) {
+        rows.forEach(row -> entityManager.persist(PaymentDailySummary.of(row)));
+        entityManager.flush();
+    }
+}
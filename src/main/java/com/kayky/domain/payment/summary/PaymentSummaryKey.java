@@ -0,0 +1,61 @@
+package com.kayky.domain.payment.summary;
+
+import com.kayky.domain.payment.Payment;
+import com.kayky.domain.payment.enums.PaymentMethod;
+import com.kayky.domain.payment.enums.PaymentStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.Set;
+
+@Embeddable
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+@ToString
+public class PaymentSummaryKey implements Serializable {
+
+    public static final Comparator<PaymentSummaryKey> ORDER = Comparator
+            .comparing(PaymentSummaryKey::getSummaryDate, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(PaymentSummaryKey::getCashierId, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(PaymentSummaryKey::getPaymentMethod, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(PaymentSummaryKey::getStatus, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    @Column(name = "summary_date", nullable = false)
+    private LocalDate summaryDate;
+
+    @Column(name = "cashier_id", nullable = false)
+    private Long cashierId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "payment_method", nullable = false)
+    private PaymentMethod paymentMethod;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private PaymentStatus status;
+
+    public static PaymentSummaryKey of(Payment payment) {
+        return new PaymentSummaryKey(payment.getPaymentDate().toLocalDate(), payment.getCashier().getId(),
+                payment.getPaymentMethod(), payment.getStatus());
+    }
+
+    public PaymentSummaryKey retain(Set<SummaryDimension> dimensions) {
+        return new PaymentSummaryKey(
+                dimensions.contains(SummaryDimension.DAY) ? summaryDate : null,
+                dimensions.contains(SummaryDimension.CASHIER) ? cashierId : null,
+                dimensions.contains(SummaryDimension.METHOD) ? paymentMethod : null,
+                dimensions.contains(SummaryDimension.STATUS) ? status : null);
+    }
+}
@@ -0,0 +1,52 @@
+package com.kayky.domain.payment.summary;
+
+import com.kayky.domain.payment.enums.PaymentMethod;
+import com.kayky.domain.payment.enums.PaymentStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface PaymentSummaryRepository extends JpaRepository<PaymentDailySummary, PaymentSummaryKey> {
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            INSERT INTO PaymentDailySummary (key.summaryDate, key.cashierId, key.paymentMethod, key.status,
+                                             totalAmount, paymentCount)
+            VALUES (:summaryDate, :cashierId, :paymentMethod, :status, :amount, :count)
+            ON CONFLICT (key.summaryDate, key.cashierId, key.paymentMethod, key.status) DO UPDATE
+            SET totalAmount = totalAmount + excluded.totalAmount,
+                paymentCount = paymentCount + excluded.paymentCount
+            """)
+    int increment(@Param("summaryDate") LocalDate summaryDate,
+                  @Param("cashierId") Long cashierId,
+                  @Param("paymentMethod") PaymentMethod paymentMethod,
+                  @Param("status") PaymentStatus status,
+                  @Param("amount") BigDecimal amount,
+                  @Param("count") long count);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM PaymentDailySummary s WHERE s.key.summaryDate BETWEEN :from AND :to")
+    List<PaymentDailySummary> lockBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("""
+            SELECT new com.kayky.domain.payment.summary.PaymentSummaryRow(
+                s.key.summaryDate, s.key.cashierId, s.key.paymentMethod, s.key.status, s.totalAmount, s.paymentCount)
+            FROM PaymentDailySummary s
+            WHERE s.key.summaryDate BETWEEN :from AND :to
+              AND s.paymentCount > 0
+            """)
+    List<PaymentSummaryRow> findRowsBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM PaymentDailySummary s WHERE s.key.summaryDate BETWEEN :from AND :to")
+    int deleteBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+}
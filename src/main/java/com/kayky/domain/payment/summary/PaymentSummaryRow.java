@@ -0,0 +1,24 @@
+package com.kayky.domain.payment.summary;
+
+import com.kayky.domain.payment.enums.PaymentMethod;
+import com.kayky.domain.payment.enums.PaymentStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Set;
+
+public record PaymentSummaryRow(PaymentSummaryKey key, BigDecimal totalAmount, long paymentCount) {
+
+    public PaymentSummaryRow(LocalDate summaryDate, Long cashierId, PaymentMethod paymentMethod,
+                             PaymentStatus status, BigDecimal totalAmount, Long paymentCount) {
+        this(new PaymentSummaryKey(summaryDate, cashierId, paymentMethod, status), totalAmount, paymentCount);
+    }
+
+    public PaymentSummaryRow retain(Set<SummaryDimension> dimensions) {
+        return new PaymentSummaryRow(key.retain(dimensions), totalAmount, paymentCount);
+    }
+
+    public PaymentSummaryRow plus(PaymentSummaryRow other) {
+        return new PaymentSummaryRow(key, totalAmount.add(other.totalAmount), paymentCount + other.paymentCount);
+    }
+}
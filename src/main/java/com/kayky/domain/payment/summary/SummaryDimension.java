@@ -0,0 +1,8 @@
+package com.kayky.domain.payment.summary;
+
+public enum SummaryDimension {
+    DAY,
+    CASHIER,
+    METHOD,
+    STATUS
+}
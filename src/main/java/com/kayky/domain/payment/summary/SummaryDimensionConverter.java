@@ -0,0 +1,15 @@
+package com.kayky.domain.payment.summary;
+
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+@Component
+public class SummaryDimensionConverter implements Converter<String, SummaryDimension> {
+
+    @Override
+    public SummaryDimension convert(String source) {
+        return SummaryDimension.valueOf(source.trim().toUpperCase(Locale.ROOT));
+    }
+}
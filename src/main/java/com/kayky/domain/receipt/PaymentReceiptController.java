@@ -1,18 +1,26 @@
 package com.kayky.domain.receipt;
 
 import com.kayky.core.exception.ApiError;
+import com.kayky.core.exception.ValidationError;
+import com.kayky.core.idempotency.IdempotentExecutor;
+import com.kayky.domain.receipt.request.ReceiptBatchRequest;
 import com.kayky.domain.receipt.response.ReceiptBaseResponse;
+import com.kayky.domain.receipt.response.ReceiptBatchResponse;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -23,6 +31,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class PaymentReceiptController {
 
     private final ReceiptService receiptService;
+    private final IdempotentExecutor idempotency;
 
     @Operation(
             summary = "Emit receipt for a payment",
@@ -43,16 +52,48 @@ public class PaymentReceiptController {
             ),
             @ApiResponse(
                     responseCode = "409",
-                    description = "A receipt has already been issued for this payment",
+                    description = "A receipt has already been issued for this payment, " +
+                            "or a request with the same Idempotency-Key is still being processed",
                     content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                             schema = @Schema(implementation = ApiError.class))
             )
     })
     @PostMapping("/{paymentId}/receipt")
-    public ResponseEntity<ReceiptBaseResponse> emit(@PathVariable Long paymentId) {
+    public ResponseEntity<ReceiptBaseResponse> emit(@PathVariable Long paymentId,
+            @Parameter(description = "Client-generated key; retries with the same key replay the first receipt instead of a 409")
+            @RequestHeader(value = IdempotentExecutor.HEADER, required = false) String idempotencyKey) {
         log.debug("Request to emit receipt for payment {}", paymentId);
 
-        var response = receiptService.emit(paymentId);
+        return idempotency.execute("receipt", idempotencyKey, paymentId, ReceiptBaseResponse.class,
+                () -> ResponseEntity.ok(receiptService.emit(paymentId)));
+    }
+
+    @Operation(
+            summary = "Emit receipts for several payments",
+            description = "Emits receipts for up to 500 payments. Requests from concurrent callers are coalesced into "
+                    + "batched inserts, one transaction per batch. Each payment gets its own result with the status "
+                    + "the single-payment endpoint would return (200, 404 or 409), or 503 when the emission did not "
+                    + "finish within app.receipt.batch.timeout."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Emission processed; see each result for its outcome",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ReceiptBatchResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "422",
+                    description = "Validation failed for the request body",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ValidationError.class))
+            )
+    })
+    @PostMapping("/receipts")
+    public ResponseEntity<ReceiptBatchResponse> emitAll(@Valid @RequestBody ReceiptBatchRequest request) {
+        log.debug("Request to emit receipts for {} payments", request.paymentIds().size());
+
+        var response = receiptService.emitAll(request.paymentIds());
         return ResponseEntity.ok(response);
     }
-}
\ No newline at end of file
+}
@@ -1,5 +1,6 @@
 package com.kayky.domain.receipt;
 
+import com.kayky.core.id.PooledId;
 import com.kayky.domain.cashier.Cashier;
 import com.kayky.domain.patient.Patient;
 import com.kayky.domain.payment.Payment;
@@ -19,7 +20,7 @@ import java.time.LocalDateTime;
 public class Receipt {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledId("receipt")
     private Long id;
 
     @OneToOne
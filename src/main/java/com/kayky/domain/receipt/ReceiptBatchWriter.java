@@ -0,0 +1,71 @@
+package com.kayky.domain.receipt;
+
+import com.kayky.core.exception.ReceiptAlreadyExistsException;
+import com.kayky.domain.payment.Payment;
+import com.kayky.domain.payment.PaymentRepository;
+import com.kayky.domain.receipt.generator.ReceiptNumberGenerator;
+import com.kayky.domain.receipt.response.ReceiptEmissionResult;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+public class ReceiptBatchWriter {
+
+    private static final String PAYMENT_NOT_FOUND = "Payment not found";
+
+    private final ReceiptRepository receiptRepository;
+    private final PaymentRepository paymentRepository;
+    private final ReceiptMapper receiptMapper;
+    private final ReceiptNumberGenerator receiptNumberGenerator;
+    private final Clock clock;
+
+    @Transactional
+    public Map<Long, ReceiptEmissionResult> write(List<Long> paymentIds) {
+        Map<Long, Payment> payments = paymentRepository.findAllWithPartiesByIdIn(paymentIds).stream()
+                .collect(Collectors.toMap(Payment::getId, Function.identity()));
+        Set<Long> alreadyIssued = new HashSet<>(receiptRepository.findPaymentIdsWithReceipt(paymentIds));
+
+        var issuedAt = LocalDateTime.now(clock);
+        var results = new LinkedHashMap<Long, ReceiptEmissionResult>();
+        var receipts = new ArrayList<Receipt>();
+
+        for (Long paymentId : paymentIds) {
+            var payment = payments.get(paymentId);
+
+            if (payment == null) {
+                results.put(paymentId, ReceiptEmissionResult.failed(paymentId, HttpStatus.NOT_FOUND, PAYMENT_NOT_FOUND));
+            } else if (!alreadyIssued.add(paymentId)) {
+                results.put(paymentId, ReceiptEmissionResult.failed(paymentId, HttpStatus.CONFLICT,
+                        new ReceiptAlreadyExistsException(paymentId).getMessage()));
+            } else {
+                receipts.add(Receipt.builder()
+                        .payment(payment)
+                        .cashier(payment.getCashier())
+                        .patient(payment.getPatient())
+                        .issuedAt(issuedAt)
+                        .receiptNumber(receiptNumberGenerator.generate())
+                        .totalAmount(payment.getAmount())
+                        .build());
+            }
+        }
+
+        receiptRepository.saveAll(receipts).forEach(receipt -> results.put(receipt.getPayment().getId(),
+                ReceiptEmissionResult.emitted(receipt.getPayment().getId(), receiptMapper.toReceiptBaseResponse(receipt))));
+
+        return results;
+    }
+}
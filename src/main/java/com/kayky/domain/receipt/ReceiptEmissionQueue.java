@@ -0,0 +1,170 @@
+package com.kayky.domain.receipt;
+
+import com.kayky.core.exception.ReceiptAlreadyExistsException;
+import com.kayky.domain.receipt.response.ReceiptEmissionResult;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@Slf4j
+public class ReceiptEmissionQueue {
+
+    private record Pending(Long paymentId, CompletableFuture<ReceiptEmissionResult> result) {
+    }
+
+    private final BlockingQueue<Pending> queue = new LinkedBlockingQueue<>();
+    private final ReceiptBatchWriter writer;
+    private final int maxBatchSize;
+    private final Duration linger;
+    private final Duration timeout;
+
+    private Thread worker;
+    private volatile boolean stopped;
+
+    public ReceiptEmissionQueue(ReceiptBatchWriter writer,
+                                @Value("${app.receipt.batch.max-size:100}") int maxBatchSize,
+                                @Value("${app.receipt.batch.linger:10ms}") Duration linger,
+                                @Value("${app.receipt.batch.timeout:30s}") Duration timeout) {
+        this.writer = writer;
+        this.maxBatchSize = maxBatchSize;
+        this.linger = linger;
+        this.timeout = timeout;
+    }
+
+    @PostConstruct
+    public void start() {
+        worker = Thread.ofPlatform()
+                .name("receipt-emission")
+                .daemon()
+                .start(this::drain);
+    }
+
+    @PreDestroy
+    public void stop() {
+        stopped = true;
+        if (worker != null) {
+            worker.interrupt();
+        }
+        rejectQueued();
+    }
+
+    public List<CompletableFuture<ReceiptEmissionResult>> submit(List<Long> paymentIds) {
+        var futures = new ArrayList<CompletableFuture<ReceiptEmissionResult>>(paymentIds.size());
+        for (Long paymentId : paymentIds) {
+            var pending = new Pending(paymentId, new CompletableFuture<>());
+            pending.result().orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            queue.add(pending);
+            futures.add(pending.result());
+        }
+
+        if (stopped) {
+            rejectQueued();
+        }
+        return futures;
+    }
+
+    private void rejectQueued() {
+        var rejected = new ArrayList<Pending>();
+        queue.drainTo(rejected);
+        rejected.forEach(pending -> pending.result().completeExceptionally(
+                new IllegalStateException("Receipt emission queue is shut down")));
+    }
+
+    private void drain() {
+        var batch = new ArrayList<Pending>(maxBatchSize);
+
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                batch.add(queue.take());
+                long deadline = System.nanoTime() + linger.toNanos();
+
+                while (batch.size() < maxBatchSize) {
+                    var next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                emit(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                log.error("Unexpected failure emitting a batch of {} receipts", batch.size(), e);
+                batch.forEach(pending -> pending.result().complete(ReceiptEmissionResult.failed(
+                        pending.paymentId(), HttpStatus.INTERNAL_SERVER_ERROR, "Receipt emission failed")));
+            } finally {
+                batch.forEach(pending -> pending.result().completeExceptionally(
+                        new IllegalStateException("Receipt emission was interrupted")));
+                batch.clear();
+            }
+        }
+    }
+
+    private void emit(List<Pending> batch) {
+        var paymentIds = List.copyOf(new LinkedHashSet<>(batch.stream().map(Pending::paymentId).toList()));
+
+        try {
+            complete(batch, writer.write(paymentIds));
+        } catch (DataIntegrityViolationException e) {
+            log.warn("Batch of {} receipts conflicted with a concurrent emission, retrying one by one", paymentIds.size());
+            paymentIds.forEach(paymentId -> complete(batch, writeOne(paymentId)));
+        } catch (RuntimeException e) {
+            log.error("Failed to emit a batch of {} receipts", paymentIds.size(), e);
+            batch.forEach(pending -> pending.result().complete(ReceiptEmissionResult.failed(
+                    pending.paymentId(), HttpStatus.INTERNAL_SERVER_ERROR, "Receipt emission failed")));
+        }
+    }
+
+    private Map<Long, ReceiptEmissionResult> writeOne(Long paymentId) {
+        try {
+            try {
+                return writer.write(List.of(paymentId));
+            } catch (DataIntegrityViolationException e) {
+                return writer.write(List.of(paymentId));
+            }
+        } catch (DataIntegrityViolationException e) {
+            log.warn("Receipt for payment {} kept conflicting with a concurrent emission", paymentId);
+            return Map.of(paymentId, ReceiptEmissionResult.failed(paymentId, HttpStatus.CONFLICT,
+                    new ReceiptAlreadyExistsException(paymentId).getMessage()));
+        } catch (RuntimeException e) {
+            log.error("Failed to emit the receipt for payment {}", paymentId, e);
+            return Map.of(paymentId, ReceiptEmissionResult.failed(paymentId, HttpStatus.INTERNAL_SERVER_ERROR,
+                    "Receipt emission failed"));
+        }
+    }
+
+    private static void complete(List<Pending> batch, Map<Long, ReceiptEmissionResult> results) {
+        var completed = new HashSet<Long>();
+
+        for (Pending pending : batch) {
+            var result = results.get(pending.paymentId());
+            if (result == null || pending.result().isDone()) {
+                continue;
+            }
+
+            if (completed.add(pending.paymentId())) {
+                pending.result().complete(result);
+            } else {
+                pending.result().complete(ReceiptEmissionResult.failed(pending.paymentId(), HttpStatus.CONFLICT,
+                        new ReceiptAlreadyExistsException(pending.paymentId()).getMessage()));
+            }
+        }
+    }
+}
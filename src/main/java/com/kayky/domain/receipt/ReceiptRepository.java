@@ -1,7 +1,15 @@
 package com.kayky.domain.receipt;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface ReceiptRepository extends JpaRepository<Receipt, Long> {
     boolean existsByPaymentId(Long paymentId);
+
+    @Query("SELECT r.payment.id FROM Receipt r WHERE r.payment.id IN :paymentIds")
+    List<Long> findPaymentIdsWithReceipt(@Param("paymentIds") Collection<Long> paymentIds);
 }
@@ -5,15 +5,26 @@ import com.kayky.core.exception.ResourceNotFoundException;
 import com.kayky.domain.payment.PaymentRepository;
 import com.kayky.domain.receipt.generator.ReceiptNumberGenerator;
 import com.kayky.domain.receipt.response.ReceiptBaseResponse;
+import com.kayky.domain.receipt.response.ReceiptBatchResponse;
+import com.kayky.domain.receipt.response.ReceiptEmissionResult;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Clock;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class ReceiptService {
 
     private final ReceiptRepository receiptRepository;
@@ -21,7 +32,9 @@ public class ReceiptService {
     private final ReceiptMapper receiptMapper;
     private final ReceiptNumberGenerator receiptNumberGenerator;
     private final Clock clock;
+    private final ReceiptEmissionQueue receiptEmissionQueue;
 
+    @Transactional
     public ReceiptBaseResponse emit(Long paymentId){
         var payment = paymentRepository.findById(paymentId)
                 .orElseThrow(() -> new ResourceNotFoundException("Payment not found"));
@@ -44,4 +57,27 @@ public class ReceiptService {
         return receiptMapper.toReceiptBaseResponse(savedReceipt);
     }
 
+    public ReceiptBatchResponse emitAll(List<Long> paymentIds) {
+        var futures = receiptEmissionQueue.submit(paymentIds);
+
+        var results = new ArrayList<ReceiptEmissionResult>(futures.size());
+        for (int i = 0; i < futures.size(); i++) {
+            results.add(await(paymentIds.get(i), futures.get(i)));
+        }
+
+        return ReceiptBatchResponse.of(results);
+    }
+
+    private static ReceiptEmissionResult await(Long paymentId, CompletableFuture<ReceiptEmissionResult> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            var error = e.getCause() instanceof TimeoutException
+                    ? "Receipt emission timed out, check whether the receipt exists before retrying"
+                    : "Receipt emission is unavailable";
+            log.warn("Receipt for payment {} was not emitted: {}", paymentId, error);
+            return ReceiptEmissionResult.failed(paymentId, HttpStatus.SERVICE_UNAVAILABLE, error);
+        }
+    }
+
 }
@@ -1,10 +1,12 @@
 package com.kayky.domain.receipt.generator;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 import java.util.UUID;
 
 @Component
+@ConditionalOnProperty(name = "app.receipt.number.strategy", havingValue = "random")
 public class RandomReceiptNumberGenerator implements ReceiptNumberGenerator {
 
     @Override
@@ -0,0 +1,55 @@
+package com.kayky.domain.receipt.generator;
+
+import com.kayky.core.id.PooledIdGenerator;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Repository
+public class ReceiptNumberBlocks {
+
+    private static final String SELECT = "SELECT " + PooledIdGenerator.VALUE_COLUMN + " FROM " + PooledIdGenerator.TABLE
+            + " WHERE " + PooledIdGenerator.SEGMENT_COLUMN + " = ?";
+    private static final String INSERT = "INSERT INTO " + PooledIdGenerator.TABLE
+            + " (" + PooledIdGenerator.SEGMENT_COLUMN + ", " + PooledIdGenerator.VALUE_COLUMN + ") VALUES (?, ?)";
+    private static final String ADVANCE = "UPDATE " + PooledIdGenerator.TABLE
+            + " SET " + PooledIdGenerator.VALUE_COLUMN + " = ?"
+            + " WHERE " + PooledIdGenerator.SEGMENT_COLUMN + " = ? AND " + PooledIdGenerator.VALUE_COLUMN + " = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public ReceiptNumberBlocks(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public long reserve(String segment, int size) {
+        while (true) {
+            Long start = transactionTemplate.execute(status -> tryReserve(segment, size));
+            if (start != null) {
+                return start;
+            }
+        }
+    }
+
+    private Long tryReserve(String segment, int size) {
+        var current = jdbcTemplate.queryForList(SELECT, Long.class, segment);
+
+        if (current.isEmpty()) {
+            try {
+                jdbcTemplate.update(INSERT, segment, 1L + size);
+                return 1L;
+            } catch (DuplicateKeyException e) {
+                return null;
+            }
+        }
+
+        long start = current.getFirst();
+        return jdbcTemplate.update(ADVANCE, start + size, segment, start) == 1 ? start : null;
+    }
+}
@@ -0,0 +1,62 @@
+package com.kayky.domain.receipt.generator;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Year;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+@ConditionalOnProperty(name = "app.receipt.number.strategy", havingValue = "sequential", matchIfMissing = true)
+public class SequentialReceiptNumberGenerator implements ReceiptNumberGenerator {
+
+    static final String SEGMENT_PREFIX = "receipt-number-";
+
+    private record Block(int year, AtomicLong next, long end) {
+
+        long take() {
+            long number = next.getAndIncrement();
+            return number < end ? number : -1;
+        }
+    }
+
+    private final ReceiptNumberBlocks blocks;
+    private final Clock clock;
+    private final int blockSize;
+
+    private volatile Block current;
+
+    public SequentialReceiptNumberGenerator(ReceiptNumberBlocks blocks, Clock clock,
+                                            @Value("${app.receipt.number.block-size:100}") int blockSize) {
+        this.blocks = blocks;
+        this.clock = clock;
+        this.blockSize = blockSize;
+    }
+
+    @Override
+    public String generate() {
+        int year = Year.now(clock).getValue();
+
+        while (true) {
+            var block = current;
+            if (block != null && block.year() == year) {
+                long number = block.take();
+                if (number >= 0) {
+                    return "RCT-%d-%08d".formatted(year, number);
+                }
+            }
+            refill(block, year);
+        }
+    }
+
+    private synchronized void refill(Block exhausted, int year) {
+        if (current != exhausted) {
+            return;
+        }
+
+        long start = blocks.reserve(SEGMENT_PREFIX + year, blockSize);
+        current = new Block(year, new AtomicLong(start), start + blockSize);
+    }
+}
@@ -0,0 +1,26 @@
+package com.kayky.domain.receipt.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+@Schema(
+        description = "Request payload for emitting receipts for several payments at once"
+)
+public record ReceiptBatchRequest(
+
+        @Schema(
+                description = "Identifiers of the payments to emit receipts for",
+                example = "[12, 13, 14]"
+        )
+        @NotEmpty(message = "Payment IDs are required")
+        @Size(max = 500, message = "At most 500 payments can be emitted per request")
+        List<@NotNull(message = "Payment ID is required")
+             @Positive(message = "Payment ID must be greater than zero") Long> paymentIds
+) {}
@@ -0,0 +1,25 @@
+package com.kayky.domain.receipt.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(name = "ReceiptBatchResponse", description = "Per-payment outcomes of a bulk receipt emission, in request order")
+public record ReceiptBatchResponse(
+        @Schema(description = "Number of receipts emitted",
+                example = "2")
+        long emitted,
+
+        @Schema(description = "Number of payments whose receipt was not emitted",
+                example = "1")
+        long failed,
+
+        @Schema(description = "Outcome for each requested payment")
+        List<ReceiptEmissionResult> results
+) {
+
+    public static ReceiptBatchResponse of(List<ReceiptEmissionResult> results) {
+        long emitted = results.stream().filter(result -> result.receipt() != null).count();
+        return new ReceiptBatchResponse(emitted, results.size() - emitted, results);
+    }
+}
@@ -0,0 +1,33 @@
+package com.kayky.domain.receipt.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.springframework.http.HttpStatus;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(name = "ReceiptEmissionResult", description = "Outcome of emitting the receipt for a single payment")
+public record ReceiptEmissionResult(
+        @Schema(description = "Identifier of the payment",
+                example = "12")
+        Long paymentId,
+
+        @Schema(description = "HTTP status the single-payment endpoint would have returned",
+                example = "200")
+        int status,
+
+        @Schema(description = "Error message when the receipt was not emitted",
+                example = "Receipt already exists for payment id 12")
+        String error,
+
+        @Schema(description = "Emitted receipt, present only when status is 200")
+        ReceiptBaseResponse receipt
+) {
+
+    public static ReceiptEmissionResult emitted(Long paymentId, ReceiptBaseResponse receipt) {
+        return new ReceiptEmissionResult(paymentId, HttpStatus.OK.value(), null, receipt);
+    }
+
+    public static ReceiptEmissionResult failed(Long paymentId, HttpStatus status, String error) {
+        return new ReceiptEmissionResult(paymentId, status.value(), error, null);
+    }
+}
@@ -1,6 +1,8 @@
 package com.kayky.domain.report;
 
 
+import com.kayky.core.id.PooledId;
+import com.kayky.core.pagination.RowCountListener;
 import com.kayky.domain.doctor.Doctor;
 import com.kayky.domain.operation.Operation;
 import com.kayky.domain.patient.Patient;
@@ -15,7 +17,7 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "tb_report")
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, RowCountListener.class})
 @Getter
 @Setter
 @Builder
@@ -24,9 +26,13 @@ import java.time.LocalDateTime;
 public class Report {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledId("report")
     private Long id;
 
+    @Version
+    @Column(columnDefinition = "BIGINT DEFAULT 0")
+    private Long version;
+
     @Column(nullable = false, length = 150)
     private String title;
 
@@ -0,0 +1,16 @@
+package com.kayky.domain.report;
+
+public interface ReportConsistencyProjection {
+
+    Long getPatientCount();
+
+    Long getDoctorCount();
+
+    Long getOperationId();
+
+    Long getOperationPatientId();
+
+    Long getOperationDoctorId();
+
+    Long getExistingReportId();
+}
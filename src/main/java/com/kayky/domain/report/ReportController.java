@@ -1,11 +1,18 @@
 package com.kayky.domain.report;
 
+import com.kayky.core.caching.ConditionalResponses;
 import com.kayky.core.exception.ApiError;
 import com.kayky.core.exception.ValidationError;
+import com.kayky.core.export.ExportFormat;
+import com.kayky.core.pagination.CountMode;
+import com.kayky.core.pagination.CursorRequest;
 import com.kayky.core.pagination.PageResponse;
 import com.kayky.domain.report.request.ReportBaseRequest;
 import com.kayky.domain.report.response.ReportBaseResponse;
+import com.kayky.domain.report.response.ReportSearchResponse;
+import com.kayky.domain.report.response.ReportSummaryResponse;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -16,12 +23,18 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
+import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping(value = "v1/report")
@@ -48,19 +61,50 @@ public class ReportController {
                     description = "Report not found",
                     content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                             schema = @Schema(implementation = ApiError.class))
-            )
+            ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Not modified since the ETag or date sent in If-None-Match/If-Modified-Since")
     })
-    @GetMapping("/{id}")
-    public ResponseEntity<ReportBaseResponse> findById(@PathVariable Long id) {
+    @GetMapping(value = "/{id}")
+    public ResponseEntity<ReportBaseResponse> findById(@PathVariable Long id, WebRequest request) {
         log.debug("request to find report by id {}", id);
 
-        var response = service.findById(id);
+        var version = service.findVersion(id);
+        return ConditionalResponses.okIfModified(request, version, () -> service.findById(id));
+    }
+
+    @Operation(
+            summary = "Find report fields by ID",
+            description = "Retrieves only the requested comma-separated fields of the report"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Selected fields returned successfully"),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Unknown field requested",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ApiError.class))),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Report not found",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ApiError.class)))
+    })
+    @GetMapping(value = "/{id}", params = "fields")
+    public ResponseEntity<Map<String, Object>> findByIdSparse(@PathVariable Long id, @RequestParam String fields) {
+        log.debug("Request to find report {} with fields {}", id, fields);
+
+        var response = service.findByIdSparse(id, fields);
         return ResponseEntity.ok(response);
     }
 
     @Operation(
             summary = "List all reports",
-            description = "Returns a paginated list off all registered reports"
+            description = "Returns a paginated list off all registered reports. " +
+                    "The full description is omitted; fetch a report by ID to read it"
     )
     @ApiResponse(
             responseCode = "200",
@@ -69,9 +113,120 @@ public class ReportController {
                     schema = @Schema(implementation = PageResponse.class))
     )
     @GetMapping
-    public PageResponse<ReportBaseResponse> findAllPaged(@ParameterObject Pageable pageable) {
+    public PageResponse<ReportSummaryResponse> findAllPaged(@ParameterObject Pageable pageable,
+            @Parameter(description = "Total count strategy: exact, estimate or none")
+            @RequestParam(defaultValue = "exact") CountMode count) {
         log.debug("request received to list all reports");
-        return service.findAll(pageable);
+        return service.findAll(pageable, count);
+    }
+
+    @Operation(
+            summary = "List reports by cursor",
+            description = "Returns a keyset-paginated list of reports ordered by ID. " +
+                    "Send an empty cursor for the first page and the returned next/prev tokens afterwards"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Page of reports returned successfully",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = PageResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid pagination cursor",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ApiError.class))
+            )
+    })
+    @GetMapping(params = "cursor")
+    public PageResponse<ReportSummaryResponse> findAllByCursor(@RequestParam String cursor, @ParameterObject Pageable pageable) {
+        log.debug("Request received to list reports by cursor");
+        return service.findAllByCursor(CursorRequest.of(cursor, pageable.getPageSize()));
+    }
+
+    @Operation(
+            summary = "List reports with selected fields",
+            description = "Returns only the requested comma-separated fields (e.g. id,status,patient.name), " +
+                    "selecting just those columns and joins. Totals are not counted; use hasNext to continue"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Selected fields returned successfully",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = PageResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Unknown field requested",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ApiError.class))
+            )
+    })
+    @GetMapping(params = {"fields", "!cursor"})
+    public PageResponse<Map<String, Object>> findAllSparse(@RequestParam String fields, @ParameterObject Pageable pageable) {
+        log.debug("Request received to list reports with fields {}", fields);
+        return service.findAllSparse(fields, pageable);
+    }
+
+    @Operation(
+            summary = "Search reports",
+            description = "Full-text search over title, description, diagnosis and treatment plan, ranked by relevance. " +
+                    "Accents and case are ignored and a trailing * matches any word starting with the given prefix"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Matching reports ordered by descending score",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ReportSearchResponse.class))
+            )
+    })
+    @GetMapping("/search")
+    public List<ReportSearchResponse> search(
+            @Parameter(description = "Search terms", example = "fratura tibia pos-op*")
+            @RequestParam String q,
+            @Parameter(description = "Maximum number of results (1 to 100)")
+            @RequestParam(defaultValue = "20") int limit) {
+        log.debug("Request to search reports for '{}'", q);
+        return service.search(q, limit);
+    }
+
+    @Operation(
+            summary = "Export all reports",
+            description = "Streams every report as NDJSON (default) or CSV without loading the dataset into memory"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Export streamed successfully",
+                    content = {
+                            @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE),
+                            @Content(mediaType = "text/csv")
+                    }
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Unsupported export format",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ApiError.class))
+            )
+    })
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(defaultValue = "ndjson") ExportFormat format) {
+        log.debug("Request received to export reports as {}", format);
+
+        StreamingResponseBody body = out -> service.export(format, out);
+
+        var disposition = ContentDisposition.attachment()
+                .filename("reports." + format.getExtension())
+                .build();
+
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                .body(body);
     }
 
     @Operation(
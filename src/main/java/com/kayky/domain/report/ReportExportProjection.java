@@ -0,0 +1,21 @@
+package com.kayky.domain.report;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public interface ReportExportProjection {
+    Long getId();
+    String getTitle();
+    String getDescription();
+    String getDiagnosis();
+    String getTreatmentPlan();
+    LocalDate getReportDate();
+    ReportStatus getStatus();
+    Long getPatientId();
+    String getPatientName();
+    Long getDoctorId();
+    String getDoctorName();
+    Long getOperationId();
+    LocalDateTime getCreatedAt();
+    LocalDateTime getUpdatedAt();
+}
@@ -9,6 +9,9 @@ import com.kayky.domain.patient.Patient;
 import com.kayky.domain.patient.PatientMapper;
 import com.kayky.domain.report.request.ReportBaseRequest;
 import com.kayky.domain.report.response.ReportBaseResponse;
+import com.kayky.domain.report.response.ReportSearchResponse;
+import com.kayky.domain.report.response.ReportSummaryResponse;
+import com.kayky.domain.report.search.ReportSearchSummary;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
@@ -22,7 +25,18 @@ public interface ReportMapper {
     @Mapping(target = "operation", source = "operation", qualifiedByName = "toOperationInfo")
     ReportBaseResponse toReportBaseResponse(Report report);
 
+    @Mapping(target = "patient", expression = "java(new ReportBaseResponse.PatientInfo(report.getPatientId(), report.getPatientName()))")
+    @Mapping(target = "doctor", expression = "java(report.getDoctorId() == null ? null : " +
+            "new ReportBaseResponse.DoctorInfo(report.getDoctorId(), report.getDoctorName()))")
+    @Mapping(target = "operation", expression = "java(report.getOperationId() == null ? null : " +
+            "new ReportBaseResponse.OperationInfo(report.getOperationId(), report.getOperationDescription(), " +
+            "report.getOperationScheduledAt(), report.getOperationStatus().name()))")
+    ReportSummaryResponse toReportSummaryResponse(ReportSummaryProjection report);
+
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
     @Mapping(target = "title", source = "request.title")
     @Mapping(target = "description", source = "request.description")
     @Mapping(target = "diagnosis", source = "request.diagnosis")
@@ -35,6 +49,9 @@ public interface ReportMapper {
     Report toEntity(ReportBaseRequest request, Patient patient, Doctor doctor, Operation operation);
 
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
     @Mapping(target = "title", source = "request.title")
     @Mapping(target = "description", source = "request.description")
     @Mapping(target = "diagnosis", source = "request.diagnosis")
@@ -45,4 +62,6 @@ public interface ReportMapper {
     @Mapping(target = "doctor", source = "doctor")
     @Mapping(target = "operation", source = "operation")
     void updateReportFromRequest(ReportBaseRequest request,Patient patient, Doctor doctor, Operation operation, @MappingTarget Report report);
-}
\ No newline at end of file
+
+    ReportSearchResponse toReportSearchResponse(ReportSearchSummary summary, double score);
+}
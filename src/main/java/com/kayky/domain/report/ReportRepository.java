@@ -1,9 +1,169 @@
 package com.kayky.domain.report;
 
+import com.kayky.core.caching.ResourceVersion;
+import com.kayky.core.export.ExportWriter;
+import com.kayky.domain.report.search.ReportSearchDocument;
+import com.kayky.domain.report.search.ReportSearchSummary;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 @Repository
 public interface ReportRepository extends JpaRepository<Report, Long> {
-    boolean existsByOperationId(Long id);
+
+    String PROJECTION_QUERY = """
+            SELECT
+                r.id as id,
+                r.title as title,
+                r.diagnosis as diagnosis,
+                r.treatmentPlan as treatmentPlan,
+                r.reportDate as reportDate,
+                r.status as status,
+                p.id as patientId,
+                p.firstName as patientName,
+                d.id as doctorId,
+                d.firstName as doctorName,
+                o.id as operationId,
+                o.description as operationDescription,
+                o.scheduledAt as operationScheduledAt,
+                o.status as operationStatus,
+                r.createdAt as createdAt,
+                r.updatedAt as updatedAt
+            FROM Report r
+            JOIN r.patient as p
+            LEFT JOIN r.doctor as d
+            LEFT JOIN r.operation as o
+            """;
+
+    @Query(value = """
+            SELECT (SELECT COUNT(*) FROM tb_patient p WHERE p.id = :patientId) AS patientCount,
+                   (SELECT COUNT(*) FROM tb_doctor d WHERE d.id = :doctorId) AS doctorCount,
+                   o.id AS operationId,
+                   o.patient_id AS operationPatientId,
+                   o.doctor_id AS operationDoctorId,
+                   (SELECT MIN(r.id) FROM tb_report r WHERE r.operation_id = o.id) AS existingReportId
+            FROM (SELECT 1 AS anchor) single_row
+            LEFT JOIN tb_operation o ON o.id = :operationId
+            """, nativeQuery = true)
+    ReportConsistencyProjection findConsistency(@Param("patientId") Long patientId,
+                                                @Param("doctorId") Long doctorId,
+                                                @Param("operationId") Long operationId);
+
+    @Query(value = PROJECTION_QUERY,
+            countQuery = "SELECT COUNT(r) FROM Report r")
+    Page<ReportSummaryProjection> findAllProjected(Pageable pageable);
+
+    @Query(PROJECTION_QUERY)
+    Slice<ReportSummaryProjection> findSliceProjected(Pageable pageable);
+
+    @Query(PROJECTION_QUERY + """
+            ORDER BY r.id ASC
+            """)
+    List<ReportSummaryProjection> findFirstPageProjected(Limit limit);
+
+    @Query(PROJECTION_QUERY + """
+            WHERE r.id > :id
+            ORDER BY r.id ASC
+            """)
+    List<ReportSummaryProjection> findPageAfterProjected(@Param("id") Long id, Limit limit);
+
+    @Query(PROJECTION_QUERY + """
+            WHERE r.id < :id
+            ORDER BY r.id DESC
+            """)
+    List<ReportSummaryProjection> findPageBeforeProjected(@Param("id") Long id, Limit limit);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = ExportWriter.FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            SELECT
+                r.id as id,
+                r.title as title,
+                r.description as description,
+                r.diagnosis as diagnosis,
+                r.treatmentPlan as treatmentPlan,
+                r.reportDate as reportDate,
+                r.status as status,
+                p.id as patientId,
+                CONCAT(p.firstName, ' ', p.lastName) as patientName,
+                d.id as doctorId,
+                CONCAT(d.firstName, ' ', d.lastName) as doctorName,
+                o.id as operationId,
+                r.createdAt as createdAt,
+                r.updatedAt as updatedAt
+            FROM Report r
+            JOIN r.patient as p
+            LEFT JOIN r.doctor as d
+            LEFT JOIN r.operation as o
+            ORDER BY r.id ASC
+            """)
+    Stream<ReportExportProjection> streamAllProjected();
+
+    @Query("""
+            SELECT new com.kayky.core.caching.ResourceVersion(
+                CONCAT(CAST(r.version AS String), '-', CAST(p.version AS String),
+                       '-', COALESCE(CAST(d.version AS String), '0'),
+                       '-', COALESCE(CAST(o.version AS String), '0')))
+            FROM Report r
+            JOIN r.patient as p
+            LEFT JOIN r.doctor as d
+            LEFT JOIN r.operation as o
+            WHERE r.id = :id
+            """)
+    Optional<ResourceVersion> findVersionById(@Param("id") Long id);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = ExportWriter.FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            SELECT new com.kayky.domain.report.search.ReportSearchDocument(
+                r.id, r.title, r.description, r.diagnosis, r.treatmentPlan)
+            FROM Report r
+            """)
+    Stream<ReportSearchDocument> streamSearchDocuments();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = ExportWriter.FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            SELECT new com.kayky.domain.report.search.ReportSearchDocument(
+                r.id, r.title, r.description, r.diagnosis, r.treatmentPlan)
+            FROM Report r
+            WHERE r.updatedAt >= :since
+            """)
+    Stream<ReportSearchDocument> streamSearchDocumentsUpdatedSince(@Param("since") LocalDateTime since);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = ExportWriter.FETCH_SIZE))
+    @Query("SELECT r.id FROM Report r")
+    Stream<Long> streamAllIds();
+
+    @Query("""
+            SELECT new com.kayky.domain.report.search.ReportSearchSummary(
+                r.id, r.title, r.reportDate, r.status,
+                p.id, CONCAT(p.firstName, ' ', p.lastName),
+                d.id, CONCAT(d.firstName, ' ', d.lastName))
+            FROM Report r
+            JOIN r.patient as p
+            LEFT JOIN r.doctor as d
+            WHERE r.id IN :ids
+            """)
+    List<ReportSearchSummary> findSearchSummaries(@Param("ids") Collection<Long> ids);
 }
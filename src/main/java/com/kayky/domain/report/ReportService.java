@@ -1,11 +1,27 @@
 package com.kayky.domain.report;
 
+import com.kayky.core.caching.ResourceVersion;
 import com.kayky.core.exception.ReportAlreadyExistsException;
 import com.kayky.core.exception.ResourceNotFoundException;
+import com.kayky.core.export.ExportColumn;
+import com.kayky.core.export.ExportFormat;
+import com.kayky.core.export.ExportWriter;
+import com.kayky.core.fieldset.SparseField;
+import com.kayky.core.fieldset.SparseFieldset;
+import com.kayky.core.fieldset.SparseFieldsetRepository;
+import com.kayky.core.pagination.CountMode;
+import com.kayky.core.pagination.CursorRequest;
 import com.kayky.core.pagination.PageResponse;
 import com.kayky.core.pagination.PageUtils;
+import com.kayky.core.pagination.RowCountEstimator;
+import com.kayky.core.search.SearchHit;
 import com.kayky.domain.report.request.ReportBaseRequest;
 import com.kayky.domain.report.response.ReportBaseResponse;
+import com.kayky.domain.report.response.ReportSearchResponse;
+import com.kayky.domain.report.response.ReportSummaryResponse;
+import com.kayky.domain.report.search.ReportSearchDocument;
+import com.kayky.domain.report.search.ReportSearchIndex;
+import com.kayky.domain.report.search.ReportSearchSummary;
 import com.kayky.domain.report.validator.ReportValidator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -13,14 +29,55 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class ReportService {
 
+    private static final List<ExportColumn<ReportExportProjection>> EXPORT_COLUMNS = List.of(
+            ExportColumn.of("id", ReportExportProjection::getId),
+            ExportColumn.of("title", ReportExportProjection::getTitle),
+            ExportColumn.of("description", ReportExportProjection::getDescription),
+            ExportColumn.of("diagnosis", ReportExportProjection::getDiagnosis),
+            ExportColumn.of("treatmentPlan", ReportExportProjection::getTreatmentPlan),
+            ExportColumn.of("reportDate", ReportExportProjection::getReportDate),
+            ExportColumn.of("status", ReportExportProjection::getStatus),
+            ExportColumn.of("patientId", ReportExportProjection::getPatientId),
+            ExportColumn.of("patientName", ReportExportProjection::getPatientName),
+            ExportColumn.of("doctorId", ReportExportProjection::getDoctorId),
+            ExportColumn.of("doctorName", ReportExportProjection::getDoctorName),
+            ExportColumn.of("operationId", ReportExportProjection::getOperationId),
+            ExportColumn.of("createdAt", ReportExportProjection::getCreatedAt),
+            ExportColumn.of("updatedAt", ReportExportProjection::getUpdatedAt)
+    );
+
+    private static final SparseFieldset<Report> FIELDSET = SparseFieldset.builder(Report.class)
+            .attributes("id", "title", "description", "diagnosis", "treatmentPlan", "reportDate", "status",
+                    "createdAt", "updatedAt", "patient.id", "doctor.id",
+                    "operation.id", "operation.description", "operation.scheduledAt", "operation.status")
+            .field(SparseField.fullName("patient.name", "patient"))
+            .field(SparseField.fullName("doctor.name", "doctor"))
+            .group("patient", "patient.id", "patient.name")
+            .group("doctor", "doctor.id", "doctor.name")
+            .group("operation", "operation.id", "operation.description", "operation.scheduledAt", "operation.status")
+            .build();
+
+    private static final int MAX_SEARCH_LIMIT = 100;
+
     private final ReportRepository reportRepository;
     private final ReportValidator reportValidator;
+    private final ReportSearchIndex searchIndex;
     private final ReportMapper reportMapper;
+    private final RowCountEstimator rowCountEstimator;
+    private final SparseFieldsetRepository sparseFieldsetRepository;
 
     @Transactional(readOnly = true)
     public ReportBaseResponse findById(Long id) {
@@ -34,9 +91,89 @@ public class ReportService {
     }
 
     @Transactional(readOnly = true)
-    public PageResponse<ReportBaseResponse> findAll(Pageable pageable) {
-        var paginatedReport = reportRepository.findAll(pageable);
-        return PageUtils.mapPage(paginatedReport, reportMapper::toReportBaseResponse);
+    public ResourceVersion findVersion(Long id) {
+        return reportRepository.findVersionById(id)
+                .orElseThrow(() -> {
+                    log.warn("Report not found with ID {}", id);
+
+                    return new ResourceNotFoundException("Report not found");
+                });
+    }
+
+    @Transactional(readOnly = true)
+    public PageResponse<ReportSummaryResponse> findAll(Pageable pageable) {
+        var paginatedReport = reportRepository.findAllProjected(pageable);
+        return PageUtils.mapPage(paginatedReport, reportMapper::toReportSummaryResponse);
+    }
+
+    @Transactional(readOnly = true)
+    public PageResponse<ReportSummaryResponse> findAll(Pageable pageable, CountMode countMode) {
+        return switch (countMode) {
+            case EXACT -> findAll(pageable);
+            case NONE -> PageUtils.mapSlice(reportRepository.findSliceProjected(pageable), reportMapper::toReportSummaryResponse);
+            case ESTIMATE -> PageUtils.mapSlice(reportRepository.findSliceProjected(pageable),
+                    rowCountEstimator.estimate(Report.class, reportRepository::count), reportMapper::toReportSummaryResponse);
+        };
+    }
+
+    @Transactional(readOnly = true)
+    public PageResponse<ReportSummaryResponse> findAllByCursor(CursorRequest request) {
+        var cursor = request.cursor();
+
+        List<ReportSummaryProjection> reports;
+        if (request.isFirstPage()) {
+            reports = reportRepository.findFirstPageProjected(request.limit());
+        } else if (cursor.isPrevious()) {
+            reports = reportRepository.findPageBeforeProjected(cursor.id(), request.limit());
+        } else {
+            reports = reportRepository.findPageAfterProjected(cursor.id(), request.limit());
+        }
+
+        return PageUtils.mapWindow(reports, request, ReportSummaryProjection::getId, reportMapper::toReportSummaryResponse);
+    }
+
+    @Transactional(readOnly = true)
+    public PageResponse<Map<String, Object>> findAllSparse(String fields, Pageable pageable) {
+        var selection = FIELDSET.select(fields);
+        return PageUtils.mapSlice(sparseFieldsetRepository.findAll(FIELDSET, selection, pageable), Function.identity());
+    }
+
+    @Transactional(readOnly = true)
+    public Map<String, Object> findByIdSparse(Long id, String fields) {
+        var selection = FIELDSET.select(fields);
+        return sparseFieldsetRepository.findById(FIELDSET, selection, id)
+                .orElseThrow(() -> {
+                    log.warn("Report not found with ID {}", id);
+
+                    return new ResourceNotFoundException("Report not found");
+                });
+    }
+
+    @Transactional(readOnly = true)
+    public List<ReportSearchResponse> search(String query, int limit) {
+        var hits = searchIndex.search(query, Math.clamp(limit, 1, MAX_SEARCH_LIMIT));
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+
+        var summaries = reportRepository.findSearchSummaries(hits.stream().map(SearchHit::id).toList()).stream()
+                .collect(Collectors.toMap(ReportSearchSummary::id, Function.identity()));
+
+        return hits.stream()
+                .map(hit -> {
+                    var summary = summaries.get(hit.id());
+                    return summary == null ? null : reportMapper.toReportSearchResponse(summary, hit.score());
+                })
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public void export(ExportFormat format, OutputStream out) throws IOException {
+        try (var rows = reportRepository.streamAllProjected()) {
+            long exported = ExportWriter.write(rows, EXPORT_COLUMNS, format, out);
+            log.debug("Exported {} reports as {}", exported, format);
+        }
     }
 
 
@@ -44,12 +181,13 @@ public class ReportService {
     public ReportBaseResponse save(ReportBaseRequest postRequest) {
         var validation = reportValidator.validate(postRequest);
 
-        if (reportRepository.existsByOperationId(validation.operation().getId())) {
+        if (validation.existingReportId() != null) {
             throw new ReportAlreadyExistsException(validation.operation().getId());
         }
 
         var reportToSave = reportMapper.toEntity(postRequest, validation.patient(), validation.doctor(), validation.operation());
         var savedReport = reportRepository.save(reportToSave);
+        searchIndex.indexAfterCommit(ReportSearchDocument.of(savedReport));
 
         return reportMapper.toReportBaseResponse(savedReport);
     }
@@ -62,8 +200,7 @@ public class ReportService {
 
         var validation = reportValidator.validate(putRequest);
 
-        if (reportRepository.existsByOperationId(validation.operation().getId())
-                && !reportToUpdate.getOperation().getId().equals(validation.operation().getId())) {
+        if (validation.existingReportId() != null && !validation.existingReportId().equals(reportToUpdate.getId())) {
             throw new ReportAlreadyExistsException(validation.operation().getId());
         }
 
@@ -75,6 +212,7 @@ public class ReportService {
         );
 
         var updatedReport = reportRepository.save(reportToUpdate);
+        searchIndex.indexAfterCommit(ReportSearchDocument.of(updatedReport));
 
         return reportMapper.toReportBaseResponse(updatedReport);
     }
@@ -83,6 +221,7 @@ public class ReportService {
     public void delete(Long id){
         assertIfOperationExist(id);
         reportRepository.deleteById(id);
+        searchIndex.removeAfterCommit(id);
     }
 
     private void assertIfOperationExist(Long id){
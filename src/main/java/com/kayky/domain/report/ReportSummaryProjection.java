@@ -0,0 +1,25 @@
+package com.kayky.domain.report;
+
+import com.kayky.domain.operation.OperationStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public interface ReportSummaryProjection {
+    Long getId();
+    String getTitle();
+    String getDiagnosis();
+    String getTreatmentPlan();
+    LocalDate getReportDate();
+    ReportStatus getStatus();
+    Long getPatientId();
+    String getPatientName();
+    Long getDoctorId();
+    String getDoctorName();
+    Long getOperationId();
+    String getOperationDescription();
+    LocalDateTime getOperationScheduledAt();
+    OperationStatus getOperationStatus();
+    LocalDateTime getCreatedAt();
+    LocalDateTime getUpdatedAt();
+}
@@ -0,0 +1,46 @@
+package com.kayky.domain.report.response;
+
+import com.kayky.domain.report.ReportStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.time.LocalDate;
+
+@Schema(
+        name = "ReportSearchResponse",
+        description = "A report matching a full-text search, with its relevance score."
+)
+@Builder
+public record ReportSearchResponse(
+
+        @Schema(description = "Unique identifier of the report", example = "15")
+        Long id,
+
+        @Schema(description = "Short descriptive title of the report",
+                example = "Post-operative evaluation")
+        String title,
+
+        @Schema(description = "Date when the report was registered",
+                example = "2025-01-20")
+        LocalDate reportDate,
+
+        @Schema(description = "Current status of the medical report",
+                example = "FINALIZED")
+        ReportStatus status,
+
+        @Schema(description = "ID of the patient the report refers to", example = "2")
+        Long patientId,
+
+        @Schema(description = "Full name of the patient", example = "Michael Carter")
+        String patientName,
+
+        @Schema(description = "ID of the doctor who wrote the report", example = "1")
+        Long doctorId,
+
+        @Schema(description = "Full name of the doctor", example = "Emily Johnson")
+        String doctorName,
+
+        @Schema(description = "BM25 relevance score, higher is more relevant", example = "7.42")
+        double score
+) {
+}
@@ -0,0 +1,57 @@
+package com.kayky.domain.report.response;
+
+import com.kayky.domain.report.ReportStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Schema(
+        name = "ReportSummaryResponse",
+        description = "Report as listed in paged results, without the full clinical description."
+)
+@Builder
+public record ReportSummaryResponse(
+
+        @Schema(description = "Unique identifier of the report", example = "15")
+        Long id,
+
+        @Schema(description = "Short descriptive title of the report",
+                example = "Post-operative evaluation")
+        String title,
+
+        @Schema(description = "Medical diagnosis established for this report",
+                example = "Post-operative inflammation with expected recovery progress")
+        String diagnosis,
+
+        @Schema(description = "Treatment plan assigned by the doctor",
+                example = "Maintain prescribed antibiotics and schedule follow-up in 7 days")
+        String treatmentPlan,
+
+        @Schema(description = "Date when the report was registered",
+                example = "2025-01-20")
+        LocalDate reportDate,
+
+        @Schema(description = "Current status of the medical report",
+                example = "FINALIZED")
+        ReportStatus status,
+
+        @Schema(description = "Information about the patient associated with the report")
+        ReportBaseResponse.PatientInfo patient,
+
+        @Schema(description = "Information about the doctor responsible for the report")
+        ReportBaseResponse.DoctorInfo doctor,
+
+        @Schema(description = "Details about the related medical operation")
+        ReportBaseResponse.OperationInfo operation,
+
+        @Schema(description = "Date and time when the report was created",
+                example = "2025-01-20T14:32:11")
+        LocalDateTime createdAt,
+
+        @Schema(description = "Date and time when the report was last updated",
+                example = "2025-01-22T09:18:44")
+        LocalDateTime updatedAt
+) {
+}
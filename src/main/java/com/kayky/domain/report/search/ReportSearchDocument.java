@@ -0,0 +1,30 @@
+package com.kayky.domain.report.search;
+
+import com.kayky.domain.report.Report;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public record ReportSearchDocument(Long id, String title, String description, String diagnosis,
+                                   String treatmentPlan) {
+
+    public static ReportSearchDocument of(Report report) {
+        return new ReportSearchDocument(report.getId(), report.getTitle(), report.getDescription(),
+                report.getDiagnosis(), report.getTreatmentPlan());
+    }
+
+    public Map<String, String> fields() {
+        Map<String, String> fields = new HashMap<>();
+        putIfPresent(fields, "title", title);
+        putIfPresent(fields, "description", description);
+        putIfPresent(fields, "diagnosis", diagnosis);
+        putIfPresent(fields, "treatmentPlan", treatmentPlan);
+        return fields;
+    }
+
+    private static void putIfPresent(Map<String, String> fields, String name, String value) {
+        if (value != null) {
+            fields.put(name, value);
+        }
+    }
+}
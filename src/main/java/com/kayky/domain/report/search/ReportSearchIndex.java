@@ -0,0 +1,202 @@
+package com.kayky.domain.report.search;
+
+import com.kayky.core.search.InvertedIndex;
+import com.kayky.core.search.SearchHit;
+import com.kayky.domain.report.ReportRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ReportSearchIndex {
+
+    static final Map<String, Float> FIELD_WEIGHTS = Map.of(
+            "title", 3.0f,
+            "diagnosis", 2.0f,
+            "treatmentPlan", 1.5f,
+            "description", 1.0f);
+
+    private static final Duration CATCH_UP_MARGIN = Duration.ofMinutes(10);
+
+    private final ReportRepository reportRepository;
+    private final Clock clock;
+
+    @Value("${app.report-search.snapshot-path:}")
+    private String snapshotPath;
+
+    private final Set<Long> indexedSinceCatchUp = ConcurrentHashMap.newKeySet();
+
+    private volatile InvertedIndex index;
+    private volatile InvertedIndex pending;
+    private volatile Instant caughtUpAt;
+
+    public List<SearchHit> search(String query, int limit) {
+        var current = index;
+        return current == null ? List.of() : current.search(query, limit);
+    }
+
+    public void indexAfterCommit(ReportSearchDocument document) {
+        afterCommit(target -> {
+            indexedSinceCatchUp.add(document.id());
+            target.put(document.id(), document.fields());
+        });
+    }
+
+    public void removeAfterCommit(Long id) {
+        afterCommit(target -> target.remove(id));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        var startedAt = clock.instant();
+        var restored = restore();
+        var building = restored.map(Snapshot::index).orElseGet(() -> new InvertedIndex(FIELD_WEIGHTS));
+        pending = building;
+
+        try {
+            if (restored.isPresent()) {
+                applyChangesSince(building, restored.get().takenAt());
+            } else {
+                try (var documents = reportRepository.streamSearchDocuments()) {
+                    documents.forEach(document -> building.put(document.id(), document.fields()));
+                }
+            }
+            index = building;
+            caughtUpAt = startedAt;
+        } finally {
+            pending = null;
+        }
+
+        log.info("Report search index ready with {} reports and {} terms ({})", building.size(), building.terms(),
+                restored.isPresent() ? "restored from snapshot" : "full rebuild");
+    }
+
+    @Scheduled(fixedDelayString = "${app.report-search.catch-up-interval:PT1M}",
+            initialDelayString = "${app.report-search.catch-up-interval:PT1M}")
+    @Transactional(readOnly = true)
+    public void catchUp() {
+        var current = index;
+        var since = caughtUpAt;
+        if (current == null || since == null) {
+            return;
+        }
+
+        var startedAt = clock.instant();
+        indexedSinceCatchUp.clear();
+        applyChangesSince(current, since);
+        caughtUpAt = startedAt;
+        log.debug("Report search index caught up with changes since {}", since);
+    }
+
+    private void applyChangesSince(InvertedIndex target, Instant since) {
+        var from = LocalDateTime.ofInstant(since.minus(CATCH_UP_MARGIN), clock.getZone());
+        try (var documents = reportRepository.streamSearchDocumentsUpdatedSince(from)) {
+            documents.forEach(document -> target.put(document.id(), document.fields()));
+        }
+        try (var ids = reportRepository.streamAllIds()) {
+            var existing = ids.collect(HashSet<Long>::new, HashSet::add, HashSet::addAll);
+            existing.addAll(indexedSinceCatchUp);
+            target.retainAll(existing);
+        }
+    }
+
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${app.report-search.snapshot-interval:PT15M}",
+            initialDelayString = "${app.report-search.snapshot-interval:PT15M}")
+    public void snapshot() {
+        var current = index;
+        if (snapshotPath == null || snapshotPath.isBlank() || current == null) {
+            return;
+        }
+
+        var target = Path.of(snapshotPath);
+        var temporary = target.resolveSibling(target.getFileName() + ".tmp");
+        var takenAt = clock.instant();
+
+        try {
+            if (target.getParent() != null) {
+                Files.createDirectories(target.getParent());
+            }
+            try (var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+                out.writeLong(takenAt.toEpochMilli());
+                current.writeTo(out);
+            }
+            Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.debug("Wrote report search snapshot with {} reports to {}", current.size(), target);
+        } catch (IOException e) {
+            log.warn("Could not write report search snapshot to {}", target, e);
+        }
+    }
+
+    private Optional<Snapshot> restore() {
+        if (snapshotPath == null || snapshotPath.isBlank() || !Files.isRegularFile(Path.of(snapshotPath))) {
+            return Optional.empty();
+        }
+
+        try (var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(Path.of(snapshotPath))))) {
+            var takenAt = Instant.ofEpochMilli(in.readLong());
+            return Optional.of(new Snapshot(InvertedIndex.readFrom(in, FIELD_WEIGHTS), takenAt));
+        } catch (IOException e) {
+            log.warn("Ignoring unreadable report search snapshot {}", snapshotPath, e);
+            return Optional.empty();
+        }
+    }
+
+    private void afterCommit(Consumer<InvertedIndex> change) {
+        Runnable apply = () -> {
+            var building = pending;
+            if (building != null) {
+                change.accept(building);
+            }
+            var current = index;
+            if (current != null && current != building) {
+                change.accept(current);
+            }
+        };
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply.run();
+            }
+        });
+    }
+
+    private record Snapshot(InvertedIndex index, Instant takenAt) {
+    }
+}
@@ -0,0 +1,9 @@
+package com.kayky.domain.report.search;
+
+import com.kayky.domain.report.ReportStatus;
+
+import java.time.LocalDate;
+
+public record ReportSearchSummary(Long id, String title, LocalDate reportDate, ReportStatus status,
+                                  Long patientId, String patientName, Long doctorId, String doctorName) {
+}
@@ -3,11 +3,10 @@ package com.kayky.domain.report.validator;
 import com.kayky.core.exception.OperationMismatchException;
 import com.kayky.core.exception.ResourceNotFoundException;
 import com.kayky.domain.doctor.Doctor;
-import com.kayky.domain.doctor.DoctorRepository;
 import com.kayky.domain.operation.Operation;
 import com.kayky.domain.operation.OperationRepository;
 import com.kayky.domain.patient.Patient;
-import com.kayky.domain.patient.PatientRepository;
+import com.kayky.domain.report.ReportRepository;
 import com.kayky.domain.report.request.ReportBaseRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -16,32 +15,40 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class ReportValidator {
 
-    private final PatientRepository patientRepository;
-    private final DoctorRepository doctorRepository;
+    private final ReportRepository reportRepository;
     private final OperationRepository operationRepository;
 
     public ValidationResult validate(ReportBaseRequest request) {
-        Patient patient = patientRepository.findById(request.patientId())
-                .orElseThrow(() -> new ResourceNotFoundException("Patient not found with id=" + request.patientId()));
+        var consistency = reportRepository.findConsistency(request.patientId(), request.doctorId(), request.operationId());
 
-        Doctor doctor = doctorRepository.findById(request.doctorId())
-                .orElseThrow(() -> new ResourceNotFoundException("Doctor not found with id=" + request.doctorId()));
+        if (consistency.getPatientCount() == 0) {
+            throw new ResourceNotFoundException("Patient not found with id=" + request.patientId());
+        }
 
-        Operation operation = operationRepository.findById(request.operationId())
-                .orElseThrow(() -> new ResourceNotFoundException("Operation not found with id=" + request.operationId()));
+        if (consistency.getDoctorCount() == 0) {
+            throw new ResourceNotFoundException("Doctor not found with id=" + request.doctorId());
+        }
 
-        if (!operation.getPatient().getId().equals(patient.getId())) {
-            throw new OperationMismatchException("Operation patient (id=" + operation.getPatient().getId() +
-                    ") does not match request patient (id=" + patient.getId() + ")");
+        if (consistency.getOperationId() == null) {
+            throw new ResourceNotFoundException("Operation not found with id=" + request.operationId());
         }
 
-        if (!operation.getDoctor().getId().equals(doctor.getId())) {
-            throw new OperationMismatchException("Operation doctor (id=" + operation.getDoctor().getId() +
-                    ") does not match request doctor (id=" + doctor.getId() + ")");
+        if (!consistency.getOperationPatientId().equals(request.patientId())) {
+            throw new OperationMismatchException("Operation patient (id=" + consistency.getOperationPatientId() +
+                    ") does not match request patient (id=" + request.patientId() + ")");
         }
 
-        return new ValidationResult(patient, doctor, operation);
+        if (!consistency.getOperationDoctorId().equals(request.doctorId())) {
+            throw new OperationMismatchException("Operation doctor (id=" + consistency.getOperationDoctorId() +
+                    ") does not match request doctor (id=" + request.doctorId() + ")");
+        }
+
+        var operation = operationRepository.findById(request.operationId())
+                .orElseThrow(() -> new ResourceNotFoundException("Operation not found with id=" + request.operationId()));
+
+        return new ValidationResult(operation.getPatient(), operation.getDoctor(), operation,
+                consistency.getExistingReportId());
     }
 
-    public record ValidationResult(Patient patient, Doctor doctor, Operation operation) {}
+    public record ValidationResult(Patient patient, Doctor doctor, Operation operation, Long existingReportId) {}
 }
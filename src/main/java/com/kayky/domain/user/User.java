@@ -1,14 +1,21 @@
 package com.kayky.domain.user;
 
+import com.kayky.core.id.PooledId;
+import com.kayky.core.pagination.RowCountListener;
 import com.kayky.domain.user.enums.Gender;
 import com.kayky.domain.user.enums.Role;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
-@Table(name = "tb_user")
+@Table(name = "tb_user", uniqueConstraints = @UniqueConstraint(name = User.EMAIL_CONSTRAINT, columnNames = "email"))
 @Inheritance(strategy = InheritanceType.JOINED)
+@EntityListeners({RowCountListener.class, UserEmailListener.class})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = User.CACHE_REGION)
 @AllArgsConstructor
 @NoArgsConstructor
 @Getter
@@ -17,12 +24,20 @@ import lombok.experimental.SuperBuilder;
 @EqualsAndHashCode
 public abstract class User {
 
+    public static final String CACHE_REGION = "user";
+    public static final String EMAIL_CONSTRAINT = "uk_user_email";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledId("user")
     private Long id;
+
+    @Version
+    @Column(columnDefinition = "BIGINT DEFAULT 0")
+    private Long version;
+
     private String firstName;
     private String lastName;
-    @Column(unique = true, nullable = false)
+    @Column(nullable = false)
     private String email;
     private String password;
 
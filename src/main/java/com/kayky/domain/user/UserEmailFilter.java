@@ -0,0 +1,76 @@
+package com.kayky.domain.user;
+
+import com.kayky.core.membership.BloomFilter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Locale;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UserEmailFilter {
+
+    private final UserRepository userRepository;
+
+    @Value("${app.email-filter.expected-insertions:100000}")
+    private long expectedInsertions;
+
+    @Value("${app.email-filter.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    private volatile BloomFilter filter;
+    private volatile BloomFilter pending;
+
+    public boolean mightContain(String email) {
+        var current = filter;
+        return current == null || email == null || current.mightContain(normalize(email));
+    }
+
+    public void register(String email) {
+        if (email == null) {
+            return;
+        }
+
+        var normalized = normalize(email);
+        var building = pending;
+        if (building != null) {
+            building.put(normalized);
+        }
+        var current = filter;
+        if (current != null) {
+            current.put(normalized);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.email-filter.rebuild-interval:PT6H}",
+            initialDelayString = "${app.email-filter.rebuild-interval:PT6H}")
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        long users = userRepository.countAllEmails();
+        var building = BloomFilter.create(Math.max(expectedInsertions, users * 2), falsePositiveRate);
+        pending = building;
+
+        try {
+            try (var emails = userRepository.streamAllEmails()) {
+                emails.forEach(email -> building.put(normalize(email)));
+            }
+            filter = building;
+        } finally {
+            pending = null;
+        }
+
+        log.info("Rebuilt email filter with {} users (capacity {})", building.insertions(), building.capacity());
+    }
+
+    static String normalize(String email) {
+        return email.strip().toLowerCase(Locale.ROOT);
+    }
+}
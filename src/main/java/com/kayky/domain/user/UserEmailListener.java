@@ -0,0 +1,20 @@
+package com.kayky.domain.user;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+
+public class UserEmailListener {
+
+    private final ObjectProvider<UserEmailFilter> emailFilter;
+
+    public UserEmailListener(ObjectProvider<UserEmailFilter> emailFilter) {
+        this.emailFilter = emailFilter;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onWrite(User user) {
+        emailFilter.ifAvailable(filter -> filter.register(user.getEmail()));
+    }
+}
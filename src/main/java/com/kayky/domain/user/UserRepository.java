@@ -1,13 +1,32 @@
 package com.kayky.domain.user;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
 
     Optional<User> findByEmail(String email);
     Optional<User> findByEmailAndIdNot(String email, Long id);
+
+    @Query(value = "SELECT id FROM tb_user WHERE email = :email LIMIT 1", nativeQuery = true)
+    Optional<Long> findIdByEmail(String email);
+
+    @Query(value = "SELECT id FROM tb_user WHERE email = :email AND id <> :id LIMIT 1", nativeQuery = true)
+    Optional<Long> findIdByEmailAndIdNot(String email, Long id);
+
+    @Query(value = "SELECT COUNT(*) FROM tb_user", nativeQuery = true)
+    long countAllEmails();
+
+    @Query(value = "SELECT email FROM tb_user", nativeQuery = true)
+    Stream<String> streamAllEmails();
+
+    @Query(value = "SELECT id FROM tb_user WHERE id IN (:ids) ORDER BY id FOR UPDATE", nativeQuery = true)
+    List<Long> lockAllById(Collection<Long> ids);
 }
@@ -18,19 +18,26 @@ public class UserValidator {
     private final UserRepository userRepository;
     private final PatientRepository patientRepository;  // novo
     private final DoctorRepository doctorRepository;    // novo
+    private final UserEmailFilter emailFilter;
 
     public void assertEmailDoesNotExist(String email) {
-        userRepository.findByEmail(email).ifPresent(this::throwEmailExistsException);
+        if (!emailFilter.mightContain(email)) {
+            return;
+        }
+        userRepository.findIdByEmail(email).ifPresent(userId -> throwEmailExistsException(email, userId));
     }
 
     public void assertEmailDoesNotExist(String email, Long id) {
-        userRepository.findByEmailAndIdNot(email, id).ifPresent(this::throwEmailExistsException);
+        if (!emailFilter.mightContain(email)) {
+            return;
+        }
+        userRepository.findIdByEmailAndIdNot(email, id).ifPresent(userId -> throwEmailExistsException(email, userId));
     }
 
-    public void throwEmailExistsException(User user) {
-        log.warn("Email conflict: {} already in use by user ID {}", user.getEmail(), user.getId());
+    public void throwEmailExistsException(String email, Long userId) {
+        log.warn("Email conflict: {} already in use by user ID {}", email, userId);
 
-        throw new EmailAlreadyExistsException("Email %s already in use".formatted(user.getEmail()));
+        throw new EmailAlreadyExistsException("Email %s already in use".formatted(email));
     }
 
     public void assertIfUserExist(Long id, String userType) {
@@ -0,0 +1,16 @@
+package com.kayky.commons;
+
+import com.kayky.core.idempotency.IdempotentExecutor;
+
+import java.util.function.Supplier;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+public class IdempotencyUtils {
+
+    public static void passThrough(IdempotentExecutor executor) {
+        when(executor.execute(any(), any(), any(), any(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(4).get());
+    }
+}
@@ -74,6 +74,8 @@ public class OperationUtils {
                 .id(operation.getId())
                 .description(operation.getDescription())
                 .scheduledAt(operation.getScheduledAt())
+                .durationMinutes(operation.getDurationMinutes())
+                .endsAt(operation.getEndsAt())
                 .doctor(DoctorUtils.asBaseResponse(operation.getDoctor()))
                 .patient(PatientUtils.asBaseResponse(operation.getPatient()))
                 .status(operation.getStatus())
@@ -1,17 +1,23 @@
 package com.kayky.commons;
 
 import com.kayky.domain.payment.Payment;
+import com.kayky.domain.payment.PaymentProjection;
 import com.kayky.domain.payment.enums.PaymentMethod;
 import com.kayky.domain.payment.enums.PaymentStatus;
 import com.kayky.domain.payment.request.PaymentBaseRequest;
 import com.kayky.domain.payment.response.PaymentBaseResponse;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
 
 public class PaymentUtils {
 
+    private static final ProjectionFactory PROJECTION_FACTORY = new SpelAwareProxyProjectionFactory();
+
     public static Payment savedPayment(Long id) {
         return Payment.builder()
                 .id(id)
@@ -25,6 +31,21 @@ public class PaymentUtils {
     }
 
 
+    public static PaymentProjection asProjection(Payment payment) {
+        var values = new HashMap<String, Object>();
+        values.put("id", payment.getId());
+        values.put("patientId", payment.getPatient().getId());
+        values.put("patientName", payment.getPatient().getFirstName() + " " + payment.getPatient().getLastName());
+        values.put("cashierId", payment.getCashier().getId());
+        values.put("cashierName", payment.getCashier().getFirstName() + " " + payment.getCashier().getLastName());
+        values.put("amount", payment.getAmount());
+        values.put("paymentMethod", payment.getPaymentMethod());
+        values.put("status", payment.getStatus());
+        values.put("paymentDate", payment.getPaymentDate());
+
+        return PROJECTION_FACTORY.createProjection(PaymentProjection.class, values);
+    }
+
     public static PaymentBaseResponse asBaseResponse(Payment payment) {
         return PaymentBaseResponse.builder()
                 .id(payment.getId())
@@ -73,6 +94,10 @@ public class PaymentUtils {
         );
     }
 
+    public static List<PaymentProjection> projectionList() {
+        return paymentList().stream().map(PaymentUtils::asProjection).toList();
+    }
+
     public static List<PaymentBaseResponse> baseResponseList(){
         return paymentList().stream().map(PaymentUtils::asBaseResponse).toList();
     }
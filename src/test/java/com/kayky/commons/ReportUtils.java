@@ -1,9 +1,12 @@
 package com.kayky.commons;
 
 import com.kayky.domain.report.Report;
+import com.kayky.domain.operation.OperationStatus;
 import com.kayky.domain.report.ReportStatus;
+import com.kayky.domain.report.ReportSummaryProjection;
 import com.kayky.domain.report.request.ReportBaseRequest;
 import com.kayky.domain.report.response.ReportBaseResponse;
+import com.kayky.domain.report.response.ReportSummaryResponse;
 import com.kayky.domain.report.validator.ReportValidator;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -93,6 +96,52 @@ public class ReportUtils {
          return reportList().stream().map(ReportUtils::asBaseResponse).toList();
     }
 
+    // ========== PROJECTIONS ==========
+
+    public static ReportSummaryProjection asSummaryProjection(Report report) {
+        return new ReportSummaryProjection() {
+            @Override public Long getId() { return report.getId(); }
+            @Override public String getTitle() { return report.getTitle(); }
+            @Override public String getDiagnosis() { return report.getDiagnosis(); }
+            @Override public String getTreatmentPlan() { return report.getTreatmentPlan(); }
+            @Override public LocalDate getReportDate() { return report.getReportDate(); }
+            @Override public ReportStatus getStatus() { return report.getStatus(); }
+            @Override public Long getPatientId() { return report.getPatient().getId(); }
+            @Override public String getPatientName() { return report.getPatient().getFirstName(); }
+            @Override public Long getDoctorId() { return report.getDoctor().getId(); }
+            @Override public String getDoctorName() { return report.getDoctor().getFirstName(); }
+            @Override public Long getOperationId() { return report.getOperation().getId(); }
+            @Override public String getOperationDescription() { return report.getOperation().getDescription(); }
+            @Override public LocalDateTime getOperationScheduledAt() { return report.getOperation().getScheduledAt(); }
+            @Override public OperationStatus getOperationStatus() { return report.getOperation().getStatus(); }
+            @Override public LocalDateTime getCreatedAt() { return report.getCreatedAt(); }
+            @Override public LocalDateTime getUpdatedAt() { return report.getUpdatedAt(); }
+        };
+    }
+
+    public static List<ReportSummaryProjection> summaryProjectionList() {
+        return reportList().stream().map(ReportUtils::asSummaryProjection).toList();
+    }
+
+    public static ReportSummaryResponse asSummaryResponse(Report report) {
+        var base = asBaseResponse(report);
+        return ReportSummaryResponse.builder()
+                .id(base.id())
+                .title(base.title())
+                .diagnosis(base.diagnosis())
+                .treatmentPlan(base.treatmentPlan())
+                .reportDate(base.reportDate())
+                .status(base.status())
+                .patient(base.patient())
+                .doctor(base.doctor())
+                .operation(base.operation())
+                .build();
+    }
+
+    public static List<ReportSummaryResponse> summaryResponseList() {
+        return reportList().stream().map(ReportUtils::asSummaryResponse).toList();
+    }
+
     public static ReportBaseRequest asBaseRequest(){
         return ReportBaseRequest.builder()
                 .title("Pediatric Post-op Review")
@@ -108,7 +157,11 @@ public class ReportUtils {
     }
 
     public static ReportValidator.ValidationResult validationResult(){
-        return new ReportValidator.ValidationResult(PatientUtils.savedPatient(1L), DoctorUtils.savedDoctor(2L), OperationUtils.savedOperation());
+        return validationResult(null);
+    }
+
+    public static ReportValidator.ValidationResult validationResult(Long existingReportId){
+        return new ReportValidator.ValidationResult(PatientUtils.savedPatient(1L), DoctorUtils.savedDoctor(2L), OperationUtils.savedOperation(), existingReportId);
     }
 
 
@@ -20,5 +20,10 @@ public abstract class BaseIntegrationTest {
     @BeforeEach
     void setupRestAssured() {
         RestAssured.port = port;
+        RestAssured.replaceFiltersWith((request, response, context) -> {
+            QueryBudgetExtension.activeCapture()
+                    .ifPresent(id -> request.header(QueryBudgetExtension.CAPTURE_HEADER, id));
+            return context.next(request, response);
+        });
     }
 }
@@ -1,6 +1,9 @@
 package com.kayky.config;
 
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
+import org.springframework.core.Ordered;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.ActiveProfiles;
 
@@ -8,4 +11,11 @@ import org.springframework.test.context.ActiveProfiles;
 @ActiveProfiles("itest")
 @DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_CLASS)
 public class IntegrationTestConfig {
+
+    @Bean
+    FilterRegistrationBean<QueryCaptureFilter> queryCaptureFilter() {
+        var registration = new FilterRegistrationBean<>(new QueryCaptureFilter());
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
 }
@@ -0,0 +1,60 @@
+package com.kayky.config;
+
+import com.kayky.core.query.QueryCounter;
+import com.kayky.core.query.StatementLog;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class QueryBudgetExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    public static final String CAPTURE_HEADER = "X-Query-Capture";
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(QueryBudgetExtension.class);
+    private static final Map<String, StatementLog> CAPTURES = new ConcurrentHashMap<>();
+    private static final ThreadLocal<String> ACTIVE = new ThreadLocal<>();
+
+    public static Optional<String> activeCapture() {
+        return Optional.ofNullable(ACTIVE.get());
+    }
+
+    public static Optional<StatementLog> findCapture(String id) {
+        return Optional.ofNullable(id).map(CAPTURES::get);
+    }
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        var id = UUID.randomUUID().toString();
+        var statements = QueryCounter.capture();
+        CAPTURES.put(id, statements);
+        ACTIVE.set(id);
+        context.getStore(NAMESPACE).put(context.getUniqueId(), id);
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        var id = context.getStore(NAMESPACE).remove(context.getUniqueId(), String.class);
+        var statements = CAPTURES.remove(id);
+        ACTIVE.remove();
+        QueryCounter.release();
+
+        int max = budget(context);
+        if (statements.total() > max) {
+            throw new AssertionError(String.format("Expected at most %d SQL statements but %d were issued:%n%s",
+                    max, statements.total(), statements.describe()));
+        }
+    }
+
+    private static int budget(ExtensionContext context) {
+        return AnnotationSupport.findAnnotation(context.getRequiredTestMethod(), QueryBudget.class)
+                .or(() -> AnnotationSupport.findAnnotation(context.getRequiredTestClass(), QueryBudget.class))
+                .map(QueryBudget::max)
+                .orElseThrow();
+    }
+}
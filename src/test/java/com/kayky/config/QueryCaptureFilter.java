@@ -0,0 +1,30 @@
+package com.kayky.config;
+
+import com.kayky.core.query.QueryCounter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+public class QueryCaptureFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        var capture = QueryBudgetExtension.findCapture(request.getHeader(QueryBudgetExtension.CAPTURE_HEADER));
+        if (capture.isEmpty()) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        QueryCounter.join(capture.get());
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            QueryCounter.release();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.kayky.core.bitmap;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Slot Bitmap")
+class SlotBitmapTest {
+
+    @Test
+    @DisplayName("set and clear flip every slot of a range spanning several words")
+    void setAndClear_ShouldSpanWordBoundaries() {
+        var bitmap = new SlotBitmap(300);
+
+        bitmap.set(60, 200);
+        bitmap.clear(100, 130);
+
+        assertThat(bitmap.get(59)).isFalse();
+        assertThat(bitmap.get(60)).isTrue();
+        assertThat(bitmap.get(99)).isTrue();
+        assertThat(bitmap.get(100)).isFalse();
+        assertThat(bitmap.get(129)).isFalse();
+        assertThat(bitmap.get(130)).isTrue();
+        assertThat(bitmap.get(199)).isTrue();
+        assertThat(bitmap.get(200)).isFalse();
+    }
+
+    @Test
+    @DisplayName("firstRun finds the earliest run that crosses a word boundary")
+    void firstRun_ShouldFindRunAcrossWords() {
+        var bits = SlotBitmap.range(256, 10, 14);
+        var longer = SlotBitmap.range(256, 60, 70);
+        for (int i = 0; i < bits.length; i++) {
+            bits[i] |= longer[i];
+        }
+
+        assertThat(SlotBitmap.firstRun(bits, 4)).isEqualTo(10);
+        assertThat(SlotBitmap.firstRun(bits, 5)).isEqualTo(60);
+        assertThat(SlotBitmap.firstRun(bits, 10)).isEqualTo(60);
+        assertThat(SlotBitmap.firstRun(bits, 11)).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("firstRun agrees with a linear scan on random bitmaps")
+    void firstRun_ShouldMatchLinearScan() {
+        var random = new Random(7);
+        int size = 1_344;
+
+        for (int round = 0; round < 200; round++) {
+            var bitmap = new SlotBitmap(size);
+            for (int i = 0; i < 40; i++) {
+                int from = random.nextInt(size);
+                bitmap.set(from, Math.min(size, from + 1 + random.nextInt(30)));
+            }
+            int length = 1 + random.nextInt(96);
+            var bits = bitmap.toLongArray();
+
+            assertThat(SlotBitmap.firstRun(bits, length)).isEqualTo(linearFirstRun(bitmap, length));
+        }
+    }
+
+    private static int linearFirstRun(SlotBitmap bitmap, int length) {
+        int run = 0;
+        for (int slot = 0; slot < bitmap.size(); slot++) {
+            run = bitmap.get(slot) ? run + 1 : 0;
+            if (run == length) {
+                return slot - length + 1;
+            }
+        }
+        return -1;
+    }
+}
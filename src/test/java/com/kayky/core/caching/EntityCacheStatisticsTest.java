@@ -0,0 +1,80 @@
+package com.kayky.core.caching;
+
+import com.kayky.commons.DoctorUtils;
+import com.kayky.config.QueryBudget;
+import com.kayky.domain.doctor.DoctorRepository;
+import com.kayky.domain.user.User;
+import com.kayky.domain.user.enums.Role;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Entity Cache Statistics")
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(EntityCacheStatistics.class)
+class EntityCacheStatisticsTest {
+
+    @Autowired
+    private EntityCacheStatistics statistics;
+
+    @Autowired
+    private DoctorRepository doctorRepository;
+
+    private Long doctorId;
+
+    @BeforeEach
+    void setUp() {
+        doctorId = doctorRepository.save(DoctorUtils.savedDoctor(null).toBuilder()
+                .email("doctor.cache@example.com")
+                .role(Role.DOCTOR)
+                .registrationNumber("REG-CACHE")
+                .department("Cardiology")
+                .salary(new BigDecimal("12000.00"))
+                .build()).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        doctorRepository.deleteById(doctorId);
+    }
+
+    @Test
+    @DisplayName("findById serves a committed doctor from the second-level cache without querying")
+    @QueryBudget(max = 0)
+    void findById_ShouldHitCache_WhenDoctorIsCommitted() {
+        var before = statistics.snapshot(User.CACHE_REGION).orElseThrow();
+
+        var doctor = doctorRepository.findById(doctorId).orElseThrow();
+
+        assertThat(doctor.getEmail()).isEqualTo("doctor.cache@example.com");
+        assertThat(statistics.snapshot(User.CACHE_REGION).orElseThrow().hits()).isGreaterThan(before.hits());
+    }
+
+    @Test
+    @DisplayName("findById returns the updated doctor after an update")
+    void findById_ShouldReturnUpdatedDoctor_WhenDoctorIsUpdated() {
+        var doctor = doctorRepository.findById(doctorId).orElseThrow();
+        doctor.setDepartment("Neurology");
+        doctorRepository.save(doctor);
+
+        assertThat(doctorRepository.findById(doctorId))
+                .hasValueSatisfying(d -> assertThat(d.getDepartment()).isEqualTo("Neurology"));
+    }
+
+    @Test
+    @DisplayName("snapshot returns empty for an unknown region")
+    void snapshot_ShouldReturnEmpty_WhenRegionIsUnknown() {
+        assertThat(statistics.snapshot("unknown")).isEmpty();
+    }
+}
@@ -0,0 +1,141 @@
+package com.kayky.core.fieldset;
+
+import com.kayky.commons.DoctorUtils;
+import com.kayky.commons.PatientUtils;
+import com.kayky.config.QueryBudget;
+import com.kayky.core.auditing.JpaAuditingConfig;
+import com.kayky.core.exception.InvalidFieldSelectionException;
+import com.kayky.domain.doctor.Doctor;
+import com.kayky.domain.patient.Patient;
+import com.kayky.domain.report.Report;
+import com.kayky.domain.report.ReportStatus;
+import com.kayky.domain.user.enums.Role;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Sparse Fieldset Repository")
+@DataJpaTest
+@Import({SparseFieldsetRepository.class, JpaAuditingConfig.class})
+class SparseFieldsetRepositoryTest {
+
+    private static final SparseFieldset<Report> FIELDSET = SparseFieldset.builder(Report.class)
+            .attributes("id", "title", "description", "status", "patient.id", "doctor.id")
+            .field(SparseField.fullName("patient.name", "patient"))
+            .field(SparseField.fullName("doctor.name", "doctor"))
+            .group("patient", "patient.id", "patient.name")
+            .group("doctor", "doctor.id", "doctor.name")
+            .build();
+
+    @Autowired
+    private SparseFieldsetRepository repository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Report withDoctor;
+    private Report withoutDoctor;
+
+    @BeforeEach
+    void setUp() {
+        var patient = entityManager.persist(PatientUtils.patientToSave().toBuilder()
+                .role(Role.PATIENT)
+                .build());
+
+        var doctor = entityManager.persist(DoctorUtils.savedDoctor(null).toBuilder()
+                .email("doctor.fieldset@example.com")
+                .role(Role.DOCTOR)
+                .registrationNumber("REG-001")
+                .department("Cardiology")
+                .salary(new BigDecimal("12000.00"))
+                .build());
+
+        withDoctor = entityManager.persist(report("Annual Checkup", patient, doctor));
+        withoutDoctor = entityManager.persist(report("Walk-in", patient, null));
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private Report report(String title, Patient patient, Doctor doctor) {
+        return Report.builder()
+                .title(title)
+                .description("Long clinical description")
+                .reportDate(LocalDate.of(2025, 1, 20))
+                .status(ReportStatus.DRAFT)
+                .patient(patient)
+                .doctor(doctor)
+                .build();
+    }
+
+    @Test
+    @DisplayName("findAll returns only the selected fields, nesting association fields in request order")
+    @QueryBudget(max = 1)
+    void findAll_ShouldReturnOnlySelectedFields() {
+        var selection = FIELDSET.select("id,title,doctor");
+
+        var result = repository.findAll(FIELDSET, selection, PageRequest.of(0, 10));
+
+        assertThat(result.getContent()).hasSize(2);
+        assertThat(result.hasNext()).isFalse();
+
+        var first = result.getContent().getFirst();
+        assertThat(first).containsOnlyKeys("id", "title", "doctor");
+        assertThat(first.get("id")).isEqualTo(withDoctor.getId());
+        assertThat(first.get("doctor")).isEqualTo(Map.of("id", withDoctor.getDoctor().getId(), "name", "Robert Williams"));
+    }
+
+    @Test
+    @DisplayName("findAll left-joins optional associations and collapses them to null when absent")
+    @QueryBudget(max = 1)
+    void findAll_ShouldCollapseMissingAssociationToNull() {
+        var selection = FIELDSET.select("id,doctor.name");
+
+        var result = repository.findAll(FIELDSET, selection, PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "id")));
+
+        var first = result.getContent().getFirst();
+        assertThat(first.get("id")).isEqualTo(withoutDoctor.getId());
+        assertThat(first).containsEntry("doctor", null);
+    }
+
+    @Test
+    @DisplayName("findAll reports further rows through hasNext without counting")
+    void findAll_ShouldReportHasNext_WhenMoreRowsExist() {
+        var result = repository.findAll(FIELDSET, FIELDSET.select("id"), PageRequest.of(0, 1));
+
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.hasNext()).isTrue();
+    }
+
+    @Test
+    @DisplayName("findById returns the selected fields of a single row")
+    void findById_ShouldReturnSelectedFields() {
+        var result = repository.findById(FIELDSET, FIELDSET.select("title,status,patient"), withDoctor.getId());
+
+        assertThat(result).hasValueSatisfying(row -> {
+            assertThat(row).containsEntry("title", "Annual Checkup").containsEntry("status", ReportStatus.DRAFT);
+            assertThat(row.get("patient")).isEqualTo(Map.of("id", withDoctor.getPatient().getId(), "name", "Robert Williams"));
+        });
+    }
+
+    @Test
+    @DisplayName("select rejects fields outside the allowlist")
+    void select_ShouldThrow_WhenFieldIsUnknown() {
+        assertThatThrownBy(() -> FIELDSET.select("id,password"))
+                .isInstanceOf(InvalidFieldSelectionException.class)
+                .hasMessageStartingWith("Unknown field 'password'");
+    }
+}
@@ -0,0 +1,55 @@
+package com.kayky.core.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Id Generator Seeder")
+@DataJpaTest
+@Import(IdGeneratorSeeder.class)
+class IdGeneratorSeederTest {
+
+    @Autowired
+    private IdGeneratorSeeder seeder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long nextValue(String segment) {
+        return jdbcTemplate.queryForObject(
+                "SELECT next_val FROM tb_id_generator WHERE sequence_name = ?", Long.class, segment);
+    }
+
+    @Test
+    @DisplayName("seed creates a row for every segment")
+    void seed_ShouldCreateRowForEverySegment() {
+        assertThat(jdbcTemplate.queryForList("SELECT sequence_name FROM tb_id_generator", String.class))
+                .containsAll(IdGeneratorSeeder.SEGMENTS.keySet());
+    }
+
+    @Test
+    @DisplayName("seed moves a segment past the highest id already in its table")
+    void seed_ShouldMoveSegmentPastExistingIds() {
+        jdbcTemplate.update("UPDATE tb_id_generator SET next_val = 1 WHERE sequence_name = 'user'");
+        jdbcTemplate.update("INSERT INTO tb_user (id, email, role) VALUES (500, 'seeder@example.com', 'PATIENT')");
+
+        seeder.seed();
+
+        assertThat(nextValue("user")).isEqualTo(501L);
+    }
+
+    @Test
+    @DisplayName("seed never moves a segment backwards")
+    void seed_ShouldKeepSegment_WhenAlreadyAhead() {
+        jdbcTemplate.update("UPDATE tb_id_generator SET next_val = 9000 WHERE sequence_name = 'report'");
+
+        seeder.seed();
+
+        assertThat(nextValue("report")).isEqualTo(9000L);
+    }
+}
@@ -0,0 +1,89 @@
+package com.kayky.core.idempotency;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Idempotency Record Repository")
+@DataJpaTest
+class IdempotencyRecordRepositoryTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 10, 12, 0);
+    private static final LocalDateTime LEASE = NOW.plusSeconds(30);
+    private static final String ID = "payment:terminal-7-0001";
+
+    @Autowired
+    private IdempotencyRecordRepository repository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private IdempotencyRecord reload() {
+        entityManager.clear();
+        return repository.findById(ID).orElseThrow();
+    }
+
+    @Test
+    @DisplayName("complete stores the response and keeps it for the full TTL")
+    void complete_ShouldStoreResponse_WhenLeaseMatches() {
+        repository.saveAndFlush(IdempotencyRecord.pending(ID, "hash", LEASE));
+
+        int updated = repository.complete(ID, LEASE, 201, "/v1/payment/1", "{}", NOW.plusHours(24));
+
+        var stored = reload();
+        assertThat(updated).isOne();
+        assertThat(stored.isCompleted()).isTrue();
+        assertThat(stored.getExpiresAt()).isEqualTo(NOW.plusHours(24));
+    }
+
+    @Test
+    @DisplayName("complete changes nothing once another request took over the claim")
+    void complete_ShouldNotUpdate_WhenLeaseWasTakenOver() {
+        repository.saveAndFlush(IdempotencyRecord.pending(ID, "hash", LEASE));
+        repository.takeOver(ID, "hash", LEASE.plusMinutes(1), LEASE);
+
+        int updated = repository.complete(ID, LEASE, 201, "/v1/payment/1", "{}", NOW.plusHours(24));
+
+        assertThat(updated).isZero();
+        assertThat(reload().isCompleted()).isFalse();
+    }
+
+    @Test
+    @DisplayName("takeOver claims a pending record whose lease expired")
+    void takeOver_ShouldClaim_WhenLeaseExpired() {
+        repository.saveAndFlush(IdempotencyRecord.pending(ID, "old", LEASE));
+
+        int updated = repository.takeOver(ID, "new", LEASE.plusSeconds(30), LEASE);
+
+        var stored = reload();
+        assertThat(updated).isOne();
+        assertThat(stored.getRequestHash()).isEqualTo("new");
+        assertThat(stored.getExpiresAt()).isEqualTo(LEASE.plusSeconds(30));
+    }
+
+    @Test
+    @DisplayName("takeOver leaves a claim alone while its lease is running")
+    void takeOver_ShouldNotClaim_WhenLeaseIsRunning() {
+        repository.saveAndFlush(IdempotencyRecord.pending(ID, "old", LEASE));
+
+        int updated = repository.takeOver(ID, "new", NOW.plusSeconds(60), NOW);
+
+        assertThat(updated).isZero();
+        assertThat(reload().getRequestHash()).isEqualTo("old");
+    }
+
+    @Test
+    @DisplayName("release removes only the caller's own pending claim")
+    void release_ShouldKeepRecord_WhenLeaseDiffers() {
+        repository.saveAndFlush(IdempotencyRecord.pending(ID, "hash", LEASE));
+
+        assertThat(repository.release(ID, NOW)).isZero();
+        assertThat(repository.release(ID, LEASE)).isOne();
+    }
+}
@@ -0,0 +1,262 @@
+package com.kayky.core.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.kayky.core.exception.IdempotencyKeyInUseException;
+import com.kayky.core.exception.IdempotencyKeyMismatchException;
+import com.kayky.core.exception.InvalidIdempotencyKeyException;
+import com.kayky.core.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.net.URI;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Idempotent Executor")
+@ExtendWith(MockitoExtension.class)
+class IdempotentExecutorTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 10, 12, 0);
+    private static final String KEY = "terminal-7-0001";
+    private static final String ID = "payment:" + KEY;
+    private static final LocalDateTime LEASE = NOW.plusSeconds(30);
+
+    record Body(Long id, String name) {
+    }
+
+    @Mock
+    private IdempotencyRecordRepository repository;
+    @Mock
+    private IdempotencyClaims claims;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+    private final AtomicInteger executions = new AtomicInteger();
+
+    private IdempotentExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        var clock = Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        executor = new IdempotentExecutor(repository, claims, transactionManager, objectMapper, clock,
+                Duration.ofHours(24), Duration.ofSeconds(30), Duration.ofMinutes(10), 100);
+        lenient().when(repository.complete(any(), any(), anyInt(), any(), any(), any())).thenReturn(1);
+    }
+
+    private Supplier<ResponseEntity<Body>> createBody() {
+        return () -> ResponseEntity.created(URI.create("/v1/payment/" + executions.incrementAndGet()))
+                .body(new Body((long) executions.get(), "created"));
+    }
+
+    private String hash(Object request) throws Exception {
+        var digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(request));
+        return HexFormat.of().formatHex(digest);
+    }
+
+    @Test
+    @DisplayName("execute runs the action directly when no key is sent")
+    void execute_ShouldPassThrough_WhenKeyIsMissing() {
+        var result = executor.execute("payment", null, "request", Body.class, createBody());
+
+        assertThat(result.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(executions).hasValue(1);
+        verifyNoInteractions(repository, claims, transactionManager);
+    }
+
+    @Test
+    @DisplayName("execute stores the first response and replays retries from memory without running the action")
+    void execute_ShouldReplayRetry_WhenKeyWasCompleted() {
+        var first = executor.execute("payment", KEY, "request", Body.class, createBody());
+        var retry = executor.execute("payment", KEY, "request", Body.class, createBody());
+
+        assertThat(executions).hasValue(1);
+        assertThat(retry.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(retry.getBody()).isEqualTo(first.getBody());
+        assertThat(retry.getHeaders().getLocation()).isEqualTo(first.getHeaders().getLocation());
+        assertThat(retry.getHeaders().getFirst(IdempotentExecutor.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(first.getHeaders().containsKey(IdempotentExecutor.REPLAYED_HEADER)).isFalse();
+
+        verify(claims).claim(any(IdempotencyRecord.class));
+        verify(repository).complete(ID, LEASE, 201, "/v1/payment/1", "{\"id\":1,\"name\":\"created\"}",
+                NOW.plusHours(24));
+    }
+
+    @Test
+    @DisplayName("execute rejects a key reused with a different request")
+    void execute_ShouldThrowMismatch_WhenRequestDiffers() {
+        executor.execute("payment", KEY, "request", Body.class, createBody());
+
+        assertThatThrownBy(() -> executor.execute("payment", KEY, "other request", Body.class, createBody()))
+                .isInstanceOf(IdempotencyKeyMismatchException.class);
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("execute keeps keys of different scopes apart")
+    void execute_ShouldRunAgain_WhenScopeDiffers() {
+        executor.execute("payment", KEY, "request", Body.class, createBody());
+        executor.execute("receipt", KEY, "request", Body.class, createBody());
+
+        assertThat(executions).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("execute coalesces a concurrent duplicate onto the execution in flight")
+    void execute_ShouldCoalesceConcurrentDuplicates() throws Exception {
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        Supplier<ResponseEntity<Body>> slow = () -> {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return createBody().get();
+        };
+
+        var first = CompletableFuture.supplyAsync(() -> executor.execute("payment", KEY, "request", Body.class, slow));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        var duplicate = new CompletableFuture<ResponseEntity<Body>>();
+        var waiter = Thread.ofPlatform().start(() ->
+                duplicate.complete(executor.execute("payment", KEY, "request", Body.class, slow)));
+        while (waiter.getState() != Thread.State.WAITING && waiter.isAlive()) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        var original = first.get(5, TimeUnit.SECONDS);
+        var coalesced = duplicate.get(5, TimeUnit.SECONDS);
+
+        assertThat(executions).hasValue(1);
+        assertThat(coalesced.getBody()).isEqualTo(original.getBody());
+        assertThat(coalesced.getHeaders().getFirst(IdempotentExecutor.REPLAYED_HEADER)).isEqualTo("true");
+        verify(claims, times(1)).claim(any(IdempotencyRecord.class));
+    }
+
+    @Test
+    @DisplayName("execute replays the stored response when another node already completed the key")
+    void execute_ShouldReplayFromTable_WhenKeyWasCompletedElsewhere() throws Exception {
+        doThrow(new DataIntegrityViolationException("duplicate")).when(claims).claim(any(IdempotencyRecord.class));
+        when(repository.findById(ID)).thenReturn(Optional.of(new IdempotencyRecord(ID, hash("request"), 201,
+                "/v1/payment/9", "{\"id\":9,\"name\":\"stored\"}", NOW.plusHours(1))));
+
+        var result = executor.execute("payment", KEY, "request", Body.class, createBody());
+
+        assertThat(executions).hasValue(0);
+        assertThat(result.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(result.getBody()).isEqualTo(new Body(9L, "stored"));
+        assertThat(result.getHeaders().getLocation()).isEqualTo(URI.create("/v1/payment/9"));
+    }
+
+    @Test
+    @DisplayName("execute answers 409 while another node is still processing the key")
+    void execute_ShouldThrowInUse_WhenKeyIsPendingElsewhere() throws Exception {
+        doThrow(new DataIntegrityViolationException("duplicate")).when(claims).claim(any(IdempotencyRecord.class));
+        when(repository.findById(ID)).thenReturn(Optional.of(IdempotencyRecord.pending(ID, hash("request"), NOW.plusHours(1))));
+
+        assertThatThrownBy(() -> executor.execute("payment", KEY, "request", Body.class, createBody()))
+                .isInstanceOf(IdempotencyKeyInUseException.class);
+        assertThat(executions).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("execute takes over a key whose pending claim outlived its lease")
+    void execute_ShouldTakeOver_WhenPendingClaimIsStale() throws Exception {
+        doThrow(new DataIntegrityViolationException("duplicate")).when(claims).claim(any(IdempotencyRecord.class));
+        when(repository.findById(ID)).thenReturn(Optional.of(IdempotencyRecord.pending(ID, hash("request"), NOW.minusSeconds(1))));
+        when(repository.takeOver(ID, hash("request"), LEASE, NOW)).thenReturn(1);
+
+        var result = executor.execute("payment", KEY, "request", Body.class, createBody());
+
+        assertThat(result.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(executions).hasValue(1);
+        verify(repository).complete(ID, LEASE, 201, "/v1/payment/1", "{\"id\":1,\"name\":\"created\"}",
+                NOW.plusHours(24));
+    }
+
+    @Test
+    @DisplayName("execute answers 409 when another retry took over the stale claim first")
+    void execute_ShouldThrowInUse_WhenTakeOverIsLost() throws Exception {
+        doThrow(new DataIntegrityViolationException("duplicate")).when(claims).claim(any(IdempotencyRecord.class));
+        when(repository.findById(ID)).thenReturn(Optional.of(IdempotencyRecord.pending(ID, hash("request"), NOW.minusSeconds(1))));
+        when(repository.takeOver(ID, hash("request"), LEASE, NOW)).thenReturn(0);
+
+        assertThatThrownBy(() -> executor.execute("payment", KEY, "request", Body.class, createBody()))
+                .isInstanceOf(IdempotencyKeyInUseException.class);
+        assertThat(executions).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("execute fails without caching when its claim was taken over before it completed")
+    void execute_ShouldThrowInUse_WhenClaimWasTakenOverBeforeCompletion() {
+        when(repository.complete(any(), any(), anyInt(), any(), any(), any())).thenReturn(0);
+
+        assertThatThrownBy(() -> executor.execute("payment", KEY, "request", Body.class, createBody()))
+                .isInstanceOf(IdempotencyKeyInUseException.class);
+        verify(repository).release(ID, LEASE);
+
+        when(repository.complete(any(), any(), anyInt(), any(), any(), any())).thenReturn(1);
+        executor.execute("payment", KEY, "request", Body.class, createBody());
+        assertThat(executions).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("execute releases the key when the action fails so a retry runs it again")
+    void execute_ShouldReleaseKey_WhenActionFails() {
+        Supplier<ResponseEntity<Body>> failing = () -> {
+            throw new ResourceNotFoundException("Patient not found");
+        };
+
+        assertThatThrownBy(() -> executor.execute("payment", KEY, "request", Body.class, failing))
+                .isInstanceOf(ResourceNotFoundException.class);
+        verify(repository).release(ID, LEASE);
+        verify(repository, never()).complete(any(), any(), anyInt(), any(), any(), any());
+
+        executor.execute("payment", KEY, "request", Body.class, createBody());
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("execute rejects blank or oversized keys")
+    void execute_ShouldThrowInvalidKey_WhenKeyIsMalformed() {
+        assertThatThrownBy(() -> executor.execute("payment", " ", "request", Body.class, createBody()))
+                .isInstanceOf(InvalidIdempotencyKeyException.class);
+        assertThatThrownBy(() -> executor.execute("payment", "k".repeat(65), "request", Body.class, createBody()))
+                .isInstanceOf(InvalidIdempotencyKeyException.class);
+        verifyNoInteractions(claims);
+    }
+}
@@ -0,0 +1,90 @@
+package com.kayky.core.interval;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Interval Tree")
+class IntervalTreeTest {
+
+    @Test
+    @DisplayName("findOverlap treats intervals as half-open")
+    void findOverlap_ShouldTreatIntervalsAsHalfOpen() {
+        var tree = new IntervalTree();
+        tree.put(1, 100, 160);
+
+        assertThat(tree.findOverlap(160, 220, 0)).isEmpty();
+        assertThat(tree.findOverlap(40, 100, 0)).isEmpty();
+        assertThat(tree.findOverlap(159, 220, 0)).hasValue(1);
+        assertThat(tree.findOverlap(120, 130, 0)).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("findOverlap ignores the excluded id and keeps searching")
+    void findOverlap_ShouldSkipExcludedId() {
+        var tree = new IntervalTree();
+        tree.put(1, 100, 200);
+        tree.put(2, 150, 250);
+
+        assertThat(tree.findOverlap(180, 190, 1)).hasValue(2);
+        assertThat(tree.findOverlap(110, 120, 1)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("remove detaches the interval and put replaces an existing one")
+    void removeAndPut_ShouldKeepTreeConsistent() {
+        var tree = new IntervalTree();
+        tree.put(1, 100, 200);
+        tree.put(1, 100, 120);
+
+        assertThat(tree.size()).isEqualTo(1);
+        assertThat(tree.findOverlap(150, 160, 0)).isEmpty();
+
+        assertThat(tree.remove(1, 100)).isTrue();
+        assertThat(tree.remove(1, 100)).isFalse();
+        assertThat(tree.findOverlap(100, 120, 0)).isEmpty();
+        assertThat(tree.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("put rejects empty intervals")
+    void put_ShouldRejectEmptyIntervals() {
+        var tree = new IntervalTree();
+
+        assertThatThrownBy(() -> tree.put(1, 100, 100)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("findOverlap agrees with a linear scan after random inserts and removals")
+    void findOverlap_ShouldMatchLinearScan() {
+        var random = new Random(42);
+        var tree = new IntervalTree();
+        var intervals = new ArrayList<long[]>();
+
+        LongStream.range(0, 2_000).forEach(id -> {
+            long start = random.nextInt(100_000);
+            long end = start + 1 + random.nextInt(500);
+            tree.put(id, start, end);
+            intervals.add(new long[]{id, start, end});
+        });
+        for (int i = 0; i < 700; i++) {
+            var removed = intervals.remove(random.nextInt(intervals.size()));
+            tree.remove(removed[0], removed[1]);
+        }
+
+        assertThat(tree.size()).isEqualTo(intervals.size());
+        for (int i = 0; i < 1_000; i++) {
+            long start = random.nextInt(100_000);
+            long end = start + 1 + random.nextInt(300);
+            boolean expected = intervals.stream().anyMatch(interval -> interval[1] < end && interval[2] > start);
+
+            assertThat(tree.findOverlap(start, end, -1).isPresent()).isEqualTo(expected);
+        }
+    }
+}
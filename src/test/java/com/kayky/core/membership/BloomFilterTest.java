@@ -0,0 +1,44 @@
+package com.kayky.core.membership;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Bloom Filter")
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("mightContain never reports an inserted value as absent")
+    void mightContain_ShouldReturnTrue_ForEveryInsertedValue() {
+        var filter = BloomFilter.create(10_000, 0.01);
+
+        IntStream.range(0, 10_000).forEach(i -> filter.put("user" + i + "@example.com"));
+
+        assertThat(IntStream.range(0, 10_000)).allMatch(i -> filter.mightContain("user" + i + "@example.com"));
+        assertThat(filter.insertions()).isEqualTo(10_000);
+    }
+
+    @Test
+    @DisplayName("mightContain keeps false positives close to the configured rate")
+    void mightContain_ShouldKeepFalsePositivesNearConfiguredRate() {
+        var filter = BloomFilter.create(10_000, 0.01);
+        IntStream.range(0, 10_000).forEach(i -> filter.put("user" + i + "@example.com"));
+
+        long falsePositives = IntStream.range(0, 100_000)
+                .filter(i -> filter.mightContain("absent" + i + "@example.com"))
+                .count();
+
+        assertThat(falsePositives).isLessThan(2_000);
+    }
+
+    @Test
+    @DisplayName("create rejects a false positive rate outside (0, 1)")
+    void create_ShouldThrow_WhenFalsePositiveRateIsInvalid() {
+        assertThatThrownBy(() -> BloomFilter.create(100, 1.0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
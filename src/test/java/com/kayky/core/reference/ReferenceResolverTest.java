@@ -0,0 +1,138 @@
+package com.kayky.core.reference;
+
+import com.kayky.commons.DoctorUtils;
+import com.kayky.commons.PatientUtils;
+import com.kayky.config.QueryBudget;
+import com.kayky.core.exception.ResourceNotFoundException;
+import com.kayky.domain.doctor.Doctor;
+import com.kayky.domain.patient.Patient;
+import com.kayky.domain.patient.PatientRepository;
+import com.kayky.domain.user.enums.Role;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Reference Resolver")
+@DataJpaTest
+@Import(ReferenceResolver.class)
+class ReferenceResolverTest {
+
+    @Autowired
+    private ReferenceResolver resolver;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private PatientRepository patientRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Patient patient;
+    private Patient otherPatient;
+    private Doctor doctor;
+
+    @BeforeEach
+    void setUp() {
+        patient = entityManager.persist(PatientUtils.patientToSave().toBuilder()
+                .role(Role.PATIENT)
+                .build());
+        otherPatient = entityManager.persist(PatientUtils.patientToSave().toBuilder()
+                .email("other.patient@example.com")
+                .role(Role.PATIENT)
+                .build());
+        doctor = entityManager.persist(DoctorUtils.savedDoctor(null).toBuilder()
+                .email("doctor.reference@example.com")
+                .role(Role.DOCTOR)
+                .registrationNumber("REG-REF")
+                .department("Cardiology")
+                .salary(new BigDecimal("12000.00"))
+                .build());
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("assertExist loads every id of a type with a single query and leaves them managed")
+    @QueryBudget(max = 2)
+    void assertExist_ShouldIssueOneQueryPerType() {
+        assertThatCode(() -> resolver.assertExist(
+                Reference.of(Patient.class, patient.getId(), "Patient not found"),
+                Reference.of(Patient.class, otherPatient.getId(), "Patient not found"),
+                Reference.of(Doctor.class, doctor.getId(), "Doctor not found")))
+                .doesNotThrowAnyException();
+
+        assertThat(resolver.reference(Patient.class, otherPatient.getId()).getEmail()).isEqualTo("other.patient@example.com");
+        assertThat(resolver.reference(Doctor.class, doctor.getId()).getDepartment()).isEqualTo("Cardiology");
+    }
+
+    @Test
+    @DisplayName("assertExist throws with the message of the first missing reference")
+    void assertExist_ShouldThrow_WhenIdDoesNotExist() {
+        assertThatThrownBy(() -> resolver.assertExist(
+                Reference.of(Patient.class, patient.getId(), "Patient not found"),
+                Reference.of(Doctor.class, -1L, "Doctor with id -1 not found")))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("Doctor with id -1 not found");
+    }
+
+    @Test
+    @DisplayName("assertExist rejects an id that belongs to another user type")
+    void assertExist_ShouldThrow_WhenIdBelongsToAnotherSubtype() {
+        assertThatThrownBy(() -> resolver.assertExist(
+                Reference.of(Doctor.class, patient.getId(), "Doctor with id %d not found".formatted(patient.getId()))))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("Doctor with id %d not found".formatted(patient.getId()));
+    }
+
+    @Test
+    @DisplayName("assertExist rejects a cached id that belongs to another user type")
+    void assertExist_ShouldThrow_WhenCachedIdBelongsToAnotherSubtype() {
+        var transaction = new TransactionTemplate(transactionManager);
+        transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        var committed = transaction.execute(status -> patientRepository.save(PatientUtils.patientToSave().toBuilder()
+                .email("cached.patient@example.com")
+                .role(Role.PATIENT)
+                .build()));
+
+        try {
+            transaction.executeWithoutResult(status -> assertThatCode(() -> resolver.assertExist(
+                    Reference.of(Patient.class, committed.getId(), "Patient not found")))
+                    .doesNotThrowAnyException());
+
+            transaction.executeWithoutResult(status -> assertThatThrownBy(() -> resolver.assertExist(
+                    Reference.of(Doctor.class, committed.getId(), "Doctor not found")))
+                    .isInstanceOf(ResourceNotFoundException.class)
+                    .hasMessage("Doctor not found"));
+        } finally {
+            transaction.executeWithoutResult(status -> patientRepository.deleteById(committed.getId()));
+        }
+    }
+
+    @Test
+    @DisplayName("reference returns an uninitialized proxy without querying")
+    @QueryBudget(max = 0)
+    void reference_ShouldReturnProxyWithoutQuerying() {
+        var reference = resolver.reference(Patient.class, patient.getId());
+
+        assertThat(reference.getId()).isEqualTo(patient.getId());
+        assertThat(Hibernate.isInitialized(reference)).isFalse();
+    }
+}
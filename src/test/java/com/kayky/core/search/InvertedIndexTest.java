@@ -0,0 +1,110 @@
+package com.kayky.core.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Inverted Index")
+class InvertedIndexTest {
+
+    private static final Map<String, Float> WEIGHTS = Map.of("title", 3f, "body", 1f);
+
+    private InvertedIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new InvertedIndex(WEIGHTS);
+        index.put(1, Map.of("title", "Fratura de tíbia", "body", "Paciente com fratura exposta na perna"));
+        index.put(2, Map.of("title", "Revisão pós-operatória", "body", "Sem sinais de fratura, recuperação estável"));
+        index.put(3, Map.of("title", "Consulta de rotina", "body", "Pressão arterial estável"));
+    }
+
+    private static long[] ids(Iterable<SearchHit> hits) {
+        var result = new ArrayList<Long>();
+        hits.forEach(hit -> result.add(hit.id()));
+        return result.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    @Test
+    @DisplayName("search ranks title matches above body-only matches and ignores accents and case")
+    void search_ShouldRankWeightedFieldsFirst_IgnoringAccents() {
+        var hits = index.search("FRATURA tibia", 10);
+
+        assertThat(ids(hits)).containsExactly(1L, 2L);
+        assertThat(hits.get(0).score()).isGreaterThan(hits.get(1).score());
+    }
+
+    @Test
+    @DisplayName("search expands a trailing * to every indexed term with that prefix")
+    void search_ShouldExpandPrefixQueries() {
+        assertThat(ids(index.search("recupera*", 10))).containsExactly(2L);
+        assertThat(ids(index.search("est*", 10))).containsExactlyInAnyOrder(2L, 3L);
+        assertThat(index.search("recupera", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("put replaces the previous version of a document and remove drops it")
+    void put_ShouldReplaceDocument_AndRemoveShouldDropIt() {
+        index.put(1, Map.of("title", "Consulta cardiológica"));
+
+        assertThat(ids(index.search("fratura", 10))).containsExactly(2L);
+        assertThat(ids(index.search("consulta", 10))).containsExactlyInAnyOrder(1L, 3L);
+
+        index.remove(3);
+
+        assertThat(ids(index.search("consulta", 10))).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("search keeps only the best hits when the limit is smaller than the matches")
+    void search_ShouldKeepBestHits_WhenLimited() {
+        assertThat(ids(index.search("fratura", 1))).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("retainAll drops documents that are no longer present")
+    void retainAll_ShouldDropMissingDocuments() {
+        index.retainAll(Set.of(2L));
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(ids(index.search("fratura consulta", 10))).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("writeTo and readFrom round-trip the index with identical scores")
+    void snapshot_ShouldRoundTrip() throws IOException {
+        var bytes = new ByteArrayOutputStream();
+        index.writeTo(new DataOutputStream(bytes));
+
+        var restored = InvertedIndex.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())), WEIGHTS);
+
+        assertThat(restored.size()).isEqualTo(index.size());
+        assertThat(restored.terms()).isEqualTo(index.terms());
+        assertThat(restored.search("fratura est*", 10)).isEqualTo(index.search("fratura est*", 10));
+    }
+
+    @Test
+    @DisplayName("readFrom rejects snapshots written with different field weights")
+    void readFrom_ShouldReject_WhenWeightsDiffer() throws IOException {
+        var bytes = new ByteArrayOutputStream();
+        index.writeTo(new DataOutputStream(bytes));
+
+        var in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+
+        assertThatThrownBy(() -> InvertedIndex.readFrom(in, Map.of("title", 1f, "body", 1f)))
+                .isInstanceOf(IOException.class);
+    }
+}
@@ -0,0 +1,50 @@
+package com.kayky.core.threads;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+@DisplayName("Virtual Thread Pinning Monitor")
+class VirtualThreadPinningMonitorTest {
+
+    private final Object lock = new Object();
+
+    private VirtualThreadPinningMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        monitor = new VirtualThreadPinningMonitor(Duration.ofMillis(10));
+        monitor.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        monitor.stop();
+    }
+
+    @Test
+    @DisplayName("records the application frame that blocked while holding a monitor")
+    void onPinned_ShouldRecordCallSite_WhenVirtualThreadBlocksInsideSynchronized() throws InterruptedException {
+        Thread.ofVirtual().start(this::sleepWhileHoldingLock).join();
+
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() ->
+                assertThat(monitor.pinnedBySite().keySet()).anySatisfy(site ->
+                        assertThat(site).contains("VirtualThreadPinningMonitorTest.sleepWhileHoldingLock")));
+    }
+
+    private void sleepWhileHoldingLock() {
+        synchronized (lock) {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
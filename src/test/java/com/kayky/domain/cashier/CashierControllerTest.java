@@ -3,8 +3,10 @@ package com.kayky.domain.cashier;
 import com.kayky.commons.CashierUtils;
 import com.kayky.commons.FileUtils;
 import com.kayky.commons.PageUtils;
+import com.kayky.core.caching.ResourceVersion;
 import com.kayky.core.exception.EmailAlreadyExistsException;
 import com.kayky.core.exception.ResourceNotFoundException;
+import com.kayky.core.pagination.CountMode;
 import com.kayky.domain.cashier.request.CashierBaseRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -73,6 +75,7 @@ class CashierControllerTest {
 
         var response = CashierUtils.asBaseResponse(savedCashier);
 
+        when(service.findVersion(cashierId)).thenReturn(new ResourceVersion("0"));
         when(service.findById(cashierId)).thenReturn(response);
 
         mockMvc.perform(get(PATH_ID, cashierId)
@@ -89,7 +92,7 @@ class CashierControllerTest {
     void getCashier_shouldReturn404_whenDoesNotExist() throws Exception {
         var expectedErrorMessage = CASHIER_NOT_FOUND;
 
-        when(service.findById(NON_EXISTING_ID)).thenThrow(new ResourceNotFoundException(expectedErrorMessage));
+        when(service.findVersion(NON_EXISTING_ID)).thenThrow(new ResourceNotFoundException(expectedErrorMessage));
 
         mockMvc.perform(get(PATH_ID, NON_EXISTING_ID)
                         .accept(MediaType.APPLICATION_JSON))
@@ -98,7 +101,7 @@ class CashierControllerTest {
                 .andExpect(jsonPath("$.error").value(expectedErrorMessage))
                 .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
 
-        verify(service).findById(NON_EXISTING_ID);
+        verify(service).findVersion(NON_EXISTING_ID);
     }
 
 
@@ -109,7 +112,7 @@ class CashierControllerTest {
         var cashierPage = PageUtils.toPage(cashierList);
         var pagedCashier = PageUtils.pageResponse(cashierPage);
 
-        when(service.findAll(any(Pageable.class))).thenReturn(pagedCashier);
+        when(service.findAll(any(Pageable.class), eq(CountMode.EXACT))).thenReturn(pagedCashier);
 
         mockMvc.perform(get(BASE_URI))
                 .andExpect(status().isOk())
@@ -117,7 +120,7 @@ class CashierControllerTest {
                 .andExpect(content().json(loadExpectedJson("cashier/controller/get/all-paged-cashiers-200.json")))
                 .andExpect(jsonPath("$.content").isArray());
 
-        verify(service).findAll(any(Pageable.class));
+        verify(service).findAll(any(Pageable.class), eq(CountMode.EXACT));
     }
 
     @Test
@@ -1,6 +1,7 @@
 package com.kayky.domain.cashier;
 
 import com.kayky.config.BaseIntegrationTest;
+import com.kayky.config.QueryBudget;
 import com.kayky.domain.cashier.response.CashierBaseResponse;
 import io.restassured.http.ContentType;
 import io.restassured.response.ExtractableResponse;
@@ -43,6 +44,7 @@ public class CashierIntegrationTest extends BaseIntegrationTest {
     class GetEndPoints {
         @Test
         @DisplayName("GET /v1/cashier/{id} - Should return 200 with cashier data when cashier exists")
+        @QueryBudget(max = 2)
         void shouldReturnCashier_whenIdExists() {
             var expectedResponse = readResourceFile(GET + "cashier-by-id-200.json");
 
@@ -53,6 +55,7 @@ public class CashierIntegrationTest extends BaseIntegrationTest {
 
         @Test
         @DisplayName("GET /v1/cashier/{id} - Should return 404 when cashier does not exists")
+        @QueryBudget(max = 1)
         void shouldReturn404_whenIdDoesNotExists() {
             var expectedResponse = readResourceFile(GET + "cashier-not-found-404.json");
 
@@ -63,6 +66,7 @@ public class CashierIntegrationTest extends BaseIntegrationTest {
 
         @Test
         @DisplayName("GET /v1/cashier - Should return 200 with paged cashier data when cashiers exists")
+        @QueryBudget(max = 1)
         void shouldReturnPagedCashiers_whenCashiersExists() {
             var expectedResponse = readResourceFile(GET + "all-paged-cashiers-200.json");
 
@@ -4,6 +4,7 @@ import com.kayky.commons.CashierUtils;
 import com.kayky.commons.PageUtils;
 import com.kayky.core.exception.EmailAlreadyExistsException;
 import com.kayky.core.exception.ResourceNotFoundException;
+import com.kayky.core.pagination.RowCountEstimator;
 import com.kayky.domain.user.UserValidator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -33,10 +34,12 @@ class CashierServiceTest {
     private final CashierMapper cashierMapper = Mappers.getMapper(CashierMapper.class);
     @Mock
     private UserValidator userValidator;
+    @Mock
+    private RowCountEstimator rowCountEstimator;
 
     @BeforeEach
     void setUp() {
-        service = new CashierService(repository, cashierMapper, userValidator);
+        service = new CashierService(repository, cashierMapper, userValidator, rowCountEstimator);
     }
 
     @Test
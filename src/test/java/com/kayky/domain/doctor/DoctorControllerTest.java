@@ -4,8 +4,10 @@ import com.kayky.commons.DoctorUtils;
 import com.kayky.commons.FileUtils;
 import com.kayky.commons.PageUtils;
 import com.kayky.domain.doctor.request.DoctorBaseRequest;
+import com.kayky.core.caching.ResourceVersion;
 import com.kayky.core.exception.EmailAlreadyExistsException;
 import com.kayky.core.exception.ResourceNotFoundException;
+import com.kayky.core.pagination.CountMode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -74,6 +76,7 @@ class DoctorControllerTest {
         var savedDoctor = DoctorUtils.savedDoctor(doctorId);
         var response = DoctorUtils.asBaseResponse(savedDoctor);
 
+        when(service.findVersion(doctorId)).thenReturn(new ResourceVersion("0"));
         when(service.findById(doctorId)).thenReturn(response);
 
         mockMvc.perform(get(PATH_ID, doctorId)
@@ -91,7 +94,7 @@ class DoctorControllerTest {
     void getDoctor_shouldReturn404_whenDoesNotExist() throws Exception {
         var expectedErrorMessage = DOCTOR_NOT_FOUND;
 
-        when(service.findById(NON_EXISTING_ID)).thenThrow(new ResourceNotFoundException(expectedErrorMessage));
+        when(service.findVersion(NON_EXISTING_ID)).thenThrow(new ResourceNotFoundException(expectedErrorMessage));
 
         mockMvc.perform(get(PATH_ID, NON_EXISTING_ID)
                         .accept(MediaType.APPLICATION_JSON))
@@ -100,7 +103,7 @@ class DoctorControllerTest {
                 .andExpect(jsonPath("$.error").value(expectedErrorMessage))
                 .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
 
-        verify(service).findById(NON_EXISTING_ID);
+        verify(service).findVersion(NON_EXISTING_ID);
     }
 
     @Test
@@ -110,7 +113,7 @@ class DoctorControllerTest {
         var doctorPage = PageUtils.toPage(doctorList);
         var pageResponse = PageUtils.pageResponse(doctorPage);
 
-        when(service.findAll(any(Pageable.class))).thenReturn(pageResponse);
+        when(service.findAll(any(Pageable.class), eq(CountMode.EXACT))).thenReturn(pageResponse);
 
         mockMvc.perform(get(BASE_URI))
                 .andExpect(status().isOk())
@@ -118,7 +121,7 @@ class DoctorControllerTest {
                 .andExpect(content().json(loadExpectedJson("doctor/controller/get/all-paged-doctors-200.json")))
                 .andExpect(jsonPath("$.content").isArray());
 
-        verify(service).findAll(any(Pageable.class));
+        verify(service).findAll(any(Pageable.class), eq(CountMode.EXACT));
     }
 
 
@@ -1,6 +1,7 @@
 package com.kayky.domain.doctor;
 
 import com.kayky.config.BaseIntegrationTest;
+import com.kayky.config.QueryBudget;
 import com.kayky.domain.doctor.response.DoctorBaseResponse;
 import io.restassured.http.ContentType;
 import io.restassured.response.ExtractableResponse;
@@ -42,6 +43,7 @@ public class DoctorIntegrationTest extends BaseIntegrationTest {
     class GetEndpoints {
         @Test
         @DisplayName("GET /v1/doctor/{id} - Should return 200 with doctor data when doctor exists")
+        @QueryBudget(max = 2)
         void shouldReturnDoctor_whenIdExists() {
             var expectedResponse = readResourceFile(GET + "doctor-by-id-200.json");
 
@@ -52,6 +54,7 @@ public class DoctorIntegrationTest extends BaseIntegrationTest {
 
         @Test
         @DisplayName("GET /v1/doctor/{id} - Should return 404 when doctor does not exist")
+        @QueryBudget(max = 1)
         void shouldReturn404_whenIdDoesNotExist() {
             var expectedResponse = readResourceFile(GET + "doctor-not-found-404.json");
 
@@ -62,6 +65,7 @@ public class DoctorIntegrationTest extends BaseIntegrationTest {
 
         @Test
         @DisplayName("GET /v1/doctor - Should return 200 with paged doctor data when doctors exist")
+        @QueryBudget(max = 1)
         void shouldReturnPagedDoctors_whenDoctorsExist() {
             var expectedResponse = readResourceFile(GET + "all-paged-doctors-200.json");
 
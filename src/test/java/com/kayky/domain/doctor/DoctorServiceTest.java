@@ -3,18 +3,30 @@ package com.kayky.domain.doctor;
 import com.kayky.commons.DoctorUtils;
 import com.kayky.commons.PageUtils;
 import com.kayky.core.exception.EmailAlreadyExistsException;
+import com.kayky.core.exception.InvalidAvailabilityQueryException;
 import com.kayky.core.exception.ResourceNotFoundException;
+import com.kayky.core.pagination.RowCountEstimator;
+import com.kayky.domain.doctor.availability.AvailabilityDoctor;
+import com.kayky.domain.doctor.availability.AvailableSlot;
+import com.kayky.domain.doctor.availability.DoctorAvailabilityIndex;
 import com.kayky.domain.user.UserValidator;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.mapstruct.factory.Mappers;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageRequest;
 
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
 import java.util.Optional;
 
 import static com.kayky.commons.TestConstants.*;
@@ -36,10 +48,16 @@ class DoctorServiceTest {
 
     @Mock
     private UserValidator userValidator;
+    @Mock
+    private RowCountEstimator rowCountEstimator;
+    @Mock
+    private DoctorAvailabilityIndex availabilityIndex;
+
+    private final Clock clock = Clock.fixed(Instant.parse("2026-03-02T06:00:00Z"), ZoneOffset.UTC);
 
     @BeforeEach
     void setUp (){
-        service = new DoctorService(repository, mapper, userValidator);
+        service = new DoctorService(repository, mapper, userValidator, rowCountEstimator, availabilityIndex, clock);
     }
 
 
@@ -195,4 +213,43 @@ class DoctorServiceTest {
 
         verify(userValidator).assertEmailDoesNotExist(request.getEmail(), doctorId);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("findAvailability - Should map free slots with a default one-week window")
+    void findAvailability_shouldReturnSlots_whenQueryIsValid() {
+        var now = LocalDateTime.now(clock);
+        var doctor = new AvailabilityDoctor(5L, "Michael", "Brown", "Orthopedics");
+        var slot = new AvailableSlot(doctor, now.plusHours(2), now.plusHours(2).plusMinutes(90));
+
+        when(availabilityIndex.findAvailable("Orthopedics", now, now.plusDays(7), 90, 10)).thenReturn(List.of(slot));
+
+        var result = service.findAvailability("Orthopedics", null, null, 90, 10);
+
+        assertThat(result).singleElement().satisfies(response -> {
+            assertThat(response.getDoctorId()).isEqualTo(5L);
+            assertThat(response.getDoctorName()).isEqualTo("Michael Brown");
+            assertThat(response.getSpecialty()).isEqualTo("Orthopedics");
+            assertThat(response.getStartsAt()).isEqualTo(slot.startsAt());
+            assertThat(response.getEndsAt()).isEqualTo(slot.endsAt());
+        });
+    }
+
+    @ParameterizedTest(name = "findAvailability - should reject duration {0} and limit {1}")
+    @CsvSource({"0, 10", "1441, 10", "90, 0", "90, 101"})
+    void findAvailability_shouldThrowBadRequest_whenDurationOrLimitIsOutOfRange(int durationMinutes, int limit) {
+        assertThatThrownBy(() -> service.findAvailability(null, null, null, durationMinutes, limit))
+                .isInstanceOf(InvalidAvailabilityQueryException.class);
+
+        verifyNoInteractions(availabilityIndex);
+    }
+
+    @Test
+    @DisplayName("findAvailability - Should reject a window that ends before it starts")
+    void findAvailability_shouldThrowBadRequest_whenWindowIsEmpty() {
+        var now = LocalDateTime.now(clock);
+
+        assertThatThrownBy(() -> service.findAvailability(null, now, now.minusHours(1), 90, 10))
+                .isInstanceOf(InvalidAvailabilityQueryException.class)
+                .hasMessage("to must be after from");
+    }
+}
@@ -0,0 +1,126 @@
+package com.kayky.domain.doctor.availability;
+
+import com.kayky.domain.doctor.DoctorRepository;
+import com.kayky.domain.operation.OperationRepository;
+import com.kayky.domain.operation.OperationStatus;
+import com.kayky.domain.operation.schedule.ScheduleSlot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Doctor Availability Index - Unit Tests")
+@ExtendWith(MockitoExtension.class)
+class DoctorAvailabilityIndexTest {
+
+    private static final LocalDateTime MONDAY = LocalDateTime.of(2026, 3, 2, 0, 0);
+    private static final AvailabilityDoctor ORTHOPEDIST = new AvailabilityDoctor(1L, "Michael", "Brown", "Orthopedics");
+    private static final AvailabilityDoctor OTHER_ORTHOPEDIST = new AvailabilityDoctor(2L, "Emily", "Clark", "Orthopedics");
+    private static final AvailabilityDoctor CARDIOLOGIST = new AvailabilityDoctor(3L, "Robert", "Williams", "Cardiology");
+
+    @Mock
+    private DoctorRepository doctorRepository;
+
+    @Mock
+    private OperationRepository operationRepository;
+
+    private DoctorAvailabilityIndex index;
+
+    @BeforeEach
+    void setUp() {
+        var clock = Clock.fixed(MONDAY.withHour(6).toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        index = new DoctorAvailabilityIndex(doctorRepository, operationRepository, clock);
+        ReflectionTestUtils.setField(index, "horizonDays", 14);
+        ReflectionTestUtils.setField(index, "dayStartHour", 8);
+        ReflectionTestUtils.setField(index, "dayEndHour", 18);
+
+        when(doctorRepository.findAvailabilityDoctors()).thenReturn(List.of(ORTHOPEDIST, OTHER_ORTHOPEDIST, CARDIOLOGIST));
+        when(operationRepository.streamScheduleSlotsBetween(eq(OperationStatus.occupyingSchedule()), any(), any()))
+                .thenReturn(Stream.of(
+                        new ScheduleSlot(10L, 2L, 20L, MONDAY.withHour(8), 90),
+                        new ScheduleSlot(11L, 1L, 21L, MONDAY.withHour(8), 600)));
+
+        index.rebuild();
+    }
+
+    private static AvailableSlot slot(AvailabilityDoctor doctor, LocalDateTime startsAt, int durationMinutes) {
+        return new AvailableSlot(doctor, startsAt, startsAt.plusMinutes(durationMinutes));
+    }
+
+    @Test
+    @DisplayName("findAvailable returns the earliest free run per doctor within working hours")
+    void findAvailable_ShouldReturnEarliestSlotPerDoctor() {
+        var result = index.findAvailable("orthopedics", MONDAY, MONDAY.plusDays(7), 90, 10);
+
+        assertThat(result).containsExactly(
+                slot(OTHER_ORTHOPEDIST, MONDAY.withHour(9).withMinute(30), 90),
+                slot(ORTHOPEDIST, MONDAY.plusDays(1).withHour(8), 90));
+    }
+
+    @Test
+    @DisplayName("findAvailable without specialty searches every doctor and honours the limit")
+    void findAvailable_ShouldSearchAllDoctors_WhenSpecialtyIsBlank() {
+        var result = index.findAvailable(" ", MONDAY, MONDAY.plusDays(7), 60, 1);
+
+        assertThat(result).containsExactly(slot(CARDIOLOGIST, MONDAY.withHour(8), 60));
+    }
+
+    @Test
+    @DisplayName("findAvailable does not return a run that would cross the end of the working day")
+    void findAvailable_ShouldStayWithinWorkingHours() {
+        var result = index.findAvailable("Cardiology", MONDAY.withHour(17), MONDAY.plusDays(7), 90, 10);
+
+        assertThat(result).containsExactly(slot(CARDIOLOGIST, MONDAY.plusDays(1).withHour(8), 90));
+    }
+
+    @Test
+    @DisplayName("findAvailable rounds partial slots up and returns nothing when the window is too short")
+    void findAvailable_ShouldReturnEmpty_WhenWindowIsTooShort() {
+        var result = index.findAvailable("Cardiology", MONDAY.withHour(9).withMinute(5), MONDAY.withHour(10), 60, 10);
+
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    @DisplayName("move keeps the bitmaps in sync with committed bookings")
+    void move_ShouldOccupyAndFreeSlots() {
+        var booking = new ScheduleSlot(12L, 3L, 22L, MONDAY.withHour(8), 120);
+
+        index.move(null, booking);
+        assertThat(index.findAvailable("Cardiology", MONDAY, MONDAY.plusDays(1), 60, 10))
+                .containsExactly(slot(CARDIOLOGIST, MONDAY.withHour(10), 60));
+
+        index.move(booking, null);
+        assertThat(index.findAvailable("Cardiology", MONDAY, MONDAY.plusDays(1), 60, 10))
+                .containsExactly(slot(CARDIOLOGIST, MONDAY.withHour(8), 60));
+    }
+
+    @Test
+    @DisplayName("move keeps a shared partial slot busy while an adjacent booking still covers it")
+    void move_ShouldKeepSharedSlotBusy_WhenAdjacentBookingIsReleased() {
+        var first = new ScheduleSlot(12L, 3L, 22L, MONDAY.withHour(9), 70);
+        var second = new ScheduleSlot(13L, 3L, 23L, MONDAY.withHour(10).withMinute(10), 50);
+        index.move(null, first);
+        index.move(null, second);
+
+        index.move(first, null);
+
+        assertThat(index.findAvailable("Cardiology", MONDAY.withHour(9), MONDAY.withHour(13), 75, 10))
+                .containsExactly(slot(CARDIOLOGIST, MONDAY.withHour(11), 75));
+    }
+}
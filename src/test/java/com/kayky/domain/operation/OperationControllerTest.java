@@ -3,8 +3,12 @@ package com.kayky.domain.operation;
 import com.kayky.commons.FileUtils;
 import com.kayky.commons.OperationUtils;
 import com.kayky.commons.PageUtils;
+import com.kayky.core.caching.ResourceVersion;
 import com.kayky.core.exception.ResourceNotFoundException;
+import com.kayky.core.exception.StatusTransitionException;
+import com.kayky.core.pagination.CountMode;
 import com.kayky.domain.operation.request.OperationBaseRequest;
+import com.kayky.domain.operation.request.OperationStatusRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -13,6 +17,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
@@ -66,6 +71,13 @@ class OperationControllerTest {
                 .content(jsonContent));
     }
 
+    private ResultActions performPatchStatusRequest(Long id, OperationStatus status) throws Exception {
+        return mockMvc.perform(patch(PATH_ID + "/status", id)
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"status\": \"%s\"}".formatted(status)));
+    }
+
     @Test
     @DisplayName("GET /v1/operation/{id} - Should return 200 when operation exists")
     void getOperation_shouldReturn200_whenExists() throws Exception {
@@ -73,6 +85,7 @@ class OperationControllerTest {
         var savedOperation = OperationUtils.savedOperation();
         var response = OperationUtils.asBaseResponse(savedOperation);
 
+        when(service.findVersion(operationId)).thenReturn(new ResourceVersion("0"));
         when(service.findById(operationId)).thenReturn(response);
 
         mockMvc.perform(get(PATH_ID, operationId)
@@ -89,7 +102,7 @@ class OperationControllerTest {
     void getOperation_shouldReturn404_whenDoesNotExist() throws Exception {
         var expectedErrorMessage = OPERATION_NOT_FOUND;
 
-        when(service.findById(NON_EXISTING_ID)).thenThrow(new ResourceNotFoundException(expectedErrorMessage));
+        when(service.findVersion(NON_EXISTING_ID)).thenThrow(new ResourceNotFoundException(expectedErrorMessage));
 
         mockMvc.perform(get(PATH_ID, NON_EXISTING_ID)
                         .accept(MediaType.APPLICATION_JSON))
@@ -98,7 +111,7 @@ class OperationControllerTest {
                 .andExpect(jsonPath("$.error").value(expectedErrorMessage))
                 .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
 
-        verify(service).findById(NON_EXISTING_ID);
+        verify(service).findVersion(NON_EXISTING_ID);
     }
 
 
@@ -109,7 +122,7 @@ class OperationControllerTest {
         var operationPage = PageUtils.toPage(operationList);
         var pageResponse = PageUtils.pageResponse(operationPage);
 
-        when(service.findAll(any(Pageable.class))).thenReturn(pageResponse);
+        when(service.findAll(any(Pageable.class), eq(CountMode.EXACT))).thenReturn(pageResponse);
 
         mockMvc.perform(get(BASE_URI))
                 .andExpect(status().isOk())
@@ -117,7 +130,7 @@ class OperationControllerTest {
                 .andExpect(content().json(loadExpectedJson("operation/controller/get/all-paged-operations-200.json")))
                 .andExpect(jsonPath("$.content").isArray());
 
-        verify(service).findAll(any(Pageable.class));
+        verify(service).findAll(any(Pageable.class), eq(CountMode.EXACT));
     }
 
     @Test
@@ -229,6 +242,108 @@ class OperationControllerTest {
         verifyNoMoreInteractions(service);
     }
 
+    @Test
+    @DisplayName("PUT /v1/operation/{id} - Should return 409 when the operation was modified concurrently")
+    void updateOperation_shouldReturn409_whenVersionIsStale() throws Exception {
+        doThrow(new ObjectOptimisticLockingFailureException(Operation.class, EXISTING_ID))
+                .when(service).update(any(OperationBaseRequest.class), eq(EXISTING_ID));
+
+        performPutRequest(EXISTING_ID, validUpdateRequest)
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.status").value(409))
+                .andExpect(jsonPath("$.error").value("Operation was modified concurrently, reload it and try again"));
+    }
+
+    @Test
+    @DisplayName("GET /v1/operation/{id} - Should serve a new ETag after the operation is updated")
+    void getOperation_shouldChangeEtag_afterUpdate() throws Exception {
+        var updatedOperation = OperationUtils.updatedOperation();
+        var operationId = updatedOperation.getId();
+        var response = OperationUtils.asBaseResponse(updatedOperation);
+
+        when(service.findVersion(operationId))
+                .thenReturn(new ResourceVersion("0-0-0"))
+                .thenReturn(new ResourceVersion("0-0-0"))
+                .thenReturn(new ResourceVersion("1-0-0"));
+        when(service.findById(operationId)).thenReturn(response);
+        when(service.update(any(OperationBaseRequest.class), eq(operationId))).thenReturn(response);
+
+        var etag = mockMvc.perform(get(PATH_ID, operationId))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get(PATH_ID, operationId).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        performPutRequest(operationId, validUpdateRequest)
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get(PATH_ID, operationId).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1-0-0\""))
+                .andExpect(content().json(loadExpectedJson("operation/controller/put/response/response-updated-operation.json")));
+
+        verify(service, times(2)).findById(operationId);
+    }
+
+    @Test
+    @DisplayName("PATCH /v1/operation/{id}/status - Should return 204 when the transition is applied")
+    void updateStatus_shouldReturn204_whenTransitionIsAllowed() throws Exception {
+        doNothing().when(service).updateStatus(any(OperationStatusRequest.class), eq(EXISTING_ID));
+
+        performPatchStatusRequest(EXISTING_ID, OperationStatus.IN_PROGRESS)
+                .andExpect(status().isNoContent())
+                .andExpect(content().string(""));
+
+        verify(service).updateStatus(argThat(request -> request.getStatus() == OperationStatus.IN_PROGRESS), eq(EXISTING_ID));
+    }
+
+    @Test
+    @DisplayName("PATCH /v1/operation/{id}/status - Should return 404 when operation does not exist")
+    void updateStatus_shouldReturn404_whenOperationDoesNotExist() throws Exception {
+        doThrow(new ResourceNotFoundException(OPERATION_NOT_FOUND))
+                .when(service).updateStatus(any(OperationStatusRequest.class), eq(NON_EXISTING_ID));
+
+        performPatchStatusRequest(NON_EXISTING_ID, OperationStatus.CANCELED)
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error").value(OPERATION_NOT_FOUND));
+    }
+
+    @Test
+    @DisplayName("PATCH /v1/operation/{id}/status - Should return 409 when the operation was modified concurrently")
+    void updateStatus_shouldReturn409_whenUpdateLosesTheRace() throws Exception {
+        doThrow(new ObjectOptimisticLockingFailureException(Operation.class, EXISTING_ID))
+                .when(service).updateStatus(any(OperationStatusRequest.class), eq(EXISTING_ID));
+
+        performPatchStatusRequest(EXISTING_ID, OperationStatus.CANCELED)
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.error").value("Operation was modified concurrently, reload it and try again"));
+    }
+
+    @Test
+    @DisplayName("PATCH /v1/operation/{id}/status - Should return 422 when the transition is not allowed")
+    void updateStatus_shouldReturn422_whenTransitionIsNotAllowed() throws Exception {
+        var message = "Cannot change operation status from COMPLETED to SCHEDULED";
+        doThrow(new StatusTransitionException(message))
+                .when(service).updateStatus(any(OperationStatusRequest.class), eq(EXISTING_ID));
+
+        performPatchStatusRequest(EXISTING_ID, OperationStatus.SCHEDULED)
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.error").value(message));
+    }
+
+    @Test
+    @DisplayName("PATCH /v1/operation/{id}/status - Should return 422 when status is missing")
+    void updateStatus_shouldReturn422_whenStatusIsMissing() throws Exception {
+        mockMvc.perform(patch(PATH_ID + "/status", EXISTING_ID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{}"))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.fieldErrors[0].fieldName").value("status"));
+
+        verify(service, never()).updateStatus(any(), anyLong());
+    }
+
     @Test
     @DisplayName("DELETE /v1/operation/{id} - Should return 204 No Content when operation is deleted successfully")
     void delete_shouldReturn204_whenOperationExists() throws Exception {
@@ -1,6 +1,7 @@
 package com.kayky.domain.operation;
 
 import com.kayky.config.BaseIntegrationTest;
+import com.kayky.config.QueryBudget;
 import com.kayky.domain.operation.response.OperationBaseResponse;
 import io.restassured.http.ContentType;
 import io.restassured.response.ExtractableResponse;
@@ -16,7 +17,12 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.test.context.jdbc.Sql;
 
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
 
 import static com.kayky.commons.FileUtils.readResourceFile;
 import static com.kayky.commons.JsonTestUtils.assertJsonEquals;
@@ -46,6 +52,7 @@ public class OperationIntegrationTest extends BaseIntegrationTest {
     class GetEndPoints {
         @Test
         @DisplayName("GET /v1/operation/{id} - Should return 200 with operation data when operation exists")
+        @QueryBudget(max = 2)
         void shouldReturnOperation_whenIdExists() {
             var expectedResponse = readResourceFile(GET + "operation-by-id-200.json");
 
@@ -56,6 +63,7 @@ public class OperationIntegrationTest extends BaseIntegrationTest {
 
         @Test
         @DisplayName("GET /v1/operation/{id} - Should return 404 when operation does not exists")
+        @QueryBudget(max = 1)
         void shouldReturn404_whenIdDoesNotExist() {
             var expectedResponse = readResourceFile(GET + "operation-not-found-404.json");
 
@@ -66,6 +74,7 @@ public class OperationIntegrationTest extends BaseIntegrationTest {
 
         @Test
         @DisplayName("GET /v1/operation - Should return 200 with paged operation data when operations exist")
+        @QueryBudget(max = 1)
         void shouldReturnPagedOperations_whenOperationsExists() {
             var expectedResponse = readResourceFile(GET + "all-paged-operations-200.json");
 
@@ -319,6 +328,93 @@ public class OperationIntegrationTest extends BaseIntegrationTest {
         }
     }
 
+    @Nested
+    @DisplayName("PATCH /v1/operation/{id}/status")
+    class PatchStatusEndpoints {
+
+        private static final long CANCELED_ID = 3L;
+
+        private static String statusBody(OperationStatus status) {
+            return "{\"status\": \"%s\"}".formatted(status);
+        }
+
+        @Test
+        @DisplayName("PATCH /v1/operation/{id}/status - Should return 204 and apply an allowed transition")
+        void shouldReturn204_whenTransitionIsAllowed() {
+            api().patch("/{id}/status", statusBody(OperationStatus.IN_PROGRESS), HttpStatus.NO_CONTENT, Map.of("id", EXISTING_ID));
+
+            var snapshot = repository.findStatusById(EXISTING_ID).orElseThrow();
+            assertThat(snapshot.status()).isEqualTo(OperationStatus.IN_PROGRESS);
+            assertThat(snapshot.version()).isEqualTo(1L);
+        }
+
+        @Test
+        @DisplayName("PATCH /v1/operation/{id}/status - Should return 404 when operation does not exist")
+        void shouldReturn404_whenOperationDoesNotExist() {
+            var response = api().patch("/{id}/status", statusBody(OperationStatus.CANCELED), HttpStatus.NOT_FOUND,
+                    Map.of("id", NON_EXISTING_ID)).asString();
+
+            JsonAssertions.assertThatJson(response).node("error").isEqualTo("Operation not found");
+        }
+
+        @Test
+        @DisplayName("PATCH /v1/operation/{id}/status - Should return 422 when the transition is not allowed")
+        void shouldReturn422_whenTransitionIsNotAllowed() {
+            var response = api().patch("/{id}/status", statusBody(OperationStatus.SCHEDULED), HttpStatus.UNPROCESSABLE_ENTITY,
+                    Map.of("id", CANCELED_ID)).asString();
+
+            JsonAssertions.assertThatJson(response)
+                    .node("error").isEqualTo("Cannot change operation status from CANCELED to SCHEDULED");
+            assertThat(repository.findStatusById(CANCELED_ID).orElseThrow().status()).isEqualTo(OperationStatus.CANCELED);
+        }
+
+        @Test
+        @DisplayName("PATCH /v1/operation/{id}/status - Should let only one of concurrent transitions win")
+        void shouldApplyOnlyOneTransition_whenRequestsRace() {
+            var requests = 8;
+            var start = new CountDownLatch(1);
+            List<CompletableFuture<Integer>> responses;
+
+            try (var executor = Executors.newFixedThreadPool(requests)) {
+                responses = IntStream.range(0, requests)
+                        .mapToObj(i -> CompletableFuture.supplyAsync(() -> {
+                            awaitQuietly(start);
+                            return api().patchStatusCode("/{id}/status", statusBody(OperationStatus.CANCELED),
+                                    Map.of("id", EXISTING_ID));
+                        }, executor))
+                        .toList();
+                start.countDown();
+            }
+
+            var statusCodes = responses.stream().map(CompletableFuture::join).toList();
+            assertThat(statusCodes.stream().filter(code -> code == HttpStatus.NO_CONTENT.value()).count()).isEqualTo(1L);
+            assertThat(statusCodes.stream().allMatch(code -> code == HttpStatus.NO_CONTENT.value()
+                    || code == HttpStatus.CONFLICT.value()
+                    || code == HttpStatus.UNPROCESSABLE_ENTITY.value())).isTrue();
+            assertThat(repository.findStatusById(EXISTING_ID).orElseThrow().version()).isEqualTo(1L);
+        }
+
+        @Test
+        @DisplayName("PUT /v1/operation/{id} - Should ignore the status sent in the body")
+        void shouldIgnoreStatus_whenUpdatingThroughPut() {
+            var request = readResourceFile(PUT + "request/request-update-operation.json")
+                    .replace("\"SCHEDULED\"", "\"COMPLETED\"");
+
+            var response = api().put("/{id}", request, HttpStatus.OK, Map.of("id", EXISTING_ID)).asString();
+
+            JsonAssertions.assertThatJson(response).node("status").isEqualTo("SCHEDULED");
+            assertThat(repository.findStatusById(EXISTING_ID).orElseThrow().status()).isEqualTo(OperationStatus.SCHEDULED);
+        }
+
+        private static void awaitQuietly(CountDownLatch latch) {
+            try {
+                latch.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
     @Nested
     @DisplayName("DELETE /v1/operation/{id}")
     class DeleteEndpoints {
@@ -379,6 +475,24 @@ public class OperationIntegrationTest extends BaseIntegrationTest {
                     .extract();
         }
 
+        ExtractableResponse<Response> patch(String path, String body, HttpStatus status, Map<String, ?> pathParams) {
+            return baseRequest()
+                    .pathParams(pathParams)
+                    .body(body)
+                    .patch(path)
+                    .then()
+                    .statusCode(status.value())
+                    .extract();
+        }
+
+        int patchStatusCode(String path, String body, Map<String, ?> pathParams) {
+            return baseRequest()
+                    .pathParams(pathParams)
+                    .body(body)
+                    .patch(path)
+                    .statusCode();
+        }
+
         ExtractableResponse<Response> delete(String path, HttpStatus status, Map<String, ?> pathParams) {
             return baseRequest()
                     .pathParams(pathParams)
@@ -0,0 +1,129 @@
+package com.kayky.domain.operation;
+
+import com.kayky.commons.DoctorUtils;
+import com.kayky.commons.OperationUtils;
+import com.kayky.commons.PatientUtils;
+import com.kayky.domain.doctor.Doctor;
+import com.kayky.domain.operation.schedule.ScheduleSlot;
+import com.kayky.domain.patient.Patient;
+import com.kayky.domain.user.enums.Role;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Operation Repository")
+@DataJpaTest
+class OperationRepositoryTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2026, 3, 2, 9, 0);
+
+    @Autowired
+    private OperationRepository repository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Patient patient;
+    private Doctor doctor;
+    private Operation booked;
+    private Operation canceled;
+
+    @BeforeEach
+    void setUp() {
+        patient = entityManager.persist(PatientUtils.patientToSave().toBuilder()
+                .role(Role.PATIENT)
+                .build());
+
+        doctor = entityManager.persist(DoctorUtils.savedDoctor(null).toBuilder()
+                .email("doctor.schedule@example.com")
+                .role(Role.DOCTOR)
+                .registrationNumber("REG-SCHEDULE")
+                .department("Surgery")
+                .salary(new BigDecimal("12000.00"))
+                .build());
+
+        booked = persistOperation(START, 90, OperationStatus.SCHEDULED);
+        canceled = persistOperation(START.plusMinutes(30), 60, OperationStatus.CANCELED);
+        persistOperation(START.plusDays(2), 60, OperationStatus.SCHEDULED);
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private Operation persistOperation(LocalDateTime scheduledAt, int durationMinutes, OperationStatus status) {
+        return entityManager.persist(OperationUtils.createOperationBuilder(null)
+                .patient(patient)
+                .doctor(doctor)
+                .scheduledAt(scheduledAt)
+                .durationMinutes(durationMinutes)
+                .status(status)
+                .build());
+    }
+
+    @Test
+    @DisplayName("findScheduleCandidates returns occupying bookings inside the search window")
+    void findScheduleCandidates_ShouldReturnOccupyingBookingsInWindow() {
+        var result = repository.findScheduleCandidates(doctor.getId(), patient.getId(), -1L,
+                OperationStatus.occupyingSchedule(),
+                START.plusHours(1).minusMinutes(Operation.MAX_DURATION_MINUTES), START.plusHours(2));
+
+        assertThat(result).containsExactly(
+                new ScheduleSlot(booked.getId(), doctor.getId(), patient.getId(), START, 90));
+    }
+
+    @Test
+    @DisplayName("findScheduleCandidates excludes the operation being booked")
+    void findScheduleCandidates_ShouldExcludeOwnOperation() {
+        var result = repository.findScheduleCandidates(doctor.getId(), patient.getId(), booked.getId(),
+                OperationStatus.occupyingSchedule(),
+                START.minusMinutes(Operation.MAX_DURATION_MINUTES), START.plusHours(2));
+
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    @DisplayName("streamScheduleSlots skips operations that no longer occupy the schedule")
+    void streamScheduleSlots_ShouldSkipCanceledOperations() {
+        try (var slots = repository.streamScheduleSlots(OperationStatus.occupyingSchedule())) {
+            assertThat(slots.map(ScheduleSlot::operationId).toList())
+                    .hasSize(2)
+                    .doesNotContain(canceled.getId());
+        }
+    }
+
+    @Test
+    @DisplayName("updateStatus changes the status and bumps the version when status and version still match")
+    void updateStatus_ShouldApply_WhenGuardMatches() {
+        var before = repository.findStatusById(booked.getId()).orElseThrow();
+
+        int updated = repository.updateStatus(booked.getId(), OperationStatus.SCHEDULED, before.version(),
+                OperationStatus.IN_PROGRESS);
+
+        var after = repository.findStatusById(booked.getId()).orElseThrow();
+        assertThat(updated).isEqualTo(1);
+        assertThat(after.status()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(after.version()).isEqualTo(before.version() + 1);
+    }
+
+    @Test
+    @DisplayName("updateStatus leaves the row untouched when the version is stale")
+    void updateStatus_ShouldSkip_WhenVersionIsStale() {
+        var before = repository.findStatusById(booked.getId()).orElseThrow();
+        repository.updateStatus(booked.getId(), OperationStatus.SCHEDULED, before.version(), OperationStatus.IN_PROGRESS);
+
+        int updated = repository.updateStatus(booked.getId(), OperationStatus.SCHEDULED, before.version(),
+                OperationStatus.CANCELED);
+
+        assertThat(updated).isZero();
+        assertThat(repository.findStatusById(booked.getId()).orElseThrow().status())
+                .isEqualTo(OperationStatus.IN_PROGRESS);
+    }
+}
@@ -3,27 +3,52 @@ package com.kayky.domain.operation;
 import com.kayky.commons.DoctorUtils;
 import com.kayky.commons.OperationUtils;
 import com.kayky.commons.PatientUtils;
-import com.kayky.domain.user.UserValidator;
+import com.kayky.core.exception.InvalidDateRangeException;
+import com.kayky.core.exception.InvalidFieldSelectionException;
 import com.kayky.core.exception.ResourceNotFoundException;
+import com.kayky.core.exception.ScheduleConflictException;
+import com.kayky.core.exception.StatusTransitionException;
+import com.kayky.core.fieldset.SparseFieldsetRepository;
+import com.kayky.core.pagination.CountMode;
+import com.kayky.core.pagination.RowCountEstimator;
+import com.kayky.core.reference.Reference;
+import com.kayky.core.reference.ReferenceResolver;
+import com.kayky.domain.doctor.Doctor;
+import com.kayky.domain.operation.calendar.CalendarFilter;
+import com.kayky.domain.operation.calendar.OperationCalendarCache;
+import com.kayky.domain.operation.calendar.OperationCalendarEntry;
+import com.kayky.domain.operation.calendar.OperationCalendarRepository;
+import com.kayky.domain.operation.request.OperationBaseRequest;
+import com.kayky.domain.operation.request.OperationStatusRequest;
+import com.kayky.domain.operation.schedule.OperationScheduler;
+import com.kayky.domain.operation.schedule.ScheduleSlot;
+import com.kayky.domain.patient.Patient;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mapstruct.factory.Mappers;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import static com.kayky.commons.TestConstants.*;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @DisplayName("Operation Service - Unit Tests")
@@ -36,13 +61,25 @@ class OperationServiceTest {
     private OperationRepository repository;
 
     @Mock
-    private  UserValidator userValidator;
+    private ReferenceResolver referenceResolver;
+    @Mock
+    private OperationScheduler scheduler;
+    @Mock
+    private OperationCalendarRepository calendarRepository;
+    @Mock
+    private OperationCalendarCache calendarCache;
+    @Mock
+    private RowCountEstimator rowCountEstimator;
+    @Mock
+    private SparseFieldsetRepository sparseFieldsetRepository;
 
     private final OperationMapper mapper = Mappers.getMapper(OperationMapper.class);
 
+    private static final LocalDateTime CALENDAR_FROM = LocalDateTime.of(2025, 10, 13, 0, 0);
+
     @BeforeEach
     void setUp(){
-        service = new OperationService(repository, userValidator, mapper);
+        service = new OperationService(repository, referenceResolver, scheduler, calendarRepository, calendarCache, mapper, rowCountEstimator, sparseFieldsetRepository);
     }
 
     @Test
@@ -94,6 +131,73 @@ class OperationServiceTest {
         assertThat(result.getContent()).usingRecursiveComparison().isEqualTo(expectedResponse);
     }
 
+    @Test
+    @DisplayName("findAll - Should return slice without totals when count mode is none")
+    void findAll_shouldReturnSliceWithoutTotals_whenCountModeIsNone() {
+        PageRequest pageRequest = PageRequest.of(0, 2);
+        var projections = OperationUtils.operationProjectionList();
+        var slice = new SliceImpl<>(projections.subList(0, 2), pageRequest, true);
+
+        when(repository.findSliceProjected(pageRequest)).thenReturn(slice);
+
+        var result = service.findAll(pageRequest, CountMode.NONE);
+
+        assertThat(result.getContent()).hasSize(2);
+        assertThat(result.getHasNext()).isTrue();
+        assertThat(result.getTotalElements()).isNull();
+        assertThat(result.getTotalPages()).isNull();
+
+        verify(repository, never()).findAllProjected(any());
+        verify(repository, never()).count();
+        verifyNoInteractions(rowCountEstimator);
+    }
+
+    @Test
+    @DisplayName("findAll - Should return estimated totals when count mode is estimate")
+    void findAll_shouldReturnEstimatedTotals_whenCountModeIsEstimate() {
+        PageRequest pageRequest = PageRequest.of(0, 2);
+        var projections = OperationUtils.operationProjectionList();
+        var slice = new SliceImpl<>(projections.subList(0, 2), pageRequest, true);
+
+        when(repository.findSliceProjected(pageRequest)).thenReturn(slice);
+        when(rowCountEstimator.estimate(eq(Operation.class), any())).thenReturn(40L);
+
+        var result = service.findAll(pageRequest, CountMode.ESTIMATE);
+
+        assertThat(result.getTotalElements()).isEqualTo(40L);
+        assertThat(result.getTotalPages()).isEqualTo(20);
+        assertThat(result.getHasNext()).isTrue();
+
+        verify(repository, never()).findAllProjected(any());
+    }
+
+    @Test
+    @DisplayName("findAll - Should return exact total on last slice when count mode is estimate")
+    void findAll_shouldReturnExactTotalOnLastSlice_whenCountModeIsEstimate() {
+        PageRequest pageRequest = PageRequest.of(0, 10);
+        var projections = OperationUtils.operationProjectionList();
+        var slice = new SliceImpl<>(projections, pageRequest, false);
+
+        when(repository.findSliceProjected(pageRequest)).thenReturn(slice);
+        when(rowCountEstimator.estimate(eq(Operation.class), any())).thenReturn(40L);
+
+        var result = service.findAll(pageRequest, CountMode.ESTIMATE);
+
+        assertThat(result.getTotalElements()).isEqualTo(projections.size());
+        assertThat(result.getTotalPages()).isEqualTo(1);
+        assertThat(result.getHasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("findAllSparse - Should throw invalid-field exception when a field is not selectable")
+    void findAllSparse_shouldThrowInvalidFieldSelection_whenFieldIsUnknown() {
+        assertThatThrownBy(() -> service.findAllSparse("id,doctor.password", PageRequest.of(0, 10)))
+                .isInstanceOf(InvalidFieldSelectionException.class)
+                .hasMessageStartingWith("Unknown field 'doctor.password'");
+
+        verifyNoInteractions(sparseFieldsetRepository);
+    }
+
     @Test
     @DisplayName("save - Should return base response when request is valid")
     void save_shouldReturnBaseResponse_whenCreatingValidOperation() {
@@ -103,11 +207,8 @@ class OperationServiceTest {
         var savedOperation = OperationUtils.savedOperation();
         var expectedResponse = OperationUtils.asBaseResponse(savedOperation);
 
-        doNothing().when(userValidator).assertIfUserExist(request.getPatientId(), "Patient");
-        doNothing().when(userValidator).assertIfUserExist(request.getDoctorId(), "Doctor");
-
-        when(userValidator.getDoctorIfExists(EXISTING_ID)).thenReturn(doctor);
-        when(userValidator.getPatientIfExists(EXISTING_ID)).thenReturn(patient);
+        when(referenceResolver.reference(Doctor.class, EXISTING_ID)).thenReturn(doctor);
+        when(referenceResolver.reference(Patient.class, EXISTING_ID)).thenReturn(patient);
 
         when(repository.save(any(Operation.class))).thenReturn(savedOperation);
 
@@ -117,10 +218,41 @@ class OperationServiceTest {
                 .isEqualTo(expectedResponse);
 
         verify(repository).save(any(Operation.class));
-        verify(userValidator).assertIfUserExist(request.getPatientId(), "Patient");
-        verify(userValidator).assertIfUserExist(request.getDoctorId(), "Doctor");
-        verify(userValidator).getPatientIfExists(request.getPatientId());
-        verify(userValidator).getDoctorIfExists(request.getDoctorId());
+        verify(referenceResolver).assertExist(patientReference(request), doctorReference(request));
+        verify(scheduler).book(savedOperation, null);
+        verify(calendarCache).invalidateAfterCommit();
+    }
+
+    @Test
+    @DisplayName("save - Should create the operation as SCHEDULED when the request has no status")
+    void save_shouldDefaultToScheduled_whenStatusIsMissing() {
+        var request = OperationUtils.asBaseRequest();
+        request.setStatus(null);
+
+        when(referenceResolver.reference(Doctor.class, EXISTING_ID)).thenReturn(DoctorUtils.savedDoctor(EXISTING_ID));
+        when(referenceResolver.reference(Patient.class, EXISTING_ID)).thenReturn(PatientUtils.savedPatient(EXISTING_ID));
+        when(repository.save(any(Operation.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        var result = service.save(request);
+
+        assertThat(result.getStatus()).isEqualTo(OperationStatus.SCHEDULED);
+    }
+
+    @Test
+    @DisplayName("save - should propagate schedule conflict when the interval is already booked")
+    void save_shouldThrowScheduleConflict_whenIntervalIsAlreadyBooked() {
+        var request = OperationUtils.asBaseRequest();
+        var savedOperation = OperationUtils.savedOperation();
+        var message = "Doctor with id 1 is already booked for operation 2 in the requested interval";
+
+        when(referenceResolver.reference(Doctor.class, EXISTING_ID)).thenReturn(DoctorUtils.savedDoctor(EXISTING_ID));
+        when(referenceResolver.reference(Patient.class, EXISTING_ID)).thenReturn(PatientUtils.savedPatient(EXISTING_ID));
+        when(repository.save(any(Operation.class))).thenReturn(savedOperation);
+        doThrow(new ScheduleConflictException(message)).when(scheduler).book(savedOperation, null);
+
+        assertThatThrownBy(() -> service.save(request))
+                .isInstanceOf(ScheduleConflictException.class)
+                .hasMessage(message);
     }
 
     @Test
@@ -128,14 +260,14 @@ class OperationServiceTest {
     void save_shouldThrowNotFound_whenPatientDoesNotExist() {
         var request = OperationUtils.asBaseRequest();
 
-        doThrow(new ResourceNotFoundException("Patient not found"))
-                .when(userValidator).assertIfUserExist(request.getPatientId(), "Patient");
+        doThrow(new ResourceNotFoundException("Patient with id %d not found".formatted(request.getPatientId())))
+                .when(referenceResolver).assertExist(patientReference(request), doctorReference(request));
 
         assertThatThrownBy(() -> service.save(request))
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining("Patient");
 
-        verify(userValidator).assertIfUserExist(request.getPatientId(), "Patient");
+        verify(repository, never()).save(any(Operation.class));
     }
 
     @Test
@@ -143,17 +275,14 @@ class OperationServiceTest {
     void save_shouldThrowNotFound_whenDoctorDoesNotExist() {
         var request = OperationUtils.asBaseRequest();
 
-        doThrow(new ResourceNotFoundException("Doctor not found"))
-                .when(userValidator).assertIfUserExist(request.getDoctorId(), "Doctor");
-
-        doNothing().when(userValidator).assertIfUserExist(request.getPatientId(), "Patient");
+        doThrow(new ResourceNotFoundException("Doctor with id %d not found".formatted(request.getDoctorId())))
+                .when(referenceResolver).assertExist(patientReference(request), doctorReference(request));
 
         assertThatThrownBy(() -> service.save(request))
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining("Doctor");
 
-        verify(userValidator).assertIfUserExist(request.getPatientId(), "Patient");
-        verify(userValidator).assertIfUserExist(request.getDoctorId(), "Doctor");
+        verify(repository, never()).save(any(Operation.class));
     }
 
     @Test
@@ -167,19 +296,41 @@ class OperationServiceTest {
         var expectedResponse = OperationUtils.asBaseResponse(savedOperation);
 
         when(repository.findById(EXISTING_ID)).thenReturn(Optional.of(savedOperation));
-        when(userValidator.getDoctorIfExists(EXISTING_ID)).thenReturn(doctor);
-        when(userValidator.getPatientIfExists(EXISTING_ID)).thenReturn(patient);
+        when(referenceResolver.reference(Doctor.class, EXISTING_ID)).thenReturn(doctor);
+        when(referenceResolver.reference(Patient.class, EXISTING_ID)).thenReturn(patient);
 
         when(repository.save(any(Operation.class))).thenReturn(savedOperation);
 
+        var previousSlot = ScheduleSlot.of(savedOperation);
+
         var result = service.update(request, EXISTING_ID);
 
         assertThat(result)
                 .usingRecursiveComparison()
                 .isEqualTo(expectedResponse);
 
-        verify(userValidator).getPatientIfExists(request.getPatientId());
-        verify(userValidator).getDoctorIfExists(request.getDoctorId());
+        verify(referenceResolver).assertExist(patientReference(request), doctorReference(request));
+        verify(scheduler).book(savedOperation, previousSlot);
+        verify(calendarCache).invalidateAfterCommit();
+    }
+
+    @Test
+    @DisplayName("update - Should keep the current status whatever the request sends")
+    void update_shouldKeepStatus_whenRequestCarriesAnotherStatus() {
+        var request = OperationUtils.asBaseRequest();
+        request.setStatus(OperationStatus.COMPLETED);
+        var savedOperation = OperationUtils.savedOperation();
+
+        when(repository.findById(EXISTING_ID)).thenReturn(Optional.of(savedOperation));
+        when(referenceResolver.reference(Doctor.class, EXISTING_ID)).thenReturn(DoctorUtils.savedDoctor(EXISTING_ID));
+        when(referenceResolver.reference(Patient.class, EXISTING_ID)).thenReturn(PatientUtils.savedPatient(EXISTING_ID));
+        when(repository.save(any(Operation.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        var result = service.update(request, EXISTING_ID);
+
+        assertThat(result.getStatus()).isEqualTo(OperationStatus.SCHEDULED);
+        assertThat(savedOperation.getStatus()).isEqualTo(OperationStatus.SCHEDULED);
+        verify(repository, never()).updateStatus(any(), any(), any(), any());
     }
 
     @Test
@@ -190,16 +341,15 @@ class OperationServiceTest {
 
         when(repository.findById(EXISTING_ID)).thenReturn(Optional.of(savedOperation));
 
-        when(userValidator.getPatientIfExists(request.getPatientId()))
-                .thenThrow(new ResourceNotFoundException(
-                        "Patient with id %d not found".formatted(request.getPatientId())));
+        doThrow(new ResourceNotFoundException("Patient with id %d not found".formatted(request.getPatientId())))
+                .when(referenceResolver).assertExist(patientReference(request), doctorReference(request));
 
         assertThatThrownBy(() -> service.update(request, EXISTING_ID))
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining("Patient");
 
         verify(repository).findById(EXISTING_ID);
-        verify(userValidator).getPatientIfExists(request.getPatientId());
+        verify(repository, never()).save(any(Operation.class));
     }
 
     @Test
@@ -210,20 +360,15 @@ class OperationServiceTest {
 
         when(repository.findById(EXISTING_ID)).thenReturn(Optional.of(savedOperation));
 
-        when(userValidator.getPatientIfExists(request.getPatientId()))
-                .thenReturn(PatientUtils.savedPatient(request.getPatientId()));
-
-        when(userValidator.getDoctorIfExists(request.getDoctorId()))
-                .thenThrow(new ResourceNotFoundException(
-                        "Doctor with id %d not found".formatted(request.getDoctorId())));
+        doThrow(new ResourceNotFoundException("Doctor with id %d not found".formatted(request.getDoctorId())))
+                .when(referenceResolver).assertExist(patientReference(request), doctorReference(request));
 
         assertThatThrownBy(() -> service.update(request, EXISTING_ID))
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining("Doctor");
 
         verify(repository).findById(EXISTING_ID);
-        verify(userValidator).getPatientIfExists(request.getPatientId());
-        verify(userValidator).getDoctorIfExists(request.getDoctorId());
+        verify(repository, never()).save(any(Operation.class));
     }
 
     @Test
@@ -236,6 +381,8 @@ class OperationServiceTest {
 
         verify(repository).existsById(EXISTING_ID);
         verify(repository).deleteById(EXISTING_ID);
+        verify(scheduler).release(EXISTING_ID);
+        verify(calendarCache).invalidateAfterCommit();
     }
 
     @Test
@@ -246,5 +393,149 @@ class OperationServiceTest {
         assertThatThrownBy(() -> service.delete(NON_EXISTING_ID))
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessage(OPERATION_NOT_FOUND);
+
+        verifyNoInteractions(scheduler);
+    }
+
+    @Test
+    @DisplayName("findCalendar - Should serve entries from the week cache when it covers the window")
+    void findCalendar_ShouldUseCache_WhenWindowIsCached() {
+        var filter = CalendarFilter.between(CALENDAR_FROM, CALENDAR_FROM.plusDays(1));
+        when(calendarCache.find(filter)).thenReturn(Optional.of(List.of(calendarEntry())));
+
+        var result = service.findCalendar(filter);
+
+        assertThat(result).singleElement().satisfies(response -> {
+            assertThat(response.getId()).isEqualTo(EXISTING_ID);
+            assertThat(response.getDoctorName()).isEqualTo("Emily Johnson");
+            assertThat(response.getPatientName()).isEqualTo("Michael Carter");
+            assertThat(response.getEndsAt()).isEqualTo(CALENDAR_FROM.plusHours(10));
+        });
+        verifyNoInteractions(calendarRepository);
+    }
+
+    @Test
+    @DisplayName("findCalendar - Should query the repository when the cache does not cover the window")
+    void findCalendar_ShouldQueryRepository_WhenWindowIsNotCached() {
+        var filter = new CalendarFilter(CALENDAR_FROM, CALENDAR_FROM.plusDays(10), 1L, null,
+                Set.of(OperationStatus.SCHEDULED));
+        when(calendarCache.find(filter)).thenReturn(Optional.empty());
+        when(calendarRepository.findCalendar(filter)).thenReturn(List.of(calendarEntry()));
+
+        var result = service.findCalendar(filter);
+
+        assertThat(result).hasSize(1);
+        verify(calendarRepository).findCalendar(filter);
+    }
+
+    @Test
+    @DisplayName("findCalendar - Should reject windows that end before they start")
+    void findCalendar_ShouldThrow_WhenRangeIsInverted() {
+        var filter = CalendarFilter.between(CALENDAR_FROM, CALENDAR_FROM);
+
+        assertThatThrownBy(() -> service.findCalendar(filter))
+                .isInstanceOf(InvalidDateRangeException.class)
+                .hasMessage("to must be after from");
+
+        verifyNoInteractions(calendarCache, calendarRepository);
+    }
+
+    @Test
+    @DisplayName("findCalendar - Should reject windows wider than 31 days")
+    void findCalendar_ShouldThrow_WhenRangeIsTooWide() {
+        var filter = CalendarFilter.between(CALENDAR_FROM, CALENDAR_FROM.plusDays(32));
+
+        assertThatThrownBy(() -> service.findCalendar(filter))
+                .isInstanceOf(InvalidDateRangeException.class)
+                .hasMessage("Calendar range must not exceed 31 days");
+
+        verifyNoInteractions(calendarCache, calendarRepository);
+    }
+
+    private static OperationCalendarEntry calendarEntry() {
+        return new OperationCalendarEntry(EXISTING_ID, "Appendectomy", CALENDAR_FROM.plusHours(9), 60,
+                OperationStatus.SCHEDULED, 1L, "Emily", "Johnson", 2L, "Michael", "Carter");
+    }
+
+    @ParameterizedTest(name = "{0} -> {1}")
+    @MethodSource("allowedTransitions")
+    @DisplayName("updateStatus - Should apply allowed transitions with a conditional update")
+    void updateStatus_ShouldApplyConditionalUpdate_WhenTransitionIsAllowed(OperationStatus from, OperationStatus to) {
+        when(repository.findStatusById(EXISTING_ID)).thenReturn(Optional.of(new OperationStatusSnapshot(EXISTING_ID, from, 3L)));
+        when(repository.updateStatus(EXISTING_ID, from, 3L, to)).thenReturn(1);
+
+        service.updateStatus(new OperationStatusRequest(to), EXISTING_ID);
+
+        verify(repository).updateStatus(EXISTING_ID, from, 3L, to);
+        verify(repository, never()).save(any(Operation.class));
+        verify(scheduler, to.occupiesSchedule() ? never() : times(1)).release(EXISTING_ID);
+        verify(calendarCache).invalidateAfterCommit();
+    }
+
+    private static Stream<Arguments> allowedTransitions() {
+        return Stream.of(
+                Arguments.of(OperationStatus.SCHEDULED, OperationStatus.IN_PROGRESS),
+                Arguments.of(OperationStatus.SCHEDULED, OperationStatus.CANCELED),
+                Arguments.of(OperationStatus.IN_PROGRESS, OperationStatus.COMPLETED),
+                Arguments.of(OperationStatus.IN_PROGRESS, OperationStatus.CANCELED));
+    }
+
+    @ParameterizedTest(name = "{0} -> {1}")
+    @MethodSource("rejectedTransitions")
+    @DisplayName("updateStatus - Should reject transitions outside the table without writing")
+    void updateStatus_ShouldThrowTransitionException_WhenTransitionIsNotAllowed(OperationStatus from, OperationStatus to) {
+        when(repository.findStatusById(EXISTING_ID)).thenReturn(Optional.of(new OperationStatusSnapshot(EXISTING_ID, from, 0L)));
+
+        assertThatThrownBy(() -> service.updateStatus(new OperationStatusRequest(to), EXISTING_ID))
+                .isInstanceOf(StatusTransitionException.class)
+                .hasMessage("Cannot change operation status from %s to %s".formatted(from, to));
+
+        verify(repository, never()).updateStatus(any(), any(), any(), any());
+        verifyNoInteractions(scheduler, calendarCache);
+    }
+
+    private static Stream<Arguments> rejectedTransitions() {
+        return Stream.of(
+                Arguments.of(OperationStatus.SCHEDULED, OperationStatus.SCHEDULED),
+                Arguments.of(OperationStatus.SCHEDULED, OperationStatus.COMPLETED),
+                Arguments.of(OperationStatus.IN_PROGRESS, OperationStatus.SCHEDULED),
+                Arguments.of(OperationStatus.COMPLETED, OperationStatus.CANCELED),
+                Arguments.of(OperationStatus.CANCELED, OperationStatus.SCHEDULED));
+    }
+
+    @Test
+    @DisplayName("updateStatus - Should throw conflict when the conditional update loses the race")
+    void updateStatus_ShouldThrowConflict_WhenUpdateMatchesNoRow() {
+        when(repository.findStatusById(EXISTING_ID))
+                .thenReturn(Optional.of(new OperationStatusSnapshot(EXISTING_ID, OperationStatus.SCHEDULED, 0L)));
+        when(repository.updateStatus(EXISTING_ID, OperationStatus.SCHEDULED, 0L, OperationStatus.CANCELED)).thenReturn(0);
+
+        assertThatThrownBy(() -> service.updateStatus(new OperationStatusRequest(OperationStatus.CANCELED), EXISTING_ID))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class)
+                .satisfies(e -> assertThat(((ObjectOptimisticLockingFailureException) e).getIdentifier()).isEqualTo(EXISTING_ID));
+
+        verifyNoInteractions(scheduler, calendarCache);
+    }
+
+    @Test
+    @DisplayName("updateStatus - Should throw not-found when operation does not exist")
+    void updateStatus_ShouldThrowNotFound_WhenOperationDoesNotExist() {
+        when(repository.findStatusById(NON_EXISTING_ID)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.updateStatus(new OperationStatusRequest(OperationStatus.CANCELED), NON_EXISTING_ID))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage(OPERATION_NOT_FOUND);
+
+        verify(repository, never()).updateStatus(any(), any(), any(), any());
+    }
+
+    private static Reference<Patient> patientReference(OperationBaseRequest request) {
+        return Reference.of(Patient.class, request.getPatientId(),
+                "Patient with id %d not found".formatted(request.getPatientId()));
+    }
+
+    private static Reference<Doctor> doctorReference(OperationBaseRequest request) {
+        return Reference.of(Doctor.class, request.getDoctorId(),
+                "Doctor with id %d not found".formatted(request.getDoctorId()));
     }
-}
\ No newline at end of file
+}
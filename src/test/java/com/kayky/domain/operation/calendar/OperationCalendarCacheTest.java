@@ -0,0 +1,83 @@
+package com.kayky.domain.operation.calendar;
+
+import com.kayky.domain.operation.OperationStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Operation Calendar Cache - Unit Tests")
+@ExtendWith(MockitoExtension.class)
+class OperationCalendarCacheTest {
+
+    private static final LocalDateTime MONDAY = LocalDateTime.of(2026, 3, 2, 0, 0);
+    private static final Clock WEDNESDAY = Clock.fixed(MONDAY.plusDays(2).toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+
+    @Mock
+    private OperationCalendarRepository repository;
+
+    private OperationCalendarCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new OperationCalendarCache(repository, WEDNESDAY);
+        ReflectionTestUtils.setField(cache, "ttl", Duration.ofMinutes(5));
+    }
+
+    private static OperationCalendarEntry entry(long id, LocalDateTime scheduledAt, long doctorId) {
+        return new OperationCalendarEntry(id, "Operation " + id, scheduledAt, 60, OperationStatus.SCHEDULED,
+                doctorId, "Emily", "Johnson", 2L, "Michael", "Carter");
+    }
+
+    @Test
+    @DisplayName("find loads the current week once and serves filtered day buckets from memory")
+    void find_ShouldLoadWeekOnce_AndFilterFromBuckets() {
+        var tuesday = entry(1L, MONDAY.plusDays(1).plusHours(9), 1L);
+        var wednesday = entry(2L, MONDAY.plusDays(2).plusHours(9), 1L);
+        var wednesdayOther = entry(3L, MONDAY.plusDays(2).plusHours(10), 7L);
+        when(repository.findCalendar(CalendarFilter.between(MONDAY, MONDAY.plusWeeks(1))))
+                .thenReturn(List.of(tuesday, wednesday, wednesdayOther));
+
+        var wholeWeek = cache.find(CalendarFilter.between(MONDAY, MONDAY.plusWeeks(1)));
+        var wednesdayForDoctor = cache.find(new CalendarFilter(MONDAY.plusDays(2), MONDAY.plusDays(3), 1L, null, null));
+
+        assertThat(wholeWeek).hasValue(List.of(tuesday, wednesday, wednesdayOther));
+        assertThat(wednesdayForDoctor).hasValue(List.of(wednesday));
+        verify(repository, times(1)).findCalendar(any());
+    }
+
+    @Test
+    @DisplayName("find declines windows that leave the current week")
+    void find_ShouldReturnEmpty_WhenWindowLeavesCurrentWeek() {
+        var result = cache.find(CalendarFilter.between(MONDAY.minusDays(1), MONDAY.plusDays(1)));
+
+        assertThat(result).isEmpty();
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("invalidate drops the cached week so the next lookup reloads it")
+    void invalidate_ShouldForceReload() {
+        var filter = CalendarFilter.between(MONDAY, MONDAY.plusDays(1));
+        when(repository.findCalendar(any())).thenReturn(List.of());
+
+        cache.find(filter);
+        cache.invalidateAfterCommit();
+        cache.find(filter);
+
+        verify(repository, times(2)).findCalendar(any());
+    }
+}
@@ -0,0 +1,118 @@
+package com.kayky.domain.operation.calendar;
+
+import com.kayky.commons.DoctorUtils;
+import com.kayky.commons.OperationUtils;
+import com.kayky.commons.PatientUtils;
+import com.kayky.config.QueryBudget;
+import com.kayky.domain.doctor.Doctor;
+import com.kayky.domain.operation.Operation;
+import com.kayky.domain.operation.OperationStatus;
+import com.kayky.domain.patient.Patient;
+import com.kayky.domain.user.enums.Role;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Operation Calendar Repository")
+@DataJpaTest
+@Import(OperationCalendarRepository.class)
+class OperationCalendarRepositoryTest {
+
+    private static final LocalDateTime MONDAY = LocalDateTime.of(2026, 3, 2, 0, 0);
+
+    @Autowired
+    private OperationCalendarRepository repository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Patient patient;
+    private Doctor doctor;
+    private Doctor otherDoctor;
+    private Operation afternoon;
+    private Operation morning;
+    private Operation canceled;
+    private Operation otherDoctors;
+
+    @BeforeEach
+    void setUp() {
+        patient = entityManager.persist(PatientUtils.patientToSave().toBuilder()
+                .role(Role.PATIENT)
+                .build());
+
+        doctor = persistDoctor("doctor.calendar@example.com", "REG-CALENDAR-1", "CRM-CALENDAR-1");
+        otherDoctor = persistDoctor("other.calendar@example.com", "REG-CALENDAR-2", "CRM-CALENDAR-2");
+
+        afternoon = persistOperation(doctor, MONDAY.plusHours(14), OperationStatus.SCHEDULED);
+        morning = persistOperation(doctor, MONDAY.plusHours(9), OperationStatus.SCHEDULED);
+        canceled = persistOperation(doctor, MONDAY.plusHours(11), OperationStatus.CANCELED);
+        otherDoctors = persistOperation(otherDoctor, MONDAY.plusHours(10), OperationStatus.SCHEDULED);
+        persistOperation(doctor, MONDAY.plusDays(1), OperationStatus.SCHEDULED);
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private Doctor persistDoctor(String email, String registrationNumber, String crm) {
+        return entityManager.persist(DoctorUtils.savedDoctor(null).toBuilder()
+                .email(email)
+                .role(Role.DOCTOR)
+                .registrationNumber(registrationNumber)
+                .crm(crm)
+                .department("Surgery")
+                .salary(new BigDecimal("12000.00"))
+                .build());
+    }
+
+    private Operation persistOperation(Doctor surgeon, LocalDateTime scheduledAt, OperationStatus status) {
+        return entityManager.persist(OperationUtils.createOperationBuilder(null)
+                .patient(patient)
+                .doctor(surgeon)
+                .scheduledAt(scheduledAt)
+                .status(status)
+                .build());
+    }
+
+    @Test
+    @DisplayName("findCalendar returns the window ordered by start time as flat entries in one query")
+    @QueryBudget(max = 1)
+    void findCalendar_ShouldReturnWindowOrderedByStart() {
+        var result = repository.findCalendar(CalendarFilter.between(MONDAY, MONDAY.plusDays(1)));
+
+        assertThat(result).extracting(OperationCalendarEntry::id).containsExactly(
+                morning.getId(), otherDoctors.getId(), canceled.getId(), afternoon.getId());
+        assertThat(result.getFirst().doctorId()).isEqualTo(doctor.getId());
+        assertThat(result.getFirst().patientFirstName()).isEqualTo(patient.getFirstName());
+        assertThat(result.getFirst().endsAt()).isEqualTo(MONDAY.plusHours(10));
+    }
+
+    @Test
+    @DisplayName("findCalendar narrows the window by doctor and status")
+    void findCalendar_ShouldApplyDoctorAndStatusFilters() {
+        var filter = new CalendarFilter(MONDAY, MONDAY.plusDays(1), doctor.getId(), null,
+                Set.of(OperationStatus.SCHEDULED));
+
+        var result = repository.findCalendar(filter);
+
+        assertThat(result).extracting(OperationCalendarEntry::id)
+                .containsExactly(morning.getId(), afternoon.getId());
+    }
+
+    @Test
+    @DisplayName("findCalendar narrows the window by patient")
+    void findCalendar_ShouldApplyPatientFilter() {
+        var filter = new CalendarFilter(MONDAY, MONDAY.plusDays(1), null, -1L, Set.of());
+
+        assertThat(repository.findCalendar(filter)).isEmpty();
+    }
+}
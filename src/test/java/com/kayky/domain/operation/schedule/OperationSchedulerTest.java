@@ -0,0 +1,228 @@
+package com.kayky.domain.operation.schedule;
+
+import com.kayky.commons.DoctorUtils;
+import com.kayky.commons.OperationUtils;
+import com.kayky.commons.PatientUtils;
+import com.kayky.core.exception.ScheduleConflictException;
+import com.kayky.domain.doctor.availability.DoctorAvailabilityIndex;
+import com.kayky.domain.operation.Operation;
+import com.kayky.domain.operation.OperationRepository;
+import com.kayky.domain.operation.OperationStatus;
+import com.kayky.domain.user.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Operation Scheduler - Unit Tests")
+@ExtendWith(MockitoExtension.class)
+class OperationSchedulerTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2026, 3, 2, 9, 0);
+
+    @Mock
+    private OperationRepository repository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private DoctorAvailabilityIndex availabilityIndex;
+
+    private OperationScheduleIndex index;
+    private OperationScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        index = new OperationScheduleIndex();
+        scheduler = new OperationScheduler(repository, userRepository, index, availabilityIndex);
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+        }
+    }
+
+    private static Operation operation(Long id, Long doctorId, Long patientId, LocalDateTime scheduledAt, int durationMinutes) {
+        return OperationUtils.createOperationBuilder(id)
+                .doctor(DoctorUtils.savedDoctor(doctorId))
+                .patient(PatientUtils.savedPatient(patientId))
+                .scheduledAt(scheduledAt)
+                .durationMinutes(durationMinutes)
+                .build();
+    }
+
+    private static void commit() {
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    private static void complete(int status) {
+        var synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    private void mockNoPersistedCandidates() {
+        when(repository.findScheduleCandidates(anyLong(), anyLong(), anyLong(), any(), any(), any())).thenReturn(List.of());
+    }
+
+    @Test
+    @DisplayName("book - Should reject an overlapping booking for the same doctor from the index")
+    void book_shouldRejectOverlap_whenDoctorAlreadyBooked() {
+        mockNoPersistedCandidates();
+        scheduler.book(operation(1L, 10L, 20L, START, 90), null);
+        commit();
+
+        assertThatThrownBy(() -> scheduler.book(operation(2L, 10L, 21L, START.plusMinutes(60), 30), null))
+                .isInstanceOf(ScheduleConflictException.class)
+                .hasMessage("Doctor with id 10 is already booked for operation 1 in the requested interval");
+    }
+
+    @Test
+    @DisplayName("book - Should reject an overlapping booking for the same patient from the index")
+    void book_shouldRejectOverlap_whenPatientAlreadyBooked() {
+        mockNoPersistedCandidates();
+        scheduler.book(operation(1L, 10L, 20L, START, 60), null);
+        commit();
+
+        assertThatThrownBy(() -> scheduler.book(operation(2L, 11L, 20L, START.plusMinutes(30), 60), null))
+                .isInstanceOf(ScheduleConflictException.class)
+                .hasMessage("Patient with id 20 is already booked for operation 1 in the requested interval");
+    }
+
+    @Test
+    @DisplayName("book - Should accept back-to-back bookings")
+    void book_shouldAcceptAdjacentIntervals() {
+        mockNoPersistedCandidates();
+        scheduler.book(operation(1L, 10L, 20L, START, 60), null);
+        commit();
+
+        scheduler.book(operation(2L, 10L, 20L, START.plusMinutes(60), 60), null);
+        commit();
+
+        assertThat(index.size()).isEqualTo(2);
+        verify(availabilityIndex).move(null, new ScheduleSlot(2L, 10L, 20L, START.plusMinutes(60), 60));
+    }
+
+    @Test
+    @DisplayName("book - Should fall back to persisted bookings missing from the index")
+    void book_shouldRejectOverlap_whenPersistedBookingOverlaps() {
+        var persisted = new ScheduleSlot(7L, 10L, 99L, START.minusMinutes(30), 60);
+        when(repository.findScheduleCandidates(10L, 20L, 1L, OperationStatus.occupyingSchedule(),
+                START.minusMinutes(Operation.MAX_DURATION_MINUTES), START.plusMinutes(60)))
+                .thenReturn(List.of(persisted));
+
+        assertThatThrownBy(() -> scheduler.book(operation(1L, 10L, 20L, START, 60), null))
+                .isInstanceOf(ScheduleConflictException.class)
+                .hasMessage("Doctor with id 10 is already booked for operation 7 in the requested interval");
+    }
+
+    @Test
+    @DisplayName("book - Should lock both participants before the persisted check")
+    void book_shouldLockParticipants_beforeCheckingPersistedBookings() {
+        mockNoPersistedCandidates();
+
+        scheduler.book(operation(1L, 20L, 10L, START, 60), null);
+
+        var order = inOrder(userRepository, repository);
+        order.verify(userRepository).lockAllById(List.of(10L, 20L));
+        order.verify(repository).findScheduleCandidates(anyLong(), anyLong(), anyLong(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("book - Should reject from the index without touching the database")
+    void book_shouldSkipDatabase_whenIndexFindsConflict() {
+        mockNoPersistedCandidates();
+        scheduler.book(operation(1L, 10L, 20L, START, 60), null);
+        commit();
+        clearInvocations(userRepository, repository);
+
+        assertThatThrownBy(() -> scheduler.book(operation(2L, 10L, 21L, START, 60), null))
+                .isInstanceOf(ScheduleConflictException.class);
+        verifyNoInteractions(userRepository, repository);
+    }
+
+    @Test
+    @DisplayName("book - Should only publish to the index after commit")
+    void book_shouldNotPublish_whenTransactionRollsBack() {
+        mockNoPersistedCandidates();
+        scheduler.book(operation(1L, 10L, 20L, START, 60), null);
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("book - Should skip the check when the slot did not change")
+    void book_shouldSkipCheck_whenSlotIsUnchanged() {
+        var operation = operation(1L, 10L, 20L, START, 60);
+
+        scheduler.book(operation, ScheduleSlot.of(operation));
+
+        verify(repository, never()).findScheduleCandidates(anyLong(), anyLong(), anyLong(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("book - Should free the slot when the operation no longer occupies the schedule")
+    void book_shouldReleaseSlot_whenOperationIsCanceled() {
+        mockNoPersistedCandidates();
+        var operation = operation(1L, 10L, 20L, START, 60);
+        scheduler.book(operation, null);
+        commit();
+
+        operation.setStatus(OperationStatus.CANCELED);
+        scheduler.book(operation, ScheduleSlot.of(operation));
+        commit();
+
+        assertThat(index.size()).isZero();
+        verify(availabilityIndex).move(ScheduleSlot.of(operation), null);
+    }
+
+    @Test
+    @DisplayName("book - Should require an active transaction")
+    void book_shouldFail_whenNoTransactionIsActive() {
+        complete(TransactionSynchronization.STATUS_UNKNOWN);
+
+        assertThatThrownBy(() -> scheduler.book(operation(1L, 10L, 20L, START, 60), null))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("rebuild - Should load every occupying booking into the index")
+    void rebuild_shouldLoadPersistedBookings() {
+        when(repository.streamScheduleSlots(OperationStatus.occupyingSchedule())).thenReturn(Stream.of(
+                new ScheduleSlot(1L, 10L, 20L, START, 60),
+                new ScheduleSlot(2L, 11L, 21L, START, 60)));
+
+        scheduler.rebuild();
+
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.findConflict(new ScheduleSlot(3L, 11L, 22L, START.plusMinutes(10), 10)))
+                .contains(new ScheduleConflict("Doctor", 11L, 2L));
+    }
+}
@@ -3,8 +3,10 @@ package com.kayky.domain.patient;
 import com.kayky.commons.FileUtils;
 import com.kayky.commons.PageUtils;
 import com.kayky.commons.PatientUtils;
+import com.kayky.core.caching.ResourceVersion;
 import com.kayky.core.exception.EmailAlreadyExistsException;
 import com.kayky.core.exception.ResourceNotFoundException;
+import com.kayky.core.pagination.CountMode;
 import com.kayky.domain.patient.request.PatientBaseRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -74,6 +76,7 @@ class PatientControllerTest {
         var savedPatient = PatientUtils.savedPatient(patientId);
         var response = PatientUtils.asBaseResponse(savedPatient);
 
+        when(service.findVersion(EXISTING_ID)).thenReturn(new ResourceVersion("0"));
         when(service.findById(EXISTING_ID)).thenReturn(response);
 
         mockMvc.perform(get(PATH_ID, patientId)
@@ -90,7 +93,7 @@ class PatientControllerTest {
     void getPatient_shouldReturn404_whenDoesNotExist() throws Exception {
         var expectedErrorMessage = PATIENT_NOT_FOUND;
 
-        when(service.findById(NON_EXISTING_ID)).thenThrow(new ResourceNotFoundException(expectedErrorMessage));
+        when(service.findVersion(NON_EXISTING_ID)).thenThrow(new ResourceNotFoundException(expectedErrorMessage));
 
         mockMvc.perform(get(PATH_ID, NON_EXISTING_ID)
                         .accept(MediaType.APPLICATION_JSON))
@@ -99,7 +102,7 @@ class PatientControllerTest {
                 .andExpect(jsonPath("$.error").value(expectedErrorMessage))
                 .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
 
-        verify(service).findById(NON_EXISTING_ID);
+        verify(service).findVersion(NON_EXISTING_ID);
     }
 
     @Test
@@ -109,7 +112,7 @@ class PatientControllerTest {
         var patientPage = PageUtils.toPage(patientList);
         var pageResponse = PageUtils.pageResponse(patientPage);
 
-        when(service.findAll(any(Pageable.class))).thenReturn(pageResponse);
+        when(service.findAll(any(Pageable.class), eq(CountMode.EXACT))).thenReturn(pageResponse);
 
         mockMvc.perform(get(BASE_URI))
                 .andExpect(status().isOk())
@@ -118,7 +121,7 @@ class PatientControllerTest {
                 .andExpect(jsonPath("$.content").isArray());
 
 
-        verify(service).findAll(any(Pageable.class));
+        verify(service).findAll(any(Pageable.class), eq(CountMode.EXACT));
     }
 
     @Test
@@ -2,6 +2,7 @@ package com.kayky.domain.patient;
 
 
 import com.kayky.config.BaseIntegrationTest;
+import com.kayky.config.QueryBudget;
 import com.kayky.domain.patient.response.PatientBaseResponse;
 import io.restassured.http.ContentType;
 import io.restassured.response.ExtractableResponse;
@@ -43,6 +44,7 @@ public class PatientIntegrationTest extends BaseIntegrationTest {
     class GetEndpoints {
         @Test
         @DisplayName("GET /v1/patient/{id} - Should return 200 with patient data when patient exists")
+        @QueryBudget(max = 2)
         void shouldReturnPatient_whenIdExists() {
             var expectedResponse = readResourceFile(GET + "patient-by-id-200.json");
 
@@ -53,6 +55,7 @@ public class PatientIntegrationTest extends BaseIntegrationTest {
 
         @Test
         @DisplayName("GET /v1/patient/{id} - Should return 404 when patient does not exist")
+        @QueryBudget(max = 1)
         void shouldReturn404_whenIdDoesNotExist() {
             var expectedResponse = readResourceFile(GET + "patient-not-found-404.json");
 
@@ -63,6 +66,7 @@ public class PatientIntegrationTest extends BaseIntegrationTest {
 
         @Test
         @DisplayName("GET /v1/patient - Should return 200 with paged patient data when patients exist")
+        @QueryBudget(max = 1)
         void shouldReturnPagedPatients_whenPatientsExist() {
             var expectedResponse = readResourceFile(GET + "all-paged-patients-200.json");
 
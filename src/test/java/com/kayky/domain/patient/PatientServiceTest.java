@@ -6,6 +6,7 @@ import com.kayky.commons.PatientUtils;
 import com.kayky.domain.user.UserValidator;
 import com.kayky.core.exception.EmailAlreadyExistsException;
 import com.kayky.core.exception.ResourceNotFoundException;
+import com.kayky.core.pagination.RowCountEstimator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -37,10 +38,12 @@ class PatientServiceTest {
 
     @Mock
     private UserValidator userValidator;
+    @Mock
+    private RowCountEstimator rowCountEstimator;
 
     @BeforeEach
     void setUp() {
-        service = new PatientService(repository, mapper, userValidator);
+        service = new PatientService(repository, mapper, userValidator, rowCountEstimator);
     }
 
     @Test
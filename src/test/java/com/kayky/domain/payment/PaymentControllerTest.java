@@ -1,9 +1,13 @@
 package com.kayky.domain.payment;
 
 import com.kayky.commons.FileUtils;
+import com.kayky.commons.IdempotencyUtils;
 import com.kayky.commons.PageUtils;
 import com.kayky.commons.PaymentUtils;
+import com.kayky.core.caching.ResourceVersion;
 import com.kayky.core.exception.ResourceNotFoundException;
+import com.kayky.core.idempotency.IdempotentExecutor;
+import com.kayky.core.pagination.CountMode;
 import com.kayky.domain.payment.request.PaymentBaseRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -11,13 +15,20 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 
+import java.time.LocalDateTime;
+
 import static com.kayky.commons.TestConstants.*;
+import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -33,6 +44,9 @@ class PaymentControllerTest {
     @MockitoBean
     private PaymentService service;
 
+    @MockitoBean
+    private IdempotentExecutor idempotency;
+
     private static final String BASE_URI = "/v1/payment";
     private static final String PATH_ID = BASE_URI + "/{id}";
 
@@ -41,6 +55,7 @@ class PaymentControllerTest {
     @BeforeEach
     void setUp() {
         validCreateRequest = FileUtils.readResourceFile("payment/controller/post/request/request-create-payment-201.json");
+        IdempotencyUtils.passThrough(idempotency);
     }
     
     private String loadExpectedJson(String resourcePath) {
@@ -66,6 +81,7 @@ class PaymentControllerTest {
         var savedPayment = PaymentUtils.savedPayment(paymentId);
         var response = PaymentUtils.asBaseResponse(savedPayment);
         
+        when(service.findVersion(paymentId)).thenReturn(new ResourceVersion("0"));
         when(service.findById(paymentId)).thenReturn(response);
 
         mockMvc.perform(get(PATH_ID, paymentId)
@@ -82,7 +98,7 @@ class PaymentControllerTest {
     void getPayment_shouldReturn404_whenDoesNotExist() throws Exception {
         var expectedErrorMessage = PAYMENT_NOT_FOUND;
 
-        when(service.findById(NON_EXISTING_ID)).thenThrow(new ResourceNotFoundException(expectedErrorMessage));
+        when(service.findVersion(NON_EXISTING_ID)).thenThrow(new ResourceNotFoundException(expectedErrorMessage));
 
         mockMvc.perform(get(PATH_ID, NON_EXISTING_ID)
                         .accept(MediaType.APPLICATION_JSON))
@@ -91,7 +107,68 @@ class PaymentControllerTest {
                 .andExpect(jsonPath("$.error").value(expectedErrorMessage))
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON));
 
-        verify(service).findById(NON_EXISTING_ID);
+        verify(service).findVersion(NON_EXISTING_ID);
+    }
+
+    @Test
+    @DisplayName("GET /v1/payment/{id} - Should advertise an ETag and return 304 when If-None-Match still matches")
+    void getPayment_shouldReturn304_whenEtagMatches() throws Exception {
+        var response = PaymentUtils.asBaseResponse(PaymentUtils.savedPayment(EXISTING_ID));
+
+        when(service.findVersion(EXISTING_ID)).thenReturn(new ResourceVersion("0-0-0"));
+        when(service.findById(EXISTING_ID)).thenReturn(response);
+
+        var etag = mockMvc.perform(get(PATH_ID, EXISTING_ID)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0-0-0\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("no-cache")))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get(PATH_ID, EXISTING_ID)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+
+        verify(service, times(2)).findVersion(EXISTING_ID);
+        verify(service, times(1)).findById(EXISTING_ID);
+    }
+
+    @Test
+    @DisplayName("GET /v1/payment/{id} - Should return 200 with the new ETag when If-None-Match is stale")
+    void getPayment_shouldReturn200_whenEtagIsStale() throws Exception {
+        var response = PaymentUtils.asBaseResponse(PaymentUtils.savedPayment(EXISTING_ID));
+
+        when(service.findVersion(EXISTING_ID)).thenReturn(new ResourceVersion("1-0-0"));
+        when(service.findById(EXISTING_ID)).thenReturn(response);
+
+        mockMvc.perform(get(PATH_ID, EXISTING_ID)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"0-0-0\"")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1-0-0\""))
+                .andExpect(content().json(loadExpectedJson("payment/controller/get/payment-by-id-200.json")));
+
+        verify(service).findById(EXISTING_ID);
+    }
+
+    @Test
+    @DisplayName("GET /v1/payment/{id} - Should return 304 when not modified since If-Modified-Since")
+    void getPayment_shouldReturn304_whenNotModifiedSince() throws Exception {
+        var lastModified = LocalDateTime.of(2025, 1, 10, 12, 0);
+        var version = new ResourceVersion("0-0-0", lastModified);
+
+        when(service.findVersion(EXISTING_ID)).thenReturn(version);
+
+        mockMvc.perform(get(PATH_ID, EXISTING_ID)
+                        .header(HttpHeaders.IF_MODIFIED_SINCE, version.lastModifiedMillis())
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotModified())
+                .andExpect(header().dateValue(HttpHeaders.LAST_MODIFIED, version.lastModifiedMillis()));
+
+        verify(service, never()).findById(any());
     }
 
     @Test
@@ -101,7 +178,7 @@ class PaymentControllerTest {
         var paymentPage = PageUtils.toPage(paymentList);
         var pagedPayment = PageUtils.pageResponse(paymentPage);
 
-        when(service.findAll(any(Pageable.class))).thenReturn(pagedPayment);
+        when(service.findAll(any(Pageable.class), eq(CountMode.EXACT))).thenReturn(pagedPayment);
 
         mockMvc.perform(get(BASE_URI))
                 .andExpect(status().isOk())
@@ -109,7 +186,7 @@ class PaymentControllerTest {
                 .andExpect(content().json(loadExpectedJson("payment/controller/get/all-paged-payments-200.json")));
 
 
-        verify(service).findAll(any(Pageable.class));
+        verify(service).findAll(any(Pageable.class), eq(CountMode.EXACT));
     }
 
     @Test
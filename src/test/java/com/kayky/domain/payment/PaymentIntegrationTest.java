@@ -1,6 +1,7 @@
 package com.kayky.domain.payment;
 
 import com.kayky.config.BaseIntegrationTest;
+import com.kayky.config.QueryBudget;
 import com.kayky.domain.payment.response.PaymentBaseResponse;
 import io.restassured.http.ContentType;
 import io.restassured.response.ExtractableResponse;
@@ -44,6 +45,7 @@ public class PaymentIntegrationTest extends BaseIntegrationTest {
 
         @Test
         @DisplayName("GET /v1/payment/{id} - Should return 200 when request is valid")
+        @QueryBudget(max = 2)
         void shouldReturnPayment_whenIdExists() {
             var expectedResponse = readResourceFile(GET + "payment-by-id-200.json");
 
@@ -54,6 +56,7 @@ public class PaymentIntegrationTest extends BaseIntegrationTest {
 
         @Test
         @DisplayName("GET /v1/payment/{id} - Should return 404 when payment does not exists")
+        @QueryBudget(max = 1)
         void shouldReturn404_whenIdDoesNotExist() {
             var expectedResponse = readResourceFile(GET + "payment-not-found-404.json");
 
@@ -64,6 +67,7 @@ public class PaymentIntegrationTest extends BaseIntegrationTest {
 
         @Test
         @DisplayName("GET /v1/payment - Should return 200 with paged payments when payments exist")
+        @QueryBudget(max = 6)
         void shouldReturnPagedPayments_whenPaymentsExists() {
             var expectedResponse = readResourceFile(GET + "all-paged-payments-200.json");
 
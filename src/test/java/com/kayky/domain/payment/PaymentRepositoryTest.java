@@ -0,0 +1,198 @@
+package com.kayky.domain.payment;
+
+import com.kayky.commons.CashierUtils;
+import com.kayky.commons.PatientUtils;
+import com.kayky.config.QueryBudget;
+import com.kayky.core.query.QueryCounter;
+import com.kayky.domain.cashier.Cashier;
+import com.kayky.domain.patient.Patient;
+import com.kayky.domain.payment.enums.PaymentMethod;
+import com.kayky.domain.payment.enums.PaymentStatus;
+import com.kayky.domain.user.enums.Role;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Payment Repository")
+@DataJpaTest
+class PaymentRepositoryTest {
+
+    private static final LocalDateTime BASE_DATE = LocalDateTime.of(2025, 1, 10, 15, 0);
+
+    @Autowired
+    private PaymentRepository repository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Patient patient;
+    private Cashier cashier;
+    private List<Payment> payments;
+
+    @BeforeEach
+    void setUp() {
+        patient = entityManager.persist(PatientUtils.patientToSave().toBuilder()
+                .role(Role.PATIENT)
+                .build());
+
+        cashier = entityManager.persist(CashierUtils.savedCashier(null).toBuilder()
+                .email("cashier.repository@example.com")
+                .role(Role.CASHIER)
+                .build());
+
+        payments = List.of(
+                persistPayment(patient, cashier, BASE_DATE),
+                persistPayment(patient, cashier, BASE_DATE),
+                persistPayment(patient, cashier, BASE_DATE.plusDays(1)),
+                persistPayment(patient, cashier, BASE_DATE.plusDays(2)),
+                persistPayment(patient, cashier, BASE_DATE.plusDays(3))
+        );
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private Payment persistPayment(Patient patient, Cashier cashier, LocalDateTime paymentDate) {
+        return entityManager.persist(Payment.builder()
+                .patient(patient)
+                .cashier(cashier)
+                .amount(new BigDecimal("100.00"))
+                .paymentMethod(PaymentMethod.PIX)
+                .status(PaymentStatus.PAID)
+                .paymentDate(paymentDate)
+                .build());
+    }
+
+    private List<Long> ids(List<PaymentProjection> result) {
+        return result.stream().map(PaymentProjection::getId).toList();
+    }
+
+    private long statementsFor(Runnable query) {
+        QueryCounter.begin();
+        query.run();
+        return QueryCounter.end().total();
+    }
+
+    @Test
+    @DisplayName("findFirstPageProjected returns the first window ordered by date and id")
+    void findFirstPageProjected_ShouldReturnOrderedWindow() {
+        var result = repository.findFirstPageProjected(Limit.of(3));
+
+        assertThat(ids(result)).containsExactly(
+                payments.get(0).getId(), payments.get(1).getId(), payments.get(2).getId());
+    }
+
+    @Test
+    @DisplayName("findPageAfterProjected seeks past the cursor, breaking date ties by id")
+    void findPageAfterProjected_ShouldSeekPastCursor_WhenDatesTie() {
+        var cursor = payments.get(0);
+
+        var result = repository.findPageAfterProjected(cursor.getPaymentDate(), cursor.getId(), Limit.of(2));
+
+        assertThat(ids(result)).containsExactly(payments.get(1).getId(), payments.get(2).getId());
+    }
+
+    @Test
+    @DisplayName("findPageBeforeProjected seeks backwards from the cursor in descending order")
+    void findPageBeforeProjected_ShouldSeekBackwards() {
+        var cursor = payments.get(3);
+
+        var result = repository.findPageBeforeProjected(cursor.getPaymentDate(), cursor.getId(), Limit.of(10));
+
+        assertThat(ids(result)).containsExactly(
+                payments.get(2).getId(), payments.get(1).getId(), payments.get(0).getId());
+    }
+
+    @Test
+    @DisplayName("findSliceProjected returns a slice that reports further pages without counting")
+    @QueryBudget(max = 1)
+    void findSliceProjected_ShouldReturnSliceWithHasNext() {
+        var result = repository.findSliceProjected(PageRequest.of(0, 3, Sort.by("id")));
+
+        assertThat(ids(result.getContent())).containsExactly(
+                payments.get(0).getId(), payments.get(1).getId(), payments.get(2).getId());
+        assertThat(result.hasNext()).isTrue();
+    }
+
+    @Test
+    @DisplayName("findAllProjected issues the same number of statements regardless of page size")
+    void findAllProjected_ShouldNotScaleQueriesWithPageSize() {
+        long smallPage = statementsFor(() -> repository.findAllProjected(PageRequest.of(0, 2, Sort.by("id"))).getContent()
+                .forEach(PaymentProjection::getCashierName));
+        long largePage = statementsFor(() -> repository.findAllProjected(PageRequest.of(0, 4, Sort.by("id"))).getContent()
+                .forEach(PaymentProjection::getCashierName));
+
+        assertThat(smallPage).isEqualTo(2);
+        assertThat(largePage).isEqualTo(smallPage);
+    }
+
+    @Test
+    @DisplayName("findByPatientIdProjected returns the patient's payments with party names in one query")
+    @QueryBudget(max = 1)
+    void findByPatientIdProjected_ShouldReturnPaymentsInOneQuery() {
+        var result = repository.findByPatientIdProjected(patient.getId());
+
+        assertThat(ids(result)).containsExactlyElementsOf(payments.stream().map(Payment::getId).toList());
+        assertThat(result.getFirst().getPatientName()).isEqualTo("Robert Williams");
+        assertThat(result.getFirst().getCashierId()).isEqualTo(cashier.getId());
+    }
+
+    @Test
+    @DisplayName("findById loads the patient and cashier with the payment")
+    @QueryBudget(max = 1)
+    void findById_ShouldFetchParties() {
+        var result = repository.findById(payments.getFirst().getId()).orElseThrow();
+
+        assertThat(result.getPatient().getFirstName()).isEqualTo(patient.getFirstName());
+        assertThat(result.getCashier().getFirstName()).isEqualTo(cashier.getFirstName());
+    }
+
+    @Test
+    @DisplayName("streamAllProjected streams flat rows ordered by id with concatenated names")
+    @QueryBudget(max = 1)
+    void streamAllProjected_ShouldStreamFlatRowsOrderedById() {
+        try (var rows = repository.streamAllProjected()) {
+            var result = rows.toList();
+
+            assertThat(result).extracting(PaymentProjection::getId)
+                    .containsExactlyElementsOf(payments.stream().map(Payment::getId).toList());
+            assertThat(result.getFirst().getPatientName()).isEqualTo("Robert Williams");
+            assertThat(result.getFirst().getAmount()).isEqualByComparingTo("100.00");
+        }
+    }
+
+    @Test
+    @DisplayName("findVersionById combines the payment, patient and cashier versions and changes after an update")
+    void findVersionById_ShouldChange_WhenPaymentIsUpdated() {
+        var id = payments.getFirst().getId();
+        var before = repository.findVersionById(id).orElseThrow();
+
+        var payment = entityManager.find(Payment.class, id);
+        payment.setStatus(PaymentStatus.CANCELLED);
+        entityManager.flush();
+        entityManager.clear();
+
+        var after = repository.findVersionById(id).orElseThrow();
+
+        assertThat(before.etag()).isEqualTo("0-0-0");
+        assertThat(after.etag()).isNotEqualTo(before.etag());
+    }
+
+    @Test
+    @DisplayName("findVersionById returns empty when the payment does not exist")
+    void findVersionById_ShouldReturnEmpty_WhenPaymentDoesNotExist() {
+        assertThat(repository.findVersionById(-1L)).isEmpty();
+    }
+}
@@ -5,9 +5,23 @@ import com.kayky.commons.CashierUtils;
 import com.kayky.commons.PageUtils;
 import com.kayky.commons.PatientUtils;
 import com.kayky.commons.PaymentUtils;
+import com.kayky.core.exception.InvalidCursorException;
+import com.kayky.core.exception.InvalidDateRangeException;
 import com.kayky.core.exception.ResourceNotFoundException;
-import com.kayky.domain.cashier.CashierRepository;
+import com.kayky.core.export.ExportFormat;
+import com.kayky.core.pagination.Cursor;
+import com.kayky.core.pagination.CursorRequest;
+import com.kayky.core.pagination.RowCountEstimator;
+import com.kayky.core.reference.Reference;
+import com.kayky.core.reference.ReferenceResolver;
+import com.kayky.domain.cashier.Cashier;
+import com.kayky.domain.patient.Patient;
 import com.kayky.domain.patient.PatientRepository;
+import com.kayky.domain.payment.enums.PaymentMethod;
+import com.kayky.domain.payment.response.PaymentSummaryResponse;
+import com.kayky.domain.payment.summary.PaymentDailyRollup;
+import com.kayky.domain.payment.summary.PaymentSummaryRow;
+import com.kayky.domain.payment.summary.SummaryDimension;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,8 +30,17 @@ import org.mapstruct.factory.Mappers;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageRequest;
-
+import org.springframework.data.domain.Pageable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import static com.kayky.commons.TestConstants.*;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -26,6 +49,8 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.verify;
 import static org.mockito.BDDMockito.when;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @DisplayName("Payment Service - Unit Tests")
 @ExtendWith(MockitoExtension.class)
@@ -38,13 +63,17 @@ class PaymentServiceTest {
     @Mock
     private PatientRepository patientRepository;
     @Mock
-    private CashierRepository cashierRepository;
+    private PaymentDailyRollup dailyRollup;
+    @Mock
+    private RowCountEstimator rowCountEstimator;
+    @Mock
+    private ReferenceResolver referenceResolver;
 
     private final PaymentMapper mapper = Mappers.getMapper(PaymentMapper.class);
 
     @BeforeEach
     void setUp() {
-        service = new PaymentService(paymentRepository, patientRepository, cashierRepository, mapper);
+        service = new PaymentService(paymentRepository, patientRepository, dailyRollup, mapper, rowCountEstimator, referenceResolver);
     }
 
     @Test
@@ -82,10 +111,10 @@ class PaymentServiceTest {
     @DisplayName("findAll - Should return paged response when payments exist")
     void findAll_shouldReturnPagedResponse_whenPaymentsExist() {
         PageRequest pageRequest = PageRequest.of(0, 3);
-        var paymentList = PaymentUtils.paymentList();
-        var pagedPayments = PageUtils.toPage(paymentList);
+        var projections = PaymentUtils.projectionList();
+        var pagedPayments = PageUtils.toPage(projections);
 
-        when(paymentRepository.findAll(pageRequest)).thenReturn(pagedPayments);
+        when(paymentRepository.findAllProjected(pageRequest)).thenReturn(pagedPayments);
 
         var result = service.findAll(pageRequest);
 
@@ -97,18 +126,101 @@ class PaymentServiceTest {
 
         assertThat(result.getContent()).usingRecursiveComparison().isEqualTo(expectedResponse);
 
-        verify(paymentRepository).findAll(pageRequest);
+        verify(paymentRepository).findAllProjected(pageRequest);
+        verify(paymentRepository, never()).findAll(any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("findAllByCursor - Should return first window with next cursor when more payments exist")
+    void findAllByCursor_shouldReturnFirstWindowWithNextCursor_whenMorePaymentsExist() {
+        var paymentList = PaymentUtils.paymentList();
+        var request = CursorRequest.of(null, 2);
+
+        when(paymentRepository.findFirstPageProjected(request.limit())).thenReturn(PaymentUtils.projectionList());
+
+        var result = service.findAllByCursor(request);
+
+        assertThat(result.getContent()).hasSize(2);
+        assertThat(result.getPrev()).isNull();
+        assertThat(result.getTotalElements()).isNull();
+
+        var next = Cursor.decode(result.getNext());
+        var lastReturned = paymentList.get(1);
+
+        assertThat(next.isPrevious()).isFalse();
+        assertThat(next.id()).isEqualTo(lastReturned.getId());
+        assertThat(next.keyAsDateTime()).isEqualTo(lastReturned.getPaymentDate());
+    }
+
+    @Test
+    @DisplayName("findAllByCursor - Should seek after cursor and omit next cursor on last window")
+    void findAllByCursor_shouldSeekAfterCursor_whenNextCursorIsGiven() {
+        var paymentList = PaymentUtils.paymentList();
+        var first = paymentList.getFirst();
+        var token = Cursor.next(first.getPaymentDate().toString(), first.getId()).encode();
+        var request = CursorRequest.of(token, 2);
+
+        when(paymentRepository.findPageAfterProjected(first.getPaymentDate(), first.getId(), request.limit()))
+                .thenReturn(PaymentUtils.projectionList().subList(1, 3));
+
+        var result = service.findAllByCursor(request);
+
+        assertThat(result.getContent()).hasSize(2);
+        assertThat(result.getNext()).isNull();
+        assertThat(Cursor.decode(result.getPrev()).isPrevious()).isTrue();
+
+        verify(paymentRepository).findPageAfterProjected(first.getPaymentDate(), first.getId(), request.limit());
+    }
+
+    @Test
+    @DisplayName("export - Should stream payments as NDJSON, one object per line")
+    void export_shouldWriteOneJsonObjectPerLine_whenFormatIsNdjson() throws IOException {
+        var projections = PaymentUtils.paymentList().stream().map(PaymentUtils::asProjection).toList();
+        when(paymentRepository.streamAllProjected()).thenReturn(projections.stream());
+
+        var out = new ByteArrayOutputStream();
+        service.export(ExportFormat.NDJSON, out);
+
+        var lines = out.toString(StandardCharsets.UTF_8).split("\n");
+
+        assertThat(lines).hasSize(projections.size());
+        assertThat(lines[0])
+                .startsWith("{\"id\":" + projections.getFirst().getId() + ",")
+                .contains("\"amount\":" + projections.getFirst().getAmount())
+                .contains("\"paymentDate\":\"2025-01-10T15:00:00\"");
+    }
+
+    @Test
+    @DisplayName("export - Should stream payments as CSV with header and quoted values")
+    void export_shouldWriteHeaderAndQuoteValues_whenFormatIsCsv() throws IOException {
+        var payment = PaymentUtils.savedPayment(EXISTING_ID);
+        payment.getPatient().setLastName("Williams, Jr.");
+
+        when(paymentRepository.streamAllProjected()).thenReturn(Stream.of(PaymentUtils.asProjection(payment)));
+
+        var out = new ByteArrayOutputStream();
+        service.export(ExportFormat.CSV, out);
+
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "id,patientId,patientName,cashierId,cashierName,amount,paymentMethod,status,paymentDate\r\n" +
+                EXISTING_ID + ",1,\"Robert Williams, Jr.\",1," + payment.getCashier().getFirstName() + " " +
+                payment.getCashier().getLastName() + ",150.00,CREDIT_CARD,PAID,2025-01-10T15:00\r\n");
+    }
+
+    @Test
+    @DisplayName("findAllByCursor - Should throw invalid-cursor exception when token is malformed")
+    void findAllByCursor_shouldThrowInvalidCursor_whenTokenIsMalformed() {
+        assertThatThrownBy(() -> service.findAllByCursor(CursorRequest.of("not-a-cursor", 2)))
+                .isInstanceOf(InvalidCursorException.class);
     }
 
     @Test
     @DisplayName("findByPatient - should return list of payments when patient exists")
     void findByPatient_shouldReturnPayments_whenPatientExists() {
         var patientId = EXISTING_ID;
-        var savedPatient = PatientUtils.savedPatient(patientId);
-        var paymentList = PaymentUtils.paymentList();
 
-        when(patientRepository.findById(patientId)).thenReturn(Optional.of(savedPatient));
-        when(paymentRepository.findByPatientId(patientId)).thenReturn(paymentList);
+        when(patientRepository.existsById(patientId)).thenReturn(true);
+        when(paymentRepository.findByPatientIdProjected(patientId)).thenReturn(PaymentUtils.projectionList());
 
         var result = service.findByPatient(patientId);
 
@@ -118,20 +230,21 @@ class PaymentServiceTest {
                 .usingRecursiveComparison()
                 .isEqualTo(expectedResponse);
 
-        verify(patientRepository).findById(patientId);
-        verify(paymentRepository).findByPatientId(patientId);
+        verify(patientRepository).existsById(patientId);
+        verify(paymentRepository).findByPatientIdProjected(patientId);
     }
 
     @Test
     @DisplayName("findByPatient - Should throw not-found exception when patient does not exist")
     void findByPatient_shouldThrowNotFound_whenPatientDoesNotExist() {
-        when(patientRepository.findById(NON_EXISTING_ID)).thenReturn(Optional.empty());
+        when(patientRepository.existsById(NON_EXISTING_ID)).thenReturn(false);
 
         assertThatThrownBy(() -> service.findByPatient(NON_EXISTING_ID))
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessage(PATIENT_NOT_FOUND);
 
-        verify(patientRepository).findById(NON_EXISTING_ID);
+        verify(patientRepository).existsById(NON_EXISTING_ID);
+        verifyNoInteractions(paymentRepository);
     }
 
     @Test
@@ -144,13 +257,15 @@ class PaymentServiceTest {
         var expectedResponse = PaymentUtils.asBaseResponse(savedPayment);
         var request = PaymentUtils.asBaseRequest();
 
-        when(patientRepository.findById(EXISTING_ID)).thenReturn(Optional.of(patient));
-        when(cashierRepository.findById(EXISTING_ID)).thenReturn(Optional.of(cashier));
+        when(referenceResolver.reference(Patient.class, EXISTING_ID)).thenReturn(patient);
+        when(referenceResolver.reference(Cashier.class, EXISTING_ID)).thenReturn(cashier);
         when(paymentRepository.save(any(Payment.class))).thenReturn(savedPayment);
 
         var result = service.save(request);
 
         assertThat(result).usingRecursiveComparison().isEqualTo(expectedResponse);
+        verify(referenceResolver).assertExist(patientReference(request.patientId()), cashierReference(request.cashierId()));
+        verify(dailyRollup).record(savedPayment);
     }
 
     @Test
@@ -161,28 +276,79 @@ class PaymentServiceTest {
         var expectedErrorMessage = PATIENT_NOT_FOUND;
 
         doThrow(new ResourceNotFoundException(expectedErrorMessage))
-                .when(patientRepository).findById(request.cashierId());
+                .when(referenceResolver).assertExist(patientReference(request.patientId()), cashierReference(request.cashierId()));
 
         assertThatThrownBy(() -> service.save(request))
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining(expectedErrorMessage);
+        verify(paymentRepository, never()).save(any(Payment.class));
+        verifyNoInteractions(dailyRollup);
     }
 
     @Test
     @DisplayName("save - should throw not-found when cashier does not exist")
     void save_shouldThrowNotFound_whenCashierDoesNotExist() {
         var request = PaymentUtils.asBaseRequest();
-        var patient = PatientUtils.savedPatient(EXISTING_ID);
 
         var expectedErrorMessage = CASHIER_NOT_FOUND;
 
-        when(patientRepository.findById(patient.getId())).thenReturn(Optional.of(patient));
-
         doThrow(new ResourceNotFoundException(expectedErrorMessage))
-                .when(cashierRepository).findById(request.cashierId());
+                .when(referenceResolver).assertExist(patientReference(request.patientId()), cashierReference(request.cashierId()));
 
         assertThatThrownBy(() -> service.save(request))
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining(expectedErrorMessage);
+        verify(paymentRepository, never()).save(any(Payment.class));
+        verifyNoInteractions(dailyRollup);
+    }
+
+    @Test
+    @DisplayName("findSummary - should map the rollup rows grouped by the requested dimensions")
+    void findSummary_shouldReturnGroupedTotals() {
+        var from = LocalDate.of(2025, 1, 1);
+        var to = LocalDate.of(2025, 1, 31);
+        var groupBy = Set.of(SummaryDimension.DAY, SummaryDimension.METHOD);
+        var row = new PaymentSummaryRow(from, null, PaymentMethod.PIX, null, new BigDecimal("150.00"), 3L);
+
+        when(dailyRollup.summarize(from, to, groupBy)).thenReturn(List.of(row));
+
+        var result = service.findSummary(from, to, groupBy);
+
+        assertThat(result).containsExactly(new PaymentSummaryResponse(from, null, PaymentMethod.PIX, null,
+                new BigDecimal("150.00"), 3));
+    }
+
+    @Test
+    @DisplayName("findSummary - should group by day when no dimension is given")
+    void findSummary_shouldGroupByDay_whenNoDimensionIsGiven() {
+        var day = LocalDate.of(2025, 1, 1);
+
+        when(dailyRollup.summarize(day, day, Set.of(SummaryDimension.DAY))).thenReturn(List.of());
+
+        assertThat(service.findSummary(day, day, Set.of())).isEmpty();
+        verify(dailyRollup).summarize(day, day, Set.of(SummaryDimension.DAY));
+    }
+
+    @Test
+    @DisplayName("findSummary - should reject ranges that end before they start or exceed a year")
+    void findSummary_shouldThrowInvalidDateRange_whenRangeIsInvalid() {
+        var day = LocalDate.of(2025, 1, 1);
+
+        assertThatThrownBy(() -> service.findSummary(day, day.minusDays(1), Set.of()))
+                .isInstanceOf(InvalidDateRangeException.class)
+                .hasMessage("to must not be before from");
+        assertThatThrownBy(() -> service.findSummary(day, day.plusDays(366), Set.of()))
+                .isInstanceOf(InvalidDateRangeException.class)
+                .hasMessage("Summary range must not exceed 366 days");
+
+        verifyNoInteractions(dailyRollup);
+    }
+
+    private static Reference<Patient> patientReference(Long id) {
+        return Reference.of(Patient.class, id, PATIENT_NOT_FOUND);
+    }
+
+    private static Reference<Cashier> cashierReference(Long id) {
+        return Reference.of(Cashier.class, id, CASHIER_NOT_FOUND);
     }
-}
\ No newline at end of file
+}
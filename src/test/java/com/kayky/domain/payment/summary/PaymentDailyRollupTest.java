@@ -0,0 +1,169 @@
+package com.kayky.domain.payment.summary;
+
+import com.kayky.commons.CashierUtils;
+import com.kayky.commons.PatientUtils;
+import com.kayky.config.QueryBudget;
+import com.kayky.core.config.ClockConfig;
+import com.kayky.domain.cashier.Cashier;
+import com.kayky.domain.patient.Patient;
+import com.kayky.domain.payment.Payment;
+import com.kayky.domain.payment.PaymentRepository;
+import com.kayky.domain.payment.enums.PaymentMethod;
+import com.kayky.domain.payment.enums.PaymentStatus;
+import com.kayky.domain.user.enums.Role;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Payment Daily Rollup")
+@DataJpaTest
+@Import({PaymentDailyRollup.class, PaymentSummaryBuckets.class, ClockConfig.class})
+class PaymentDailyRollupTest {
+
+    private static final LocalDate DAY = LocalDate.of(2029, 4, 2);
+
+    @Autowired
+    private PaymentDailyRollup rollup;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private PaymentSummaryRepository summaryRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Patient patient;
+    private Cashier cashier;
+
+    @BeforeEach
+    void setUp() {
+        patient = entityManager.persist(PatientUtils.patientToSave().toBuilder()
+                .role(Role.PATIENT)
+                .build());
+
+        cashier = entityManager.persist(CashierUtils.savedCashier(null).toBuilder()
+                .email("cashier.summary@example.com")
+                .role(Role.CASHIER)
+                .build());
+    }
+
+    private Payment persistPayment(LocalDateTime paymentDate, String amount, PaymentMethod method, PaymentStatus status) {
+        return entityManager.persist(Payment.builder()
+                .patient(patient)
+                .cashier(cashier)
+                .amount(new BigDecimal(amount))
+                .paymentMethod(method)
+                .status(status)
+                .paymentDate(paymentDate)
+                .build());
+    }
+
+    @Test
+    @DisplayName("aggregateDaily groups payments by day, cashier, method and status inside the half-open range")
+    void aggregateDaily_ShouldGroupPaymentsInRange() {
+        persistPayment(DAY.atTime(9, 0), "100.00", PaymentMethod.PIX, PaymentStatus.PAID);
+        persistPayment(DAY.atTime(18, 30), "50.50", PaymentMethod.PIX, PaymentStatus.PAID);
+        persistPayment(DAY.atTime(12, 0), "70.00", PaymentMethod.CASH, PaymentStatus.PAID);
+        persistPayment(DAY.plusDays(1).atStartOfDay(), "999.00", PaymentMethod.PIX, PaymentStatus.PAID);
+        entityManager.flush();
+
+        var rows = paymentRepository.aggregateDaily(DAY.atStartOfDay(), DAY.plusDays(1).atStartOfDay());
+
+        assertThat(rows).hasSize(2);
+        var pix = rows.stream().filter(row -> row.key().getPaymentMethod() == PaymentMethod.PIX).findFirst().orElseThrow();
+        assertThat(pix.key()).isEqualTo(new PaymentSummaryKey(DAY, cashier.getId(), PaymentMethod.PIX, PaymentStatus.PAID));
+        assertThat(pix.totalAmount()).isEqualByComparingTo("150.50");
+        assertThat(pix.paymentCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("rebuild recomputes the rollup from payments and summarize regroups it by the requested dimensions")
+    void rebuild_ShouldRecomputeRollup() {
+        persistPayment(DAY.atTime(9, 0), "100.00", PaymentMethod.PIX, PaymentStatus.PAID);
+        persistPayment(DAY.atTime(10, 0), "40.00", PaymentMethod.CASH, PaymentStatus.PAID);
+        persistPayment(DAY.plusDays(1).atTime(11, 0), "60.00", PaymentMethod.PIX, PaymentStatus.REFUNDED);
+        entityManager.flush();
+
+        int buckets = rollup.rebuild(DAY, DAY.plusDays(1));
+
+        var byDay = rollup.summarize(DAY, DAY.plusDays(1), Set.of(SummaryDimension.DAY));
+        var byMethod = rollup.summarize(DAY, DAY.plusDays(1), Set.of(SummaryDimension.METHOD));
+
+        assertThat(buckets).isEqualTo(3);
+        assertThat(byDay).extracting(row -> row.key().getSummaryDate()).containsExactly(DAY, DAY.plusDays(1));
+        assertThat(byDay.getFirst().totalAmount()).isEqualByComparingTo("140.00");
+        assertThat(byDay.getFirst().key().getPaymentMethod()).isNull();
+        assertThat(byMethod).extracting(row -> row.key().getPaymentMethod())
+                .containsExactly(PaymentMethod.CASH, PaymentMethod.PIX);
+        assertThat(byMethod.getLast().totalAmount()).isEqualByComparingTo("160.00");
+        assertThat(byMethod.getLast().paymentCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("record creates the bucket on first use and increments it afterwards")
+    void record_ShouldIncrementBucket() {
+        var day = DAY.plusDays(10);
+        rollup.record(persistPayment(day.atTime(8, 0), "30.00", PaymentMethod.DEBIT_CARD, PaymentStatus.PENDING));
+        rollup.record(persistPayment(day.atTime(9, 0), "12.25", PaymentMethod.DEBIT_CARD, PaymentStatus.PENDING));
+
+        var result = rollup.summarize(day, day, Set.of(SummaryDimension.CASHIER, SummaryDimension.STATUS));
+
+        assertThat(result).singleElement().satisfies(row -> {
+            assertThat(row.key()).isEqualTo(new PaymentSummaryKey(null, cashier.getId(), null, PaymentStatus.PENDING));
+            assertThat(row.totalAmount()).isEqualByComparingTo("42.25");
+            assertThat(row.paymentCount()).isEqualTo(2);
+        });
+    }
+
+    @Test
+    @DisplayName("record recreates a bucket that a rebuild removed instead of dropping the amount")
+    void record_ShouldRecreateBucket_WhenRebuildRemovedIt() {
+        var day = DAY.plusDays(20);
+        rollup.record(persistPayment(day.atTime(8, 0), "30.00", PaymentMethod.PIX, PaymentStatus.PAID));
+        summaryRepository.deleteBetween(day, day);
+
+        rollup.record(persistPayment(day.atTime(9, 0), "12.25", PaymentMethod.PIX, PaymentStatus.PAID));
+
+        assertThat(summaryRepository.findRowsBetween(day, day)).singleElement().satisfies(row -> {
+            assertThat(row.totalAmount()).isEqualByComparingTo("12.25");
+            assertThat(row.paymentCount()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    @DisplayName("rebuild replaces recorded buckets with the aggregate instead of adding to them")
+    void rebuild_ShouldNotDoubleCountRecordedPayments() {
+        var day = DAY.plusDays(30);
+        rollup.record(persistPayment(day.atTime(8, 0), "30.00", PaymentMethod.CASH, PaymentStatus.PAID));
+        rollup.record(persistPayment(day.atTime(9, 0), "20.00", PaymentMethod.CASH, PaymentStatus.PAID));
+        entityManager.flush();
+
+        rollup.rebuild(day, day);
+        rollup.record(persistPayment(day.atTime(10, 0), "5.00", PaymentMethod.CASH, PaymentStatus.PAID));
+
+        assertThat(summaryRepository.findRowsBetween(day, day)).singleElement().satisfies(row -> {
+            assertThat(row.totalAmount()).isEqualByComparingTo("55.00");
+            assertThat(row.paymentCount()).isEqualTo(3);
+        });
+    }
+
+    @Test
+    @DisplayName("summarize reads the rollup in one query regardless of how many payments it covers")
+    @QueryBudget(max = 1)
+    void summarize_ShouldReadRollupInOneQuery() {
+        assertThat(rollup.summarize(DAY.minusYears(1), DAY.minusDays(1), Set.of(SummaryDimension.DAY))).isEmpty();
+    }
+}
@@ -1,14 +1,19 @@
 package com.kayky.domain.receipt;
 
 import com.kayky.commons.FileUtils;
+import com.kayky.commons.IdempotencyUtils;
 import com.kayky.commons.ReceiptUtils;
 import com.kayky.core.exception.ReceiptAlreadyExistsException;
 import com.kayky.core.exception.ResourceNotFoundException;
+import com.kayky.core.idempotency.IdempotentExecutor;
+import com.kayky.domain.receipt.response.ReceiptBatchResponse;
+import com.kayky.domain.receipt.response.ReceiptEmissionResult;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
@@ -17,6 +22,7 @@ import org.springframework.test.web.servlet.ResultActions;
 import java.time.Clock;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
+import java.util.List;
 
 import static com.kayky.commons.TestConstants.*;
 import static org.junit.jupiter.api.Assertions.*;
@@ -37,6 +43,9 @@ class PaymentReceiptControllerTest {
     @MockitoBean
     private ReceiptService service;
 
+    @MockitoBean
+    private IdempotentExecutor idempotency;
+
     private Clock fixedClock;
 
     @BeforeEach
@@ -45,6 +54,7 @@ class PaymentReceiptControllerTest {
                 LocalDateTime.of(2025, 1, 10, 12, 0).toInstant(ZoneOffset.UTC),
                 ZoneOffset.UTC
         );
+        IdempotencyUtils.passThrough(idempotency);
     }
 
     private String loadExpectedJson(String resourcePath) {
@@ -107,4 +117,36 @@ class PaymentReceiptControllerTest {
 
         verify(service).emit(paymentId);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("POST /v1/payment/receipts - Should return 200 with a result per payment")
+    void emitAll_shouldReturn200_withResultPerPayment() throws Exception {
+        var receipt = ReceiptUtils.asBaseResponse(ReceiptUtils.savedReceiptWithIssuedAt(EXISTING_ID, LocalDateTime.now(fixedClock)));
+        var response = ReceiptBatchResponse.of(List.of(
+                ReceiptEmissionResult.emitted(EXISTING_ID, receipt),
+                ReceiptEmissionResult.failed(NON_EXISTING_ID, HttpStatus.NOT_FOUND, PAYMENT_NOT_FOUND)));
+
+        when(service.emitAll(List.of(EXISTING_ID, NON_EXISTING_ID))).thenReturn(response);
+
+        mockMvc.perform(post("/v1/payment/receipts")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"paymentIds\": [%d, %d]}".formatted(EXISTING_ID, NON_EXISTING_ID)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.emitted").value(1))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.results[0].receipt.receiptNumber").value("RCT-ABC12345"))
+                .andExpect(jsonPath("$.results[1].status").value(404))
+                .andExpect(jsonPath("$.results[1].error").value(PAYMENT_NOT_FOUND));
+
+        verify(service).emitAll(List.of(EXISTING_ID, NON_EXISTING_ID));
+    }
+
+    @Test
+    @DisplayName("POST /v1/payment/receipts - Should return 422 when no payment id is given")
+    void emitAll_shouldReturn422_whenPaymentIdsAreEmpty() throws Exception {
+        mockMvc.perform(post("/v1/payment/receipts")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"paymentIds\": []}"))
+                .andExpect(status().isUnprocessableEntity());
+    }
+}
@@ -0,0 +1,83 @@
+package com.kayky.domain.receipt;
+
+import com.kayky.commons.PaymentUtils;
+import com.kayky.domain.payment.PaymentRepository;
+import com.kayky.domain.receipt.generator.ReceiptNumberGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static com.kayky.commons.TestConstants.PAYMENT_NOT_FOUND;
+import static com.kayky.commons.TestConstants.RECEIPT_ALREADY_EXISTS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.when;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("Receipt Batch Writer - Unit Tests")
+@ExtendWith(MockitoExtension.class)
+class ReceiptBatchWriterTest {
+
+    private ReceiptBatchWriter writer;
+
+    private final ReceiptMapper mapper = Mappers.getMapper(ReceiptMapper.class);
+
+    @Mock
+    private ReceiptRepository receiptRepository;
+
+    @Mock
+    private PaymentRepository paymentRepository;
+
+    @Mock
+    private ReceiptNumberGenerator numberGenerator;
+
+    @BeforeEach
+    void setUp() {
+        var fixedClock = Clock.fixed(
+                LocalDateTime.of(2025, 1, 10, 12, 0).toInstant(ZoneOffset.UTC),
+                ZoneOffset.UTC
+        );
+
+        writer = new ReceiptBatchWriter(receiptRepository, paymentRepository, mapper, numberGenerator, fixedClock);
+    }
+
+    @Test
+    @DisplayName("write loads payments and existing receipts once and inserts the new receipts together")
+    void write_ShouldReportPerPaymentOutcome_WhenBatchMixesNewMissingAndIssuedPayments() {
+        var paymentIds = List.of(1L, 2L, 3L);
+
+        when(paymentRepository.findAllWithPartiesByIdIn(paymentIds))
+                .thenReturn(List.of(PaymentUtils.savedPayment(1L), PaymentUtils.savedPayment(2L)));
+        when(receiptRepository.findPaymentIdsWithReceipt(paymentIds)).thenReturn(List.of(2L));
+        when(numberGenerator.generate()).thenReturn("RCT-ABC12345");
+        when(receiptRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Receipt> receipts = invocation.getArgument(0);
+            receipts.forEach(receipt -> receipt.setId(10L));
+            return receipts;
+        });
+
+        var results = writer.write(paymentIds);
+
+        assertThat(results).containsOnlyKeys(1L, 2L, 3L);
+
+        assertThat(results.get(1L).status()).isEqualTo(200);
+        assertThat(results.get(1L).receipt().receiptNumber()).isEqualTo("RCT-ABC12345");
+
+        assertThat(results.get(2L).status()).isEqualTo(409);
+        assertThat(results.get(2L).error()).isEqualTo(RECEIPT_ALREADY_EXISTS.formatted(2L));
+
+        assertThat(results.get(3L).status()).isEqualTo(404);
+        assertThat(results.get(3L).error()).isEqualTo(PAYMENT_NOT_FOUND);
+
+        verify(receiptRepository).saveAll(anyList());
+    }
+}
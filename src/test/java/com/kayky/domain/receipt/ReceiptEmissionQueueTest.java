@@ -0,0 +1,149 @@
+package com.kayky.domain.receipt;
+
+import com.kayky.domain.receipt.response.ReceiptBaseResponse;
+import com.kayky.domain.receipt.response.ReceiptEmissionResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.when;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@DisplayName("Receipt Emission Queue - Unit Tests")
+@ExtendWith(MockitoExtension.class)
+class ReceiptEmissionQueueTest {
+
+    @Mock
+    private ReceiptBatchWriter writer;
+
+    private ReceiptEmissionQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        queue = new ReceiptEmissionQueue(writer, 100, Duration.ofMillis(200), Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        queue.stop();
+    }
+
+    private static ReceiptEmissionResult emitted(Long paymentId) {
+        return ReceiptEmissionResult.emitted(paymentId, ReceiptBaseResponse.builder().id(paymentId).build());
+    }
+
+    private static List<ReceiptEmissionResult> join(List<CompletableFuture<ReceiptEmissionResult>> futures) {
+        return futures.stream().map(CompletableFuture::join).toList();
+    }
+
+    @Test
+    @DisplayName("submit coalesces requests arriving within the linger window into one write")
+    void submit_ShouldCoalesceConcurrentRequestsIntoOneBatch() {
+        when(writer.write(List.of(1L, 2L, 3L))).thenReturn(Map.of(1L, emitted(1L), 2L, emitted(2L), 3L, emitted(3L)));
+
+        var first = queue.submit(List.of(1L, 2L));
+        var second = queue.submit(List.of(3L));
+        queue.start();
+
+        assertThat(join(first)).extracting(ReceiptEmissionResult::paymentId).containsExactly(1L, 2L);
+        assertThat(join(second)).extracting(ReceiptEmissionResult::status).containsExactly(200);
+        verify(writer).write(List.of(1L, 2L, 3L));
+    }
+
+    @Test
+    @DisplayName("submit answers 409 for a payment requested twice in the same batch")
+    void submit_ShouldReturnConflict_WhenPaymentIsRequestedTwice() {
+        when(writer.write(List.of(1L))).thenReturn(Map.of(1L, emitted(1L)));
+
+        var futures = queue.submit(List.of(1L, 1L));
+        queue.start();
+
+        assertThat(join(futures)).extracting(ReceiptEmissionResult::status).containsExactly(200, 409);
+    }
+
+    @Test
+    @DisplayName("submit retries payment by payment when the batch conflicts with a concurrent emission")
+    void submit_ShouldRetryIndividually_WhenBatchViolatesUniqueConstraint() {
+        when(writer.write(List.of(1L, 2L))).thenThrow(new DataIntegrityViolationException("duplicate payment_id"));
+        when(writer.write(List.of(1L))).thenReturn(Map.of(1L, emitted(1L)));
+        when(writer.write(List.of(2L))).thenReturn(Map.of(2L,
+                ReceiptEmissionResult.failed(2L, HttpStatus.CONFLICT, "Receipt already exists for payment id 2")));
+
+        var futures = queue.submit(List.of(1L, 2L));
+        queue.start();
+
+        assertThat(join(futures)).extracting(ReceiptEmissionResult::status).containsExactly(200, 409);
+        verify(writer, times(1)).write(List.of(2L));
+    }
+
+    @Test
+    @DisplayName("submit answers 409 for the payment whose individual retry conflicts again")
+    void submit_ShouldReturnConflict_WhenIndividualRetryConflictsAgain() {
+        when(writer.write(List.of(1L, 2L))).thenThrow(new DataIntegrityViolationException("duplicate payment_id"));
+        when(writer.write(List.of(1L))).thenReturn(Map.of(1L, emitted(1L)));
+        when(writer.write(List.of(2L))).thenThrow(new DataIntegrityViolationException("duplicate payment_id"));
+
+        var futures = queue.submit(List.of(1L, 2L));
+        queue.start();
+
+        assertThat(join(futures)).extracting(ReceiptEmissionResult::status).containsExactly(200, 409);
+        verify(writer, times(2)).write(List.of(2L));
+    }
+
+    @Test
+    @DisplayName("submit keeps the worker alive after a batch fails, so later batches are still emitted")
+    void submit_ShouldKeepDraining_AfterBatchFails() {
+        when(writer.write(List.of(1L))).thenThrow(new DataIntegrityViolationException("duplicate payment_id"))
+                .thenThrow(new IllegalStateException("connection reset"));
+        when(writer.write(List.of(2L))).thenReturn(Map.of(2L, emitted(2L)));
+        queue.start();
+
+        var failed = join(queue.submit(List.of(1L)));
+        var next = join(queue.submit(List.of(2L)));
+
+        assertThat(failed).extracting(ReceiptEmissionResult::status).containsExactly(500);
+        assertThat(next).extracting(ReceiptEmissionResult::status).containsExactly(200);
+    }
+
+    @Test
+    @DisplayName("stop fails every request still waiting in the queue")
+    void stop_ShouldCompleteQueuedRequestsExceptionally() {
+        var futures = queue.submit(List.of(1L, 2L));
+
+        queue.stop();
+        var late = queue.submit(List.of(3L));
+
+        assertThat(futures).allMatch(CompletableFuture::isCompletedExceptionally);
+        assertThat(late).allMatch(CompletableFuture::isCompletedExceptionally);
+        verifyNoInteractions(writer);
+    }
+
+    @Test
+    @DisplayName("submit times out requests the worker never reaches")
+    void submit_ShouldTimeOut_WhenWorkerDoesNotDrain() {
+        var stalled = new ReceiptEmissionQueue(writer, 100, Duration.ofMillis(200), Duration.ofMillis(50));
+
+        var futures = stalled.submit(List.of(1L));
+
+        assertThatThrownBy(() -> futures.getFirst().join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(TimeoutException.class);
+    }
+}
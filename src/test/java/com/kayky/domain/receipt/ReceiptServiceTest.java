@@ -6,6 +6,8 @@ import com.kayky.core.exception.ReceiptAlreadyExistsException;
 import com.kayky.core.exception.ResourceNotFoundException;
 import com.kayky.domain.payment.PaymentRepository;
 import com.kayky.domain.receipt.generator.ReceiptNumberGenerator;
+import com.kayky.domain.receipt.response.ReceiptBaseResponse;
+import com.kayky.domain.receipt.response.ReceiptEmissionResult;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -18,7 +20,10 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.time.Clock;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
 
 import static com.kayky.commons.TestConstants.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -42,6 +47,9 @@ public class ReceiptServiceTest {
     @Mock
     private ReceiptNumberGenerator numberGenerator;
 
+    @Mock
+    private ReceiptEmissionQueue emissionQueue;
+
     private Clock fixedClock;
 
     @BeforeEach
@@ -51,7 +59,7 @@ public class ReceiptServiceTest {
                 ZoneOffset.UTC
         );
 
-        service = new ReceiptService(receiptRepository, paymentRepository, mapper, numberGenerator, fixedClock);
+        service = new ReceiptService(receiptRepository, paymentRepository, mapper, numberGenerator, fixedClock, emissionQueue);
     }
 
     @Test
@@ -105,4 +113,26 @@ public class ReceiptServiceTest {
         verify(paymentRepository).findById(EXISTING_ID);
     }
 
+    @Test
+    @DisplayName("emitAll answers 503 for payments whose emission timed out or was abandoned instead of waiting forever")
+    void emitAll_shouldReturnUnavailable_whenEmissionDoesNotComplete() {
+        var emitted = ReceiptEmissionResult.emitted(1L, ReceiptBaseResponse.builder().id(1L).build());
+
+        when(emissionQueue.submit(List.of(1L, 2L, 3L))).thenReturn(List.of(
+                CompletableFuture.completedFuture(emitted),
+                CompletableFuture.failedFuture(new TimeoutException()),
+                CompletableFuture.failedFuture(new IllegalStateException("Receipt emission queue is shut down"))));
+
+        var response = service.emitAll(List.of(1L, 2L, 3L));
+
+        Assertions.assertThat(response.emitted()).isEqualTo(1);
+        Assertions.assertThat(response.failed()).isEqualTo(2);
+        Assertions.assertThat(response.results())
+                .extracting(ReceiptEmissionResult::paymentId, ReceiptEmissionResult::status)
+                .containsExactly(
+                        Assertions.tuple(1L, 200),
+                        Assertions.tuple(2L, 503),
+                        Assertions.tuple(3L, 503));
+    }
+
 }
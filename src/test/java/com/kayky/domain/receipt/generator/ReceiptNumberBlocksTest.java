@@ -0,0 +1,67 @@
+package com.kayky.domain.receipt.generator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Receipt Number Blocks")
+@DataJpaTest
+@Import(ReceiptNumberBlocks.class)
+class ReceiptNumberBlocksTest {
+
+    @Autowired
+    private ReceiptNumberBlocks blocks;
+
+    private static String segment() {
+        return "receipt-number-test-" + UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("reserve starts a new segment at 1 and hands out consecutive blocks")
+    void reserve_ShouldHandOutConsecutiveBlocks() {
+        var segment = segment();
+
+        assertThat(blocks.reserve(segment, 100)).isEqualTo(1L);
+        assertThat(blocks.reserve(segment, 100)).isEqualTo(101L);
+        assertThat(blocks.reserve(segment, 10)).isEqualTo(201L);
+    }
+
+    @Test
+    @DisplayName("reserve never hands the same block to concurrent callers")
+    void reserve_ShouldNotOverlap_WhenCalledConcurrently() throws Exception {
+        var segment = segment();
+        int callers = 8;
+        int reservationsPerCaller = 10;
+
+        List<Future<List<Long>>> results = new ArrayList<>();
+        try (var executor = Executors.newFixedThreadPool(callers)) {
+            for (int i = 0; i < callers; i++) {
+                Callable<List<Long>> caller = () -> LongStream.range(0, reservationsPerCaller)
+                        .mapToObj(n -> blocks.reserve(segment, 5))
+                        .toList();
+                results.add(executor.submit(caller));
+            }
+        }
+
+        var starts = new ArrayList<Long>();
+        for (var result : results) {
+            starts.addAll(result.get());
+        }
+
+        assertThat(starts).doesNotHaveDuplicates()
+                .containsExactlyInAnyOrderElementsOf(
+                        LongStream.range(0, callers * reservationsPerCaller).map(n -> 1 + n * 5).boxed().toList());
+    }
+}
@@ -0,0 +1,119 @@
+package com.kayky.domain.receipt.generator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Sequential Receipt Number Generator")
+@ExtendWith(MockitoExtension.class)
+class SequentialReceiptNumberGeneratorTest {
+
+    private static final Clock CLOCK_2026 = Clock.fixed(
+            LocalDateTime.of(2026, 3, 1, 10, 0).toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+
+    @Mock
+    private ReceiptNumberBlocks blocks;
+
+    @Test
+    @DisplayName("generate formats year and zero-padded sequence from one reserved block")
+    void generate_ShouldHandOutNumbersFromReservedBlock() {
+        when(blocks.reserve("receipt-number-2026", 100)).thenReturn(1234L);
+        var generator = new SequentialReceiptNumberGenerator(blocks, CLOCK_2026, 100);
+
+        assertThat(List.of(generator.generate(), generator.generate(), generator.generate()))
+                .containsExactly("RCT-2026-00001234", "RCT-2026-00001235", "RCT-2026-00001236");
+        verify(blocks, times(1)).reserve(anyString(), eq(100));
+    }
+
+    @Test
+    @DisplayName("generate reserves the next block once the current one is used up")
+    void generate_ShouldReserveNextBlock_WhenBlockIsExhausted() {
+        when(blocks.reserve("receipt-number-2026", 2)).thenReturn(1L, 51L);
+        var generator = new SequentialReceiptNumberGenerator(blocks, CLOCK_2026, 2);
+
+        assertThat(List.of(generator.generate(), generator.generate(), generator.generate()))
+                .containsExactly("RCT-2026-00000001", "RCT-2026-00000002", "RCT-2026-00000051");
+    }
+
+    @Test
+    @DisplayName("generate switches to the new year's segment when the year changes")
+    void generate_ShouldStartNewSegment_WhenYearChanges() {
+        var clock = new MutableClock(LocalDateTime.of(2026, 12, 31, 23, 59));
+        when(blocks.reserve("receipt-number-2026", 100)).thenReturn(900L);
+        when(blocks.reserve("receipt-number-2027", 100)).thenReturn(1L);
+        var generator = new SequentialReceiptNumberGenerator(blocks, clock, 100);
+
+        var last = generator.generate();
+        clock.now = LocalDateTime.of(2027, 1, 1, 0, 1);
+        var first = generator.generate();
+
+        assertThat(last).isEqualTo("RCT-2026-00000900");
+        assertThat(first).isEqualTo("RCT-2027-00000001");
+    }
+
+    @Test
+    @DisplayName("generate never repeats a number across concurrent callers and reserves one block per block size")
+    void generate_ShouldStayUnique_WhenCalledConcurrently() throws Exception {
+        var next = new AtomicLong(1);
+        when(blocks.reserve("receipt-number-2026", 50)).thenAnswer(invocation -> next.getAndAdd(50));
+        var generator = new SequentialReceiptNumberGenerator(blocks, CLOCK_2026, 50);
+
+        var numbers = Collections.synchronizedList(new ArrayList<String>());
+        try (var executor = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < 8; i++) {
+                executor.submit(() -> {
+                    for (int n = 0; n < 500; n++) {
+                        numbers.add(generator.generate());
+                    }
+                });
+            }
+        }
+
+        assertThat(numbers).hasSize(4000).doesNotHaveDuplicates();
+        verify(blocks, times(80)).reserve("receipt-number-2026", 50);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private LocalDateTime now;
+
+        private MutableClock(LocalDateTime now) {
+            this.now = now;
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now.toInstant(ZoneOffset.UTC);
+        }
+    }
+}
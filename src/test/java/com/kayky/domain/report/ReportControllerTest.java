@@ -3,9 +3,11 @@ package com.kayky.domain.report;
 import com.kayky.commons.FileUtils;
 import com.kayky.commons.PageUtils;
 import com.kayky.commons.ReportUtils;
+import com.kayky.core.caching.ResourceVersion;
 import com.kayky.core.exception.OperationMismatchException;
 import com.kayky.core.exception.ReportAlreadyExistsException;
 import com.kayky.core.exception.ResourceNotFoundException;
+import com.kayky.core.pagination.CountMode;
 import com.kayky.domain.report.request.ReportBaseRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -77,6 +79,7 @@ class ReportControllerTest {
         var savedReport = ReportUtils.savedReport();
         var response = ReportUtils.asBaseResponse(savedReport);
 
+        when(service.findVersion(EXISTING_ID)).thenReturn(new ResourceVersion("0"));
         when(service.findById(EXISTING_ID)).thenReturn(response);
 
         mockMvc.perform(get(PATH_ID, response.id())
@@ -94,7 +97,7 @@ class ReportControllerTest {
     void getReport_shouldReturn404_whenDoesNotExist() throws Exception {
         var expectedErrorMessage = REPORT_NOT_FOUND;
 
-        when(service.findById(NON_EXISTING_ID)).thenThrow(new ResourceNotFoundException(expectedErrorMessage));
+        when(service.findVersion(NON_EXISTING_ID)).thenThrow(new ResourceNotFoundException(expectedErrorMessage));
 
         mockMvc.perform(get(PATH_ID, NON_EXISTING_ID)
                         .accept(MediaType.APPLICATION_JSON))
@@ -103,18 +106,18 @@ class ReportControllerTest {
                 .andExpect(jsonPath("$.error").value(expectedErrorMessage))
                 .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
 
-        verify(service).findById(NON_EXISTING_ID);
+        verify(service).findVersion(NON_EXISTING_ID);
     }
 
 
     @Test
     @DisplayName("GET /v1/report - Should return paged result when reports exist")
     void getReports_shouldReturnPagedResults_whenReportsExist() throws Exception {
-        var reportList = ReportUtils.baseResponseList();
+        var reportList = ReportUtils.summaryResponseList();
         var reportPage = PageUtils.toPage(reportList);
         var pageResponse = PageUtils.pageResponse(reportPage);
 
-        when(service.findAll(any(Pageable.class))).thenReturn(pageResponse);
+        when(service.findAll(any(Pageable.class), eq(CountMode.EXACT))).thenReturn(pageResponse);
 
         mockMvc.perform(get(BASE_URI))
                 .andExpect(status().isOk())
@@ -122,7 +125,7 @@ class ReportControllerTest {
                 .andExpect(content().json(loadExpectedJson("report/controller/get/all-paged-reports-200.json")))
                 .andExpect(jsonPath("$.content").isArray());
 
-        verify(service).findAll(any(Pageable.class));
+        verify(service).findAll(any(Pageable.class), eq(CountMode.EXACT));
     }
 
     @Test
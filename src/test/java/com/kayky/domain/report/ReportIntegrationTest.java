@@ -1,6 +1,7 @@
 package com.kayky.domain.report;
 
 import com.kayky.config.BaseIntegrationTest;
+import com.kayky.config.QueryBudget;
 import com.kayky.domain.report.response.ReportBaseResponse;
 import io.restassured.http.ContentType;
 import io.restassured.response.ExtractableResponse;
@@ -46,6 +47,7 @@ public class ReportIntegrationTest extends BaseIntegrationTest {
     class GetEndPoints {
         @Test
         @DisplayName("GET /v1/report/{id} - Should return 200 with report data when report exists")
+        @QueryBudget(max = 5)
         void shouldReturnReport_whenIdExists() {
             var expectedResponse = readResourceFile(GET + "report-by-id-200.json");
 
@@ -56,6 +58,7 @@ public class ReportIntegrationTest extends BaseIntegrationTest {
 
         @Test
         @DisplayName("GET /v1/report/{id} - Should return 404 when report does not exists")
+        @QueryBudget(max = 1)
         void shouldReturn404_whenIdDoesNotExists() {
             var expectedResponse = readResourceFile(GET + "report-not-found-404.json");
 
@@ -66,6 +69,7 @@ public class ReportIntegrationTest extends BaseIntegrationTest {
 
         @Test
         @DisplayName("GET /v1/report - Should return 200 with paged report data when reports exists")
+        @QueryBudget(max = 10)
         void shouldReturnPagedReports_whenReportsExists() {
             var expectedResponse = readResourceFile(GET + "all-paged-reports-200.json");
 
@@ -0,0 +1,275 @@
+package com.kayky.domain.report;
+
+import com.kayky.commons.DoctorUtils;
+import com.kayky.commons.OperationUtils;
+import com.kayky.commons.PatientUtils;
+import com.kayky.config.QueryBudget;
+import com.kayky.domain.doctor.Doctor;
+import com.kayky.domain.doctor.DoctorMapperImpl;
+import com.kayky.domain.operation.Operation;
+import com.kayky.domain.operation.OperationMapperImpl;
+import com.kayky.core.query.QueryCounter;
+import com.kayky.domain.operation.OperationStatus;
+import com.kayky.domain.patient.Patient;
+import com.kayky.domain.patient.PatientMapperImpl;
+import com.kayky.domain.report.request.ReportBaseRequest;
+import com.kayky.domain.report.search.ReportSearchDocument;
+import com.kayky.domain.report.search.ReportSearchSummary;
+import com.kayky.domain.report.validator.ReportValidator;
+import com.kayky.domain.user.enums.Role;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.kayky.commons.TestConstants.NON_EXISTING_ID;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Report Repository")
+@DataJpaTest
+@Import({ReportValidator.class, ReportMapperImpl.class, PatientMapperImpl.class, DoctorMapperImpl.class,
+        OperationMapperImpl.class})
+class ReportRepositoryTest {
+
+    @Autowired
+    private ReportRepository repository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ReportValidator validator;
+
+    @Autowired
+    private ReportMapper mapper;
+
+    private Patient patient;
+    private Doctor doctor;
+    private Operation reportedOperation;
+    private Operation pendingOperation;
+    private Report report;
+
+    @BeforeEach
+    void setUp() {
+        patient = entityManager.persist(PatientUtils.patientToSave().toBuilder()
+                .role(Role.PATIENT)
+                .build());
+
+        doctor = entityManager.persist(DoctorUtils.savedDoctor(null).toBuilder()
+                .email("doctor.repository@example.com")
+                .role(Role.DOCTOR)
+                .registrationNumber("REG-REPORT")
+                .department("Orthopedics")
+                .salary(new BigDecimal("12000.00"))
+                .build());
+
+        reportedOperation = persistOperation();
+        pendingOperation = persistOperation();
+
+        report = entityManager.persist(Report.builder()
+                .title("Post-op Review")
+                .description("Patient is stable")
+                .diagnosis("Recovered")
+                .treatmentPlan("Follow-up in two weeks")
+                .reportDate(LocalDate.of(2025, 1, 10))
+                .status(ReportStatus.FINALIZED)
+                .patient(patient)
+                .doctor(doctor)
+                .operation(reportedOperation)
+                .createdAt(LocalDateTime.of(2025, 1, 10, 9, 0))
+                .updatedAt(LocalDateTime.of(2025, 1, 10, 9, 0))
+                .build());
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private Operation persistOperation() {
+        return entityManager.persist(OperationUtils.createOperationBuilder(null)
+                .patient(patient)
+                .doctor(doctor)
+                .build());
+    }
+
+    @Test
+    @DisplayName("findConsistency resolves participants, operation ownership and existing report in one query")
+    @QueryBudget(max = 1)
+    void findConsistency_ShouldResolveEverythingInOneQuery() {
+        var result = repository.findConsistency(patient.getId(), doctor.getId(), reportedOperation.getId());
+
+        assertThat(result.getPatientCount()).isEqualTo(1L);
+        assertThat(result.getDoctorCount()).isEqualTo(1L);
+        assertThat(result.getOperationId()).isEqualTo(reportedOperation.getId());
+        assertThat(result.getOperationPatientId()).isEqualTo(patient.getId());
+        assertThat(result.getOperationDoctorId()).isEqualTo(doctor.getId());
+        assertThat(result.getExistingReportId()).isEqualTo(report.getId());
+    }
+
+    @Test
+    @DisplayName("findConsistency returns no existing report when the operation has not been reported")
+    void findConsistency_ShouldReturnNullReport_WhenOperationHasNoReport() {
+        var result = repository.findConsistency(patient.getId(), doctor.getId(), pendingOperation.getId());
+
+        assertThat(result.getOperationId()).isEqualTo(pendingOperation.getId());
+        assertThat(result.getExistingReportId()).isNull();
+    }
+
+    @Test
+    @DisplayName("findConsistency still returns a row when nothing exists")
+    void findConsistency_ShouldReturnEmptyCounts_WhenNothingExists() {
+        var result = repository.findConsistency(NON_EXISTING_ID, NON_EXISTING_ID, NON_EXISTING_ID);
+
+        assertThat(result.getPatientCount()).isZero();
+        assertThat(result.getDoctorCount()).isZero();
+        assertThat(result.getOperationId()).isNull();
+        assertThat(result.getExistingReportId()).isNull();
+    }
+
+    @Test
+    @DisplayName("findVersionById covers the participants in the ETag and sends no Last-Modified")
+    void findVersionById_ShouldOmitLastModified() {
+        var version = repository.findVersionById(report.getId()).orElseThrow();
+
+        assertThat(version.etag()).isEqualTo("%d-%d-%d-%d".formatted(report.getVersion(), patient.getVersion(),
+                doctor.getVersion(), reportedOperation.getVersion()));
+        assertThat(version.lastModified()).isNull();
+    }
+
+    @Test
+    @DisplayName("validate loads everything the report response needs in two queries on a cold cache")
+    void validate_ShouldLoadResponseParticipants_WithoutLazySelects() {
+        entityManager.getEntityManager().getEntityManagerFactory().getCache().evictAll();
+        var request = ReportBaseRequest.builder()
+                .title("Pre-op Review")
+                .description("Patient is ready for surgery")
+                .diagnosis("Cleared")
+                .treatmentPlan("Proceed as scheduled")
+                .reportDate(LocalDate.of(2025, 1, 12))
+                .status(ReportStatus.DRAFT)
+                .patientId(patient.getId())
+                .doctorId(doctor.getId())
+                .operationId(pendingOperation.getId())
+                .build();
+
+        QueryCounter.begin();
+        var validation = validator.validate(request);
+        var response = mapper.toReportBaseResponse(mapper.toEntity(request, validation.patient(),
+                validation.doctor(), validation.operation()));
+        var statements = QueryCounter.end();
+
+        assertThat(statements.total()).as(statements.describe()).isEqualTo(2);
+        assertThat(response.patient().name()).isEqualTo(patient.getFirstName());
+        assertThat(response.doctor().name()).isEqualTo(doctor.getFirstName());
+        assertThat(response.operation().id()).isEqualTo(pendingOperation.getId());
+        assertThat(response.operation().status()).isEqualTo(OperationStatus.SCHEDULED.name());
+    }
+
+    @Test
+    @DisplayName("streamSearchDocuments streams the searchable text of every report")
+    void streamSearchDocuments_ShouldStreamSearchableText() {
+        try (var documents = repository.streamSearchDocuments()) {
+            assertThat(documents.toList()).containsExactly(new ReportSearchDocument(report.getId(),
+                    "Post-op Review", "Patient is stable", "Recovered", "Follow-up in two weeks"));
+        }
+    }
+
+    @Test
+    @DisplayName("streamSearchDocumentsUpdatedSince skips reports untouched since the watermark")
+    void streamSearchDocumentsUpdatedSince_ShouldSkipOlderReports() {
+        try (var documents = repository.streamSearchDocumentsUpdatedSince(LocalDateTime.of(2025, 1, 11, 0, 0))) {
+            assertThat(documents.toList()).isEmpty();
+        }
+        try (var documents = repository.streamSearchDocumentsUpdatedSince(LocalDateTime.of(2025, 1, 10, 9, 0))) {
+            assertThat(documents.map(ReportSearchDocument::id).toList()).containsExactly(report.getId());
+        }
+    }
+
+    @Test
+    @DisplayName("findSearchSummaries loads summaries with participant names in one query")
+    @QueryBudget(max = 1)
+    void findSearchSummaries_ShouldLoadSummariesInOneQuery() {
+        var result = repository.findSearchSummaries(List.of(report.getId(), NON_EXISTING_ID));
+
+        assertThat(result).containsExactly(new ReportSearchSummary(report.getId(), "Post-op Review",
+                LocalDate.of(2025, 1, 10), ReportStatus.FINALIZED,
+                patient.getId(), patient.getFirstName() + " " + patient.getLastName(),
+                doctor.getId(), doctor.getFirstName() + " " + doctor.getLastName()));
+    }
+
+    private void persistUnlinkedReports(int count) {
+        for (int i = 0; i < count; i++) {
+            entityManager.persist(Report.builder()
+                    .title("Follow-up " + i)
+                    .description("Long clinical narrative " + i)
+                    .reportDate(LocalDate.of(2025, 2, 1).plusDays(i))
+                    .status(ReportStatus.DRAFT)
+                    .patient(entityManager.find(Patient.class, patient.getId()))
+                    .createdAt(LocalDateTime.of(2025, 2, 1, 9, 0))
+                    .updatedAt(LocalDateTime.of(2025, 2, 1, 9, 0))
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private long statementsFor(Runnable query) {
+        QueryCounter.begin();
+        query.run();
+        return QueryCounter.end().total();
+    }
+
+    @Test
+    @DisplayName("findAllProjected issues the same number of statements regardless of page size")
+    void findAllProjected_ShouldNotScaleQueriesWithPageSize() {
+        persistUnlinkedReports(6);
+
+        long smallPage = statementsFor(() -> repository.findAllProjected(PageRequest.of(0, 2, Sort.by("id"))).getContent()
+                .forEach(ReportSummaryProjection::getPatientName));
+        long largePage = statementsFor(() -> repository.findAllProjected(PageRequest.of(0, 6, Sort.by("id"))).getContent()
+                .forEach(ReportSummaryProjection::getPatientName));
+
+        assertThat(smallPage).isEqualTo(2);
+        assertThat(largePage).isEqualTo(smallPage);
+    }
+
+    @Test
+    @DisplayName("findSliceProjected returns flat summaries with optional doctor and operation in one query")
+    @QueryBudget(max = 1)
+    void findSliceProjected_ShouldReturnSummariesInOneQuery() {
+        var result = repository.findSliceProjected(PageRequest.of(0, 10, Sort.by("id"))).getContent();
+
+        var summary = result.getFirst();
+        assertThat(summary.getId()).isEqualTo(report.getId());
+        assertThat(summary.getTitle()).isEqualTo("Post-op Review");
+        assertThat(summary.getPatientName()).isEqualTo(patient.getFirstName());
+        assertThat(summary.getDoctorName()).isEqualTo(doctor.getFirstName());
+        assertThat(summary.getOperationId()).isEqualTo(reportedOperation.getId());
+        assertThat(summary.getOperationStatus()).isEqualTo(OperationStatus.SCHEDULED);
+    }
+
+    @Test
+    @DisplayName("findPageAfterProjected seeks past the cursor and keeps reports without doctor or operation")
+    void findPageAfterProjected_ShouldSeekPastCursor() {
+        persistUnlinkedReports(2);
+
+        var result = repository.findPageAfterProjected(report.getId(), Limit.of(10));
+
+        assertThat(result).hasSize(2)
+                .allSatisfy(summary -> {
+                    assertThat(summary.getId()).isGreaterThan(report.getId());
+                    assertThat(summary.getDoctorId()).isNull();
+                    assertThat(summary.getOperationId()).isNull();
+                });
+    }
+}
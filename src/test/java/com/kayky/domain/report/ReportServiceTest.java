@@ -2,12 +2,22 @@ package com.kayky.domain.report;
 
 import com.kayky.commons.DoctorUtils;
 import com.kayky.commons.OperationUtils;
-import com.kayky.commons.PageUtils;
 import com.kayky.commons.ReportUtils;
 import com.kayky.core.exception.OperationMismatchException;
 import com.kayky.core.exception.ReportAlreadyExistsException;
 import com.kayky.core.exception.ResourceNotFoundException;
+import com.kayky.core.fieldset.SparseFieldsetRepository;
+import com.kayky.core.pagination.CountMode;
+import com.kayky.core.pagination.Cursor;
+import com.kayky.core.pagination.CursorRequest;
+import com.kayky.core.pagination.RowCountEstimator;
+import com.kayky.core.search.SearchHit;
 import com.kayky.domain.report.request.ReportBaseRequest;
+import com.kayky.domain.report.response.ReportSearchResponse;
+import com.kayky.domain.report.response.ReportSummaryResponse;
+import com.kayky.domain.report.search.ReportSearchDocument;
+import com.kayky.domain.report.search.ReportSearchIndex;
+import com.kayky.domain.report.search.ReportSearchSummary;
 import com.kayky.domain.report.validator.ReportValidator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -17,8 +27,13 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -27,6 +42,7 @@ import static com.kayky.commons.TestConstants.*;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
 import static org.mockito.Mockito.*;
 
 @DisplayName("Report Service - Unit Tests")
@@ -41,26 +57,29 @@ class ReportServiceTest {
     @Mock
     private ReportValidator reportValidator;
 
+    @Mock
+    private ReportSearchIndex searchIndex;
+
     @Mock
     private ReportMapper mapper;
+    @Mock
+    private RowCountEstimator rowCountEstimator;
+    @Mock
+    private SparseFieldsetRepository sparseFieldsetRepository;
 
     @BeforeEach
     void setUp() {
-        service = new ReportService(repository, reportValidator, mapper);
+        service = new ReportService(repository, reportValidator, searchIndex, mapper, rowCountEstimator, sparseFieldsetRepository);
     }
 
     private ReportValidator.ValidationResult mockValidatorResult(ReportBaseRequest request){
-        var validationResult = ReportUtils.validationResult();
-        when(reportValidator.validate(request)).thenReturn(validationResult);
-        return validationResult;
-    }
-
-    private void mockNoExistingReport(ReportValidator.ValidationResult validatorResult) {
-        when(repository.existsByOperationId(validatorResult.operation().getId())).thenReturn(false);
+        return mockValidatorResult(request, null);
     }
 
-    private void mockExistingReport(ReportValidator.ValidationResult validatorResult) {
-        when(repository.existsByOperationId(validatorResult.operation().getId())).thenReturn(true);
+    private ReportValidator.ValidationResult mockValidatorResult(ReportBaseRequest request, Long existingReportId){
+        var validationResult = ReportUtils.validationResult(existingReportId);
+        when(reportValidator.validate(request)).thenReturn(validationResult);
+        return validationResult;
     }
 
     private void mockValidatorWithException(ReportBaseRequest request, RuntimeException exception) {
@@ -103,16 +122,14 @@ class ReportServiceTest {
     }
 
     @Test
-    @DisplayName("findAll - Should return paged response when reports exist")
+    @DisplayName("findAll - Should return paged summaries from the projected query")
     void findAll_shouldReturnPagedResponse_whenReportsExist() {
         PageRequest pageRequest = PageRequest.of(0, 3);
-        var reportList = ReportUtils.reportList();
-        var pagedReports = PageUtils.toPage(reportList);
+        var projections = ReportUtils.summaryProjectionList();
+        var pagedReports = new PageImpl<>(projections, pageRequest, projections.size());
 
-        when(repository.findAll(pageRequest)).thenReturn(pagedReports);
-
-        when(mapper.toReportBaseResponse(any(Report.class)))
-                .thenAnswer(invocation -> ReportUtils.asBaseResponse(invocation.getArgument(0)));
+        when(repository.findAllProjected(pageRequest)).thenReturn(pagedReports);
+        mockSummaryMapping();
 
         var result = service.findAll(pageRequest);
 
@@ -120,9 +137,48 @@ class ReportServiceTest {
         assertThat(result.getTotalPages()).isEqualTo(pagedReports.getTotalPages());
         assertThat(result.getCurrentPage()).isEqualTo(pagedReports.getNumber());
 
-        var expectedResponse = ReportUtils.baseResponseList();
+        var expectedResponse = ReportUtils.summaryResponseList();
 
         assertThat(result.getContent()).usingRecursiveComparison().isEqualTo(expectedResponse);
+        verify(repository, never()).findAll(any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("findAll - Should return a projected slice without totals when count mode is none")
+    void findAll_shouldReturnSliceWithoutTotals_whenCountModeIsNone() {
+        PageRequest pageRequest = PageRequest.of(0, 2);
+        var projections = ReportUtils.summaryProjectionList();
+
+        when(repository.findSliceProjected(pageRequest)).thenReturn(new SliceImpl<>(projections.subList(0, 2), pageRequest, true));
+        mockSummaryMapping();
+
+        var result = service.findAll(pageRequest, CountMode.NONE);
+
+        assertThat(result.getContent()).hasSize(2);
+        assertThat(result.getHasNext()).isTrue();
+        assertThat(result.getTotalElements()).isNull();
+        verify(repository, never()).count();
+    }
+
+    @Test
+    @DisplayName("findAllByCursor - Should page projected summaries after the cursor")
+    void findAllByCursor_shouldUseProjectedKeysetQuery() {
+        var projections = ReportUtils.summaryProjectionList();
+        var request = CursorRequest.of(Cursor.next(null, 1L).encode(), 2);
+
+        when(repository.findPageAfterProjected(1L, request.limit())).thenReturn(projections.subList(1, 3));
+        mockSummaryMapping();
+
+        var result = service.findAllByCursor(request);
+
+        assertThat(result.getContent()).extracting(ReportSummaryResponse::id).containsExactly(2L, 3L);
+        verify(repository, never()).findAll(any(Pageable.class));
+    }
+
+    private void mockSummaryMapping() {
+        var summaryMapper = new ReportMapperImpl();
+        when(mapper.toReportSummaryResponse(any(ReportSummaryProjection.class)))
+                .thenAnswer(invocation -> summaryMapper.toReportSummaryResponse(invocation.getArgument(0)));
     }
 
     @Test
@@ -135,8 +191,6 @@ class ReportServiceTest {
 
         var validatorResult = mockValidatorResult(request);
 
-        mockNoExistingReport(validatorResult);
-
         when(mapper.toEntity(request, validatorResult.patient(), validatorResult.doctor(), validatorResult.operation()))
                 .thenReturn(savedReport);
         when(repository.save(savedReport)).thenReturn(savedReport);
@@ -145,15 +199,14 @@ class ReportServiceTest {
         var result = service.save(request);
 
         assertThat(result).usingRecursiveComparison().isEqualTo(expectedResponse);
+        verify(searchIndex).indexAfterCommit(ReportSearchDocument.of(savedReport));
     }
 
     @Test
     @DisplayName("save: should throw report-already-exists exception when report already exists for the operation")
     void save_shouldThrowAlreadyExists_whenReportAlreadyExists() {
         var request = asBaseRequest();
-        var validatorResult = mockValidatorResult(request);
-
-        mockExistingReport(validatorResult);
+        mockValidatorResult(request, EXISTING_ID);
 
         assertThatThrownBy(() -> service.save(request))
                 .isInstanceOf(ReportAlreadyExistsException.class)
@@ -215,12 +268,10 @@ class ReportServiceTest {
         var request = ReportUtils.asBaseRequest();
         var expectedResponse = ReportUtils.asBaseResponse(savedReport);
 
-        var validatorResult = mockValidatorResult(request);
+        mockValidatorResult(request);
 
         when(repository.findById(EXISTING_ID)).thenReturn(Optional.of(savedReport));
 
-        mockNoExistingReport(validatorResult);
-
         when(repository.save(any(Report.class))).thenReturn(savedReport);
 
         when(mapper.toReportBaseResponse(savedReport)).thenReturn(expectedResponse);
@@ -232,6 +283,27 @@ class ReportServiceTest {
         verify(reportValidator).validate(request);
         verify(repository).save(any(Report.class));
         verify(mapper).toReportBaseResponse(savedReport);
+        verify(searchIndex).indexAfterCommit(ReportSearchDocument.of(savedReport));
+    }
+
+    @Test
+    @DisplayName("update - Should return base response when the operation's report is the one being updated")
+    void update_shouldReturnBaseResponse_whenExistingReportIsTheUpdatedOne() {
+        var savedReport = ReportUtils.savedReport();
+
+        var request = ReportUtils.asBaseRequest();
+        var expectedResponse = ReportUtils.asBaseResponse(savedReport);
+
+        mockValidatorResult(request, savedReport.getId());
+
+        when(repository.findById(EXISTING_ID)).thenReturn(Optional.of(savedReport));
+        when(repository.save(any(Report.class))).thenReturn(savedReport);
+        when(mapper.toReportBaseResponse(savedReport)).thenReturn(expectedResponse);
+
+        var result = service.update(request, EXISTING_ID);
+
+        assertThat(result).usingRecursiveComparison().isEqualTo(expectedResponse);
+        verify(repository).save(any(Report.class));
     }
 
     @Test
@@ -270,14 +342,11 @@ class ReportServiceTest {
         var request = asBaseRequest();
 
         var savedReport = ReportUtils.savedReport();
-        savedReport.getOperation().setId(NON_EXISTING_ID);
 
-        var validatorResult = mockValidatorResult(request);
+        mockValidatorResult(request, NON_EXISTING_ID);
 
         when(repository.findById(EXISTING_ID)).thenReturn(Optional.of(savedReport));
 
-        mockExistingReport(validatorResult);
-
         assertThatThrownBy(() -> service.update(request, EXISTING_ID))
                 .isInstanceOf(ReportAlreadyExistsException.class)
                 .hasMessage(REPORT_ALREADY_EXISTS.formatted(request.operationId()));
@@ -336,6 +405,7 @@ class ReportServiceTest {
 
         verify(repository).existsById(EXISTING_ID);
         verify(repository).deleteById(EXISTING_ID);
+        verify(searchIndex).removeAfterCommit(EXISTING_ID);
     }
 
     @Test
@@ -348,6 +418,39 @@ class ReportServiceTest {
                 .hasMessage(REPORT_NOT_FOUND);
     }
 
+    @Test
+    @DisplayName("search - Should return summaries in ranking order, skipping hits deleted since indexing")
+    void search_shouldReturnSummariesInRankingOrder() {
+        var first = new ReportSearchSummary(2L, "Fracture follow-up", LocalDate.of(2025, 1, 20), ReportStatus.FINALIZED,
+                1L, "Michael Carter", 3L, "Emily Johnson");
+        var second = new ReportSearchSummary(1L, "Fracture admission", LocalDate.of(2025, 1, 10), ReportStatus.DRAFT,
+                1L, "Michael Carter", null, null);
+        when(searchIndex.search("fracture", 10))
+                .thenReturn(List.of(new SearchHit(2L, 4.2), new SearchHit(9L, 3.1), new SearchHit(1L, 1.5)));
+        when(repository.findSearchSummaries(List.of(2L, 9L, 1L))).thenReturn(List.of(second, first));
+        when(mapper.toReportSearchResponse(any(ReportSearchSummary.class), anyDouble()))
+                .thenAnswer(invocation -> ReportSearchResponse.builder()
+                        .id(invocation.<ReportSearchSummary>getArgument(0).id())
+                        .score(invocation.getArgument(1))
+                        .build());
+
+        var result = service.search("fracture", 10);
+
+        assertThat(result).extracting(ReportSearchResponse::id).containsExactly(2L, 1L);
+        assertThat(result).extracting(ReportSearchResponse::score).containsExactly(4.2, 1.5);
+    }
+
+    @Test
+    @DisplayName("search - Should clamp the limit and skip the database when nothing matches")
+    void search_shouldClampLimit_AndSkipDatabase_WhenNothingMatches() {
+        when(searchIndex.search("unknown", 100)).thenReturn(List.of());
+
+        var result = service.search("unknown", 5000);
+
+        assertThat(result).isEmpty();
+        verifyNoInteractions(repository);
+    }
+
     private static Stream<String> provideNonExistingTypes() {
         return Stream.of("Patient", "Doctor", "Operation");
     }
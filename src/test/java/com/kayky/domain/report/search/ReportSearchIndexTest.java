@@ -0,0 +1,170 @@
+package com.kayky.domain.report.search;
+
+import com.kayky.core.search.SearchHit;
+import com.kayky.domain.report.ReportRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Report Search Index - Unit Tests")
+@ExtendWith(MockitoExtension.class)
+class ReportSearchIndexTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 3, 2, 12, 0);
+    private static final Clock UTC_CLOCK = Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+
+    private static final ReportSearchDocument FRACTURE = new ReportSearchDocument(1L, "Tibial fracture",
+            "Open fracture of the left leg", "Fracture", "Surgery");
+    private static final ReportSearchDocument CHECKUP = new ReportSearchDocument(2L, "Routine checkup",
+            "Stable blood pressure", null, null);
+
+    @Mock
+    private ReportRepository repository;
+
+    @TempDir
+    private Path directory;
+
+    private ReportSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = newIndex(UTC_CLOCK);
+    }
+
+    private ReportSearchIndex newIndex(Clock clock) {
+        var searchIndex = new ReportSearchIndex(repository, clock);
+        ReflectionTestUtils.setField(searchIndex, "snapshotPath", directory.resolve("reports.idx").toString());
+        return searchIndex;
+    }
+
+    @Test
+    @DisplayName("rebuild indexes every report when there is no snapshot")
+    void rebuild_ShouldIndexEveryReport_WhenNoSnapshotExists() {
+        when(repository.streamSearchDocuments()).thenReturn(Stream.of(FRACTURE, CHECKUP));
+
+        index.rebuild();
+
+        assertThat(index.search("fracture", 10)).extracting(SearchHit::id).containsExactly(1L);
+        assertThat(index.search("stable", 10)).extracting(SearchHit::id).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("indexAfterCommit and removeAfterCommit apply immediately outside a transaction")
+    void incrementalUpdates_ShouldApplyToLiveIndex() {
+        when(repository.streamSearchDocuments()).thenReturn(Stream.of(FRACTURE));
+        index.rebuild();
+
+        index.indexAfterCommit(CHECKUP);
+        index.removeAfterCommit(FRACTURE.id());
+
+        assertThat(index.search("fracture", 10)).isEmpty();
+        assertThat(index.search("routine", 10)).extracting(SearchHit::id).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("rebuild restores the snapshot and only catches up on recent changes and deletions")
+    void rebuild_ShouldRestoreSnapshot_AndCatchUp() {
+        when(repository.streamSearchDocuments()).thenReturn(Stream.of(FRACTURE, CHECKUP));
+        index.rebuild();
+        index.snapshot();
+
+        var updatedCheckup = new ReportSearchDocument(2L, "Routine checkup", "Arrhythmia detected", null, null);
+        var restarted = newIndex(UTC_CLOCK);
+        when(repository.streamSearchDocumentsUpdatedSince(NOW.minusMinutes(10))).thenReturn(Stream.of(updatedCheckup));
+        when(repository.streamAllIds()).thenReturn(Stream.of(2L));
+
+        restarted.rebuild();
+
+        verify(repository, times(1)).streamSearchDocuments();
+        assertThat(restarted.search("fracture", 10)).isEmpty();
+        assertThat(restarted.search("arrhythmia", 10)).extracting(SearchHit::id).containsExactly(2L);
+        assertThat(restarted.search("stable", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("catchUp picks up reports changed or deleted through another node")
+    void catchUp_ShouldApplyChangesFromOtherNodes() {
+        when(repository.streamSearchDocuments()).thenReturn(Stream.of(FRACTURE, CHECKUP));
+        index.rebuild();
+
+        var updatedCheckup = new ReportSearchDocument(2L, "Routine checkup", "Arrhythmia detected", null, null);
+        when(repository.streamSearchDocumentsUpdatedSince(NOW.minusMinutes(10))).thenReturn(Stream.of(updatedCheckup));
+        when(repository.streamAllIds()).thenReturn(Stream.of(2L));
+
+        index.catchUp();
+
+        assertThat(index.search("fracture", 10)).isEmpty();
+        assertThat(index.search("arrhythmia", 10)).extracting(SearchHit::id).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("catchUp keeps a report indexed locally after the existing ids were read")
+    void catchUp_ShouldKeepLocalInsert_WhenItRacesTheIdScan() {
+        when(repository.streamSearchDocuments()).thenReturn(Stream.of(FRACTURE));
+        index.rebuild();
+
+        when(repository.streamSearchDocumentsUpdatedSince(any())).thenReturn(Stream.empty());
+        when(repository.streamAllIds()).thenAnswer(invocation -> {
+            index.indexAfterCommit(CHECKUP);
+            return Stream.of(1L);
+        });
+
+        index.catchUp();
+
+        assertThat(index.search("routine", 10)).extracting(SearchHit::id).containsExactly(2L);
+        assertThat(index.search("fracture", 10)).extracting(SearchHit::id).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("catchUp does nothing before the first rebuild")
+    void catchUp_ShouldSkip_BeforeRebuild() {
+        index.catchUp();
+
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("rebuild catches up from the snapshot time in the clock's zone, the zone updatedAt is written in")
+    void rebuild_ShouldCatchUpInClockZone_WhenZoneIsNotUtc() {
+        var saoPaulo = ZoneId.of("America/Sao_Paulo");
+        var localClock = Clock.fixed(NOW.atZone(saoPaulo).toInstant(), saoPaulo);
+        var local = newIndex(localClock);
+        when(repository.streamSearchDocuments()).thenReturn(Stream.of(FRACTURE));
+        local.rebuild();
+        local.snapshot();
+
+        var editedAfterSnapshot = new ReportSearchDocument(1L, "Tibial fracture", "Healed fracture", "Fracture", "Cast");
+        var restarted = newIndex(localClock);
+        when(repository.streamSearchDocumentsUpdatedSince(NOW.minusMinutes(10))).thenReturn(Stream.of(editedAfterSnapshot));
+        when(repository.streamAllIds()).thenReturn(Stream.of(1L));
+
+        restarted.rebuild();
+
+        verify(repository).streamSearchDocumentsUpdatedSince(NOW.minusMinutes(10));
+        assertThat(restarted.search("healed", 10)).extracting(SearchHit::id).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("search returns nothing before the first rebuild")
+    void search_ShouldReturnEmpty_BeforeRebuild() {
+        assertThat(index.search("fracture", 10)).isEmpty();
+        verify(repository, never()).streamSearchDocuments();
+        verify(repository, never()).findSearchSummaries(any());
+    }
+}
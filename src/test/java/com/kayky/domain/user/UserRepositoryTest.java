@@ -1,12 +1,21 @@
 package com.kayky.domain.user;
 
 import com.kayky.commons.PatientUtils;
+import com.kayky.config.QueryBudget;
+import com.kayky.core.exception.GlobalExceptionHandler;
+import com.kayky.domain.user.enums.Role;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
 
 @DisplayName("User Repository")
 @DataJpaTest
@@ -67,4 +76,62 @@ public class UserRepositoryTest {
                     assertThat(p.getId()).isNotEqualTo(savedPatient2.getId());
                 });
     }
+
+    @Test
+    @DisplayName("findIdByEmail returns the id with one statement per lookup")
+    @QueryBudget(max = 4)
+    void findIdByEmail_ShouldReturnId_WhenEmailExists() {
+        var savedPatient = repository.saveAndFlush(PatientUtils.patientToSave().toBuilder()
+                .role(Role.PATIENT)
+                .build());
+
+        assertThat(repository.findIdByEmail(savedPatient.getEmail())).contains(savedPatient.getId());
+        assertThat(repository.findIdByEmail("nonexistent@example.com")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("findIdByEmailAndIdNot ignores the user that owns the email")
+    void findIdByEmailAndIdNot_ShouldReturnEmpty_WhenEmailBelongsToSameId() {
+        var savedPatient = repository.saveAndFlush(PatientUtils.patientToSave().toBuilder()
+                .role(Role.PATIENT)
+                .build());
+
+        assertThat(repository.findIdByEmailAndIdNot(savedPatient.getEmail(), savedPatient.getId())).isEmpty();
+        assertThat(repository.findIdByEmailAndIdNot(savedPatient.getEmail(), -1L)).contains(savedPatient.getId());
+    }
+
+    @Test
+    @DisplayName("streamAllEmails streams every user email")
+    void streamAllEmails_ShouldStreamEveryEmail() {
+        var savedPatient = repository.saveAndFlush(PatientUtils.patientToSave().toBuilder()
+                .role(Role.PATIENT)
+                .build());
+
+        try (var emails = repository.streamAllEmails()) {
+            assertThat(emails.toList()).contains(savedPatient.getEmail());
+        }
+        assertThat(repository.countAllEmails()).isPositive();
+    }
+
+    @Test
+    @DisplayName("a duplicate email that slips past the validator is answered as an email conflict")
+    void save_ShouldMapDuplicateEmailToEmailConflict_WhenConstraintIsViolated() {
+        repository.saveAndFlush(PatientUtils.patientToSave().toBuilder().role(Role.PATIENT).build());
+
+        var e = catchThrowableOfType(DataIntegrityViolationException.class, () ->
+                repository.saveAndFlush(PatientUtils.patientToSave().toBuilder().role(Role.PATIENT).build()));
+        var response = new GlobalExceptionHandler().handleDataIntegrityViolation(e, new MockHttpServletRequest());
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody().getError()).isEqualTo("Email already in use");
+    }
+
+    @Test
+    @DisplayName("lockAllById locks and returns the existing users among the ids")
+    void lockAllById_ShouldReturnExistingIds() {
+        var saved = repository.saveAndFlush(PatientUtils.patientToSave().toBuilder().role(Role.PATIENT).build());
+
+        assertThat(repository.lockAllById(List.of(saved.getId(), saved.getId() + 1000)))
+                .containsExactly(saved.getId());
+    }
 }
@@ -0,0 +1,96 @@
+package com.kayky.domain.user;
+
+import com.kayky.core.exception.EmailAlreadyExistsException;
+import com.kayky.domain.doctor.DoctorRepository;
+import com.kayky.domain.patient.PatientRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("User Validator")
+class UserValidatorTest {
+
+    private static final String EMAIL = "robert.williams@example.com";
+
+    private UserValidator validator;
+
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private PatientRepository patientRepository;
+    @Mock
+    private DoctorRepository doctorRepository;
+    @Mock
+    private UserEmailFilter emailFilter;
+
+    @BeforeEach
+    void setUp() {
+        validator = new UserValidator(userRepository, patientRepository, doctorRepository, emailFilter);
+    }
+
+    @Test
+    @DisplayName("assertEmailDoesNotExist skips the database when the filter rules the email out")
+    void assertEmailDoesNotExist_ShouldSkipDatabase_WhenFilterRulesEmailOut() {
+        when(emailFilter.mightContain(EMAIL)).thenReturn(false);
+
+        assertThatCode(() -> validator.assertEmailDoesNotExist(EMAIL)).doesNotThrowAnyException();
+
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("assertEmailDoesNotExist passes when a possible hit turns out to be a false positive")
+    void assertEmailDoesNotExist_ShouldPass_WhenFilterHitIsFalsePositive() {
+        when(emailFilter.mightContain(EMAIL)).thenReturn(true);
+        when(userRepository.findIdByEmail(EMAIL)).thenReturn(Optional.empty());
+
+        assertThatCode(() -> validator.assertEmailDoesNotExist(EMAIL)).doesNotThrowAnyException();
+
+        verify(userRepository).findIdByEmail(EMAIL);
+    }
+
+    @Test
+    @DisplayName("assertEmailDoesNotExist throws when the database confirms the email is taken")
+    void assertEmailDoesNotExist_ShouldThrow_WhenEmailExists() {
+        when(emailFilter.mightContain(EMAIL)).thenReturn(true);
+        when(userRepository.findIdByEmail(EMAIL)).thenReturn(Optional.of(1L));
+
+        assertThatThrownBy(() -> validator.assertEmailDoesNotExist(EMAIL))
+                .isInstanceOf(EmailAlreadyExistsException.class)
+                .hasMessage("Email %s already in use".formatted(EMAIL));
+    }
+
+    @Test
+    @DisplayName("assertEmailDoesNotExist with id throws when another user owns the email")
+    void assertEmailDoesNotExistWithId_ShouldThrow_WhenAnotherUserOwnsEmail() {
+        when(emailFilter.mightContain(EMAIL)).thenReturn(true);
+        when(userRepository.findIdByEmailAndIdNot(EMAIL, 2L)).thenReturn(Optional.of(1L));
+
+        assertThatThrownBy(() -> validator.assertEmailDoesNotExist(EMAIL, 2L))
+                .isInstanceOf(EmailAlreadyExistsException.class);
+    }
+
+    @Test
+    @DisplayName("assertEmailDoesNotExist with id skips the database when the filter rules the email out")
+    void assertEmailDoesNotExistWithId_ShouldSkipDatabase_WhenFilterRulesEmailOut() {
+        when(emailFilter.mightContain(EMAIL)).thenReturn(false);
+
+        validator.assertEmailDoesNotExist(EMAIL, 2L);
+
+        verify(userRepository, never()).findIdByEmailAndIdNot(any(), any());
+    }
+}
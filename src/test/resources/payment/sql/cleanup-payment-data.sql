@@ -6,4 +6,8 @@ TRUNCATE TABLE tb_cashier;
 TRUNCATE TABLE tb_employee;
 TRUNCATE TABLE tb_user;
 
+DELETE FROM tb_id_generator;
+INSERT INTO tb_id_generator (sequence_name, next_val) VALUES
+    ('user', 1000), ('operation', 1000), ('payment', 1000), ('receipt', 1000), ('report', 1000);
+
 SET FOREIGN_KEY_CHECKS = 1;